@@ -1,6 +1,7 @@
 package org.uma.jmetal.algorithm.multiobjective.ensemble;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.ensemble.island.IslandModel;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.archive.Archive;
@@ -14,6 +15,7 @@ public class AlgorithmEnsemble<S extends Solution<?>> implements Algorithm<List<
     private List<Algorithm<List<S>>> algorithmList;
     private Archive<S> archive;
     private long totalComputingTime;
+    private IslandModel<S> islandModel;
 
     public AlgorithmEnsemble(List<Algorithm<List<S>>> algorithmList, Archive<S> archive) {
         Check.notNull(algorithmList);
@@ -24,9 +26,25 @@ public class AlgorithmEnsemble<S extends Solution<?>> implements Algorithm<List<
         this.archive = archive;
     }
 
+    /**
+     * Runs the algorithms concurrently as the islands of an island model, instead of one after the
+     * other
+     */
+    public AlgorithmEnsemble<S> withIslandModel(IslandModel<S> islandModel) {
+        Check.notNull(islandModel);
+        this.islandModel = islandModel;
+        return this;
+    }
+
     @Override
     public void run() {
         long startComputingTime = System.currentTimeMillis();
+        if (islandModel != null) {
+            islandModel.run(algorithmList, archive);
+            totalComputingTime = System.currentTimeMillis() - startComputingTime;
+            return;
+        }
+
         List<S> bagOfSolutions = new ArrayList<>();
         for (Algorithm<List<S>> algorithm : algorithmList) {
             algorithm.run();
@@ -61,6 +79,10 @@ public class AlgorithmEnsemble<S extends Solution<?>> implements Algorithm<List<
         return algorithmList;
     }
 
+    public IslandModel<S> getIslandModel() {
+        return islandModel;
+    }
+
     @Override
     public String getName() {
         return "Ensemble";
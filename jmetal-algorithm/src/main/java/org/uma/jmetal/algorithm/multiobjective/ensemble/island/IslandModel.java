@@ -0,0 +1,315 @@
+package org.uma.jmetal.algorithm.multiobjective.ensemble.island;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm;
+import org.uma.jmetal.algorithm.multiobjective.ensemble.island.impl.RingTopology;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.ConcurrentArchive;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Island model used to run the algorithms of an {@link
+ * org.uma.jmetal.algorithm.multiobjective.ensemble.AlgorithmEnsemble} concurrently, each one (an
+ * island) in its own thread, so that the computing time approaches that of the slowest algorithm
+ * instead of the sum of all of them.
+ *
+ * <p>The islands extending {@link AbstractEvolutionaryAlgorithm} exchange solutions: every
+ * <code>migrationInterval</code> iterations an island copies <code>numberOfMigrants</code> random
+ * solutions of its population to the {@link Mailbox}es of the islands given by the {@link
+ * Topology}, takes the migrants of its own mailbox (each one replaces the worse, according to
+ * dominance, of two random solutions of the population) and adds its population to the shared
+ * archive. The migrants lose their rank and density attributes, which are relative to the
+ * population of their former island. When an island finishes, its result is added to the archive.
+ * The archive is wrapped in a {@link ConcurrentArchive}, so that it can be fed by all the islands at
+ * the same time. Other algorithms run concurrently but only contribute their results, and so do the
+ * islands whose own {@link Algorithm#run()} loop does not call {@link
+ * AbstractEvolutionaryAlgorithm#exchangePopulation()}; a warning is logged for both.
+ *
+ * <p>If a seed is given, each island uses its own stream of random numbers (see {@link
+ * RandomStreams}); the runs are not reproducible anyway if there are migrations, as the time when
+ * the migrants arrive depends on the scheduling of the threads.
+ *
+ * @param <S> Solution type
+ */
+public class IslandModel<S extends Solution<?>> {
+    public static final String ALGORITHM_NAME_ATTRIBUTE = "ALGORITHM_NAME";
+
+    /* Whether each attribute identifier found in a migrant is that of a ranking or a density estimator */
+    private static final Map<Object, Boolean> populationAttributes = new ConcurrentHashMap<>();
+
+    private Topology topology = new RingTopology();
+    private int migrationInterval = 10;
+    private int numberOfMigrants = 5;
+    private int mailboxCapacity = 100;
+    private RandomStreams randomStreams;
+
+    private List<Mailbox<S>> mailboxes = new ArrayList<>();
+
+    public IslandModel<S> withTopology(Topology topology) {
+        Check.notNull(topology);
+        this.topology = topology;
+        return this;
+    }
+
+    /**
+     * Sets the number of iterations of an island between two migrations
+     */
+    public IslandModel<S> withMigrationInterval(int migrationInterval) {
+        Check.that(migrationInterval > 0, "The migration interval must be positive: " + migrationInterval);
+        this.migrationInterval = migrationInterval;
+        return this;
+    }
+
+    /**
+     * Sets the number of solutions sent to each destination in a migration; with 0 there are no
+     * migrations, but the shared archive is still fed every migration interval
+     */
+    public IslandModel<S> withNumberOfMigrants(int numberOfMigrants) {
+        Check.that(numberOfMigrants >= 0, "The number of migrants cannot be negative: " + numberOfMigrants);
+        this.numberOfMigrants = numberOfMigrants;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of migrants waiting in the mailbox of an island
+     */
+    public IslandModel<S> withMailboxCapacity(int mailboxCapacity) {
+        Check.that(mailboxCapacity > 0, "The mailbox capacity must be positive: " + mailboxCapacity);
+        this.mailboxCapacity = mailboxCapacity;
+        return this;
+    }
+
+    /**
+     * Sets the seed from which the random stream of each island is derived
+     */
+    public IslandModel<S> withSeed(long seed) {
+        this.randomStreams = new RandomStreams(seed);
+        return this;
+    }
+
+    /**
+     * Runs the algorithms concurrently, waiting for all of them to finish
+     *
+     * @param algorithms Algorithms to run
+     * @param archive    Archive where the solutions found by the algorithms are added
+     */
+    public void run(List<Algorithm<List<S>>> algorithms, Archive<S> archive) {
+        Check.notNull(algorithms);
+        Check.notNull(archive);
+
+        ConcurrentArchive<S> sharedArchive = (archive instanceof ConcurrentArchive)
+                ? (ConcurrentArchive<S>) archive
+                : new ConcurrentArchive<>(archive);
+        int numberOfIslands = algorithms.size();
+        mailboxes = new ArrayList<>(numberOfIslands);
+        for (int i = 0; i < numberOfIslands; i++) {
+            mailboxes.add(new Mailbox<>(mailboxCapacity));
+        }
+
+        long startTime = System.currentTimeMillis();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> islands = new ArrayList<>(numberOfIslands);
+        for (int i = 0; i < numberOfIslands; i++) {
+            Algorithm<List<S>> algorithm = algorithms.get(i);
+            Migration migration = null;
+            if (algorithm instanceof AbstractEvolutionaryAlgorithm) {
+                migration = new Migration(i, numberOfIslands, algorithm.getName(), sharedArchive);
+                populationExchangeOf(algorithm).setPopulationExchange(migration);
+            } else {
+                JMetalLogger.logger.warning("Algorithm " + algorithm.getName()
+                        + " is not an evolutionary algorithm, so it does not exchange solutions");
+            }
+
+            final int island = i;
+            final Migration islandMigration = migration;
+            Runnable task = () -> {
+                try {
+                    if (randomStreams == null) {
+                        algorithm.run();
+                    } else {
+                        randomStreams.runWithStream(island, algorithm::run);
+                    }
+                    JMetalLogger.logger.info("Algorithm " + algorithm.getName() + " finished. "
+                            + (System.currentTimeMillis() - startTime));
+                    if ((islandMigration != null) && (islandMigration.iterations == 0)) {
+                        JMetalLogger.logger.warning("Algorithm " + algorithm.getName() + " has not exchanged "
+                                + "solutions: its run() method does not call exchangePopulation()");
+                    }
+                    List<S> result = algorithm.getResult();
+                    for (S solution : result) {
+                        solution.attributes().put(ALGORITHM_NAME_ATTRIBUTE, algorithm.getName());
+                    }
+                    sharedArchive.addAll(result);
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                }
+            };
+            Thread thread = new Thread(task, "jmetal-island-" + i);
+            thread.setDaemon(true);
+            islands.add(thread);
+        }
+
+        try {
+            islands.forEach(Thread::start);
+            for (Thread island : islands) {
+                island.join();
+            }
+        } catch (InterruptedException e) {
+            islands.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while waiting for the islands", e);
+        } finally {
+            for (Algorithm<List<S>> algorithm : algorithms) {
+                if (algorithm instanceof AbstractEvolutionaryAlgorithm) {
+                    populationExchangeOf(algorithm).setPopulationExchange(null);
+                }
+            }
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof Error) {
+            throw (Error) error;
+        } else if (error != null) {
+            throw new JMetalException("Error running an island", (Exception) error);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private AbstractEvolutionaryAlgorithm<S, ?> populationExchangeOf(Algorithm<List<S>> algorithm) {
+        return (AbstractEvolutionaryAlgorithm<S, ?>) algorithm;
+    }
+
+    /**
+     * Returns the mailboxes of the islands of the last run
+     */
+    public List<Mailbox<S>> getMailboxes() {
+        return mailboxes;
+    }
+
+    public Topology getTopology() {
+        return topology;
+    }
+
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    public int getNumberOfMigrants() {
+        return numberOfMigrants;
+    }
+
+    public int getMailboxCapacity() {
+        return mailboxCapacity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private S copyOf(S solution) {
+        return (S) solution.copy();
+    }
+
+    /**
+     * Returns a copy of a solution to be sent to another island, without the attributes of the
+     * rankings and density estimators, whose values are relative to the population of this island
+     */
+    S migrantOf(S solution) {
+        S migrant = copyOf(solution);
+        migrant.attributes().keySet().removeIf(IslandModel::isPopulationAttribute);
+        return migrant;
+    }
+
+    /* The rankings and density estimators use their class name as attribute identifier */
+    private static boolean isPopulationAttribute(Object id) {
+        if (!(id instanceof String)) {
+            return false;
+        }
+        return populationAttributes.computeIfAbsent(id, name -> {
+            try {
+                Class<?> type = Class.forName((String) name, false, IslandModel.class.getClassLoader());
+                return Ranking.class.isAssignableFrom(type) || DensityEstimator.class.isAssignableFrom(type);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Population exchange of an island, called by the island thread at the end of each iteration
+     */
+    private class Migration implements UnaryOperator<List<S>> {
+        private final int island;
+        private final int numberOfIslands;
+        private final String algorithmName;
+        private final ConcurrentArchive<S> archive;
+        private final Comparator<S> dominanceComparator = new DominanceComparator<>();
+        private long iterations;
+
+        Migration(int island, int numberOfIslands, String algorithmName, ConcurrentArchive<S> archive) {
+            this.island = island;
+            this.numberOfIslands = numberOfIslands;
+            this.algorithmName = algorithmName;
+            this.archive = archive;
+        }
+
+        @Override
+        public List<S> apply(List<S> population) {
+            iterations++;
+            if ((iterations % migrationInterval != 0) || population.isEmpty()) {
+                return population;
+            }
+
+            List<S> solutions = new ArrayList<>(population.size());
+            for (S solution : population) {
+                S copy = copyOf(solution);
+                copy.attributes().put(ALGORITHM_NAME_ATTRIBUTE, algorithmName);
+                solutions.add(copy);
+            }
+            archive.addAll(solutions);
+
+            JMetalRandom random = JMetalRandom.getInstance();
+            if (numberOfMigrants > 0) {
+                List<S> emigrants = new ArrayList<>(population);
+                int size = Math.min(numberOfMigrants, emigrants.size());
+                for (int i = 0; i < size; i++) {
+                    Collections.swap(emigrants, i, random.nextInt(i, emigrants.size() - 1));
+                }
+                for (int destination : topology.getDestinations(island, numberOfIslands)) {
+                    for (int i = 0; i < size; i++) {
+                        mailboxes.get(destination).post(migrantOf(emigrants.get(i)));
+                    }
+                }
+            }
+
+            List<S> immigrants = mailboxes.get(island).takeAll();
+            if (immigrants.isEmpty()) {
+                return population;
+            }
+            List<S> newPopulation = new ArrayList<>(population);
+            for (S immigrant : immigrants) {
+                int first = random.nextInt(0, newPopulation.size() - 1);
+                int second = random.nextInt(0, newPopulation.size() - 1);
+                int worse = (dominanceComparator.compare(newPopulation.get(first), newPopulation.get(second)) < 0)
+                        ? second
+                        : first;
+                newPopulation.set(worse, immigrant);
+            }
+            return newPopulation;
+        }
+    }
+}
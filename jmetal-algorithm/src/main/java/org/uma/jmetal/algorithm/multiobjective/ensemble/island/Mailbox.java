@@ -0,0 +1,86 @@
+package org.uma.jmetal.algorithm.multiobjective.ensemble.island;
+
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free bounded mailbox where the islands of an {@link IslandModel} leave their migrants. Any
+ * island can post migrants, and the owner of the mailbox takes them when it is ready. When the
+ * mailbox is full, the oldest migrants are discarded, as the newest ones come from more evolved
+ * populations.
+ *
+ * @param <S> Solution type
+ */
+public class Mailbox<S> {
+    private final int capacity;
+    private final ConcurrentLinkedQueue<S> queue;
+    private final AtomicInteger size;
+    private final AtomicLong receivedMigrants;
+    private final AtomicLong discardedMigrants;
+
+    /**
+     * Constructor
+     *
+     * @param capacity Maximum number of migrants kept in the mailbox
+     */
+    public Mailbox(int capacity) {
+        Check.that(capacity > 0, "The capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.size = new AtomicInteger();
+        this.receivedMigrants = new AtomicLong();
+        this.discardedMigrants = new AtomicLong();
+    }
+
+    /**
+     * Adds a migrant, discarding the oldest one if the mailbox is full
+     */
+    public void post(S migrant) {
+        Check.notNull(migrant);
+        queue.offer(migrant);
+        receivedMigrants.incrementAndGet();
+        if (size.incrementAndGet() > capacity) {
+            if (queue.poll() != null) {
+                size.decrementAndGet();
+                discardedMigrants.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Takes all the migrants of the mailbox, in arrival order
+     */
+    public List<S> takeAll() {
+        List<S> migrants = new ArrayList<>();
+        S migrant;
+        while ((migrant = queue.poll()) != null) {
+            size.decrementAndGet();
+            migrants.add(migrant);
+        }
+        return migrants;
+    }
+
+    /**
+     * Returns the approximate number of migrants in the mailbox
+     */
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getReceivedMigrants() {
+        return receivedMigrants.get();
+    }
+
+    public long getDiscardedMigrants() {
+        return discardedMigrants.get();
+    }
+}
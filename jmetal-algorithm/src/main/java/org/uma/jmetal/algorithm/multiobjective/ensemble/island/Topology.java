@@ -0,0 +1,17 @@
+package org.uma.jmetal.algorithm.multiobjective.ensemble.island;
+
+import java.util.List;
+
+/**
+ * Migration topology of an {@link IslandModel}: it gives the islands receiving the migrants of
+ * each island. The islands are identified by their position in the ensemble.
+ */
+public interface Topology {
+    /**
+     * Returns the islands receiving the migrants of an island
+     *
+     * @param island          Index of the island sending the migrants
+     * @param numberOfIslands Number of islands
+     */
+    List<Integer> getDestinations(int island, int numberOfIslands);
+}
@@ -0,0 +1,22 @@
+package org.uma.jmetal.algorithm.multiobjective.ensemble.island.impl;
+
+import org.uma.jmetal.algorithm.multiobjective.ensemble.island.Topology;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Topology where each island sends its migrants to all the other ones
+ */
+public class FullyConnectedTopology implements Topology {
+    @Override
+    public List<Integer> getDestinations(int island, int numberOfIslands) {
+        List<Integer> destinations = new ArrayList<>(numberOfIslands - 1);
+        for (int i = 0; i < numberOfIslands; i++) {
+            if (i != island) {
+                destinations.add(i);
+            }
+        }
+        return destinations;
+    }
+}
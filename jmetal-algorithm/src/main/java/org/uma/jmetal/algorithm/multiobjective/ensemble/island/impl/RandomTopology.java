@@ -0,0 +1,56 @@
+package org.uma.jmetal.algorithm.multiobjective.ensemble.island.impl;
+
+import org.uma.jmetal.algorithm.multiobjective.ensemble.island.Topology;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Topology where each island sends its migrants to a number of other islands chosen at random
+ * every time there is a migration
+ */
+public class RandomTopology implements Topology {
+    private final int numberOfDestinations;
+
+    /**
+     * Constructor
+     *
+     * @param numberOfDestinations Number of islands receiving the migrants of an island
+     */
+    public RandomTopology(int numberOfDestinations) {
+        Check.that(numberOfDestinations > 0, "The number of destinations must be positive: " + numberOfDestinations);
+        this.numberOfDestinations = numberOfDestinations;
+    }
+
+    /**
+     * Constructor of a topology with one destination per island
+     */
+    public RandomTopology() {
+        this(1);
+    }
+
+    @Override
+    public List<Integer> getDestinations(int island, int numberOfIslands) {
+        List<Integer> candidates = new ArrayList<>(numberOfIslands - 1);
+        for (int i = 0; i < numberOfIslands; i++) {
+            if (i != island) {
+                candidates.add(i);
+            }
+        }
+
+        // Partial Fisher-Yates shuffle
+        int size = Math.min(numberOfDestinations, candidates.size());
+        JMetalRandom random = JMetalRandom.getInstance();
+        for (int i = 0; i < size; i++) {
+            Collections.swap(candidates, i, random.nextInt(i, candidates.size() - 1));
+        }
+        return new ArrayList<>(candidates.subList(0, size));
+    }
+
+    public int getNumberOfDestinations() {
+        return numberOfDestinations;
+    }
+}
@@ -0,0 +1,19 @@
+package org.uma.jmetal.algorithm.multiobjective.ensemble.island.impl;
+
+import org.uma.jmetal.algorithm.multiobjective.ensemble.island.Topology;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Topology where each island sends its migrants to the next one, and the last island to the first
+ * one
+ */
+public class RingTopology implements Topology {
+    @Override
+    public List<Integer> getDestinations(int island, int numberOfIslands) {
+        return (numberOfIslands < 2)
+                ? Collections.emptyList()
+                : Collections.singletonList((island + 1) % numberOfIslands);
+    }
+}
@@ -1,20 +1,23 @@
 package org.uma.jmetal.algorithm.multiobjective.ibea;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.ibea.util.IndicatorFitness;
+import org.uma.jmetal.algorithm.multiobjective.ibea.util.IndicatorFitness.IndicatorType;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
 import org.uma.jmetal.util.SolutionListUtils;
-import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.solutionattribute.impl.Fitness;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * This class implements the IBEA algorithm
+ * This class implements the IBEA algorithm. The indicator values and the fitness of the solutions
+ * are computed by {@link IndicatorFitness}, optionally in parallel.
  */
 @SuppressWarnings("serial")
 public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
@@ -22,8 +25,11 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
 
     public static final int TOURNAMENTS_ROUNDS = 1;
 
-    protected List<List<Double>> indicatorValues;
+    protected IndicatorFitness indicatorFitness;
+    protected List<S> indicatorFitnessSolutions;
     protected double maxIndicatorValue;
+    protected IndicatorType indicatorType;
+    protected boolean parallel;
 
     protected int populationSize;
     protected int archiveSize;
@@ -43,6 +49,19 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     public IBEA(Problem<S> problem, int populationSize, int archiveSize, int maxEvaluations,
                 SelectionOperator<List<S>, S> selectionOperator, CrossoverOperator<S> crossoverOperator,
                 MutationOperator<S> mutationOperator) {
+        this(problem, populationSize, archiveSize, maxEvaluations, selectionOperator, crossoverOperator,
+                mutationOperator, IndicatorType.HYPERVOLUME, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param indicatorType Indicator used to compute the fitness
+     * @param parallel      Whether the indicator values and the fitness are computed in parallel
+     */
+    public IBEA(Problem<S> problem, int populationSize, int archiveSize, int maxEvaluations,
+                SelectionOperator<List<S>, S> selectionOperator, CrossoverOperator<S> crossoverOperator,
+                MutationOperator<S> mutationOperator, IndicatorType indicatorType, boolean parallel) {
         this.problem = problem;
         this.populationSize = populationSize;
         this.archiveSize = archiveSize;
@@ -50,6 +69,8 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
         this.crossoverOperator = crossoverOperator;
         this.mutationOperator = mutationOperator;
         this.selectionOperator = selectionOperator;
+        this.indicatorType = indicatorType;
+        this.parallel = parallel;
     }
 
     /**
@@ -81,9 +102,7 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
             calculateFitness(union);
             archive = union;
 
-            while (archive.size() > populationSize) {
-                removeWorst(archive);
-            }
+            removeWorst(archive, archive.size() - populationSize);
             // Create a new offspringPopulation
             offSpringSolutionSet = new ArrayList<>(populationSize);
             S parent1;
@@ -127,98 +146,48 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
      */
     double calculateHypervolumeIndicator(Solution<?> solutionA, Solution<?> solutionB, int d,
                                          double maximumValues[], double minimumValues[]) {
-        double a, b, r, max;
-        double volume;
-        double rho = 2.0;
-
-        r = rho * (maximumValues[d - 1] - minimumValues[d - 1]);
-        max = minimumValues[d - 1] + r;
-
-        a = solutionA.objectives()[d - 1];
-        if (solutionB == null) {
-            b = max;
-        } else {
-            b = solutionB.objectives()[d - 1];
-        }
+        return IndicatorFitness.hypervolume(solutionA.objectives(),
+                (solutionB == null) ? null : solutionB.objectives(), d, maximumValues, minimumValues);
+    }
 
-        if (d == 1) {
-            if (a < b) {
-                volume = (b - a) / r;
-            } else {
-                volume = 0;
-            }
-        } else {
-            if (a < b) {
-                volume =
-                        calculateHypervolumeIndicator(solutionA, null, d - 1, maximumValues, minimumValues) * (b
-                                - a) / r;
-                volume +=
-                        calculateHypervolumeIndicator(solutionA, solutionB, d - 1, maximumValues, minimumValues)
-                                * (max - b) / r;
-            } else {
-                volume =
-                        calculateHypervolumeIndicator(solutionA, solutionB, d - 1, maximumValues, minimumValues)
-                                * (max - a) / r;
-            }
+    /**
+     * Computes the indicator values of each pair of elements and their fitness
+     */
+    public void computeIndicatorValues(List<S> solutionSet, double[] maximumValues,
+                                       double[] minimumValues) {
+        double[][] objectives = new double[solutionSet.size()][];
+        double[] constraintViolation = new double[solutionSet.size()];
+        for (int i = 0; i < solutionSet.size(); i++) {
+            objectives[i] = solutionSet.get(i).objectives();
+            constraintViolation[i] = ConstraintHandling.overallConstraintViolationDegree(solutionSet.get(i));
         }
 
-        return (volume);
+        indicatorFitness = new IndicatorFitness(objectives, constraintViolation, minimumValues, maximumValues,
+                indicatorType, IndicatorFitness.DEFAULT_KAPPA, parallel);
+        indicatorFitnessSolutions = new ArrayList<>(solutionSet);
+        maxIndicatorValue = indicatorFitness.getMaxIndicatorValue();
     }
 
     /**
-     * This structure stores the indicator values of each pair of elements
+     * Computes the values of the hypervolume indicator of each pair of elements and their fitness
      */
     public void computeIndicatorValuesHD(List<S> solutionSet, double[] maximumValues,
                                          double[] minimumValues) {
-        List<S> A, B;
-        // Initialize the structures
-        indicatorValues = new ArrayList<List<Double>>();
-        maxIndicatorValue = -Double.MAX_VALUE;
-
-        for (int j = 0; j < solutionSet.size(); j++) {
-            A = new ArrayList<>(1);
-            A.add(solutionSet.get(j));
-
-            List<Double> aux = new ArrayList<Double>();
-            for (S solution : solutionSet) {
-                B = new ArrayList<>(1);
-                B.add(solution);
-
-                int flag = (new DominanceComparator<S>()).compare(A.get(0), B.get(0));
-
-                double value;
-                if (flag == -1) {
-                    value =
-                            -calculateHypervolumeIndicator(A.get(0), B.get(0), problem.getNumberOfObjectives(),
-                                    maximumValues, minimumValues);
-                } else {
-                    value = calculateHypervolumeIndicator(B.get(0), A.get(0), problem.getNumberOfObjectives(),
-                            maximumValues, minimumValues);
-                }
-
-                //Update the max value of the indicator
-                if (Math.abs(value) > maxIndicatorValue) {
-                    maxIndicatorValue = Math.abs(value);
-                }
-                aux.add(value);
-            }
-            indicatorValues.add(aux);
+        IndicatorType currentIndicatorType = indicatorType;
+        indicatorType = IndicatorType.HYPERVOLUME;
+        try {
+            computeIndicatorValues(solutionSet, maximumValues, minimumValues);
+        } finally {
+            indicatorType = currentIndicatorType;
         }
     }
 
     /**
-     * Calculate the fitness for the individual at position pos
+     * Sets the fitness of the individual at position pos, which has been computed with the indicator
+     * values
      */
     public void fitness(List<S> solutionSet, int pos) {
-        double fitness = 0.0;
-        double kappa = 0.05;
-
-        for (int i = 0; i < solutionSet.size(); i++) {
-            if (i != pos) {
-                fitness += Math.exp((-1 * indicatorValues.get(i).get(pos) / maxIndicatorValue) / kappa);
-            }
-        }
-        solutionFitness.setAttribute(solutionSet.get(pos), fitness);
+        solutionFitness.setAttribute(solutionSet.get(pos), indicatorFitness.getFitness(pos));
     }
 
     /**
@@ -246,7 +215,7 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
             }
         }
 
-        computeIndicatorValuesHD(solutionSet, maximumValues, minimumValues);
+        computeIndicatorValues(solutionSet, maximumValues, minimumValues);
         for (int pos = 0; pos < solutionSet.size(); pos++) {
             fitness(solutionSet, pos);
         }
@@ -256,35 +225,28 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
      * Update the fitness before removing an individual
      */
     public void removeWorst(List<S> solutionSet) {
-
-        // Find the worst;
-        double worst = (double) solutionFitness.getAttribute(solutionSet.get(0));
-        int worstIndex = 0;
-        double kappa = 0.05;
-
-        for (int i = 1; i < solutionSet.size(); i++) {
-            if ((double) solutionFitness.getAttribute(solutionSet.get(i)) > worst) {
-                worst = (double) solutionFitness.getAttribute(solutionSet.get(i));
-                worstIndex = i;
-            }
-        }
-
-        // Update the population
+        solutionSet.remove(indicatorFitness.removeWorst());
         for (int i = 0; i < solutionSet.size(); i++) {
-            if (i != worstIndex) {
-                double fitness = (double) solutionFitness.getAttribute(solutionSet.get(i));
-                fitness -= Math.exp((-indicatorValues.get(worstIndex).get(i) / maxIndicatorValue) / kappa);
-                solutionFitness.setAttribute(solutionSet.get(i), fitness);
-            }
+            solutionFitness.setAttribute(solutionSet.get(i), indicatorFitness.getFitness(indicatorFitness.getIndex(i)));
         }
+    }
 
-        // remove worst from the indicatorValues list
-        indicatorValues.remove(worstIndex);
-        for (List<Double> anIndicatorValues_ : indicatorValues) {
-            anIndicatorValues_.remove(worstIndex);
+    /**
+     * Removes the given number of individuals, one by one, updating the fitness of the remaining
+     * ones after each removal. The fitness attributes are only set once, at the end.
+     */
+    public void removeWorst(List<S> solutionSet, int numberOfSolutionsToRemove) {
+        for (int i = 0; i < numberOfSolutionsToRemove; i++) {
+            indicatorFitness.removeWorst();
         }
 
-        solutionSet.remove(worstIndex);
+        solutionSet.clear();
+        for (int i = 0; i < indicatorFitness.size(); i++) {
+            int index = indicatorFitness.getIndex(i);
+            S solution = indicatorFitnessSolutions.get(index);
+            solutionFitness.setAttribute(solution, indicatorFitness.getFitness(index));
+            solutionSet.add(solution);
+        }
     }
 
     @Override
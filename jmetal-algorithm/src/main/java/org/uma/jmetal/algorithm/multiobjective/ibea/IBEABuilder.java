@@ -1,6 +1,7 @@
 package org.uma.jmetal.algorithm.multiobjective.ibea;
 
 import org.uma.jmetal.algorithm.AlgorithmBuilder;
+import org.uma.jmetal.algorithm.multiobjective.ibea.util.IndicatorFitness.IndicatorType;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
@@ -24,6 +25,8 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
     private CrossoverOperator<DoubleSolution> crossover;
     private MutationOperator<DoubleSolution> mutation;
     private SelectionOperator<List<DoubleSolution>, DoubleSolution> selection;
+    private IndicatorType indicatorType;
+    private boolean parallel;
 
     /**
      * Constructor
@@ -45,6 +48,9 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
         mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
 
         selection = new BinaryTournamentSelection<DoubleSolution>();
+
+        indicatorType = IndicatorType.HYPERVOLUME;
+        parallel = false;
     }
 
     /* Getters */
@@ -72,6 +78,14 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
         return selection;
     }
 
+    public IndicatorType getIndicatorType() {
+        return indicatorType;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
     /* Setters */
     public IBEABuilder setPopulationSize(int populationSize) {
         this.populationSize = populationSize;
@@ -109,8 +123,23 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
         return this;
     }
 
+    public IBEABuilder setIndicatorType(IndicatorType indicatorType) {
+        this.indicatorType = indicatorType;
+
+        return this;
+    }
+
+    /**
+     * Sets whether the indicator values and the fitness are computed in parallel
+     */
+    public IBEABuilder setParallel(boolean parallel) {
+        this.parallel = parallel;
+
+        return this;
+    }
+
     public IBEA<DoubleSolution> build() {
         return new IBEA<DoubleSolution>(problem, populationSize, archiveSize, maxEvaluations, selection, crossover,
-                mutation);
+                mutation, indicatorType, parallel);
     }
 }
@@ -1,5 +1,6 @@
 package org.uma.jmetal.algorithm.multiobjective.ibea;
 
+import org.uma.jmetal.algorithm.multiobjective.ibea.util.IndicatorFitness.IndicatorType;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
@@ -34,6 +35,28 @@ public class mIBEA<S extends Solution<?>> extends IBEA<S> {
                 mutationOperator);
     }
 
+    public mIBEA(
+            Problem<S> problem,
+            int populationSize,
+            int archiveSize,
+            int maxEvaluations,
+            SelectionOperator<List<S>, S> selectionOperator,
+            CrossoverOperator<S> crossoverOperator,
+            MutationOperator<S> mutationOperator,
+            IndicatorType indicatorType,
+            boolean parallel) {
+        super(
+                problem,
+                populationSize,
+                archiveSize,
+                maxEvaluations,
+                selectionOperator,
+                crossoverOperator,
+                mutationOperator,
+                indicatorType,
+                parallel);
+    }
+
     /**
      * Execute() method
      */
@@ -64,9 +87,7 @@ public class mIBEA<S extends Solution<?>> extends IBEA<S> {
             calculateFitness(union);
             archive = union;
 
-            while (archive.size() > populationSize) {
-                removeWorst(archive);
-            }
+            removeWorst(archive, archive.size() - populationSize);
             // Create a new offspringPopulation
             offSpringSolutionSet = new ArrayList<>(populationSize);
             S parent1;
@@ -0,0 +1,320 @@
+package org.uma.jmetal.algorithm.multiobjective.ibea.util;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Indicator values and fitness of IBEA computed on primitive arrays. The indicator value of each
+ * pair of points is kept in a flat matrix, where the element <code>i * n + j</code> is I(i, j), the
+ * value of the indicator of point i with respect to point j. The fitness of a point j is the sum,
+ * over the other points i, of exp(-I(i, j) / (c * kappa)), where c is the maximum absolute
+ * indicator value; the higher the fitness, the worse the point. When the worst point is removed,
+ * its contribution (its row of the matrix) is subtracted from the fitness of the remaining ones,
+ * so the matrix is computed only once per generation.
+ *
+ * <p>The matrix and the fitness values can be computed in parallel, by blocks of rows and blocks
+ * of columns, respectively. Each fitness value is always accumulated in the same order, so the
+ * results do not depend on the number of threads. Note that the matrix takes 8 n<sup>2</sup>
+ * bytes.
+ */
+public class IndicatorFitness {
+    public enum IndicatorType {HYPERVOLUME, ADDITIVE_EPSILON}
+
+    public static final double DEFAULT_KAPPA = 0.05;
+    private static final int BLOCK_SIZE = 64;
+
+    private final int numberOfPoints;
+    private final int numberOfObjectives;
+    private final double[] indicatorValues;
+    private final double maxIndicatorValue;
+    private final double kappa;
+
+    private final double[] fitness;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param objectives          Objective values of the points
+     * @param constraintViolation Overall constraint violation degree of each point (0 or negative),
+     *                            used by the dominance test of the hypervolume indicator; null if
+     *                            there are no constraints
+     * @param minimumValues       Lower bound of each objective
+     * @param maximumValues       Upper bound of each objective
+     * @param indicatorType       Indicator
+     * @param kappa               Fitness scaling factor
+     * @param parallel            Whether the matrix and the fitness are computed in parallel
+     */
+    public IndicatorFitness(
+            double[][] objectives,
+            double[] constraintViolation,
+            double[] minimumValues,
+            double[] maximumValues,
+            IndicatorType indicatorType,
+            double kappa,
+            boolean parallel) {
+        Check.notNull(objectives);
+        Check.notNull(minimumValues);
+        Check.notNull(maximumValues);
+        Check.notNull(indicatorType);
+        Check.that(kappa > 0, "Kappa must be positive: " + kappa);
+        Check.that((constraintViolation == null) || (constraintViolation.length == objectives.length),
+                "There must be a constraint violation value per point");
+
+        this.numberOfPoints = objectives.length;
+        this.numberOfObjectives = minimumValues.length;
+        this.kappa = kappa;
+        Check.that(maximumValues.length == numberOfObjectives, "The bounds have different dimensions");
+        for (double[] point : objectives) {
+            Check.that(point.length == numberOfObjectives, "The points and the bounds have different dimensions");
+        }
+        if ((long) numberOfPoints * numberOfPoints > Integer.MAX_VALUE - 8) {
+            throw new JMetalException("Too many points for the indicator matrix: " + numberOfPoints);
+        }
+
+        indicatorValues = new double[numberOfPoints * numberOfPoints];
+        int numberOfBlocks = (numberOfPoints + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        double[] blockMaximum = new double[numberOfBlocks];
+        blocks(numberOfBlocks, parallel).forEach(block ->
+                blockMaximum[block] = computeRows(block, objectives, constraintViolation,
+                        minimumValues, maximumValues, indicatorType));
+        double maximum = -Double.MAX_VALUE;
+        for (double value : blockMaximum) {
+            if (value > maximum) {
+                maximum = value;
+            }
+        }
+        maxIndicatorValue = maximum;
+
+        fitness = new double[numberOfPoints];
+        blocks(numberOfBlocks, parallel).forEach(this::computeFitness);
+
+        positions = new int[numberOfPoints];
+        for (int i = 0; i < numberOfPoints; i++) {
+            positions[i] = i;
+        }
+        size = numberOfPoints;
+    }
+
+    /**
+     * Constructor of the fitness of a set of points without constraints, whose bounds are the
+     * minimum and maximum values of each objective
+     */
+    public IndicatorFitness(double[][] objectives, IndicatorType indicatorType, boolean parallel) {
+        this(objectives, null, minimum(objectives), maximum(objectives), indicatorType, DEFAULT_KAPPA, parallel);
+    }
+
+    private static IntStream blocks(int numberOfBlocks, boolean parallel) {
+        IntStream blocks = IntStream.range(0, numberOfBlocks);
+        return parallel ? blocks.parallel() : blocks;
+    }
+
+    /**
+     * Computes the rows of a block and returns the maximum absolute value found in them
+     */
+    private double computeRows(int block, double[][] objectives, double[] constraintViolation,
+                               double[] minimumValues, double[] maximumValues, IndicatorType indicatorType) {
+        double maximum = -Double.MAX_VALUE;
+        int last = Math.min(numberOfPoints, (block + 1) * BLOCK_SIZE);
+        for (int i = block * BLOCK_SIZE; i < last; i++) {
+            double[] a = objectives[i];
+            int row = i * numberOfPoints;
+            for (int j = 0; j < numberOfPoints; j++) {
+                double[] b = objectives[j];
+                double value;
+                if (indicatorType == IndicatorType.HYPERVOLUME) {
+                    if (dominates(a, b, constraintViolation, i, j)) {
+                        value = -hypervolume(a, b, numberOfObjectives, maximumValues, minimumValues);
+                    } else {
+                        value = hypervolume(b, a, numberOfObjectives, maximumValues, minimumValues);
+                    }
+                } else {
+                    value = additiveEpsilon(a, b, maximumValues, minimumValues);
+                }
+                indicatorValues[row + j] = value;
+                if (Math.abs(value) > maximum) {
+                    maximum = Math.abs(value);
+                }
+            }
+        }
+        return maximum;
+    }
+
+    /**
+     * Computes the fitness of the points of a block of columns. The rows are traversed in order, so
+     * each fitness value is accumulated as in a sequential computation.
+     */
+    private void computeFitness(int block) {
+        int first = block * BLOCK_SIZE;
+        int last = Math.min(numberOfPoints, first + BLOCK_SIZE);
+        for (int i = 0; i < numberOfPoints; i++) {
+            int row = i * numberOfPoints;
+            for (int j = first; j < last; j++) {
+                if (i != j) {
+                    fitness[j] += Math.exp((-1 * indicatorValues[row + j] / maxIndicatorValue) / kappa);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of points which have not been removed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the original index of the point at a position of the remaining points
+     */
+    public int getIndex(int position) {
+        Check.that((position >= 0) && (position < size), "Invalid position: " + position);
+        return positions[position];
+    }
+
+    /**
+     * Returns the fitness of a point, given by its original index
+     */
+    public double getFitness(int index) {
+        return fitness[index];
+    }
+
+    /**
+     * Returns I(i, j), the indicator value of point i with respect to point j
+     */
+    public double getIndicatorValue(int i, int j) {
+        return indicatorValues[i * numberOfPoints + j];
+    }
+
+    public double getMaxIndicatorValue() {
+        return maxIndicatorValue;
+    }
+
+    /**
+     * Removes the remaining point with the highest fitness, and subtracts its contribution from the
+     * fitness of the others. If several points have that fitness, the first one is removed.
+     *
+     * @return the position of the removed point among the remaining points before the removal
+     */
+    public int removeWorst() {
+        Check.that(size > 0, "There are no points left");
+        int worstPosition = 0;
+        double worst = fitness[positions[0]];
+        for (int p = 1; p < size; p++) {
+            if (fitness[positions[p]] > worst) {
+                worst = fitness[positions[p]];
+                worstPosition = p;
+            }
+        }
+
+        int row = positions[worstPosition] * numberOfPoints;
+        for (int p = 0; p < size; p++) {
+            if (p != worstPosition) {
+                int index = positions[p];
+                fitness[index] -= Math.exp((-indicatorValues[row + index] / maxIndicatorValue) / kappa);
+            }
+        }
+
+        System.arraycopy(positions, worstPosition + 1, positions, worstPosition, size - worstPosition - 1);
+        size--;
+        return worstPosition;
+    }
+
+    /**
+     * Dominance test of {@link org.uma.jmetal.util.comparator.DominanceComparator}: returns true if
+     * point a dominates point b, considering first their constraint violation
+     */
+    private static boolean dominates(double[] a, double[] b, double[] constraintViolation, int i, int j) {
+        if (constraintViolation != null) {
+            double violationA = constraintViolation[i];
+            double violationB = constraintViolation[j];
+            if ((violationA < 0) && (violationB < 0)) {
+                int result = Double.compare(violationB, violationA);
+                if (result != 0) {
+                    return result < 0;
+                }
+            } else if ((violationA == 0) && (violationB < 0)) {
+                return true;
+            } else if ((violationA < 0) && (violationB == 0)) {
+                return false;
+            }
+        }
+
+        boolean aIsBetter = false;
+        boolean bIsBetter = false;
+        for (int k = 0; k < a.length; k++) {
+            if (a[k] < b[k]) {
+                aIsBetter = true;
+            } else if (b[k] < a[k]) {
+                bIsBetter = true;
+            }
+        }
+        return aIsBetter && !bIsBetter;
+    }
+
+    /**
+     * Calculates the hypervolume of that portion of the objective space that is dominated by point a
+     * but not by point b (b is null to consider the whole space)
+     */
+    public static double hypervolume(double[] a, double[] b, int d, double[] maximumValues, double[] minimumValues) {
+        double rho = 2.0;
+        double r = rho * (maximumValues[d - 1] - minimumValues[d - 1]);
+        double max = minimumValues[d - 1] + r;
+
+        double valueA = a[d - 1];
+        double valueB = (b == null) ? max : b[d - 1];
+
+        double volume;
+        if (d == 1) {
+            volume = (valueA < valueB) ? (valueB - valueA) / r : 0;
+        } else if (valueA < valueB) {
+            volume = hypervolume(a, null, d - 1, maximumValues, minimumValues) * (valueB - valueA) / r;
+            volume += hypervolume(a, b, d - 1, maximumValues, minimumValues) * (max - valueB) / r;
+        } else {
+            volume = hypervolume(a, b, d - 1, maximumValues, minimumValues) * (max - valueA) / r;
+        }
+        return volume;
+    }
+
+    /**
+     * Additive epsilon indicator of point a with respect to point b on the normalized objectives:
+     * the minimum distance by which a has to be translated to weakly dominate b. The objectives whose
+     * bounds are equal are ignored.
+     */
+    static double additiveEpsilon(double[] a, double[] b, double[] maximumValues, double[] minimumValues) {
+        double epsilon = -Double.MAX_VALUE;
+        for (int k = 0; k < a.length; k++) {
+            double range = maximumValues[k] - minimumValues[k];
+            if (range > 0) {
+                epsilon = Math.max(epsilon, (a[k] - b[k]) / range);
+            }
+        }
+        return (epsilon == -Double.MAX_VALUE) ? 0.0 : epsilon;
+    }
+
+    private static double[] minimum(double[][] objectives) {
+        double[] minimum = new double[(objectives.length == 0) ? 0 : objectives[0].length];
+        Arrays.fill(minimum, Double.MAX_VALUE);
+        for (double[] point : objectives) {
+            for (int k = 0; k < minimum.length; k++) {
+                minimum[k] = Math.min(minimum[k], point[k]);
+            }
+        }
+        return minimum;
+    }
+
+    private static double[] maximum(double[][] objectives) {
+        double[] maximum = new double[(objectives.length == 0) ? 0 : objectives[0].length];
+        Arrays.fill(maximum, -Double.MAX_VALUE);
+        for (double[] point : objectives) {
+            for (int k = 0; k < maximum.length; k++) {
+                maximum[k] = Math.max(maximum[k], point[k]);
+            }
+        }
+        return maximum;
+    }
+}
@@ -6,24 +6,33 @@ import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.neighborhood.util.WeightVectorCache;
 import org.uma.jmetal.util.point.impl.IdealPoint;
 import org.uma.jmetal.util.point.impl.NadirPoint;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.StringTokenizer;
-
-import static java.lang.Double.parseDouble;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Abstract class for implementing versions of the MOEA/D algorithm.
  *
+ * <p>The variants which generate their offspring solutions with {@link #evolve(int[])} can process
+ * the subproblems of a generation in three ways (see {@link ExecutionMode}). The default one is the
+ * sequential processing of the original algorithm. The threads of the concurrent mode are kept
+ * until the end of the run, when the variants call {@link #shutdownWorkers()}.
+ *
  * @author Antonio J. Nebro
  * @version 1.0
  */
@@ -33,6 +42,29 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
 
     public enum FunctionType {TCHE, PBI, AGG}
 
+    /**
+     * How the subproblems are processed by {@link #evolve(int[])}:
+     * <ul>
+     *   <li>SEQUENTIAL: the offspring solution of each subproblem is generated, evaluated and
+     *       inserted in the population before the next subproblem is processed.
+     *   <li>BATCHED: the subproblems are processed in blocks of {@code batchSize}. The offspring
+     *       solutions of a block are generated from the same population, evaluated together by the
+     *       {@link SolutionListEvaluator} (in parallel with a multithreaded one) and then inserted in
+     *       the order of the subproblems. The results depend on the seed and the batch size, not on
+     *       the evaluator; with a batch size of one, they are those of the sequential mode.
+     *   <li>CONCURRENT: {@code numberOfThreads} threads take the next subproblem and generate,
+     *       evaluate and insert its offspring solution on their own. A subproblem only locks the
+     *       stripes of the population its neighbourhood belongs to (all of them if the mating pool
+     *       is the whole population), so offspring solutions of distant subproblems are evaluated
+     *       and inserted at the same time. The variation operators and the random permutations
+     *       of the insertions share the random generator, so they are drawn under a single lock.
+     *       An insertion compares the solutions with a snapshot of the ideal point, which can lag
+     *       behind the solutions inserted at the same time by other threads, so the results are
+     *       not reproducible.
+     * </ul>
+     */
+    public enum ExecutionMode {SEQUENTIAL, BATCHED, CONCURRENT}
+
     protected Problem<S> problem;
 
     /**
@@ -79,6 +111,19 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
     protected CrossoverOperator<S> crossoverOperator;
     protected MutationOperator<S> mutationOperator;
 
+    protected ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+    protected SolutionListEvaluator<S> evaluator = new SequentialSolutionListEvaluator<>();
+    protected int batchSize = 1;
+    protected int numberOfThreads = Runtime.getRuntime().availableProcessors();
+    protected int numberOfLockStripes = 64;
+
+    private transient ReentrantLock[] lockStripes;
+    private transient int[][] neighborhoodStripes;
+    private transient int[] allStripes;
+    private transient ExecutorService workers;
+    private transient Object variationLock;
+    private transient Object stateLock;
+
     public AbstractMOEAD(Problem<S> problem, int populationSize, int resultPopulationSize,
                          int maxEvaluations, CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutation,
                          FunctionType functionType, String dataDirectory, double neighborhoodSelectionProbability,
@@ -106,77 +151,351 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
     }
 
     /**
-     * Initialize weight vectors
+     * Initialize weight vectors. They are taken from the process-wide {@link WeightVectorCache},
+     * which reads the weight file of the data directory the first time or, if there is no such file,
+     * generates the vectors.
      */
     protected void initializeUniformWeight() {
-        if ((problem.getNumberOfObjectives() == 2) && (populationSize <= 300)) {
-            for (int n = 0; n < populationSize; n++) {
-                double a = 1.0 * n / (populationSize - 1);
-                lambda[n][0] = a;
-                lambda[n][1] = 1 - a;
+        lambda = WeightVectorCache.getInstance()
+                .getWeightVectors(problem.getNumberOfObjectives(), populationSize, dataDirectory);
+    }
+
+    /**
+     * Initialize neighborhoods. They are computed once per set of weight vectors and neighborhood
+     * size by the process-wide {@link WeightVectorCache}.
+     */
+    protected void initializeNeighborhood() {
+        neighborhood = WeightVectorCache.getInstance().getNeighborhood(lambda, neighborSize);
+        lockStripes = null;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(ExecutionMode executionMode) {
+        Check.notNull(executionMode);
+        if (!supportsExecutionMode(executionMode)) {
+            throw new JMetalException("The algorithm " + getName() + " does not support the execution mode "
+                    + executionMode);
+        }
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * Returns true if the algorithm can process its subproblems in the given mode. The variants
+     * which do not generate their offspring solutions with {@link #evolve(int[])} only support the
+     * sequential one.
+     */
+    protected boolean supportsExecutionMode(ExecutionMode executionMode) {
+        return true;
+    }
+
+    /**
+     * Evaluator of the offspring solutions of a block in the batched mode
+     */
+    public void setEvaluator(SolutionListEvaluator<S> evaluator) {
+        Check.notNull(evaluator);
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Number of subproblems whose offspring solutions are evaluated together in the batched mode
+     */
+    public void setBatchSize(int batchSize) {
+        Check.that(batchSize > 0, "The batch size must be positive: " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Number of threads processing the subproblems in the concurrent mode
+     */
+    public void setNumberOfThreads(int numberOfThreads) {
+        Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+        this.numberOfThreads = numberOfThreads;
+        shutdownWorkers();
+    }
+
+    /**
+     * Number of locks guarding the population in the concurrent mode; the solution of subproblem k
+     * is guarded by lock k % numberOfLockStripes
+     */
+    public void setNumberOfLockStripes(int numberOfLockStripes) {
+        Check.that(numberOfLockStripes > 0, "The number of lock stripes must be positive: " + numberOfLockStripes);
+        this.numberOfLockStripes = numberOfLockStripes;
+        lockStripes = null;
+        neighborhoodStripes = null;
+    }
+
+    /**
+     * Generates an offspring solution for each of the given subproblems, evaluates them and updates
+     * the population with them, according to the execution mode. The number of evaluations is
+     * increased by the number of subproblems.
+     */
+    protected void evolve(int[] subProblemIds) {
+        switch (executionMode) {
+            case SEQUENTIAL:
+                evolveInBatches(subProblemIds, 1, null);
+                break;
+            case BATCHED:
+                evolveInBatches(subProblemIds, batchSize, evaluator);
+                break;
+            case CONCURRENT:
+                evolveConcurrently(subProblemIds);
+                break;
+            default:
+                throw new JMetalException("Unknown execution mode: " + executionMode);
+        }
+    }
+
+    /**
+     * Generates the offspring solution of a subproblem, without evaluating it. By default, the
+     * crossover operator is applied to the parents given by {@link #parentSelection(int,
+     * NeighborType)} and the mutation operator to the first child.
+     */
+    protected S createOffspring(int subProblemId, NeighborType neighborType) {
+        List<S> parents = parentSelection(subProblemId, neighborType);
+        S child = crossoverOperator.execute(parents).get(0);
+        mutationOperator.execute(child);
+
+        return child;
+    }
+
+    /**
+     * Updates the state which does not belong to a neighbourhood, the ideal point by default, with
+     * an evaluated offspring solution. It is called before the solution is inserted in the
+     * population.
+     */
+    protected void registerOffspring(S child) {
+        idealPoint.update(child.objectives());
+    }
+
+    /**
+     * Returns true if {@link #registerOffspring(Solution)} reads the whole population, so in the
+     * concurrent mode an insertion must lock all the stripes
+     */
+    protected boolean registerOffspringReadsPopulation() {
+        return false;
+    }
+
+    private void evolveInBatches(int[] subProblemIds, int size, SolutionListEvaluator<S> evaluator) {
+        for (int first = 0; first < subProblemIds.length; first += size) {
+            int last = Math.min(subProblemIds.length, first + size);
+            NeighborType[] neighborTypes = new NeighborType[last - first];
+            List<S> offspring = new ArrayList<>(last - first);
+            for (int i = first; i < last; i++) {
+                neighborTypes[i - first] = chooseNeighborType();
+                offspring.add(createOffspring(subProblemIds[i], neighborTypes[i - first]));
             }
-        } else {
-            String dataFileName;
-            dataFileName = "W" + problem.getNumberOfObjectives() + "D_" +
-                    populationSize + ".dat";
 
+            if (evaluator == null) {
+                for (S child : offspring) {
+                    problem.evaluate(child);
+                }
+            } else {
+                offspring = evaluator.evaluate(offspring, problem);
+            }
+
+            for (int i = first; i < last; i++) {
+                S child = offspring.get(i - first);
+                evaluations++;
+
+                registerOffspring(child);
+                updateNeighborhood(child, subProblemIds[i], neighborTypes[i - first]);
+            }
+        }
+    }
+
+    private void evolveConcurrently(int[] subProblemIds) {
+        if (lockStripes == null) {
+            lockStripes = new ReentrantLock[Math.min(numberOfLockStripes, populationSize)];
+            for (int i = 0; i < lockStripes.length; i++) {
+                lockStripes[i] = new ReentrantLock();
+            }
+            allStripes = new int[lockStripes.length];
+            for (int i = 0; i < allStripes.length; i++) {
+                allStripes[i] = i;
+            }
+            neighborhoodStripes = new int[populationSize][];
+            for (int i = 0; i < populationSize; i++) {
+                neighborhoodStripes[i] = neighborhoodStripes(i);
+            }
+            variationLock = new Object();
+            stateLock = new Object();
+        }
+
+        AtomicInteger nextPosition = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Runnable worker = () -> {
             try {
+                int position;
+                while ((failure.get() == null) && ((position = nextPosition.getAndIncrement()) < subProblemIds.length)) {
+                    int subProblemId = subProblemIds[position];
+                    NeighborType neighborType;
+                    synchronized (variationLock) {
+                        neighborType = chooseNeighborType();
+                    }
+                    int[] stripes = stripesOf(subProblemId, neighborType);
+
+                    S child;
+                    lock(stripes);
+                    try {
+                        synchronized (variationLock) {
+                            child = createOffspring(subProblemId, neighborType);
+                        }
+                    } finally {
+                        unlock(stripes);
+                    }
 
-                //       String path =
-                // Paths.get(VectorFileUtils.class.getClassLoader().getResource(filePath).toURI()).toString
-                // ();
-                String path = "/" + dataDirectory + "/" + dataFileName;
-
-                InputStream inputStream =
-                        getClass()
-                                .getClassLoader()
-                                .getResourceAsStream(path);
-                if (inputStream == null) {
-                    inputStream = new FileInputStream(dataDirectory + "/" + dataFileName);
-                }
-                InputStreamReader isr = new InputStreamReader(inputStream);
-                BufferedReader br = new BufferedReader(isr);
-
-                int i = 0;
-                int j = 0;
-                String aux = br.readLine();
-                while (aux != null) {
-                    StringTokenizer st = new StringTokenizer(aux);
-                    j = 0;
-                    while (st.hasMoreTokens()) {
-                        double value = parseDouble(st.nextToken());
-                        lambda[i][j] = value;
-                        j++;
+                    problem.evaluate(child);
+
+                    lock(stripes);
+                    try {
+                        synchronized (stateLock) {
+                            evaluations++;
+                            registerOffspring(child);
+                        }
+                        updateNeighborhood(child, subProblemId, neighborType);
+                    } finally {
+                        unlock(stripes);
                     }
-                    aux = br.readLine();
-                    i++;
                 }
-                br.close();
-            } catch (Exception e) {
-                throw new JMetalException("initializeUniformWeight: failed when reading for file: "
-                        + dataDirectory + "/" + dataFileName, e);
+            } catch (RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            }
+        };
+
+        ExecutorService executor = getWorkers();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < Math.min(numberOfThreads, subProblemIds.length); i++) {
+            futures.add(executor.submit(worker));
+        }
+
+        // The workers are always waited for, so none of them touches the population after returning
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    failure.compareAndSet(null, e);
+                } catch (ExecutionException e) {
+                    failure.compareAndSet(null, e.getCause());
+                    break;
+                }
             }
         }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else if (cause != null) {
+            throw new JMetalException("Interrupted while processing the subproblems", (Exception) cause);
+        }
+    }
+
+    private synchronized ExecutorService getWorkers() {
+        if (workers == null) {
+            AtomicInteger threadCounter = new AtomicInteger();
+            workers = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+                Thread thread = new Thread(runnable, "MOEAD-worker-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workers;
     }
 
     /**
-     * Initialize neighborhoods
+     * Shuts down the threads of the concurrent mode, if any. The variants call it at the end of
+     * {@link #run()}; a later run creates them again.
      */
-    protected void initializeNeighborhood() {
-        double[] x = new double[populationSize];
-        int[] idx = new int[populationSize];
-
-        for (int i = 0; i < populationSize; i++) {
-            // calculate the distances based on weight vectors
-            for (int j = 0; j < populationSize; j++) {
-                x[j] = MOEADUtils.distVector(lambda[i], lambda[j]);
-                idx[j] = j;
+    protected synchronized void shutdownWorkers() {
+        if (workers != null) {
+            workers.shutdown();
+            workers = null;
+        }
+    }
+
+    /**
+     * Returns a random permutation of {@code 0..size-1}. In the concurrent mode it is drawn under
+     * the lock of the variation operators, as they share the random generator.
+     */
+    protected int[] randomPermutation(int size) {
+        int[] permutation = new int[size];
+        Object lock = (executionMode == ExecutionMode.CONCURRENT) ? variationLock : null;
+        if (lock == null) {
+            MOEADUtils.randomPermutation(permutation, size);
+        } else {
+            synchronized (lock) {
+                MOEADUtils.randomPermutation(permutation, size);
+            }
+        }
+        return permutation;
+    }
+
+    /**
+     * Returns a copy of the ideal point. In the concurrent mode it is taken under the lock the
+     * offspring solutions are registered with, so it is never seen half updated.
+     */
+    protected double[] idealPointSnapshot() {
+        Object lock = (executionMode == ExecutionMode.CONCURRENT) ? stateLock : null;
+        if (lock == null) {
+            return idealPoint.getValues().clone();
+        }
+        synchronized (lock) {
+            return idealPoint.getValues().clone();
+        }
+    }
+
+    /**
+     * Sorted indices of the lock stripes of the solutions which can be read or replaced when
+     * processing a subproblem
+     */
+    private int[] stripesOf(int subProblemId, NeighborType neighborType) {
+        if ((neighborType == NeighborType.POPULATION) || registerOffspringReadsPopulation()) {
+            return allStripes;
+        }
+        return neighborhoodStripes[subProblemId];
+    }
+
+    private int[] neighborhoodStripes(int subProblemId) {
+        boolean[] used = new boolean[lockStripes.length];
+        used[subProblemId % lockStripes.length] = true;
+        for (int k : neighborhood[subProblemId]) {
+            used[k % lockStripes.length] = true;
+        }
+        int count = 0;
+        for (boolean u : used) {
+            count += u ? 1 : 0;
+        }
+        int[] stripes = new int[count];
+        for (int i = 0, j = 0; i < used.length; i++) {
+            if (used[i]) {
+                stripes[j++] = i;
             }
+        }
+        return stripes;
+    }
 
-            // find 'niche' nearest neighboring subproblems
-            MOEADUtils.minFastSort(x, idx, populationSize, neighborSize);
+    /* The stripes are always locked in increasing order, so there cannot be deadlocks */
+    private void lock(int[] stripes) {
+        for (int stripe : stripes) {
+            lockStripes[stripe].lock();
+        }
+    }
 
-            System.arraycopy(idx, 0, neighborhood[i], 0, neighborSize);
+    private void unlock(int[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            lockStripes[stripes[i]].unlock();
         }
     }
 
@@ -258,9 +577,8 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
         } else {
             size = population.size();
         }
-        int[] perm = new int[size];
-
-        MOEADUtils.randomPermutation(perm, size);
+        int[] perm = randomPermutation(size);
+        double[] ideal = idealPointSnapshot();
 
         for (int i = 0; i < size; i++) {
             int k;
@@ -271,8 +589,8 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
             }
             double f1, f2;
 
-            f1 = fitnessFunction(population.get(k), lambda[k]);
-            f2 = fitnessFunction(individual, lambda[k]);
+            f1 = fitnessFunction(population.get(k), lambda[k], ideal);
+            f2 = fitnessFunction(individual, lambda[k], ideal);
 
             if (f2 < f1) {
                 population.set(k, (S) individual.copy());
@@ -286,13 +604,17 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
     }
 
     double fitnessFunction(S individual, double[] lambda) throws JMetalException {
+        return fitnessFunction(individual, lambda, idealPoint.getValues());
+    }
+
+    double fitnessFunction(S individual, double[] lambda, double[] idealPoint) throws JMetalException {
         double fitness;
 
         if (MOEAD.FunctionType.TCHE.equals(functionType)) {
             double maxFun = -1.0e+30;
 
             for (int n = 0; n < problem.getNumberOfObjectives(); n++) {
-                double diff = Math.abs(individual.objectives()[n] - idealPoint.getValue(n));
+                double diff = Math.abs(individual.objectives()[n] - idealPoint[n]);
 
                 double feval;
                 if (lambda[n] == 0) {
@@ -321,14 +643,14 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
             d1 = d2 = nl = 0.0;
 
             for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-                d1 += (individual.objectives()[i] - idealPoint.getValue(i)) * lambda[i];
+                d1 += (individual.objectives()[i] - idealPoint[i]) * lambda[i];
                 nl += Math.pow(lambda[i], 2.0);
             }
             nl = Math.sqrt(nl);
             d1 = Math.abs(d1) / nl;
 
             for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-                d2 += Math.pow((individual.objectives()[i] - idealPoint.getValue(i)) - d1 * (lambda[i] / nl), 2.0);
+                d2 += Math.pow((individual.objectives()[i] - idealPoint[i]) - d1 * (lambda[i] / nl), 2.0);
             }
             d2 = Math.sqrt(d2);
 
@@ -45,41 +45,41 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution> {
 
     @Override
     public void run() {
-        initializeUniformWeight();
-        initializeNeighborhood();
-        initializePopulation();
-        idealPoint.update(population);
+        try {
+            initializeUniformWeight();
+            initializeNeighborhood();
+            initializePopulation();
+            idealPoint.update(population);
 
-        violationThresholdComparator.updateThreshold(population);
-
-        evaluations = populationSize;
+            violationThresholdComparator.updateThreshold(population);
 
-        do {
-            int[] permutation = new int[populationSize];
-            MOEADUtils.randomPermutation(permutation, populationSize);
+            evaluations = populationSize;
 
-            for (int i = 0; i < populationSize; i++) {
-                int subProblemId = permutation[i];
+            do {
+                int[] permutation = new int[populationSize];
+                MOEADUtils.randomPermutation(permutation, populationSize);
 
-                NeighborType neighborType = chooseNeighborType();
-                List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
+                evolve(permutation);
 
-                differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-                List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+                violationThresholdComparator.updateThreshold(population);
 
-                DoubleSolution child = children.get(0);
-                mutationOperator.execute(child);
-                problem.evaluate(child);
+            } while (evaluations < maxEvaluations);
+        } finally {
+            shutdownWorkers();
+        }
+    }
 
-                evaluations++;
+    @Override
+    protected DoubleSolution createOffspring(int subProblemId, NeighborType neighborType) {
+        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
 
-                idealPoint.update(child.objectives());
-                updateNeighborhood(child, subProblemId, neighborType);
-            }
+        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-            violationThresholdComparator.updateThreshold(population);
+        DoubleSolution child = children.get(0);
+        mutationOperator.execute(child);
 
-        } while (evaluations < maxEvaluations);
+        return child;
     }
 
     public void initializePopulation() {
@@ -103,9 +103,8 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution> {
         } else {
             size = population.size();
         }
-        int[] perm = new int[size];
-
-        MOEADUtils.randomPermutation(perm, size);
+        int[] perm = randomPermutation(size);
+        double[] ideal = idealPointSnapshot();
 
         for (int i = 0; i < size; i++) {
             int k;
@@ -116,8 +115,8 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution> {
             }
             double f1, f2;
 
-            f1 = fitnessFunction(population.get(k), lambda[k]);
-            f2 = fitnessFunction(individual, lambda[k]);
+            f1 = fitnessFunction(population.get(k), lambda[k], ideal);
+            f2 = fitnessFunction(individual, lambda[k], ideal);
 
             if (violationThresholdComparator.needToCompare(population.get(k), individual)) {
                 int flag = violationThresholdComparator.compare(population.get(k), individual);
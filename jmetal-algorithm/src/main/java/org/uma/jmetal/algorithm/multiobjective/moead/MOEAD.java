@@ -43,37 +43,36 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
 
     @Override
     public void run() {
-        initializePopulation();
-        initializeUniformWeight();
-        initializeNeighborhood();
-        idealPoint.update(population);
-        ;
-
-        evaluations = populationSize;
-        do {
-            int[] permutation = new int[populationSize];
-            MOEADUtils.randomPermutation(permutation, populationSize);
-
-            for (int i = 0; i < populationSize; i++) {
-                int subProblemId = permutation[i];
-
-                NeighborType neighborType = chooseNeighborType();
-                List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
-
-                differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-                List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+        try {
+            initializePopulation();
+            initializeUniformWeight();
+            initializeNeighborhood();
+            idealPoint.update(population);
+            ;
+
+            evaluations = populationSize;
+            do {
+                int[] permutation = new int[populationSize];
+                MOEADUtils.randomPermutation(permutation, populationSize);
+
+                evolve(permutation);
+            } while (evaluations < maxEvaluations);
+        } finally {
+            shutdownWorkers();
+        }
+    }
 
-                DoubleSolution child = children.get(0);
-                mutationOperator.execute(child);
-                problem.evaluate(child);
+    @Override
+    protected DoubleSolution createOffspring(int subProblemId, NeighborType neighborType) {
+        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
 
-                evaluations++;
+        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-                idealPoint.update(child.objectives());
-                updateNeighborhood(child, subProblemId, neighborType);
-            }
-        } while (evaluations < maxEvaluations);
+        DoubleSolution child = children.get(0);
+        mutationOperator.execute(child);
 
+        return child;
     }
 
     protected void initializePopulation() {
@@ -7,6 +7,8 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 /**
  * Builder class for algorithm MOEA/D and variants
@@ -47,6 +49,10 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
 
     protected int numberOfThreads;
 
+    protected AbstractMOEAD.ExecutionMode executionMode;
+    protected SolutionListEvaluator<DoubleSolution> evaluator;
+    protected int batchSize;
+
     protected Variant moeadVariant;
 
     /**
@@ -65,6 +71,9 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
         dataDirectory = "";
         neighborSize = 20;
         numberOfThreads = 1;
+        executionMode = AbstractMOEAD.ExecutionMode.SEQUENTIAL;
+        evaluator = new SequentialSolutionListEvaluator<>();
+        batchSize = 1;
         moeadVariant = variant;
     }
 
@@ -179,6 +188,41 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
         return this;
     }
 
+    /**
+     * Sets how the subproblems are processed; only MOEAD, ConstraintMOEAD, MOEADDRA and MOEADSTM
+     * support the batched and concurrent modes. The concurrent mode uses the number of threads of
+     * the builder.
+     */
+    public MOEADBuilder setExecutionMode(AbstractMOEAD.ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+
+        return this;
+    }
+
+    public MOEADBuilder setEvaluator(SolutionListEvaluator<DoubleSolution> evaluator) {
+        this.evaluator = evaluator;
+
+        return this;
+    }
+
+    public MOEADBuilder setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+
+        return this;
+    }
+
+    public AbstractMOEAD.ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public SolutionListEvaluator<DoubleSolution> getEvaluator() {
+        return evaluator;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     public AbstractMOEAD<DoubleSolution> build() {
         AbstractMOEAD<DoubleSolution> algorithm = null;
         if (moeadVariant.equals(Variant.MOEAD)) {
@@ -207,6 +251,13 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
                     maximumNumberOfReplacedSolutions, neighborSize);
         }
 
+        if (executionMode != AbstractMOEAD.ExecutionMode.SEQUENTIAL) {
+            algorithm.setExecutionMode(executionMode);
+            algorithm.setEvaluator(evaluator);
+            algorithm.setBatchSize(batchSize);
+            algorithm.setNumberOfThreads(numberOfThreads);
+        }
+
         return algorithm;
     }
 }
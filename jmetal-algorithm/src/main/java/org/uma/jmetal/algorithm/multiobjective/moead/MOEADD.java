@@ -1398,6 +1398,14 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         return sum;
     }
 
+    /**
+     * The subproblems are processed by {@link #run()} itself, so only the sequential mode is supported
+     */
+    @Override
+    protected boolean supportsExecutionMode(ExecutionMode executionMode) {
+        return executionMode == ExecutionMode.SEQUENTIAL;
+    }
+
     @Override
     public String getName() {
         return "MOEADD";
@@ -54,43 +54,43 @@ public class MOEADDRA extends AbstractMOEAD<DoubleSolution> {
 
     @Override
     public void run() {
-        initializePopulation();
-        initializeUniformWeight();
-        initializeNeighborhood();
-        idealPoint.update(population);
-        ;
-
-        int generation = 0;
-        evaluations = populationSize;
-        do {
-            List<Integer> order = tourSelection(10);
-            for (int i = 0; i < order.size(); i++) {
-                int subProblemId = order.get(i);
-                frequency[subProblemId]++;
-
-                NeighborType neighborType = chooseNeighborType();
-                List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
-
-                differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-                List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
-
-                DoubleSolution child = children.get(0);
-                mutationOperator.execute(child);
-                problem.evaluate(child);
-
-                evaluations++;
-
-                idealPoint.update(child.objectives());
-                updateNeighborhood(child, subProblemId, neighborType);
-            }
+        try {
+            initializePopulation();
+            initializeUniformWeight();
+            initializeNeighborhood();
+            idealPoint.update(population);
+            ;
+
+            int generation = 0;
+            evaluations = populationSize;
+            do {
+                List<Integer> order = tourSelection(10);
+                evolve(order.stream().mapToInt(Integer::intValue).toArray());
+
+                generation++;
+                if (generation % 30 == 0) {
+                    utilityFunction();
+                }
 
-            generation++;
-            if (generation % 30 == 0) {
-                utilityFunction();
-            }
+            } while (evaluations < maxEvaluations);
+        } finally {
+            shutdownWorkers();
+        }
+    }
+
+    @Override
+    protected DoubleSolution createOffspring(int subProblemId, NeighborType neighborType) {
+        frequency[subProblemId]++;
+
+        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
+
+        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-        } while (evaluations < maxEvaluations);
+        DoubleSolution child = children.get(0);
+        mutationOperator.execute(child);
 
+        return child;
     }
 
     protected void initializePopulation() {
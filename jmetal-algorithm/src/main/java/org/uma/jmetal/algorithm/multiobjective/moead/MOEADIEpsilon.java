@@ -204,6 +204,14 @@ public class MOEADIEpsilon extends AbstractMOEAD<DoubleSolution> {
         return archive;
     }
 
+    /**
+     * The subproblems are processed by {@link #run()} itself, so only the sequential mode is supported
+     */
+    @Override
+    protected boolean supportsExecutionMode(ExecutionMode executionMode) {
+        return executionMode == ExecutionMode.SEQUENTIAL;
+    }
+
     @Override
     public String getName() {
         return "MOEA/D IEpsilon";
@@ -57,57 +57,71 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
 
     @Override
     public void run() {
-        initializePopulation();
-        initializeUniformWeight();
-        initializeNeighborhood();
-        idealPoint.update(population);
-        nadirPoint.update(population);
-
-        int generation = 0;
-        evaluations = populationSize;
-        do {
-            int[] permutation = new int[populationSize];
-            MOEADUtils.randomPermutation(permutation, populationSize);
-            offspringPopulation.clear();
-
-            for (int i = 0; i < populationSize; i++) {
-                int subProblemId = permutation[i];
-                frequency[subProblemId]++;
-
-                NeighborType neighborType = chooseNeighborType();
-                List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
-
-                differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-                List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+        try {
+            initializePopulation();
+            initializeUniformWeight();
+            initializeNeighborhood();
+            idealPoint.update(population);
+            nadirPoint.update(population);
+
+            int generation = 0;
+            evaluations = populationSize;
+            do {
+                int[] permutation = new int[populationSize];
+                MOEADUtils.randomPermutation(permutation, populationSize);
+                offspringPopulation.clear();
+
+                evolve(permutation);
+
+                // Combine the parent and the current offspring populations
+                jointPopulation.clear();
+                jointPopulation.addAll(population);
+                jointPopulation.addAll(offspringPopulation);
+
+                // selection process
+                stmSelection();
+
+                generation++;
+                if (generation % 30 == 0) {
+                    utilityFunction();
+                }
 
-                DoubleSolution child = children.get(0);
-                mutationOperator.execute(child);
-                problem.evaluate(child);
+            } while (evaluations < maxEvaluations);
+        } finally {
+            shutdownWorkers();
+        }
+    }
 
-                evaluations++;
+    @Override
+    protected DoubleSolution createOffspring(int subProblemId, NeighborType neighborType) {
+        frequency[subProblemId]++;
 
-                idealPoint.update(population);
-                nadirPoint.update(population);
-                updateNeighborhood(child, subProblemId, neighborType);
+        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
 
-                offspringPopulation.add(child);
-            }
+        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-            // Combine the parent and the current offspring populations
-            jointPopulation.clear();
-            jointPopulation.addAll(population);
-            jointPopulation.addAll(offspringPopulation);
+        DoubleSolution child = children.get(0);
+        mutationOperator.execute(child);
 
-            // selection process
-            stmSelection();
+        return child;
+    }
 
-            generation++;
-            if (generation % 30 == 0) {
-                utilityFunction();
-            }
+    /**
+     * The reference points are updated with the population, and the offspring solution is kept for
+     * the stable matching selection
+     */
+    @Override
+    protected void registerOffspring(DoubleSolution child) {
+        idealPoint.update(population);
+        nadirPoint.update(population);
 
-        } while (evaluations < maxEvaluations);
+        offspringPopulation.add(child);
+    }
 
+    @Override
+    protected boolean registerOffspringReadsPopulation() {
+        return true;
     }
 
     protected void initializePopulation() {
@@ -137,6 +137,7 @@ public abstract class AbstractMOMBI<S extends Solution<?>> extends AbstractGenet
             offspringPopulation = evaluatePopulation(offspringPopulation);
             this.setPopulation(replacement(this.getPopulation(), offspringPopulation));
             updateProgress();
+            exchangePopulation();
             // specific GA needed computations
             this.specificMOEAComputations();
         }
@@ -7,16 +7,40 @@ import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.solutionattribute.SolutionAttribute;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.TreeMap;
-
+import java.util.stream.IntStream;
+
+/**
+ * Environmental selection of NSGA-III: the solutions taken from the last front are chosen by
+ * normalizing the objectives, associating each solution with its nearest reference line and niching.
+ *
+ * <p>All the computations are done on primitive arrays. The objectives of the solutions of all the
+ * fronts and the reference points are copied into flat matrices, where the element {@code i * M +
+ * f} is the value of objective f of row i. The association, which takes most of the time with many
+ * objectives and reference points, is computed in parallel over the solutions when there are
+ * enough of them; for each solution, only the reference lines which can be the closest one are
+ * measured exactly. The reference points are kept in a bucket queue indexed by their niche count,
+ * a monotone priority queue (the minimum niche count never decreases), so getting a least crowded
+ * reference point takes constant time. The potential members of each reference point are a slice
+ * of an array sorted by decreasing distance.
+ *
+ * <p>The normalized objectives are also stored as an attribute of the solutions.
+ */
 @SuppressWarnings("serial")
 public class EnvironmentalSelection<S extends Solution<?>> implements SelectionOperator<List<S>, List<S>>,
         SolutionAttribute<S, List<Double>> {
+    /* Minimum number of distance computations (solutions x reference points x objectives) to associate in parallel */
+    private static final long PARALLEL_THRESHOLD = 1L << 20;
+    /* Relative error bound of the squared distances, used to screen the reference lines */
+    private static final double SCREENING_TOLERANCE = 1.0e-9;
+    /* Number of solutions screened together */
+    private static final int BLOCK_SIZE = 4;
+    /* Number of solutions associated by a task */
+    private static final int CHUNK_SIZE = 64;
 
     private List<List<S>> fronts;
     private int solutionsToSelect;
-    /* 参考点 */
     private List<ReferencePoint<S>> referencePoints;
     private int numberOfObjectives;
 
@@ -36,33 +60,133 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
     }
 
     /**
-     * 计算理想点，并将全部个体的原点移动到当前理想点.
-     *
-     * @return
+     * Solves the linear system A x = b by Gaussian elimination without pivoting. The arguments are
+     * not modified.
      */
-    private List<Double> translateObjectives() {
+    public static double[] gaussianElimination(double[][] a, double[] b) {
+        int n = a.length;
+        double[][] augmented = new double[n][];
+        for (int i = 0; i < n; i++) {
+            augmented[i] = Arrays.copyOf(a[i], n + 1);
+            augmented[i][n] = b[i];
+        }
 
-        List<Double> ideal_point = new ArrayList<>(numberOfObjectives);
-        for (int f = 0; f < numberOfObjectives; f += 1) {
-            double minf = Double.MAX_VALUE;
-            for (int i = 0; i < fronts.get(0).size(); i += 1) {
-                // min values must appear in the first front
-                minf = Math.min(minf, fronts.get(0).get(i).objectives()[f]);
-            }
-            ideal_point.add(minf);
-            /* 并将解空间远原点挪到理想点 */
-            for (List<S> list : fronts) {
-                for (S s : list) {
-                    if (f == 0) {
-                        // in the first objective we create the vector of conv_objs
-                        setAttribute(s, new ArrayList<Double>());
-                    }
-                    getAttribute(s).add(s.objectives()[f] - minf);
+        for (int base = 0; base < n - 1; base++) {
+            for (int target = base + 1; target < n; target++) {
+                double ratio = augmented[target][base] / augmented[base][base];
+                for (int term = 0; term <= n; term++) {
+                    augmented[target][term] -= augmented[base][term] * ratio;
                 }
             }
         }
-        return ideal_point;
 
+        double[] x = new double[n];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int known = i + 1; known < n; known++) {
+                augmented[i][n] -= augmented[i][known] * x[known];
+            }
+            x[i] = augmented[i][n] / augmented[i][i];
+        }
+        return x;
+    }
+
+    /**
+     * Version of {@link #gaussianElimination(double[][], double[])} with lists
+     */
+    public List<Double> guassianElimination(List<List<Double>> A, List<Double> b) {
+        double[][] a = new double[A.size()][];
+        double[] c = new double[b.size()];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = A.get(i).stream().mapToDouble(Double::doubleValue).toArray();
+            c[i] = b.get(i);
+        }
+
+        List<Double> x = new ArrayList<>(a.length);
+        for (double value : gaussianElimination(a, c)) {
+            x.add(value);
+        }
+        return x;
+    }
+
+    @Override
+    /* This method performs the environmental Selection indicated in the paper describing NSGAIII*/
+    public List<S> execute(List<S> source) throws JMetalException {
+        // ---------- Steps 9-10 in Algorithm 1 ----------
+        if (source.size() == this.solutionsToSelect) {
+            return source;
+        }
+
+        List<S> solutions = new ArrayList<>();
+        for (List<S> front : fronts) {
+            solutions.addAll(front);
+        }
+        int firstFrontSize = fronts.get(0).size();
+        int lastFrontStart = solutions.size() - fronts.get(fronts.size() - 1).size();
+        int m = numberOfObjectives;
+
+        double[] objectives = new double[solutions.size() * m];
+        for (int i = 0; i < solutions.size(); i++) {
+            System.arraycopy(solutions.get(i).objectives(), 0, objectives, i * m, m);
+        }
+
+        // ---------- Step 14 / Algorithm 2 ----------
+        double[] idealPoint = idealPoint(objectives, firstFrontSize);
+        int[] extremePoints = findExtremePoints(objectives, firstFrontSize);
+        double[] intercepts = constructHyperplane(solutions, objectives, extremePoints);
+        normalizeObjectives(objectives, solutions.size(), idealPoint, intercepts);
+        for (int i = 0; i < solutions.size(); i++) {
+            List<Double> normalizedObjectives = new ArrayList<>(m);
+            for (int f = 0; f < m; f++) {
+                normalizedObjectives.add(objectives[i * m + f]);
+            }
+            setAttribute(solutions.get(i), normalizedObjectives);
+        }
+
+        // ---------- Step 15 / Algorithm 3, Step 16 ----------
+        int numberOfReferencePoints = referencePoints.size();
+        int[] association = new int[solutions.size()];
+        double[] distance = new double[solutions.size()];
+        associate(objectives, solutions.size(), association, distance);
+
+        int[] nicheCount = new int[numberOfReferencePoints];
+        for (int i = 0; i < lastFrontStart; i++) {
+            nicheCount[association[i]]++;
+        }
+
+        // Potential members (solutions of the last front) of each reference point, sorted by
+        // decreasing distance; those of reference point r are in [memberStart[r], memberEnd[r])
+        int[] memberStart = new int[numberOfReferencePoints + 1];
+        for (int i = lastFrontStart; i < solutions.size(); i++) {
+            memberStart[association[i] + 1]++;
+        }
+        for (int r = 0; r < numberOfReferencePoints; r++) {
+            memberStart[r + 1] += memberStart[r];
+        }
+        int[] memberEnd = Arrays.copyOf(memberStart, numberOfReferencePoints);
+        int[] members = new int[solutions.size() - lastFrontStart];
+        for (int i = lastFrontStart; i < solutions.size(); i++) {
+            members[memberEnd[association[i]]++] = i;
+        }
+        int[] buffer = new int[members.length];
+        for (int r = 0; r < numberOfReferencePoints; r++) {
+            sortByDecreasingDistance(members, buffer, memberStart[r], memberEnd[r], distance);
+        }
+
+        // ---------- Step 17 / Algorithm 4 ----------
+        return niching(solutions, nicheCount, members, memberStart, memberEnd);
+    }
+
+    private double[] idealPoint(double[] objectives, int firstFrontSize) {
+        double[] idealPoint = new double[numberOfObjectives];
+        for (int f = 0; f < numberOfObjectives; f++) {
+            double minf = Double.MAX_VALUE;
+            // min values must appear in the first front
+            for (int i = 0; i < firstFrontSize; i++) {
+                minf = Math.min(minf, objectives[i * numberOfObjectives + f]);
+            }
+            idealPoint[f] = minf;
+        }
+        return idealPoint;
     }
 
     // ----------------------------------------------------------------------
@@ -71,304 +195,357 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
     // of the objective which uses 1.0; the rest will use 0.00001. This is
     // different to the one impelemented in C++
     // ----------------------------------------------------------------------
-    private double ASF(S s, int index) {
+    private double ASF(double[] objectives, int solution, int index) {
         double max_ratio = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < s.objectives().length; i++) {
+        for (int i = 0; i < numberOfObjectives; i++) {
             double weight = (index == i) ? 1.0 : 0.000001;
-            max_ratio = Math.max(max_ratio, s.objectives()[i] / weight);
+            max_ratio = Math.max(max_ratio, objectives[solution * numberOfObjectives + i] / weight);
         }
         return max_ratio;
     }
 
-    // ----------------------------------------------------------------------
-
     /**
-     * 获取各个目标方向上的极值点.
-     *
-     * @return
+     * Returns, for each objective, the index of the solution of the first front which minimizes
+     * the ASF with that objective
      */
-    private List<S> findExtremePoints() {
-        /* 找出各个目标轴上的极值点，一个目标对应一个极值点 */
-        List<S> extremePoints = new ArrayList<>();
-        S min_indv = null;
-        for (int f = 0; f < numberOfObjectives; f += 1) {
+    private int[] findExtremePoints(double[] objectives, int firstFrontSize) {
+        int[] extremePoints = new int[numberOfObjectives];
+        int min_indv = -1;
+        for (int f = 0; f < numberOfObjectives; f++) {
             double min_ASF = Double.MAX_VALUE;
-            for (S s : fronts.get(0)) {
-                // only consider the individuals in the first front
-                /* f代表一个目标方向 */
-                double asf = ASF(s, f);
+            // only consider the individuals in the first front
+            for (int i = 0; i < firstFrontSize; i++) {
+                double asf = ASF(objectives, i, f);
                 if (asf < min_ASF) {
                     min_ASF = asf;
-                    min_indv = s;
+                    min_indv = i;
                 }
             }
-            /* 在pareto前沿中找到极值点 */
-            extremePoints.add(min_indv);
+            extremePoints[f] = min_indv;
         }
         return extremePoints;
     }
 
-    /* 高斯消元法 */
-    public List<Double> guassianElimination(List<List<Double>> A, List<Double> b) {
-        List<Double> x = new ArrayList<>();
-
-        int N = A.size();
-        for (int i = 0; i < N; i += 1) {
-            A.get(i).add(b.get(i));
-        }
-
-        for (int base = 0; base < N - 1; base += 1) {
-            for (int target = base + 1; target < N; target += 1) {
-                double ratio = A.get(target).get(base) / A.get(base).get(base);
-                for (int term = 0; term < A.get(base).size(); term += 1) {
-                    A.get(target).set(term, A.get(target).get(term) - A.get(base).get(term) * ratio);
-                }
-            }
-        }
-
-        for (int i = 0; i < N; i++) {
-            x.add(0.0);
-        }
-
-        for (int i = N - 1; i >= 0; i -= 1) {
-            for (int known = i + 1; known < N; known += 1) {
-                A.get(i).set(N, A.get(i).get(N) - A.get(i).get(known) * x.get(known));
-            }
-            x.set(i, A.get(i).get(N) / A.get(i).get(i));
-        }
-        return x;
-    }
-
     /**
-     * 构建超平面，通过获取各个方向上的截断距离构建超平面.
-     *
-     * @param extreme_points
-     * @return
+     * Returns the intercepts of the hyperplane defined by the extreme points with the axes
      */
-    private List<Double> constructHyperplane(List<S> extreme_points) {
+    private double[] constructHyperplane(List<S> solutions, double[] objectives, int[] extremePoints) {
         // Check whether there are duplicate extreme points.
         // This might happen but the original paper does not mention how to deal with it.
-        /**
-         * 为什么会出现极值点重复的情况呢？原则上，以三个目标为例子，三个目标构成一个 xyz 空间，
-         * 若是极值点就在原点呢？是不是就重复了,maybe.
-         */
         boolean duplicate = false;
-        for (int i = 0; !duplicate && i < extreme_points.size(); i += 1) {
-            for (int j = i + 1; !duplicate && j < extreme_points.size(); j += 1) {
-                duplicate = extreme_points.get(i).equals(extreme_points.get(j));
+        for (int i = 0; !duplicate && i < extremePoints.length; i++) {
+            for (int j = i + 1; !duplicate && j < extremePoints.length; j++) {
+                duplicate = solutions.get(extremePoints[i]).equals(solutions.get(extremePoints[j]));
             }
         }
-        /* 目标方向上的截距 */
-        List<Double> intercepts = new ArrayList<>();
+
+        double[] intercepts = new double[numberOfObjectives];
         if (duplicate) {
-            /* 这种情况极少 */
             // cannot construct the unique hyperplane (this is a casual method to deal with the condition)
-            for (int f = 0; f < numberOfObjectives; f += 1) {
+            for (int f = 0; f < numberOfObjectives; f++) {
                 // extreme_points[f] stands for the individual with the largest value of objective f
-                /* 注意这里有一个前后对应的关系，构建极值点集合构建的时候就按照object的index插入的，这里也是按照固定的对应顺序写入的。
-                 * 但是ArrayList一定能保证取的顺序一致嘛？所以保险起见可使用LinkedList来进行存储.
-                 */
-                intercepts.add(extreme_points.get(f).objectives()[f]);
+                intercepts[f] = objectives[extremePoints[f] * numberOfObjectives + f];
             }
         } else {
-            /* 这里使用的是高斯消元法获取在各个目标上的截距离，一定目标的个数=极值点集合当前的实际大小，满足假设前提 */
             // Find the equation of the hyperplane
-            List<Double> b = new ArrayList<>(); // (pop[0].objs().size(), 1.0);
-            for (int i = 0; i < numberOfObjectives; i++) {
-                b.add(1.0);
+            double[][] a = new double[numberOfObjectives][];
+            double[] b = new double[numberOfObjectives];
+            for (int f = 0; f < numberOfObjectives; f++) {
+                int row = extremePoints[f] * numberOfObjectives;
+                a[f] = Arrays.copyOfRange(objectives, row, row + numberOfObjectives);
+                b[f] = 1.0;
             }
-            List<List<Double>> A = new ArrayList<>();
-            for (S s : extreme_points) {
-                List<Double> aux = new ArrayList<>();
-                for (int i = 0; i < numberOfObjectives; i++) {
-                    aux.add(s.objectives()[i]);
-                }
-                A.add(aux);
-            }
-            /**
-             * 高斯消元基础：https://blog.csdn.net/u011815404/article/details/88890702
-             * todo 应该还有优化空间，注意下内部实现.
-             */
-            List<Double> x = guassianElimination(A, b);
+            double[] x = gaussianElimination(a, b);
             // Find intercepts
-            /* 获取对应反向上的截距 */
-            for (int f = 0; f < numberOfObjectives; f += 1) {
-                intercepts.add(1.0 / x.get(f));
+            for (int f = 0; f < numberOfObjectives; f++) {
+                intercepts[f] = 1.0 / x[f];
             }
         }
         return intercepts;
     }
 
     /**
-     * 目标正则化过程.
-     * 10e-10 -->> 表示正无穷小.
-     *
-     * @param intercepts  截断距离
-     * @param ideal_point 理想点
+     * Translates the objectives to the ideal point and divides them by the distance from the ideal
+     * point to the intercepts
      */
-    private void normalizeObjectives(List<Double> intercepts, List<Double> ideal_point) {
-        for (int t = 0; t < fronts.size(); t += 1) {
-            for (S s : fronts.get(t)) {
-                /*{@link org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.EnvironmentalSelection.translateObjectives}*/
-                /* 注意：solution#attributes的数值在translateObjectives方法内部已经完成源点到理想点的替换，即已经减去了理想点的坐标 */
-                List<Double> conv_obj = (List<Double>) getAttribute(s); /* 这个应该放 for f 外面把？todo */
-                for (int f = 0; f < numberOfObjectives; f++) {
-                    if (Math.abs(intercepts.get(f) - ideal_point.get(f)) > 10e-10) {
-                        conv_obj.set(f, conv_obj.get(f) / (intercepts.get(f) - ideal_point.get(f)));
-                    } else {
-                        /* 截断距离等于理想对应坐标 */
-                        conv_obj.set(f, conv_obj.get(f) / (10e-10));
-                    }
-                }
+    private void normalizeObjectives(double[] objectives, int numberOfSolutions, double[] idealPoint,
+                                     double[] intercepts) {
+        double[] denominator = new double[numberOfObjectives];
+        for (int f = 0; f < numberOfObjectives; f++) {
+            if (Math.abs(intercepts[f] - idealPoint[f]) > 10e-10) {
+                denominator[f] = intercepts[f] - idealPoint[f];
+            } else {
+                denominator[f] = 10e-10;
+            }
+        }
+
+        for (int i = 0; i < numberOfSolutions; i++) {
+            for (int f = 0; f < numberOfObjectives; f++) {
+                int k = i * numberOfObjectives + f;
+                objectives[k] = (objectives[k] - idealPoint[f]) / denominator[f];
             }
         }
     }
 
     /**
-     * 计算正交距离.
+     * Associates each solution with the reference point whose line is the closest one (the first
+     * one in case of a tie) and stores the perpendicular distance to it.
      *
-     * @param direction 参考点坐标
-     * @param point     front解集前沿的个体
-     * @return
+     * <p>The squared distance from a point p to the line of direction w is |p|<sup>2</sup> - (p
+     * &middot; w)<sup>2</sup> / |w|<sup>2</sup>, so the closest lines are first screened with a
+     * single dot product per reference point. The distance given by the usual formula (projection
+     * and difference) is then computed only for the lines whose screening value is within the
+     * rounding error of the best one, which are very few, so the association and the distances do
+     * not depend on the rounding errors of the screening.
      */
-    private double perpendicularDistance(List<Double> direction, List<Double> point) {
-        double numerator = 0;
-        double denominator = 0;
-        for (int i = 0; i < direction.size(); i += 1) {
-            numerator += direction.get(i) * point.get(i);
-            denominator += Math.pow(direction.get(i), 2.0);
-        }
-        double k = numerator / denominator;
-        /** 具体参考原文<An Evolutionary Many-Objective Optimization Algorithm Using Reference-Point-Based
-         * Nondominated Sorting Approach, Part I_Solving Problems With Box Constraints> 章节D. Association Operation
-         * 中计算公式的描述.
-         **/
-        double d = 0;
-        for (int i = 0; i < direction.size(); i += 1) {
-            d += Math.pow(point.get(i) - k * direction.get(i), 2.0);
-        }
-        /* 注意：这里需要开平方 */
-        return Math.sqrt(d);
+    private void associate(double[] objectives, int numberOfSolutions, int[] association, double[] distance) {
+        int m = numberOfObjectives;
+        int numberOfReferencePoints = referencePoints.size();
+        double[] directions = new double[numberOfReferencePoints * m];
+        double[] squaredNorms = new double[numberOfReferencePoints];
+        for (int r = 0; r < numberOfReferencePoints; r++) {
+            List<Double> position = referencePoints.get(r).position;
+            for (int f = 0; f < m; f++) {
+                double value = position.get(f);
+                directions[r * m + f] = value;
+                squaredNorms[r] += value * value;
+            }
+        }
+        double[] inverseSquaredNorms = new double[numberOfReferencePoints];
+        for (int r = 0; r < numberOfReferencePoints; r++) {
+            inverseSquaredNorms[r] = 1.0 / squaredNorms[r];
+        }
+
+        int numberOfChunks = (numberOfSolutions + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream chunks = IntStream.range(0, numberOfChunks);
+        if ((long) numberOfSolutions * numberOfReferencePoints * m >= PARALLEL_THRESHOLD) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            double[] projection = new double[BLOCK_SIZE * numberOfReferencePoints];
+            int chunkEnd = Math.min(numberOfSolutions, (chunk + 1) * CHUNK_SIZE);
+            for (int first = chunk * CHUNK_SIZE; first < chunkEnd; first += BLOCK_SIZE) {
+                associateBlock(directions, squaredNorms, inverseSquaredNorms, objectives, first,
+                        Math.min(chunkEnd, first + BLOCK_SIZE), projection, association, distance);
+            }
+        });
     }
 
     /**
-     * 将解集前沿集合中的个体和参考点的联系起来.
+     * Associates the solutions of a block, screened together if the block is full
      */
-    private void associate() {
-
-        for (int t = 0; t < fronts.size(); t++) {
-            for (S s : fronts.get(t)) {
-                int min_rp = -1;
-                double min_dist = Double.MAX_VALUE;
-                for (int referenceIndex = 0; referenceIndex < this.referencePoints.size(); ++referenceIndex) {
-                    /* 获取距离 */
-                    double distance = perpendicularDistance(
-                            this.referencePoints.get(referenceIndex).position, (List<Double>) getAttribute(s));
-                    if (distance < min_dist) {
-                        min_dist = distance;
-                        min_rp = referenceIndex;
-                    }
+    private void associateBlock(double[] directions, double[] squaredNorms, double[] inverseSquaredNorms,
+                                double[] objectives, int first, int last, double[] projection,
+                                int[] association, double[] distance) {
+        int m = numberOfObjectives;
+        int numberOfReferencePoints = squaredNorms.length;
+        if (last - first == BLOCK_SIZE) {
+            screenBlock(directions, inverseSquaredNorms, objectives, first, projection);
+        } else {
+            for (int i = first; i < last; i++) {
+                screen(directions, inverseSquaredNorms, objectives, i, projection,
+                        (i - first) * numberOfReferencePoints);
+            }
+        }
+
+        for (int i = first; i < last; i++) {
+            int point = i * m;
+            int offset = (i - first) * numberOfReferencePoints;
+            double squaredNorm = 0.0;
+            for (int f = 0; f < m; f++) {
+                squaredNorm += objectives[point + f] * objectives[point + f];
+            }
+            double maximumProjection = Double.NEGATIVE_INFINITY;
+            for (int r = 0; r < numberOfReferencePoints; r++) {
+                maximumProjection = Math.max(maximumProjection, projection[offset + r]);
+            }
+            double threshold = maximumProjection - SCREENING_TOLERANCE * (squaredNorm + Double.MIN_NORMAL);
+
+            int min_rp = -1;
+            double min_dist = Double.MAX_VALUE;
+            for (int r = 0; r < numberOfReferencePoints; r++) {
+                // NaN values are not discarded
+                if (projection[offset + r] < threshold) {
+                    continue;
                 }
-                if (t + 1 != fronts.size()) {
-                    this.referencePoints.get(min_rp).AddMember();
-                } else {
-                    /* 注意：不要看晕掉了，这里为什么最后一个支持排序层，别搞乱掉了 */
-                    /* 参考点到最后一个支配分层的最近距离，实际计算的过程中，尤其在算法迭代的早期front中完全可能存在多个支配分层 */
-                    this.referencePoints.get(min_rp).AddPotentialMember(s, min_dist);
+                double d = perpendicularDistance(directions, r * m, squaredNorms[r], objectives, point);
+                if (d < min_dist) {
+                    min_dist = d;
+                    min_rp = r;
                 }
             }
+            if (min_rp < 0) {
+                throw new JMetalException("The solution " + i + " cannot be associated with a reference point");
+            }
+            association[i] = min_rp;
+            distance[i] = min_dist;
         }
+    }
 
+    /**
+     * Screening value (squared length of the projection on each line) of a solution
+     */
+    private void screen(double[] directions, double[] inverseSquaredNorms, double[] objectives, int solution,
+                        double[] projection, int offset) {
+        int m = numberOfObjectives;
+        int point = solution * m;
+        for (int r = 0; r < inverseSquaredNorms.length; r++) {
+            int direction = r * m;
+            double numerator = 0.0;
+            for (int f = 0; f < m; f++) {
+                numerator += directions[direction + f] * objectives[point + f];
+            }
+            projection[offset + r] = numerator * numerator * inverseSquaredNorms[r];
+        }
     }
 
-    // ----------------------------------------------------------------------
-    // SelectClusterMember():
-    //
-    // Select a potential member (an individual in the front Fl) and associate
-    // it with the reference point.
-    //
-    // Check the last two paragraphs in Section IV-E in the original paper.
-    // ----------------------------------------------------------------------
-    S SelectClusterMember(ReferencePoint<S> rp) {
-        S chosen = null;
-        if (rp.HasPotentialMember()) {
-            if (rp.MemberSize() == 0) {
-                // currently has no member
-                /* 选择距离当前参考点正交距离最短的个体 */
-                chosen = rp.FindClosestMember();
-            } else {
-                /* 随机选一个 */
-                chosen = rp.RandomMember();
+    /**
+     * Screening values of a block of solutions; the dot products of the solutions with a direction
+     * are independent, so they are computed at the same time
+     */
+    private void screenBlock(double[] directions, double[] inverseSquaredNorms, double[] objectives, int first,
+                             double[] projection) {
+        int m = numberOfObjectives;
+        int numberOfReferencePoints = inverseSquaredNorms.length;
+        int point0 = first * m;
+        int point1 = point0 + m;
+        int point2 = point1 + m;
+        int point3 = point2 + m;
+        for (int r = 0; r < numberOfReferencePoints; r++) {
+            int direction = r * m;
+            double numerator0 = 0.0;
+            double numerator1 = 0.0;
+            double numerator2 = 0.0;
+            double numerator3 = 0.0;
+            for (int f = 0; f < m; f++) {
+                double w = directions[direction + f];
+                numerator0 += w * objectives[point0 + f];
+                numerator1 += w * objectives[point1 + f];
+                numerator2 += w * objectives[point2 + f];
+                numerator3 += w * objectives[point3 + f];
             }
+            double inverseSquaredNorm = inverseSquaredNorms[r];
+            projection[r] = numerator0 * numerator0 * inverseSquaredNorm;
+            projection[numberOfReferencePoints + r] = numerator1 * numerator1 * inverseSquaredNorm;
+            projection[2 * numberOfReferencePoints + r] = numerator2 * numerator2 * inverseSquaredNorm;
+            projection[3 * numberOfReferencePoints + r] = numerator3 * numerator3 * inverseSquaredNorm;
         }
-        return chosen;
     }
 
-    private TreeMap<Integer, ArrayList<ReferencePoint<S>>> referencePointsTree = new TreeMap<>();
+    /**
+     * Distance from a point to the line of a direction, computed from the projection of the point
+     * on the line
+     */
+    private double perpendicularDistance(double[] directions, int direction, double squaredNorm,
+                                         double[] objectives, int point) {
+        double numerator = 0.0;
+        for (int f = 0; f < numberOfObjectives; f++) {
+            numerator += directions[direction + f] * objectives[point + f];
+        }
+        double k = numerator / squaredNorm;
+        double d = 0.0;
+        for (int f = 0; f < numberOfObjectives; f++) {
+            double diff = objectives[point + f] - k * directions[direction + f];
+            d += diff * diff;
+        }
+        return Math.sqrt(d);
+    }
 
-    private void addToTree(ReferencePoint<S> rp) {
-        var key = rp.MemberSize();
-        if (!this.referencePointsTree.containsKey(key)) {
-            this.referencePointsTree.put(key, new ArrayList<>());
+    /**
+     * Stable merge sort of a slice of indices by decreasing distance
+     */
+    private static void sortByDecreasingDistance(int[] indices, int[] buffer, int from, int to, double[] distance) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sortByDecreasingDistance(indices, buffer, from, middle, distance);
+        sortByDecreasingDistance(indices, buffer, middle, to, distance);
+        if (Double.compare(distance[indices[middle - 1]], distance[indices[middle]]) >= 0) {
+            return;
+        }
+
+        System.arraycopy(indices, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int k = from; k < to; k++) {
+            if ((right >= to) || ((left < middle)
+                    && (Double.compare(distance[buffer[left]], distance[buffer[right]]) >= 0))) {
+                indices[k] = buffer[left++];
+            } else {
+                indices[k] = buffer[right++];
+            }
         }
-        this.referencePointsTree.get(key).add(rp);
     }
 
-    @Override
-    /* This method performs the environmental Selection indicated in the paper describing NSGAIII*/
-    public List<S> execute(List<S> source) throws JMetalException {
+    /**
+     * Niching: a least crowded reference point is taken at random; it gets its closest potential
+     * member if it has no members yet or a random one otherwise, and a reference point without
+     * potential members is discarded. Within the bucket of each niche count, the reference points
+     * are kept in the order they were inserted.
+     */
+    private List<S> niching(List<S> solutions, int[] nicheCount, int[] members, int[] memberStart, int[] memberEnd) {
+        JMetalRandom rand = JMetalRandom.getInstance();
+        int numberOfReferencePoints = nicheCount.length;
 
-        // The comments show the C++ code
-        // ---------- Steps 9-10 in Algorithm 1 ----------
-        if (source.size() == this.solutionsToSelect) {
-            return source;
+        int maximumNicheCount = 0;
+        for (int count : nicheCount) {
+            maximumNicheCount = Math.max(maximumNicheCount, count);
         }
-        // ---------- Step 14 / Algorithm 2 ----------
-        // vector<double> ideal_point = TranslateObjectives(&cur, fronts);
-        /* 找到理想点，并将理想点替换成原坐标原点 */
-        List<Double> ideal_point = translateObjectives();
-        /* 找到各个目标方向上的极值点 */
-        List<S> extreme_points = findExtremePoints();
-        /* 获取各个目标方向上的截断距离，构建超平面 */
-        List<Double> intercepts = constructHyperplane(extreme_points);
-        /* front前沿解的正则化过程 */
-        normalizeObjectives(intercepts, ideal_point);
-        // ---------- Step 15 / Algorithm 3, Step 16 ----------
-        /* 联系个体和参考点 */
-        associate();
-        /* nicking 过程 */
-        /* 根据参考点关联的前沿中解的数量将参考点进行分组 */
-        for (var referencePoint : this.referencePoints) {
-            /* ReferencePoint#sort() 内部的实现是逆序的，从大到小*/
-            referencePoint.sort();
-            this.addToTree(referencePoint);
-        }
-        /* 获取随机器 */
-        var rand = JMetalRandom.getInstance();
-        List<S> result = new ArrayList<>();
-        /* 开始填充结果集 */
-        // ---------- Step 17 / Algorithm 4 ----------
+        int[][] buckets = new int[maximumNicheCount + solutionsToSelect + 1][];
+        int[] bucketSize = new int[buckets.length];
+        for (int r = 0; r < numberOfReferencePoints; r++) {
+            addToBucket(buckets, bucketSize, nicheCount[r], r);
+        }
+
+        List<S> result = new ArrayList<>(solutionsToSelect);
+        int minimumNicheCount = 0;
         while (result.size() < this.solutionsToSelect) {
-            /* 根据TreeMap的特性，这里优先出现的是参考点中关联点少的个体 -->> 这里就选择了低密度的个体所在的连续或离散解空间. */
-            final var first = this.referencePointsTree.firstEntry().getValue();
-            /* 随机获取一个解的index */
-            final var min_rp_index = 1 == first.size() ? 0 : rand.nextInt(0, first.size() - 1);
-            final var min_rp = first.remove(min_rp_index);
-            if (first.isEmpty()) {
-                this.referencePointsTree.pollFirstEntry();
+            while ((minimumNicheCount < buckets.length) && (bucketSize[minimumNicheCount] == 0)) {
+                minimumNicheCount++;
             }
-            S chosen = SelectClusterMember(min_rp);
-            if (chosen != null) {
-                /* 自增memberSize */
-                min_rp.AddMember();
-                /* 当加回到referencePointsTree的时候，min_rp对应的密度也相对升高，被高优的选择的级别类似降了一个级别 */
-                this.addToTree(min_rp);
-                /* 结果集合 */
-                result.add(chosen);
+            if (minimumNicheCount == buckets.length) {
+                throw new JMetalException("There are not enough potential members to select "
+                        + solutionsToSelect + " solutions");
+            }
+
+            int[] first = buckets[minimumNicheCount];
+            int size = bucketSize[minimumNicheCount];
+            int position = (size == 1) ? 0 : rand.nextInt(0, size - 1);
+            int min_rp = first[position];
+            System.arraycopy(first, position + 1, first, position, size - position - 1);
+            bucketSize[minimumNicheCount]--;
+
+            int potentialMembers = memberEnd[min_rp] - memberStart[min_rp];
+            if (potentialMembers > 0) {
+                int chosen;
+                if (nicheCount[min_rp] == 0) {
+                    // the closest one is the last one
+                    chosen = members[--memberEnd[min_rp]];
+                } else {
+                    int index = memberStart[min_rp]
+                            + ((potentialMembers > 1) ? rand.nextInt(0, potentialMembers - 1) : 0);
+                    chosen = members[index];
+                    System.arraycopy(members, index + 1, members, index, memberEnd[min_rp] - index - 1);
+                    memberEnd[min_rp]--;
+                }
+                nicheCount[min_rp]++;
+                addToBucket(buckets, bucketSize, nicheCount[min_rp], min_rp);
+                result.add(solutions.get(chosen));
             }
         }
         return result;
+    }
 
+    private static void addToBucket(int[][] buckets, int[] bucketSize, int nicheCount, int referencePoint) {
+        int[] bucket = buckets[nicheCount];
+        if (bucket == null) {
+            bucket = new int[4];
+        } else if (bucketSize[nicheCount] == bucket.length) {
+            bucket = Arrays.copyOf(bucket, 2 * bucket.length);
+        }
+        buckets[nicheCount] = bucket;
+        bucket[bucketSize[nicheCount]++] = referencePoint;
     }
 
     public static class Builder<S extends Solution<?>> {
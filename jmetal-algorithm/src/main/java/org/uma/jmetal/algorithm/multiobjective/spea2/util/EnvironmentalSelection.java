@@ -1,15 +1,16 @@
 package org.uma.jmetal.algorithm.multiobjective.spea2.util;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.densityestimator.impl.StrenghtRawFitnessDensityEstimator;
-import org.uma.jmetal.util.solutionattribute.impl.LocationAttribute;
+import org.uma.jmetal.util.distance.KdTree;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
  * @param <S>
@@ -64,57 +65,137 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
             return aux;
         }
 
-        double[][] distance = SolutionListUtils.distanceMatrix(aux);
-        List<List<Pair<Integer, Double>>> distanceList = new ArrayList<>();
-        LocationAttribute<S> location = new LocationAttribute<S>(aux);
-        for (int pos = 0; pos < aux.size(); pos++) {
-            List<Pair<Integer, Double>> distanceNodeList = new ArrayList<>();
-            for (int ref = 0; ref < aux.size(); ref++) {
-                if (pos != ref) {
-                    distanceNodeList.add(Pair.of(ref, distance[pos][ref]));
+        return truncate(aux, size);
+    }
+
+    /**
+     * Truncation procedure of SPEA2: removes, one by one, the solution whose sorted distances to the
+     * others are the lexicographically smallest (the first one if several are equal), until there are
+     * as many solutions as requested. The solutions are kept in a {@link KdTree} and the distance of
+     * each one to its nearest neighbour in a heap, so after a removal only the solutions whose nearest
+     * neighbour was the removed one are updated. The distances to farther neighbours are only needed
+     * to break ties.
+     */
+    private List<S> truncate(List<S> solutionList, int size) {
+        int numberOfPoints = solutionList.size();
+        KdTree tree = new KdTree(SolutionListUtils.getMatrixWithObjectiveValues(solutionList));
+
+        int[] nearest = new int[numberOfPoints];
+        double[] nearestDistance = new double[numberOfPoints];
+        int[] version = new int[numberOfPoints];
+        List<List<Integer>> nearestOf = new ArrayList<>(numberOfPoints);
+        for (int i = 0; i < numberOfPoints; i++) {
+            nearestOf.add(new ArrayList<>());
+        }
+        PriorityQueue<Candidate> heap = new PriorityQueue<>();
+        for (int i = 0; i < numberOfPoints; i++) {
+            updateNearestNeighbor(i, tree, nearest, nearestDistance, version, nearestOf, heap);
+        }
+
+        List<Candidate> tied = new ArrayList<>();
+        while (tree.size() > size) {
+            // Solutions at the lowest distance to their nearest neighbour; outdated entries are skipped
+            tied.clear();
+            do {
+                Candidate candidate = heap.poll();
+                if (candidate.version == version[candidate.index]) {
+                    tied.add(candidate);
+                }
+            } while (tied.isEmpty() || (!heap.isEmpty() && heap.peek().distance == tied.get(0).distance));
+
+            int toRemove = breakTie(tied, tree);
+            tree.remove(toRemove);
+            for (Candidate candidate : tied) {
+                if (candidate.index != toRemove) {
+                    heap.add(candidate);
                 }
             }
-            distanceList.add(distanceNodeList);
+            for (int i : nearestOf.get(toRemove)) {
+                if (!tree.isRemoved(i) && (nearest[i] == toRemove)) {
+                    updateNearestNeighbor(i, tree, nearest, nearestDistance, version, nearestOf, heap);
+                }
+            }
+            nearestOf.get(toRemove).clear();
         }
 
-        for (List<Pair<Integer, Double>> pairs : distanceList) {
-            pairs.sort(Comparator.comparing(Pair::getRight));
+        List<S> result = new ArrayList<>(size);
+        for (int i = 0; i < numberOfPoints; i++) {
+            if (!tree.isRemoved(i)) {
+                result.add(solutionList.get(i));
+            }
         }
+        return result;
+    }
 
-        while (aux.size() > size) {
-            double minDistance = Double.MAX_VALUE;
-            int toRemove = 0;
-            i = 0;
-            for (List<Pair<Integer, Double>> dist : distanceList) {
-                if (dist.get(0).getRight() < minDistance) {
-                    toRemove = i;
-                    minDistance = dist.get(0).getRight();
-                    //i y toRemove have the same distance to the first solution
-                } else if (dist.get(0).getRight().equals(minDistance)) {
-                    int k = 0;
-                    while ((dist.get(k).getRight().equals(
-                            distanceList.get(toRemove).get(k).getRight())) &&
-                            k < (distanceList.get(i).size() - 1)) {
-                        k++;
-                    }
-
-                    if (dist.get(k).getRight() <
-                            distanceList.get(toRemove).get(k).getRight()) {
-                        toRemove = i;
-                    }
+    private void updateNearestNeighbor(int point, KdTree tree, int[] nearest, double[] nearestDistance,
+                                       int[] version, List<List<Integer>> nearestOf, PriorityQueue<Candidate> heap) {
+        KdTree.Neighbors neighbors = tree.nearestNeighbors(point, 1);
+        if (neighbors.size() == 0) {
+            nearest[point] = -1;
+            nearestDistance[point] = Double.POSITIVE_INFINITY;
+        } else {
+            nearest[point] = neighbors.getIndex(0);
+            nearestDistance[point] = neighbors.getDistance(0);
+            nearestOf.get(nearest[point]).add(point);
+        }
+        version[point]++;
+        heap.add(new Candidate(point, nearestDistance[point], version[point]));
+    }
+
+    /**
+     * Returns the index of the solution to remove among those at the same distance to their nearest
+     * neighbour, comparing the distances to the second, third, ... nearest neighbours
+     */
+    private int breakTie(List<Candidate> tied, KdTree tree) {
+        List<Integer> candidates = new ArrayList<>();
+        for (Candidate candidate : tied) {
+            candidates.add(candidate.index);
+        }
+
+        int numberOfNeighbors = tree.size() - 1;
+        int depth = 1;
+        int k = 1;
+        List<KdTree.Neighbors> neighbors = new ArrayList<>();
+        while ((candidates.size() > 1) && (k < numberOfNeighbors)) {
+            if (k == depth) {
+                depth = Math.min(numberOfNeighbors, 2 * depth + 6);
+                neighbors.clear();
+                for (int candidate : candidates) {
+                    neighbors.add(tree.nearestNeighbors(candidate, depth));
                 }
-                i++;
             }
 
-            int tmp = (int) location.getAttribute(aux.get(toRemove));
-            aux.remove(toRemove);
-            distanceList.remove(toRemove);
-
-            for (List<Pair<Integer, Double>> pairs : distanceList) {
-                pairs.removeIf(integerDoublePair -> integerDoublePair.getLeft() == tmp);
+            double minimum = Double.POSITIVE_INFINITY;
+            for (KdTree.Neighbors candidateNeighbors : neighbors) {
+                minimum = Math.min(minimum, candidateNeighbors.getDistance(k));
+            }
+            for (int i = candidates.size() - 1; i >= 0; i--) {
+                if (neighbors.get(i).getDistance(k) != minimum) {
+                    candidates.remove(i);
+                    neighbors.remove(i);
+                }
             }
+            k++;
         }
-        return aux;
+
+        return Collections.min(candidates);
     }
 
+    private static class Candidate implements Comparable<Candidate> {
+        private final int index;
+        private final double distance;
+        private final int version;
+
+        Candidate(int index, double distance, int version) {
+            this.index = index;
+            this.distance = distance;
+            this.version = version;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            int result = Double.compare(distance, other.distance);
+            return (result != 0) ? result : Integer.compare(index, other.index);
+        }
+    }
 }
@@ -0,0 +1,188 @@
+package org.uma.jmetal.algorithm.multiobjective.ensemble.island;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.ensemble.AlgorithmEnsemble;
+import org.uma.jmetal.algorithm.multiobjective.ensemble.island.impl.FullyConnectedTopology;
+import org.uma.jmetal.algorithm.multiobjective.ensemble.island.impl.RandomTopology;
+import org.uma.jmetal.algorithm.multiobjective.ensemble.island.impl.RingTopology;
+import org.uma.jmetal.algorithm.multiobjective.mombi.MOMBI2;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.operator.selection.impl.BinaryTournamentSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class IslandModelTest {
+
+    private Algorithm<List<DoubleSolution>> createNSGAII(Problem<DoubleSolution> problem) {
+        return new NSGAIIBuilder<>(
+                problem,
+                new SBXCrossover(0.9, 20.0),
+                new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+                20)
+                .setMaxEvaluations(2000)
+                .build();
+    }
+
+    @Test
+    public void shouldRingTopologySendTheMigrantsToTheNextIsland() {
+        Topology topology = new RingTopology();
+        assertEquals(Arrays.asList(1), topology.getDestinations(0, 3));
+        assertEquals(Arrays.asList(0), topology.getDestinations(2, 3));
+        assertTrue(topology.getDestinations(0, 1).isEmpty());
+    }
+
+    @Test
+    public void shouldFullyConnectedTopologySendTheMigrantsToAllTheOtherIslands() {
+        assertEquals(Arrays.asList(0, 2, 3), new FullyConnectedTopology().getDestinations(1, 4));
+    }
+
+    @Test
+    public void shouldRandomTopologySendTheMigrantsToDifferentIslands() {
+        for (int i = 0; i < 100; i++) {
+            List<Integer> destinations = new RandomTopology(3).getDestinations(2, 5);
+            assertEquals(3, destinations.size());
+            assertEquals(3, new HashSet<>(destinations).size());
+            assertFalse(destinations.contains(2));
+        }
+        assertEquals(1, new RandomTopology(3).getDestinations(0, 2).size());
+    }
+
+    @Test
+    public void shouldMailboxDiscardTheOldestMigrantsWhenItIsFull() {
+        Mailbox<Integer> mailbox = new Mailbox<>(3);
+        for (int i = 0; i < 5; i++) {
+            mailbox.post(i);
+        }
+        assertEquals(Arrays.asList(2, 3, 4), mailbox.takeAll());
+        assertEquals(5, mailbox.getReceivedMigrants());
+        assertEquals(2, mailbox.getDiscardedMigrants());
+        assertEquals(0, mailbox.size());
+    }
+
+    @Test
+    public void shouldIslandsExchangeMigrantsAndFeedTheArchive() {
+        Problem<DoubleSolution> problem = new ZDT1();
+        List<Algorithm<List<DoubleSolution>>> algorithmList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            algorithmList.add(createNSGAII(problem));
+        }
+
+        IslandModel<DoubleSolution> islandModel = new IslandModel<DoubleSolution>()
+                .withTopology(new FullyConnectedTopology())
+                .withMigrationInterval(5)
+                .withNumberOfMigrants(2)
+                .withSeed(1);
+        AlgorithmEnsemble<DoubleSolution> ensemble =
+                new AlgorithmEnsemble<>(algorithmList, new NonDominatedSolutionListArchive<>())
+                        .withIslandModel(islandModel);
+        ensemble.run();
+
+        assertFalse(ensemble.getResult().isEmpty());
+        Set<String> names = new HashSet<>();
+        for (DoubleSolution solution : ensemble.getResult()) {
+            names.add((String) solution.attributes().get(IslandModel.ALGORITHM_NAME_ATTRIBUTE));
+        }
+        assertEquals(Set.of(algorithmList.get(0).getName()), names);
+
+        assertEquals(3, islandModel.getMailboxes().size());
+        for (Mailbox<DoubleSolution> mailbox : islandModel.getMailboxes()) {
+            assertTrue(mailbox.getReceivedMigrants() > 0);
+        }
+    }
+
+    @Test
+    public void shouldIslandsWithTheirOwnRunMethodExchangeMigrants() {
+        Problem<DoubleSolution> problem = new ZDT1();
+        List<Algorithm<List<DoubleSolution>>> algorithmList = new ArrayList<>();
+        algorithmList.add(new NSGAIIBuilder<>(
+                problem,
+                new SBXCrossover(0.9, 20.0),
+                new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+                20)
+                .setMaxEvaluations(2000)
+                .setVariant(NSGAIIBuilder.NSGAIIVariant.Measures)
+                .build());
+        algorithmList.add(new MOMBI2<>(problem, 30,
+                new SBXCrossover(0.9, 20.0),
+                new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+                new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
+                new SequentialSolutionListEvaluator<>(),
+                "../resources/weightVectorFiles/mombi2/weight_02D_152.sld"));
+
+        IslandModel<DoubleSolution> islandModel = new IslandModel<DoubleSolution>()
+                .withMigrationInterval(5)
+                .withNumberOfMigrants(2)
+                .withSeed(1);
+        islandModel.run(algorithmList, new NonDominatedSolutionListArchive<>());
+
+        for (Mailbox<DoubleSolution> mailbox : islandModel.getMailboxes()) {
+            assertTrue(mailbox.getReceivedMigrants() > 0);
+        }
+    }
+
+    @Test
+    public void shouldMigrantsLoseTheirRankAndDensityAttributes() {
+        Problem<DoubleSolution> problem = new ZDT1();
+        List<DoubleSolution> population = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            population.add(problem.evaluate(problem.createSolution()));
+        }
+        new FastNonDominatedSortRanking<DoubleSolution>().compute(population);
+        new CrowdingDistanceDensityEstimator<DoubleSolution>().compute(population);
+        population.get(0).attributes().put("OTHER", 1);
+
+        DoubleSolution migrant = new IslandModel<DoubleSolution>().migrantOf(population.get(0));
+
+        assertFalse(migrant.attributes().containsKey(FastNonDominatedSortRanking.class.getName()));
+        assertFalse(migrant.attributes().containsKey(CrowdingDistanceDensityEstimator.class.getName()));
+        assertEquals(1, migrant.attributes().get("OTHER"));
+        assertTrue(population.get(0).attributes().containsKey(FastNonDominatedSortRanking.class.getName()));
+        assertArrayEquals(population.get(0).objectives(), migrant.objectives(), 0.0);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void shouldPropagateTheErrorsOfTheIslands() {
+        List<Algorithm<List<DoubleSolution>>> algorithmList = new ArrayList<>();
+        algorithmList.add(createNSGAII(new ZDT1()));
+        algorithmList.add(new Algorithm<List<DoubleSolution>>() {
+            @Override
+            public void run() {
+                throw new IllegalStateException("Failure");
+            }
+
+            @Override
+            public List<DoubleSolution> getResult() {
+                return null;
+            }
+
+            @Override
+            public String getName() {
+                return "Failing";
+            }
+
+            @Override
+            public String getDescription() {
+                return "Failing";
+            }
+        });
+
+        new IslandModel<DoubleSolution>().run(algorithmList, new NonDominatedSolutionListArchive<>());
+    }
+}
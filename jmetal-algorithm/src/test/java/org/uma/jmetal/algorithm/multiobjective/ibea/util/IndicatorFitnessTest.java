@@ -0,0 +1,131 @@
+package org.uma.jmetal.algorithm.multiobjective.ibea.util;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.ibea.util.IndicatorFitness.IndicatorType;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IndicatorFitnessTest {
+    private static final double EPSILON = 1e-9;
+
+    private static double[][] randomPoints(int numberOfPoints, int numberOfObjectives, long seed) {
+        Random random = new Random(seed);
+        double[][] points = new double[numberOfPoints][numberOfObjectives];
+        for (double[] point : points) {
+            for (int k = 0; k < numberOfObjectives; k++) {
+                point[k] = random.nextDouble();
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Fitness of a point computed from scratch over the points which have not been removed
+     */
+    private static double fitness(IndicatorFitness fitness, int index) {
+        double value = 0.0;
+        for (int p = 0; p < fitness.size(); p++) {
+            int other = fitness.getIndex(p);
+            if (other != index) {
+                value += Math.exp((-fitness.getIndicatorValue(other, index) / fitness.getMaxIndicatorValue())
+                        / IndicatorFitness.DEFAULT_KAPPA);
+            }
+        }
+        return value;
+    }
+
+    @Test
+    public void shouldComputeTheHypervolumeIndicatorOfTwoPoints() {
+        double[][] points = {{0.0, 1.0}, {1.0, 0.0}};
+        IndicatorFitness fitness = new IndicatorFitness(points, IndicatorType.HYPERVOLUME, false);
+
+        // Reference point (2, 2): the region dominated by the first point only is [0, 1) x [1, 2)
+        assertEquals(0.25, fitness.getIndicatorValue(0, 1), EPSILON);
+        assertEquals(0.25, fitness.getIndicatorValue(1, 0), EPSILON);
+        assertEquals(0.0, fitness.getIndicatorValue(0, 0), EPSILON);
+        assertEquals(0.25, fitness.getMaxIndicatorValue(), EPSILON);
+    }
+
+    @Test
+    public void shouldGiveANegativeHypervolumeIndicatorToADominatingPoint() {
+        double[][] points = {{0.0, 0.0}, {1.0, 1.0}};
+        IndicatorFitness fitness = new IndicatorFitness(points, IndicatorType.HYPERVOLUME, false);
+
+        assertEquals(-0.75, fitness.getIndicatorValue(0, 1), EPSILON);
+        assertEquals(0.75, fitness.getIndicatorValue(1, 0), EPSILON);
+        assertTrue(fitness.getFitness(1) > fitness.getFitness(0));
+    }
+
+    @Test
+    public void shouldConsiderTheConstraintViolationInTheDominanceTest() {
+        double[][] points = {{0.0, 1.0}, {1.0, 0.0}};
+        IndicatorFitness fitness = new IndicatorFitness(points, new double[]{-1.0, 0.0}, new double[]{0.0, 0.0},
+                new double[]{1.0, 1.0}, IndicatorType.HYPERVOLUME, IndicatorFitness.DEFAULT_KAPPA, false);
+
+        // The second point is feasible, so it dominates the first one
+        assertEquals(-0.25, fitness.getIndicatorValue(1, 0), EPSILON);
+        assertEquals(0.25, fitness.getIndicatorValue(0, 1), EPSILON);
+        assertTrue(fitness.getFitness(0) > fitness.getFitness(1));
+    }
+
+    @Test
+    public void shouldComputeTheAdditiveEpsilonIndicator() {
+        double[][] points = {{0.0, 4.0}, {2.0, 0.0}, {1.0, 2.0}};
+        IndicatorFitness fitness = new IndicatorFitness(points, IndicatorType.ADDITIVE_EPSILON, false);
+
+        // The ranges are 2 and 4
+        assertEquals(1.0, fitness.getIndicatorValue(0, 1), EPSILON);
+        assertEquals(1.0, fitness.getIndicatorValue(1, 0), EPSILON);
+        assertEquals(0.5, fitness.getIndicatorValue(0, 2), EPSILON);
+        assertEquals(0.5, fitness.getIndicatorValue(2, 1), EPSILON);
+        assertEquals(0.0, fitness.getIndicatorValue(2, 2), EPSILON);
+    }
+
+    @Test
+    public void shouldComputeTheSameValuesSequentiallyAndInParallel() {
+        for (IndicatorType indicatorType : IndicatorType.values()) {
+            double[][] points = randomPoints(300, 3, 1);
+            IndicatorFitness sequential = new IndicatorFitness(points, indicatorType, false);
+            IndicatorFitness parallel = new IndicatorFitness(points, indicatorType, true);
+
+            for (int i = 0; i < points.length; i++) {
+                assertEquals(sequential.getFitness(i), parallel.getFitness(i), 0.0);
+                for (int j = 0; j < points.length; j++) {
+                    assertEquals(sequential.getIndicatorValue(i, j), parallel.getIndicatorValue(i, j), 0.0);
+                }
+            }
+            for (int k = 0; k < 150; k++) {
+                assertEquals(sequential.removeWorst(), parallel.removeWorst());
+            }
+        }
+    }
+
+    @Test
+    public void shouldUpdateTheFitnessIncrementallyWhenRemovingTheWorstPoint() {
+        for (IndicatorType indicatorType : IndicatorType.values()) {
+            IndicatorFitness fitness = new IndicatorFitness(randomPoints(200, 2, 2), indicatorType, false);
+
+            while (fitness.size() > 100) {
+                double worst = -Double.MAX_VALUE;
+                int worstPosition = -1;
+                for (int p = 0; p < fitness.size(); p++) {
+                    double value = fitness.getFitness(fitness.getIndex(p));
+                    if (value > worst) {
+                        worst = value;
+                        worstPosition = p;
+                    }
+                }
+                int removedIndex = fitness.getIndex(worstPosition);
+
+                assertEquals(worstPosition, fitness.removeWorst());
+                for (int p = 0; p < fitness.size(); p++) {
+                    int index = fitness.getIndex(p);
+                    assertNotEquals(removedIndex, index);
+                    assertEquals(fitness(fitness, index), fitness.getFitness(index), 1e-9 * fitness.getFitness(index));
+                }
+            }
+        }
+    }
+}
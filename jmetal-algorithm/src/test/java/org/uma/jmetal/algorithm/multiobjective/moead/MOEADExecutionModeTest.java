@@ -0,0 +1,252 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MOEADExecutionModeTest {
+    private MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator;
+    private PseudoRandomGenerator sharedGenerator;
+
+    @After
+    public void shutdownEvaluator() {
+        if (evaluator != null) {
+            evaluator.shutdown();
+        }
+        if (sharedGenerator != null) {
+            JMetalRandom.getInstance().setRandomGenerator(sharedGenerator);
+        }
+    }
+
+    private static MOEADBuilder builder(Problem<DoubleSolution> problem, MOEADBuilder.Variant variant) {
+        return new MOEADBuilder(problem, variant)
+                .setCrossover(new DifferentialEvolutionCrossover(1.0, 0.5, DifferentialEvolutionCrossover.DE_VARIANT.RAND_1_BIN))
+                .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+                .setMaxEvaluations(40000)
+                .setPopulationSize(100)
+                .setResultPopulationSize(100)
+                .setNeighborhoodSelectionProbability(0.9)
+                .setMaximumNumberOfReplacedSolutions(2)
+                .setNeighborSize(20)
+                .setFunctionType(AbstractMOEAD.FunctionType.TCHE);
+    }
+
+    private static double[][] run(MOEADBuilder builder, long seed) {
+        JMetalRandom.getInstance().setSeed(seed);
+        AbstractMOEAD<DoubleSolution> algorithm = builder.build();
+        algorithm.run();
+
+        return SolutionListUtils.getMatrixWithObjectiveValues(algorithm.getResult());
+    }
+
+    private static double hypervolume(double[][] front, String referenceFront) throws IOException {
+        return new PISAHypervolume(VectorUtils.readVectors(referenceFront, ",")).compute(front);
+    }
+
+    @Test
+    public void shouldTheBatchedModeWithBatchSizeOneReturnTheSameFrontAsTheSequentialMode() {
+        for (MOEADBuilder.Variant variant : new MOEADBuilder.Variant[]{
+                MOEADBuilder.Variant.MOEAD, MOEADBuilder.Variant.MOEADDRA, MOEADBuilder.Variant.MOEADSTM}) {
+            double[][] sequential = run(builder(new ZDT1(), variant).setMaxEvaluations(5000), 1);
+            double[][] batched = run(builder(new ZDT1(), variant).setMaxEvaluations(5000)
+                    .setExecutionMode(AbstractMOEAD.ExecutionMode.BATCHED)
+                    .setBatchSize(1), 1);
+
+            assertArrayEquals(sequential, batched);
+        }
+    }
+
+    @Test
+    public void shouldTheBatchedModeNotDependOnTheEvaluator() {
+        evaluator = new MultiThreadedSolutionListEvaluator<>(4);
+
+        double[][] sequentialEvaluator = run(builder(new ZDT1(), MOEADBuilder.Variant.MOEAD)
+                .setMaxEvaluations(5000)
+                .setExecutionMode(AbstractMOEAD.ExecutionMode.BATCHED)
+                .setBatchSize(25), 1);
+        double[][] multiThreadedEvaluator = run(builder(new ZDT1(), MOEADBuilder.Variant.MOEAD)
+                .setMaxEvaluations(5000)
+                .setExecutionMode(AbstractMOEAD.ExecutionMode.BATCHED)
+                .setEvaluator(evaluator)
+                .setBatchSize(25), 1);
+
+        assertArrayEquals(sequentialEvaluator, multiThreadedEvaluator);
+    }
+
+    @Test
+    public void shouldTheBatchedAndConcurrentModesConvergeAsTheSequentialMode() throws IOException {
+        evaluator = new MultiThreadedSolutionListEvaluator<>(4);
+        String referenceFront = "../resources/referenceFrontsCSV/ZDT1.csv";
+
+        double sequential = hypervolume(run(builder(new ZDT1(), MOEADBuilder.Variant.MOEAD), 1), referenceFront);
+        double batched = hypervolume(run(builder(new ZDT1(), MOEADBuilder.Variant.MOEAD)
+                .setExecutionMode(AbstractMOEAD.ExecutionMode.BATCHED)
+                .setEvaluator(evaluator)
+                .setBatchSize(20), 1), referenceFront);
+        double concurrent = hypervolume(run(builder(new ZDT1(), MOEADBuilder.Variant.MOEAD)
+                .setExecutionMode(AbstractMOEAD.ExecutionMode.CONCURRENT)
+                .setNumberOfThreads(4), 1), referenceFront);
+
+        assertTrue(sequential > 0.6);
+        assertEquals(sequential, batched, 0.02);
+        assertEquals(sequential, concurrent, 0.02);
+    }
+
+    @Test
+    public void shouldTheConcurrentModeWorkWithTheVariants() throws IOException {
+        String referenceFront = "../resources/referenceFrontsCSV/DTLZ2.3D.csv";
+        for (MOEADBuilder.Variant variant : new MOEADBuilder.Variant[]{
+                MOEADBuilder.Variant.ConstraintMOEAD, MOEADBuilder.Variant.MOEADDRA, MOEADBuilder.Variant.MOEADSTM}) {
+            double sequential = hypervolume(run(builder(new DTLZ2(12, 3), variant)
+                    .setPopulationSize(91)
+                    .setResultPopulationSize(91), 1), referenceFront);
+            double concurrent = hypervolume(run(builder(new DTLZ2(12, 3), variant)
+                    .setPopulationSize(91)
+                    .setResultPopulationSize(91)
+                    .setExecutionMode(AbstractMOEAD.ExecutionMode.CONCURRENT)
+                    .setNumberOfThreads(4), 1), referenceFront);
+
+            assertEquals(variant.toString(), sequential, concurrent, 0.05);
+        }
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldBuildRaiseAnExceptionIfTheVariantDoesNotSupportTheExecutionMode() {
+        builder(new ZDT1(), MOEADBuilder.Variant.MOEADD)
+                .setExecutionMode(AbstractMOEAD.ExecutionMode.BATCHED)
+                .build();
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldSetExecutionModeRaiseAnExceptionIfTheAlgorithmDoesNotSupportIt() {
+        AbstractMOEAD<DoubleSolution> algorithm = builder(new ZDT1(), MOEADBuilder.Variant.MOEADIEPSILON).build();
+
+        algorithm.setExecutionMode(AbstractMOEAD.ExecutionMode.CONCURRENT);
+    }
+
+    @Test
+    public void shouldTheConcurrentModeReleaseItsThreadsAtTheEndOfTheRun() throws InterruptedException {
+        run(builder(new ZDT1(), MOEADBuilder.Variant.MOEAD)
+                .setMaxEvaluations(5000)
+                .setExecutionMode(AbstractMOEAD.ExecutionMode.CONCURRENT)
+                .setNumberOfThreads(4), 1);
+
+        // The idle threads of a shut down executor terminate asynchronously
+        long deadline = System.currentTimeMillis() + 10000;
+        while (workerThreadsAlive() && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(10);
+        }
+        assertFalse(workerThreadsAlive());
+    }
+
+    @Test
+    public void shouldTheConcurrentModeNeverUseTheSharedGeneratorFromTwoThreadsAtTheSameTime() {
+        sharedGenerator = JMetalRandom.getInstance().getRandomGenerator();
+        ExclusiveGenerator generator = new ExclusiveGenerator();
+        JMetalRandom.getInstance().setRandomGenerator(generator);
+
+        for (MOEADBuilder.Variant variant : new MOEADBuilder.Variant[]{
+                MOEADBuilder.Variant.MOEAD, MOEADBuilder.Variant.ConstraintMOEAD}) {
+            run(builder(new ZDT1(), variant)
+                    .setMaxEvaluations(5000)
+                    .setExecutionMode(AbstractMOEAD.ExecutionMode.CONCURRENT)
+                    .setNumberOfThreads(4), 1);
+        }
+
+        assertFalse(generator.overlapped.get());
+    }
+
+    /**
+     * Generator which records whether it has been entered by a thread while another one was using it
+     */
+    @SuppressWarnings("serial")
+    private static class ExclusiveGenerator implements PseudoRandomGenerator {
+        private final JavaRandomGenerator generator = new JavaRandomGenerator();
+        private final AtomicInteger users = new AtomicInteger();
+        private final AtomicBoolean overlapped = new AtomicBoolean();
+
+        private void enter() {
+            if (users.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            // Gives the other threads a chance to enter at the same time
+            Thread.yield();
+        }
+
+        private void exit() {
+            users.decrementAndGet();
+        }
+
+        @Override
+        public int nextInt(int lowerBound, int upperBound) {
+            enter();
+            try {
+                return generator.nextInt(lowerBound, upperBound);
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public double nextDouble(double lowerBound, double upperBound) {
+            enter();
+            try {
+                return generator.nextDouble(lowerBound, upperBound);
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public double nextDouble() {
+            enter();
+            try {
+                return generator.nextDouble();
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public void setSeed(long seed) {
+            generator.setSeed(seed);
+        }
+
+        @Override
+        public long getSeed() {
+            return generator.getSeed();
+        }
+
+        @Override
+        public String getName() {
+            return generator.getName();
+        }
+    }
+
+    private static boolean workerThreadsAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().startsWith("MOEAD-worker-") && thread.isAlive());
+    }
+}
@@ -0,0 +1,190 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaiii.util;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class EnvironmentalSelectionTest {
+
+    private static DoubleSolution solution(double... objectives) {
+        DoubleSolution solution = new DefaultDoubleSolution(objectives.length, Collections.emptyList());
+        System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+        return solution;
+    }
+
+    private static List<ReferencePoint<DoubleSolution>> referencePoints(int numberOfObjectives, int divisions) {
+        List<ReferencePoint<DoubleSolution>> referencePoints = new ArrayList<>();
+        new ReferencePoint<DoubleSolution>().generateReferencePoints(referencePoints, numberOfObjectives, divisions);
+        return referencePoints;
+    }
+
+    /**
+     * Selection computed as in the previous versions of NSGA-III: every solution is measured against
+     * every reference line and the reference points are kept in a sorted map of lists indexed by
+     * their niche count. The objectives must be already normalized (ideal point at the origin and
+     * intercepts at 1).
+     */
+    private static List<DoubleSolution> referenceSelection(List<List<DoubleSolution>> fronts, int solutionsToSelect,
+                                                           List<ReferencePoint<DoubleSolution>> referencePoints) {
+        int numberOfReferencePoints = referencePoints.size();
+        int[] nicheCount = new int[numberOfReferencePoints];
+        List<List<DoubleSolution>> potentialMembers = new ArrayList<>();
+        List<List<Double>> potentialDistances = new ArrayList<>();
+        for (int r = 0; r < numberOfReferencePoints; r++) {
+            potentialMembers.add(new ArrayList<>());
+            potentialDistances.add(new ArrayList<>());
+        }
+
+        for (int t = 0; t < fronts.size(); t++) {
+            for (DoubleSolution s : fronts.get(t)) {
+                int closest = -1;
+                double minimumDistance = Double.MAX_VALUE;
+                for (int r = 0; r < numberOfReferencePoints; r++) {
+                    List<Double> direction = referencePoints.get(r).position;
+                    double numerator = 0.0;
+                    double denominator = 0.0;
+                    for (int f = 0; f < direction.size(); f++) {
+                        numerator += direction.get(f) * s.objectives()[f];
+                        denominator += direction.get(f) * direction.get(f);
+                    }
+                    double k = numerator / denominator;
+                    double d = 0.0;
+                    for (int f = 0; f < direction.size(); f++) {
+                        d += (s.objectives()[f] - k * direction.get(f)) * (s.objectives()[f] - k * direction.get(f));
+                    }
+                    d = Math.sqrt(d);
+                    if (d < minimumDistance) {
+                        minimumDistance = d;
+                        closest = r;
+                    }
+                }
+                if (t + 1 != fronts.size()) {
+                    nicheCount[closest]++;
+                } else {
+                    // Sorted by decreasing distance; equal distances keep the insertion order
+                    List<Double> distances = potentialDistances.get(closest);
+                    int position = 0;
+                    while ((position < distances.size()) && (distances.get(position) >= minimumDistance)) {
+                        position++;
+                    }
+                    distances.add(position, minimumDistance);
+                    potentialMembers.get(closest).add(position, s);
+                }
+            }
+        }
+
+        TreeMap<Integer, List<Integer>> tree = new TreeMap<>();
+        for (int r = 0; r < numberOfReferencePoints; r++) {
+            tree.computeIfAbsent(nicheCount[r], key -> new ArrayList<>()).add(r);
+        }
+        JMetalRandom random = JMetalRandom.getInstance();
+        List<DoubleSolution> result = new ArrayList<>();
+        while (result.size() < solutionsToSelect) {
+            List<Integer> first = tree.firstEntry().getValue();
+            int r = first.remove(first.size() == 1 ? 0 : random.nextInt(0, first.size() - 1));
+            if (first.isEmpty()) {
+                tree.pollFirstEntry();
+            }
+            List<DoubleSolution> members = potentialMembers.get(r);
+            if (!members.isEmpty()) {
+                DoubleSolution chosen;
+                if (nicheCount[r] == 0) {
+                    chosen = members.remove(members.size() - 1);
+                } else {
+                    chosen = members.remove(members.size() > 1 ? random.nextInt(0, members.size() - 1) : 0);
+                }
+                nicheCount[r]++;
+                tree.computeIfAbsent(nicheCount[r], key -> new ArrayList<>()).add(r);
+                result.add(chosen);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void shouldGaussianEliminationSolveALinearSystem() {
+        double[][] a = {{2.0, 1.0, -1.0}, {-3.0, -1.0, 2.0}, {-2.0, 1.0, 2.0}};
+        double[] b = {8.0, -11.0, -3.0};
+
+        assertArrayEquals(new double[]{2.0, 3.0, -1.0}, EnvironmentalSelection.gaussianElimination(a, b), 1e-12);
+        assertEquals(8.0, b[0], 0.0);
+        assertEquals(2.0, a[0][0], 0.0);
+    }
+
+    @Test
+    public void shouldExecuteReturnTheSourceIfItHasTheNumberOfSolutionsToSelect() {
+        List<DoubleSolution> front = Arrays.asList(solution(0.0, 1.0), solution(1.0, 0.0));
+
+        EnvironmentalSelection<DoubleSolution> selection = new EnvironmentalSelection<>(
+                Collections.singletonList(front), 2, referencePoints(2, 2), 2);
+
+        assertSame(front, selection.execute(front));
+    }
+
+    @Test
+    public void shouldExecuteSelectTheSolutionOfTheLeastCrowdedReferencePoint() {
+        List<DoubleSolution> firstFront = Arrays.asList(solution(0.0, 1.0), solution(1.0, 0.0));
+        DoubleSolution middle = solution(0.9, 0.95);
+        List<DoubleSolution> lastFront = Arrays.asList(solution(0.05, 1.2), middle);
+
+        EnvironmentalSelection<DoubleSolution> selection = new EnvironmentalSelection<>(
+                Arrays.asList(firstFront, lastFront), 1, referencePoints(2, 2), 2);
+        List<DoubleSolution> result = selection.execute(lastFront);
+
+        assertEquals(1, result.size());
+        assertSame(middle, result.get(0));
+        assertArrayEquals(new double[]{0.9, 0.95},
+                selection.getAttribute(middle).stream().mapToDouble(Double::doubleValue).toArray(), 1e-12);
+    }
+
+    @Test
+    public void shouldExecuteSelectTheSameSolutionsAsTheReferenceSelection() {
+        Random random = new Random(1);
+        for (int numberOfObjectives : new int[]{3, 5, 8}) {
+            for (int gridSize : new int[]{4, 1000}) {
+                List<ReferencePoint<DoubleSolution>> referencePoints = referencePoints(numberOfObjectives, 4);
+                // The unit vectors are the extreme points and the ideal point is the origin, so the
+                // objectives are not changed by the normalization
+                List<DoubleSolution> firstFront = new ArrayList<>();
+                for (int f = 0; f < numberOfObjectives; f++) {
+                    double[] objectives = new double[numberOfObjectives];
+                    objectives[f] = 1.0;
+                    firstFront.add(solution(objectives));
+                }
+                List<DoubleSolution> secondFront = new ArrayList<>();
+                List<DoubleSolution> lastFront = new ArrayList<>();
+                for (int i = 0; i < 300; i++) {
+                    double[] objectives = new double[numberOfObjectives];
+                    for (int f = 0; f < numberOfObjectives; f++) {
+                        objectives[f] = (1 + random.nextInt(gridSize)) / (double) gridSize;
+                    }
+                    (i < 100 ? secondFront : lastFront).add(solution(objectives));
+                }
+                List<List<DoubleSolution>> fronts = Arrays.asList(firstFront, secondFront, lastFront);
+
+                JMetalRandom.getInstance().setSeed(numberOfObjectives);
+                List<DoubleSolution> expected = referenceSelection(fronts, 80, referencePoints);
+                JMetalRandom.getInstance().setSeed(numberOfObjectives);
+                List<DoubleSolution> result = new EnvironmentalSelection<>(fronts, 80, referencePoints,
+                        numberOfObjectives).execute(lastFront);
+
+                assertEquals(expected.size(), result.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertSame(expected.get(i), result.get(i));
+                }
+            }
+        }
+    }
+}
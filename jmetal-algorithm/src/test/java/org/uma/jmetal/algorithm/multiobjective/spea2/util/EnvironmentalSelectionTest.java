@@ -0,0 +1,108 @@
+package org.uma.jmetal.algorithm.multiobjective.spea2.util;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.densityestimator.impl.StrenghtRawFitnessDensityEstimator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class EnvironmentalSelectionTest {
+
+    /**
+     * Non-dominated points whose objectives sum 1; with a coarse grid there are many repeated
+     * distances
+     */
+    private static List<DoubleSolution> nonDominatedPoints(int numberOfPoints, int numberOfObjectives,
+                                                          int gridSize, Random random) {
+        List<DoubleSolution> solutions = new ArrayList<>();
+        for (int i = 0; i < numberOfPoints; i++) {
+            DoubleSolution solution = new DefaultDoubleSolution(numberOfObjectives, Collections.emptyList());
+            double sum = 0.0;
+            for (int k = 0; k < numberOfObjectives - 1; k++) {
+                solution.objectives()[k] = random.nextInt(gridSize) / (double) (gridSize * numberOfObjectives);
+                sum += solution.objectives()[k];
+            }
+            solution.objectives()[numberOfObjectives - 1] = 1.0 - sum;
+            solutions.add(solution);
+        }
+        return solutions;
+    }
+
+    /**
+     * Truncation of SPEA2 as defined in the reference paper: the solution with the lexicographically
+     * smallest sorted distances to the others is removed, the first one in case of a tie
+     */
+    private static List<DoubleSolution> bruteForceTruncation(List<DoubleSolution> solutions, int size) {
+        List<DoubleSolution> remaining = new ArrayList<>(solutions);
+        while (remaining.size() > size) {
+            double[][] distanceMatrix = SolutionListUtils.distanceMatrix(remaining);
+            double[][] sortedDistances = new double[remaining.size()][];
+            for (int i = 0; i < remaining.size(); i++) {
+                double[] distances = new double[remaining.size() - 1];
+                for (int j = 0, position = 0; j < remaining.size(); j++) {
+                    if (j != i) {
+                        distances[position++] = distanceMatrix[i][j];
+                    }
+                }
+                Arrays.sort(distances);
+                sortedDistances[i] = distances;
+            }
+
+            int toRemove = 0;
+            for (int i = 1; i < remaining.size(); i++) {
+                if (Arrays.compare(sortedDistances[i], sortedDistances[toRemove]) < 0) {
+                    toRemove = i;
+                }
+            }
+            remaining.remove(toRemove);
+        }
+        return remaining;
+    }
+
+    @Test
+    public void shouldExecuteRemoveTheMostCrowdedSolution() {
+        List<DoubleSolution> solutions = new ArrayList<>();
+        for (double[] objectives : new double[][]{{0.0, 1.0}, {0.4, 0.6}, {0.5, 0.5}, {1.0, 0.0}}) {
+            DoubleSolution solution = new DefaultDoubleSolution(2, Collections.emptyList());
+            solution.objectives()[0] = objectives[0];
+            solution.objectives()[1] = objectives[1];
+            solutions.add(solution);
+        }
+        new StrenghtRawFitnessDensityEstimator<DoubleSolution>(1).compute(solutions);
+
+        List<DoubleSolution> selection = new EnvironmentalSelection<DoubleSolution>(3).execute(solutions);
+
+        assertEquals(3, selection.size());
+        assertSame(solutions.get(0), selection.get(0));
+        assertSame(solutions.get(2), selection.get(1));
+        assertSame(solutions.get(3), selection.get(2));
+    }
+
+    @Test
+    public void shouldExecuteReturnTheSameSolutionsAsTheBruteForceTruncation() {
+        Random random = new Random(1);
+        for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+            for (int gridSize : new int[]{5, 1000}) {
+                List<DoubleSolution> solutions = nonDominatedPoints(120, numberOfObjectives, gridSize, random);
+                new StrenghtRawFitnessDensityEstimator<DoubleSolution>(1).compute(solutions);
+
+                List<DoubleSolution> selection = new EnvironmentalSelection<DoubleSolution>(40).execute(solutions);
+                List<DoubleSolution> expected = bruteForceTruncation(solutions, 40);
+
+                assertEquals(expected.size(), selection.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertSame(expected.get(i), selection.get(i));
+                }
+            }
+        }
+    }
+}
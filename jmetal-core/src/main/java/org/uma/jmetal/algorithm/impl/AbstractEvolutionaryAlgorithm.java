@@ -4,6 +4,7 @@ import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.problem.Problem;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Abstract class representing an evolutionary algorithm
@@ -21,6 +22,8 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R> implements Algorithm<R
     /* 计算的问题 */
     protected Problem<S> problem;
 
+    private transient UnaryOperator<List<S>> populationExchange;
+
     public List<S> getPopulation() {
         return population;
     }
@@ -37,6 +40,29 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R> implements Algorithm<R
         return problem;
     }
 
+    /**
+     * Sets a function applied to the population at the end of each iteration, which can replace some
+     * of its solutions; it is used to exchange solutions with other algorithms running concurrently,
+     * as in the island model of the algorithm ensembles. It is applied by {@link
+     * #exchangePopulation()}.
+     *
+     * @param populationExchange Function returning the new population, or null to remove it
+     */
+    public void setPopulationExchange(UnaryOperator<List<S>> populationExchange) {
+        this.populationExchange = populationExchange;
+    }
+
+    /**
+     * Applies the population exchange, if any, to the population. The {@link #run()} method of this
+     * class calls it at the end of each iteration; the subclasses overriding {@link #run()} with
+     * their own loop must call it too, or they do not take part in the exchanges.
+     */
+    protected void exchangePopulation() {
+        if (populationExchange != null) {
+            population = populationExchange.apply(population);
+        }
+    }
+
     protected abstract void initProgress();
 
     protected abstract void updateProgress();
@@ -86,6 +112,7 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R> implements Algorithm<R
             population = replacement(population, offspringPopulation);
             /* 更新迭代信息，开下来大部分都是 迭代次数++ */
             updateProgress();
+            exchangePopulation();
         }
 
     }
@@ -113,8 +113,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
 
         if (randomGenerator.getRandomValue() <= probability) {
             for (i = 0; i < parent1.variables().size(); i++) {
-                valueX1 = parent1.variables().get(i);
-                valueX2 = parent2.variables().get(i);
+                valueX1 = parent1.getVariable(i);
+                valueX2 = parent2.getVariable(i);
                 if (randomGenerator.getRandomValue() <= 0.5) {
                     if (Math.abs(valueX1 - valueX2) > EPS) {
                         if (valueX1 < valueX2) {
@@ -154,19 +154,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
                         c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound);
 
                         if (randomGenerator.getRandomValue() <= 0.5) {
-                            offspring.get(0).variables().set(i, c2);
-                            offspring.get(1).variables().set(i, c1);
+                            offspring.get(0).setVariable(i, c2);
+                            offspring.get(1).setVariable(i, c1);
                         } else {
-                            offspring.get(0).variables().set(i, c1);
-                            offspring.get(1).variables().set(i, c2);
+                            offspring.get(0).setVariable(i, c1);
+                            offspring.get(1).setVariable(i, c2);
                         }
                     } else {
-                        offspring.get(0).variables().set(i, valueX1);
-                        offspring.get(1).variables().set(i, valueX2);
+                        offspring.get(0).setVariable(i, valueX1);
+                        offspring.get(1).setVariable(i, valueX2);
                     }
                 } else {
-                    offspring.get(0).variables().set(i, valueX2);
-                    offspring.get(1).variables().set(i, valueX1);
+                    offspring.get(0).setVariable(i, valueX2);
+                    offspring.get(1).setVariable(i, valueX1);
                 }
             }
         }
@@ -173,7 +173,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
 
         for (int i = 0; i < solution.variables().size(); i++) {
             if (randomGenerator.getRandomValue() <= mutationProbability) {
-                y = solution.variables().get(i);
+                y = solution.getVariable(i);
                 Bounds<Double> bounds = solution.getBounds(i);
                 yl = bounds.getLowerBound();
                 yu = bounds.getUpperBound();
@@ -196,7 +196,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
                     y = y + deltaq * (yu - yl);
                     y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
                 }
-                solution.variables().set(i, y);
+                solution.setVariable(i, y);
             }
         }
     }
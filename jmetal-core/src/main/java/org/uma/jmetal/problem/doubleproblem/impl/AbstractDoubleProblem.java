@@ -4,6 +4,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.problem.AbstractGenericProblem;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
 import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.errorchecking.Check;
@@ -17,6 +18,7 @@ public abstract class AbstractDoubleProblem extends AbstractGenericProblem<Doubl
         implements DoubleProblem {
 
     protected List<Bounds<Double>> bounds;
+    private boolean arrayBackedSolutions = false;
 
     /**
      * @deprecated Use {@link #getBoundsForVariables()} instead.
@@ -52,8 +54,24 @@ public abstract class AbstractDoubleProblem extends AbstractGenericProblem<Doubl
                         .collect(Collectors.toList());
     }
 
+    /**
+     * If true, {@link #createSolution()} returns {@link ArrayDoubleSolution} instances, which store
+     * the variables in a <code>double[]</code>; otherwise, {@link DefaultDoubleSolution} ones. Both
+     * take the same random values for the same seed.
+     */
+    public void setArrayBackedSolutions(boolean arrayBackedSolutions) {
+        this.arrayBackedSolutions = arrayBackedSolutions;
+    }
+
+    public boolean isArrayBackedSolutions() {
+        return arrayBackedSolutions;
+    }
+
     @Override
     public DoubleSolution createSolution() {
+        if (arrayBackedSolutions) {
+            return new ArrayDoubleSolution(getNumberOfObjectives(), getNumberOfConstraints(), bounds);
+        }
         return new DefaultDoubleSolution(getNumberOfObjectives(), getNumberOfConstraints(), bounds);
     }
 
@@ -0,0 +1,370 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * This class estimates the hypervolume indicator and the hypervolume contributions by Monte Carlo
+ * sampling (J. Bader, E. Zitzler, "HypE: An Algorithm for Fast Hypervolume-Based Many-Objective
+ * Optimization", Evolutionary Computation 19(1), 2011). Its cost grows linearly with the number of
+ * objectives, so it can be used when the exact algorithms ({@link PISAHypervolume}, {@link
+ * WFGHypervolume}) are too slow, typically with eight or more objectives.
+ *
+ * <p>As in the other implementations, the front is assumed to be normalized and the reference
+ * point is (1, ..., 1). Points are sampled uniformly in the box between the ideal point of the front
+ * and the reference point; the hypervolume is the volume of the box times the fraction of samples
+ * dominated by the front. The estimate comes with a Wilson score confidence interval.
+ *
+ * <p>The sampling stops when the maximum number of samples is reached or, if set, when the maximum
+ * computing time has elapsed. The random generator is seeded with a fixed seed for every front, so
+ * that the results are reproducible (if no time limit is set) and instances can be shared among
+ * threads. For a streaming estimation, {@link #sampler(double[][])} returns a {@link Sampler} which
+ * refines the estimate as more samples are requested.
+ */
+@SuppressWarnings("serial")
+public class MonteCarloHypervolume extends Hypervolume {
+    public static final long DEFAULT_NUMBER_OF_SAMPLES = 100000;
+    public static final double DEFAULT_CONFIDENCE_LEVEL = 0.95;
+    private static final long DEFAULT_SEED = 1L;
+    private static final int SAMPLES_BETWEEN_TIME_CHECKS = 1024;
+
+    private long numberOfSamples = DEFAULT_NUMBER_OF_SAMPLES;
+    private long maximumComputingTime = 0;
+    private double confidenceLevel = DEFAULT_CONFIDENCE_LEVEL;
+    private long seed = DEFAULT_SEED;
+
+    /**
+     * Default constructor
+     */
+    public MonteCarloHypervolume() {
+    }
+
+    /**
+     * Constructor with reference point
+     *
+     * @param referencePoint
+     */
+    public MonteCarloHypervolume(double[] referencePoint) {
+        super(referencePoint);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param referenceFront
+     */
+    public MonteCarloHypervolume(double[][] referenceFront) {
+        super(referenceFront);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param referenceFront
+     * @param numberOfSamples Maximum number of samples per estimation
+     */
+    public MonteCarloHypervolume(double[][] referenceFront, long numberOfSamples) {
+        super(referenceFront);
+        setNumberOfSamples(numberOfSamples);
+    }
+
+    /**
+     * Returns the estimated hypervolume of the front
+     */
+    @Override
+    public double compute(double[][] front) {
+        return estimate(front).getValue();
+    }
+
+    /**
+     * Estimates the hypervolume of the front
+     */
+    public Estimate estimate(double[][] front) {
+        Sampler sampler = sampler(front);
+        run(sampler);
+        return sampler.getEstimate();
+    }
+
+    /**
+     * Estimates the hypervolume contribution of each point of the front, which is the volume
+     * dominated by that point and not by any other one
+     */
+    public Estimate[] estimateContributions(double[][] front) {
+        Sampler sampler = sampler(front);
+        run(sampler);
+        return sampler.getContributionEstimates();
+    }
+
+    /**
+     * Returns a sampler of the front, seeded with the seed of the indicator, to which samples can be
+     * added incrementally
+     */
+    public Sampler sampler(double[][] front) {
+        return new Sampler(front, seed, confidenceLevel);
+    }
+
+    private void run(Sampler sampler) {
+        if (maximumComputingTime <= 0) {
+            sampler.addSamples(numberOfSamples);
+        } else {
+            long deadline = System.currentTimeMillis() + maximumComputingTime;
+            long remaining = numberOfSamples;
+            while ((remaining > 0) && (System.currentTimeMillis() < deadline)) {
+                long samples = Math.min(remaining, SAMPLES_BETWEEN_TIME_CHECKS);
+                sampler.addSamples(samples);
+                remaining -= samples;
+            }
+        }
+    }
+
+    public long getNumberOfSamples() {
+        return numberOfSamples;
+    }
+
+    public void setNumberOfSamples(long numberOfSamples) {
+        Check.that(numberOfSamples > 0, "The number of samples must be positive: " + numberOfSamples);
+        this.numberOfSamples = numberOfSamples;
+    }
+
+    public long getMaximumComputingTime() {
+        return maximumComputingTime;
+    }
+
+    /**
+     * Sets a time budget for each estimation, in milliseconds; the sampling stops when it is exhausted
+     * or when the maximum number of samples is reached. A value of 0 (the default) disables it.
+     */
+    public void setMaximumComputingTime(long maximumComputingTime) {
+        Check.that(maximumComputingTime >= 0, "The computing time cannot be negative: " + maximumComputingTime);
+        this.maximumComputingTime = maximumComputingTime;
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    public void setConfidenceLevel(double confidenceLevel) {
+        Check.valueIsInRange(confidenceLevel, 0.0, 1.0);
+        Check.that(confidenceLevel < 1.0, "The confidence level must be lower than 1");
+        this.confidenceLevel = confidenceLevel;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public String getName() {
+        return "HVMC";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Monte Carlo estimation of the hypervolume quality indicator";
+    }
+
+    /**
+     * Estimation of a volume together with its confidence interval
+     */
+    public static class Estimate {
+        private final double value;
+        private final double lowerBound;
+        private final double upperBound;
+        private final long numberOfSamples;
+
+        public Estimate(double value, double lowerBound, double upperBound, long numberOfSamples) {
+            this.value = value;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.numberOfSamples = numberOfSamples;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public double getLowerBound() {
+            return lowerBound;
+        }
+
+        public double getUpperBound() {
+            return upperBound;
+        }
+
+        /**
+         * Returns the half width of the confidence interval
+         */
+        public double getError() {
+            return (upperBound - lowerBound) / 2.0;
+        }
+
+        public long getNumberOfSamples() {
+            return numberOfSamples;
+        }
+
+        @Override
+        public String toString() {
+            return value + " [" + lowerBound + ", " + upperBound + "] (" + numberOfSamples + " samples)";
+        }
+    }
+
+    /**
+     * Streaming estimator of the hypervolume and the hypervolume contributions of a front: each call
+     * to {@link #addSamples(long)} refines the estimates. It is not thread-safe.
+     */
+    public static class Sampler {
+        private final int numberOfObjectives;
+        private final double[][] points;
+        private final int[] pointIndex;
+        private final int numberOfPoints;
+        private final double[] lowerCorner;
+        private final double boxVolume;
+        private final double z;
+        private final SplittableRandom random;
+
+        private long samples;
+        private long dominatedSamples;
+        private final long[] exclusiveSamples;
+
+        private Sampler(double[][] front, long seed, double confidenceLevel) {
+            Check.notNull(front);
+            this.random = new SplittableRandom(seed);
+            this.z = new NormalDistribution().inverseCumulativeProbability(0.5 + confidenceLevel / 2.0);
+            this.exclusiveSamples = new long[front.length];
+            this.numberOfObjectives = (front.length == 0) ? 0 : front[0].length;
+
+            // Values are clipped to [0, 1]; points not strictly better than the reference point in every
+            // objective dominate no volume and are discarded
+            List<Integer> inside = new ArrayList<>(front.length);
+            for (int i = 0; i < front.length; i++) {
+                Check.that(front[i].length == numberOfObjectives, "The points have different dimensions");
+                boolean isInside = true;
+                for (int j = 0; (j < numberOfObjectives) && isInside; j++) {
+                    isInside = front[i][j] < 1.0;
+                }
+                if (isInside) {
+                    inside.add(i);
+                }
+            }
+            // Sorting by the first objective, only the points preceding a sample in that objective have
+            // to be checked
+            inside.sort(Comparator.comparingDouble(i -> front[i][0]));
+
+            this.numberOfPoints = inside.size();
+            this.points = new double[numberOfPoints][];
+            this.pointIndex = new int[numberOfPoints];
+            this.lowerCorner = new double[numberOfObjectives];
+            Arrays.fill(lowerCorner, 1.0);
+            for (int k = 0; k < numberOfPoints; k++) {
+                int i = inside.get(k);
+                pointIndex[k] = i;
+                points[k] = new double[numberOfObjectives];
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    points[k][j] = Math.max(0.0, front[i][j]);
+                    lowerCorner[j] = Math.min(lowerCorner[j], points[k][j]);
+                }
+            }
+
+            double volume = (numberOfPoints == 0) ? 0.0 : 1.0;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                volume *= 1.0 - lowerCorner[j];
+            }
+            this.boxVolume = volume;
+        }
+
+        /**
+         * Draws new samples and updates the estimates
+         */
+        public void addSamples(long numberOfSamples) {
+            Check.that(numberOfSamples >= 0, "The number of samples cannot be negative: " + numberOfSamples);
+            if (numberOfPoints == 0) {
+                samples += numberOfSamples;
+                return;
+            }
+
+            double[] sample = new double[numberOfObjectives];
+            for (long s = 0; s < numberOfSamples; s++) {
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    sample[j] = lowerCorner[j] + random.nextDouble() * (1.0 - lowerCorner[j]);
+                }
+
+                int dominators = 0;
+                int dominator = -1;
+                for (int k = 0; (k < numberOfPoints) && (points[k][0] <= sample[0]) && (dominators < 2); k++) {
+                    if (weaklyDominates(points[k], sample)) {
+                        dominators++;
+                        dominator = k;
+                    }
+                }
+
+                if (dominators > 0) {
+                    dominatedSamples++;
+                    if (dominators == 1) {
+                        exclusiveSamples[pointIndex[dominator]]++;
+                    }
+                }
+            }
+            samples += numberOfSamples;
+        }
+
+        private boolean weaklyDominates(double[] point, double[] sample) {
+            for (int j = 1; j < numberOfObjectives; j++) {
+                if (point[j] > sample[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public long getNumberOfSamples() {
+            return samples;
+        }
+
+        /**
+         * Returns the current estimate of the hypervolume
+         */
+        public Estimate getEstimate() {
+            return estimate(dominatedSamples);
+        }
+
+        /**
+         * Returns the current estimates of the hypervolume contributions of the points, in the order of
+         * the front
+         */
+        public Estimate[] getContributionEstimates() {
+            Estimate[] result = new Estimate[exclusiveSamples.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = estimate(exclusiveSamples[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Estimate of a volume from the number of samples falling in it, with the Wilson score interval
+         * of the proportion
+         */
+        private Estimate estimate(long hits) {
+            if ((samples == 0) || (boxVolume == 0.0)) {
+                return new Estimate(0.0, 0.0, boxVolume, samples);
+            }
+            double n = samples;
+            double proportion = hits / n;
+            double z2 = z * z;
+            double center = (proportion + z2 / (2 * n)) / (1 + z2 / n);
+            double halfWidth = z / (1 + z2 / n) * Math.sqrt(proportion * (1 - proportion) / n + z2 / (4 * n * n));
+
+            return new Estimate(
+                    boxVolume * proportion,
+                    boxVolume * Math.max(0.0, center - halfWidth),
+                    boxVolume * Math.min(1.0, center + halfWidth),
+                    samples);
+        }
+    }
+}
@@ -9,7 +9,8 @@ import java.util.Arrays;
 import java.util.Comparator;
 
 /**
- * This class implements the hypervolume indicator developed by the WFG
+ * This class implements the hypervolume indicator developed by the WFG. It can be used from several
+ * threads, but the hypervolumes are computed one at a time, even by different instances.
  *
  * @author Alejandro Santiago
  */
@@ -95,7 +96,8 @@ public class WFGHypervolume extends Hypervolume {
     static int safe = 0; // the number of points that don't need sorting
     static int fr = 0;
 
-    static double CalculateHypervolume(double[][] fronton, int noPoints, int noObjectives) {
+    /* The computation keeps its state in static fields, so it is done by one thread at a time */
+    static synchronized double CalculateHypervolume(double[][] fronton, int noPoints, int noObjectives) {
 
         n = noObjectives;
         safe = 0;
@@ -0,0 +1,721 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exact computation of the hypervolume contributions (the hypervolume dominated exclusively by each
+ * point) of a front of a minimization problem with respect to a reference point. Only the points
+ * strictly dominating the reference point contribute; the others get a contribution of zero.
+ * Points with identical objective values have a contribution of zero.
+ *
+ * <ul>
+ *   <li>Two and three objectives: the contributions of all the points are computed in O(n log n)
+ *   with a sweep along the last objective which keeps the non-dominated staircase of the first two
+ *   objectives in a sorted tree and accumulates the exclusive area of each point of the staircase
+ *   (M. Emmerich, C. Fonseca, "Computing Hypervolume Contributions in Low Dimensions:
+ *   Asymptotically Optimal Algorithm and Complexity Results", EMO 2011).</li>
+ *   <li>More objectives: the contribution of a point is its own hypervolume minus the hypervolume
+ *   of the non-dominated limit set of the other points bounded by it, which is computed with the WFG
+ *   algorithm (L. While, L. Bradstreet, L. Barone, "A Fast Way of Calculating Exact Hypervolumes",
+ *   IEEE TEVC 16(1), 2012), as in IWFG.</li>
+ * </ul>
+ *
+ * <p>Besides computing the contributions of a front with {@link #compute(double[][])}, the class
+ * can hold a front loaded with {@link #setFront(double[][])} from which points are removed one at a
+ * time with {@link #remove(int)} or {@link #removeLeastContributor()}. After a removal only the
+ * contributions that can change are computed again, those of the points whose exclusive region was
+ * bounded by the removed point, each one from its own limit set. With two objectives these points
+ * are found in a single pass: they are the two neighbours of the removed point in the staircase and
+ * the points dominated only by it (or, if the removed point is dominated, its single dominator).
+ */
+public class HypervolumeContribution {
+    private final double[] referencePoint;
+    private final int numberOfObjectives;
+
+    private double[][] front;
+    private boolean[] removed;
+    private double[] contributions;
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param referencePoint Reference point; the problem is assumed to be a minimization one
+     */
+    public HypervolumeContribution(double[] referencePoint) {
+        Check.notNull(referencePoint);
+        Check.that(referencePoint.length >= 2, "The reference point must have at least two dimensions");
+        this.referencePoint = referencePoint.clone();
+        this.numberOfObjectives = referencePoint.length;
+    }
+
+    /**
+     * Returns the point whose components are the maximum value of each objective in the front plus
+     * an offset, which is the reference point used by SMS-EMOA
+     */
+    public static double[] referencePoint(double[][] front, double offset) {
+        Check.notNull(front);
+        Check.that(front.length > 0, "The front is empty");
+        double[] point = front[0].clone();
+        for (double[] vector : front) {
+            for (int j = 0; j < point.length; j++) {
+                point[j] = Math.max(point[j], vector[j]);
+            }
+        }
+        for (int j = 0; j < point.length; j++) {
+            point[j] += offset;
+        }
+        return point;
+    }
+
+    public double[] getReferencePoint() {
+        return referencePoint.clone();
+    }
+
+    /**
+     * Returns the hypervolume contribution of each point of a front
+     */
+    public double[] compute(double[][] front) {
+        checkFront(front);
+        int[] indices = new int[front.length];
+        for (int i = 0; i < front.length; i++) {
+            indices[i] = i;
+        }
+        double[] result = new double[front.length];
+        computeContributions(front, indices, front.length, result);
+        return result;
+    }
+
+    /**
+     * Returns the hypervolume of a front
+     */
+    public double hypervolume(double[][] front) {
+        checkFront(front);
+        List<double[]> points = new ArrayList<>(front.length);
+        for (double[] point : front) {
+            if (isInsideReferenceBox(point)) {
+                points.add(point);
+            }
+        }
+        return wfg(nonDominated(points, numberOfObjectives), numberOfObjectives);
+    }
+
+    /* Incremental interface */
+
+    /**
+     * Loads a front and computes the contributions of its points
+     */
+    public void setFront(double[][] front) {
+        checkFront(front);
+        this.front = front;
+        this.removed = new boolean[front.length];
+        this.contributions = compute(front);
+        this.size = front.length;
+    }
+
+    /**
+     * Returns the number of points of the current front which have not been removed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the contribution of the point at position <code>index</code> of the front passed to
+     * {@link #setFront(double[][])}, taking into account the removed points
+     */
+    public double getContribution(int index) {
+        checkPoint(index);
+        return contributions[index];
+    }
+
+    /**
+     * Removes the point with the lowest contribution; if several points have that contribution, the
+     * last one of the front is removed
+     *
+     * @return the index of the removed point in the front passed to {@link #setFront(double[][])}
+     */
+    public int removeLeastContributor() {
+        if (size == 0) {
+            throw new JMetalException("There are no points left");
+        }
+        int worst = -1;
+        for (int i = 0; i < front.length; i++) {
+            if (!removed[i] && ((worst == -1) || (contributions[i] <= contributions[worst]))) {
+                worst = i;
+            }
+        }
+        remove(worst);
+        return worst;
+    }
+
+    /**
+     * Removes a point of the front and updates the contributions of the remaining ones
+     */
+    public void remove(int index) {
+        checkPoint(index);
+        removed[index] = true;
+        contributions[index] = 0.0;
+        size--;
+
+        if (!isInsideReferenceBox(front[index])) {
+            return;
+        }
+
+        // Only the points inside the reference box can bound the exclusive region of another one
+        int[] remaining = new int[size];
+        int numberOfRemaining = 0;
+        for (int i = 0; i < front.length; i++) {
+            if (!removed[i] && isInsideReferenceBox(front[i])) {
+                remaining[numberOfRemaining++] = i;
+            }
+        }
+
+        int[] affected = (numberOfObjectives == 2)
+                ? affectedPoints2D(front[index], remaining, numberOfRemaining)
+                : affectedPoints(front[index], remaining, numberOfRemaining);
+        for (int q : affected) {
+            contributions[q] = exclusiveHypervolume(front, q, remaining, numberOfRemaining);
+        }
+    }
+
+    /**
+     * Returns the points whose contribution can change when the given point is removed. The
+     * contribution of a point q can only change if the region dominated by both q and the removed
+     * point is not dominated by any other point.
+     */
+    private int[] affectedPoints(double[] removedPoint, int[] remaining, int numberOfRemaining) {
+        int[] affected = new int[numberOfRemaining];
+        int numberOfAffected = 0;
+        double[] join = new double[numberOfObjectives];
+        // The point covering a region usually covers the next one too, so it is checked first
+        int lastCovering = -1;
+        for (int k = 0; k < numberOfRemaining; k++) {
+            int q = remaining[k];
+            for (int j = 0; j < numberOfObjectives; j++) {
+                join[j] = Math.max(front[q][j], removedPoint[j]);
+            }
+            boolean isCovered = (lastCovering != -1) && (lastCovering != q)
+                    && weaklyDominates(front[lastCovering], join, numberOfObjectives);
+            for (int l = 0; (l < numberOfRemaining) && !isCovered; l++) {
+                int r = remaining[l];
+                if ((r != q) && weaklyDominates(front[r], join, numberOfObjectives)) {
+                    isCovered = true;
+                    lastCovering = r;
+                }
+            }
+            if (!isCovered) {
+                affected[numberOfAffected++] = q;
+            }
+        }
+        return Arrays.copyOf(affected, numberOfAffected);
+    }
+
+    /**
+     * Same as {@link #affectedPoints(double[], int[], int)} for two objectives, in a single pass
+     * over the remaining points. If the removed point is weakly dominated, only its dominator is
+     * affected, provided that there is only one. Otherwise the affected points are its neighbours
+     * in the staircase, which are the point with the lowest second objective on its left and the
+     * point with the lowest first objective below it (if they are unique), and the points dominated
+     * by it and not by any other one.
+     */
+    private int[] affectedPoints2D(double[] removedPoint, int[] remaining, int numberOfRemaining) {
+        double x = removedPoint[0];
+        double y = removedPoint[1];
+        int dominator = -1;
+        int numberOfDominators = 0;
+        int left = -1;
+        boolean isLeftUnique = false;
+        int right = -1;
+        boolean isRightUnique = false;
+        int[] dominated = new int[numberOfRemaining];
+        int numberOfDominated = 0;
+
+        for (int k = 0; k < numberOfRemaining; k++) {
+            int q = remaining[k];
+            double[] point = front[q];
+            if ((point[0] <= x) && (point[1] <= y)) {
+                dominator = q;
+                numberOfDominators++;
+            } else if (point[0] <= x) {
+                if ((left == -1) || (point[1] < front[left][1])) {
+                    left = q;
+                    isLeftUnique = true;
+                } else if (point[1] == front[left][1]) {
+                    isLeftUnique = false;
+                }
+            } else if (point[1] <= y) {
+                if ((right == -1) || (point[0] < front[right][0])) {
+                    right = q;
+                    isRightUnique = true;
+                } else if (point[0] == front[right][0]) {
+                    isRightUnique = false;
+                }
+            } else {
+                dominated[numberOfDominated++] = q;
+            }
+        }
+
+        if (numberOfDominators > 0) {
+            return (numberOfDominators == 1) ? new int[]{dominator} : new int[0];
+        }
+
+        int[] affected = new int[numberOfDominated + 2];
+        int numberOfAffected = 0;
+        if (isLeftUnique) {
+            affected[numberOfAffected++] = left;
+        }
+        if (isRightUnique) {
+            affected[numberOfAffected++] = right;
+        }
+        for (int k = 0; k < numberOfDominated; k++) {
+            int q = dominated[k];
+            boolean isCovered = ((left != -1) && (front[left][1] <= front[q][1]))
+                    || ((right != -1) && (front[right][0] <= front[q][0]));
+            for (int l = 0; (l < numberOfDominated) && !isCovered; l++) {
+                isCovered = (l != k) && weaklyDominates(front[dominated[l]], front[q], numberOfObjectives);
+            }
+            if (!isCovered) {
+                affected[numberOfAffected++] = q;
+            }
+        }
+        return Arrays.copyOf(affected, numberOfAffected);
+    }
+
+    /* Computation of the contributions */
+
+    private void computeContributions(double[][] front, int[] indices, int numberOfIndices, double[] result) {
+        int[] inside = new int[numberOfIndices];
+        int numberOfInside = 0;
+        for (int k = 0; k < numberOfIndices; k++) {
+            int i = indices[k];
+            result[i] = 0.0;
+            if (isInsideReferenceBox(front[i])) {
+                inside[numberOfInside++] = i;
+            }
+        }
+        if (numberOfInside == 0) {
+            return;
+        }
+        inside = Arrays.copyOf(inside, numberOfInside);
+
+        // Duplicated points contribute nothing, but one copy of each is kept to bound the others
+        boolean[] duplicated = new boolean[front.length];
+        int[] unique = removeDuplicates(front, inside, duplicated);
+
+        if (numberOfObjectives <= 3) {
+            sweep(front, unique, result);
+        } else {
+            for (int i : unique) {
+                result[i] = exclusiveHypervolume(front, i, unique, unique.length);
+            }
+        }
+
+        for (int i : unique) {
+            if (duplicated[i]) {
+                result[i] = 0.0;
+            }
+        }
+    }
+
+    private int[] removeDuplicates(double[][] front, int[] indices, boolean[] duplicated) {
+        Integer[] order = new Integer[indices.length];
+        for (int k = 0; k < indices.length; k++) {
+            order[k] = indices[k];
+        }
+        Arrays.sort(order, (i, j) -> compareLexicographically(front[i], front[j]));
+
+        int[] unique = new int[indices.length];
+        int numberOfUnique = 0;
+        for (int k = 0; k < order.length; k++) {
+            if ((numberOfUnique > 0) && (compareLexicographically(front[unique[numberOfUnique - 1]], front[order[k]]) == 0)) {
+                duplicated[unique[numberOfUnique - 1]] = true;
+            } else {
+                unique[numberOfUnique++] = order[k];
+            }
+        }
+        return Arrays.copyOf(unique, numberOfUnique);
+    }
+
+    private int compareLexicographically(double[] point1, double[] point2) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+            if (point1[j] < point2[j]) {
+                return -1;
+            } else if (point1[j] > point2[j]) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Sweep for two and three objectives. The points are processed in ascending order of the last
+     * objective (with two objectives, all of them at the same level) and the staircase of the first
+     * two objectives is kept in a tree sorted by the first objective. The exclusive area of a point
+     * of the staircase is bounded by its two neighbours and by the points dominated (in the first two
+     * objectives) only by it, which are kept in its shadow; the contribution of the point is the
+     * integral of that area along the last objective. Each point enters and leaves the staircase and
+     * the shadows at most once, so the sweep takes O(n log n).
+     */
+    private void sweep(double[][] front, int[] indices, double[] result) {
+        boolean threeObjectives = numberOfObjectives == 3;
+        Integer[] order = new Integer[indices.length];
+        for (int k = 0; k < indices.length; k++) {
+            order[k] = indices[k];
+        }
+        if (threeObjectives) {
+            Arrays.sort(order, Comparator.comparingDouble(i -> front[i][2]));
+        }
+
+        double referenceZ = threeObjectives ? referencePoint[2] : 1.0;
+
+        double[] area = new double[front.length];
+        double[] level = new double[front.length];
+        Shadow[] shadow = new Shadow[front.length];
+        TreeMap<Double, Integer> staircase = new TreeMap<>();
+
+        for (int q : order) {
+            double x = front[q][0] + 0.0;
+            double y = front[q][1];
+            double z = threeObjectives ? front[q][2] : 0.0;
+
+            Map.Entry<Double, Integer> floor = staircase.floorEntry(x);
+            if ((floor != null) && (front[floor.getValue()][1] <= y)) {
+                // The point is dominated in the first two objectives; it only reduces the exclusive area of
+                // the point dominating it if there is no other one
+                Map.Entry<Double, Integer> lowerOfFloor = staircase.lowerEntry(floor.getKey());
+                if ((lowerOfFloor == null) || (front[lowerOfFloor.getValue()][1] > y)) {
+                    int r = floor.getValue();
+                    result[r] += area[r] * (z - level[r]);
+                    if (shadow[r] == null) {
+                        shadow[r] = new Shadow();
+                    }
+                    shadow[r].add(x, y);
+                    area[r] = exclusiveArea(front, staircase, floor.getKey(), r, shadow[r]);
+                    level[r] = z;
+                }
+                continue;
+            }
+
+            Shadow dominated = new Shadow();
+            Iterator<Map.Entry<Double, Integer>> iterator = staircase.tailMap(x, true).entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Double, Integer> entry = iterator.next();
+                int r = entry.getValue();
+                if (front[r][1] < y) {
+                    break;
+                }
+                result[r] += area[r] * (z - level[r]);
+                dominated.add(entry.getKey(), front[r][1]);
+                shadow[r] = null;
+                iterator.remove();
+            }
+
+            Map.Entry<Double, Integer> lower = staircase.lowerEntry(x);
+            Map.Entry<Double, Integer> higher = staircase.higherEntry(x);
+            staircase.put(x, q);
+            shadow[q] = dominated;
+            area[q] = exclusiveArea(front, staircase, x, q, dominated);
+            level[q] = z;
+
+            if (lower != null) {
+                int r = lower.getValue();
+                result[r] += area[r] * (z - level[r]);
+                if (shadow[r] != null) {
+                    shadow[r].removeFrom(x);
+                }
+                area[r] = exclusiveArea(front, staircase, lower.getKey(), r, shadow[r]);
+                level[r] = z;
+            }
+            if (higher != null) {
+                int r = higher.getValue();
+                result[r] += area[r] * (z - level[r]);
+                if (shadow[r] != null) {
+                    shadow[r].removeAbove(y);
+                }
+                area[r] = exclusiveArea(front, staircase, higher.getKey(), r, shadow[r]);
+                level[r] = z;
+            }
+        }
+
+        for (int r : staircase.values()) {
+            result[r] += area[r] * (referenceZ - level[r]);
+        }
+    }
+
+    private double exclusiveArea(double[][] front, TreeMap<Double, Integer> staircase, double x, int index, Shadow shadow) {
+        Map.Entry<Double, Integer> lower = staircase.lowerEntry(x);
+        Map.Entry<Double, Integer> higher = staircase.higherEntry(x);
+        double right = (higher == null) ? referencePoint[0] : higher.getKey();
+        double top = (lower == null) ? referencePoint[1] : front[lower.getValue()][1];
+
+        double result = (right - x) * (top - front[index][1]);
+        if (shadow != null) {
+            result -= shadow.area(right, top);
+        }
+        return result;
+    }
+
+    /**
+     * Two-dimensional staircase of points sorted by the first objective which keeps the area it
+     * dominates inside any box containing it, so that it is updated in O(log n) when a point is added
+     * or removed
+     */
+    private static class Shadow {
+        private final TreeMap<Double, Double> points = new TreeMap<>();
+        // Sum of (x_{i+1} - x_i) * y_i over the consecutive points of the staircase
+        private double sum = 0.0;
+
+        void add(double x, double y) {
+            Map.Entry<Double, Double> floor = points.floorEntry(x);
+            if ((floor != null) && (floor.getValue() <= y)) {
+                return;
+            }
+            Map.Entry<Double, Double> entry = points.ceilingEntry(x);
+            while ((entry != null) && (entry.getValue() >= y)) {
+                remove(entry);
+                entry = points.higherEntry(entry.getKey());
+            }
+
+            Map.Entry<Double, Double> lower = points.lowerEntry(x);
+            Map.Entry<Double, Double> higher = points.higherEntry(x);
+            if ((lower != null) && (higher != null)) {
+                sum -= (higher.getKey() - lower.getKey()) * lower.getValue();
+            }
+            if (lower != null) {
+                sum += (x - lower.getKey()) * lower.getValue();
+            }
+            if (higher != null) {
+                sum += (higher.getKey() - x) * y;
+            }
+            points.put(x, y);
+        }
+
+        /**
+         * Removes the points whose first objective is not lower than <code>x</code>
+         */
+        void removeFrom(double x) {
+            Map.Entry<Double, Double> entry;
+            while (((entry = points.lastEntry()) != null) && (entry.getKey() >= x)) {
+                remove(entry);
+            }
+        }
+
+        /**
+         * Removes the points whose second objective is not lower than <code>y</code>
+         */
+        void removeAbove(double y) {
+            Map.Entry<Double, Double> entry;
+            while (((entry = points.firstEntry()) != null) && (entry.getValue() >= y)) {
+                remove(entry);
+            }
+        }
+
+        /**
+         * Area dominated by the staircase and bounded by <code>right</code> and <code>top</code>
+         */
+        double area(double right, double top) {
+            if (points.isEmpty()) {
+                return 0.0;
+            }
+            Map.Entry<Double, Double> last = points.lastEntry();
+            return top * (right - points.firstKey()) - sum - (right - last.getKey()) * last.getValue();
+        }
+
+        private void remove(Map.Entry<Double, Double> entry) {
+            Map.Entry<Double, Double> lower = points.lowerEntry(entry.getKey());
+            Map.Entry<Double, Double> higher = points.higherEntry(entry.getKey());
+            if (lower != null) {
+                sum -= (entry.getKey() - lower.getKey()) * lower.getValue();
+            }
+            if (higher != null) {
+                sum -= (higher.getKey() - entry.getKey()) * entry.getValue();
+            }
+            if ((lower != null) && (higher != null)) {
+                sum += (higher.getKey() - lower.getKey()) * lower.getValue();
+            }
+            points.remove(entry.getKey());
+        }
+    }
+
+    /**
+     * Hypervolume dominated by the point <code>index</code> and not by any other of the given
+     * points
+     */
+    private double exclusiveHypervolume(double[][] front, int index, int[] indices, int numberOfIndices) {
+        double[] point = front[index];
+        // The bounded points which only differ from the point in one objective are reduced to the one
+        // with the lowest value in it, which dominates the other bounded points that are not lower
+        double[] lowestInObjective = referencePoint.clone();
+        List<double[]> limitSet = new ArrayList<>(numberOfIndices);
+        for (int k = 0; k < numberOfIndices; k++) {
+            int i = indices[k];
+            if ((i == index) || !isInsideReferenceBox(front[i])) {
+                continue;
+            }
+            int numberOfWorseObjectives = 0;
+            int worseObjective = -1;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                if (front[i][j] > point[j]) {
+                    numberOfWorseObjectives++;
+                    worseObjective = j;
+                }
+            }
+            if (numberOfWorseObjectives == 0) {
+                return 0.0;
+            } else if (numberOfWorseObjectives == 1) {
+                lowestInObjective[worseObjective] = Math.min(lowestInObjective[worseObjective], front[i][worseObjective]);
+            } else {
+                double[] bounded = new double[numberOfObjectives];
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    bounded[j] = Math.max(point[j], front[i][j]);
+                }
+                limitSet.add(bounded);
+            }
+        }
+
+        int size = 0;
+        for (double[] bounded : limitSet) {
+            boolean isDominated = false;
+            for (int j = 0; (j < numberOfObjectives) && !isDominated; j++) {
+                isDominated = bounded[j] >= lowestInObjective[j];
+            }
+            if (!isDominated) {
+                limitSet.set(size++, bounded);
+            }
+        }
+        limitSet.subList(size, limitSet.size()).clear();
+        for (int j = 0; j < numberOfObjectives; j++) {
+            if (lowestInObjective[j] < referencePoint[j]) {
+                double[] bounded = point.clone();
+                bounded[j] = lowestInObjective[j];
+                limitSet.add(bounded);
+            }
+        }
+
+        return inclusiveHypervolume(point, numberOfObjectives)
+                - wfg(nonDominated(limitSet, numberOfObjectives), numberOfObjectives);
+    }
+
+    /* WFG algorithm: only the first <code>dimension</code> objectives of the points are used */
+
+    private double wfg(List<double[]> points, int dimension) {
+        if (points.isEmpty()) {
+            return 0.0;
+        }
+        if (dimension == 2) {
+            return hypervolume2D(points);
+        }
+
+        // Sorting by the last objective in descending order makes all the points of the limit set of
+        // a point share its value in that objective, so the limit set is solved in one dimension less
+        int last = dimension - 1;
+        points.sort((point1, point2) -> Double.compare(point2[last], point1[last]));
+
+        double volume = 0.0;
+        for (int i = 0; i < points.size(); i++) {
+            double[] point = points.get(i);
+            List<double[]> limitSet = new ArrayList<>(points.size() - i - 1);
+            for (int k = i + 1; k < points.size(); k++) {
+                double[] other = points.get(k);
+                double[] bounded = new double[last];
+                for (int j = 0; j < last; j++) {
+                    bounded[j] = Math.max(point[j], other[j]);
+                }
+                limitSet.add(bounded);
+            }
+            volume += (referencePoint[last] - point[last])
+                    * (inclusiveHypervolume(point, last) - wfg(nonDominated(limitSet, last), last));
+        }
+        return volume;
+    }
+
+    private double hypervolume2D(List<double[]> points) {
+        points.sort((point1, point2) -> {
+            int result = Double.compare(point1[0], point2[0]);
+            return result != 0 ? result : Double.compare(point1[1], point2[1]);
+        });
+        double volume = 0.0;
+        double previousY = referencePoint[1];
+        for (double[] point : points) {
+            if (point[1] < previousY) {
+                volume += (referencePoint[0] - point[0]) * (previousY - point[1]);
+                previousY = point[1];
+            }
+        }
+        return volume;
+    }
+
+    private double inclusiveHypervolume(double[] point, int dimension) {
+        double volume = 1.0;
+        for (int j = 0; j < dimension; j++) {
+            volume *= referencePoint[j] - point[j];
+        }
+        return volume;
+    }
+
+    /**
+     * Removes the weakly dominated points of a list, keeping a single copy of repeated points
+     */
+    private static List<double[]> nonDominated(List<double[]> points, int dimension) {
+        List<double[]> result = new ArrayList<>(points.size());
+        for (double[] point : points) {
+            boolean isDominated = false;
+            int size = 0;
+            for (int k = 0; k < result.size(); k++) {
+                double[] member = result.get(k);
+                if (!isDominated && weaklyDominates(member, point, dimension)) {
+                    isDominated = true;
+                }
+                if (isDominated || !weaklyDominates(point, member, dimension)) {
+                    result.set(size++, member);
+                }
+            }
+            result.subList(size, result.size()).clear();
+            if (!isDominated) {
+                result.add(point);
+            }
+        }
+        return result;
+    }
+
+    private static boolean weaklyDominates(double[] point1, double[] point2, int dimension) {
+        for (int j = 0; j < dimension; j++) {
+            if (point1[j] > point2[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isInsideReferenceBox(double[] point) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+            if (!(point[j] < referencePoint[j])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkFront(double[][] front) {
+        Check.notNull(front);
+        for (double[] point : front) {
+            Check.that(point.length == numberOfObjectives,
+                    "The point has " + point.length + " objectives instead of " + numberOfObjectives);
+        }
+    }
+
+    private void checkPoint(int index) {
+        Check.that(front != null, "No front has been set");
+        Check.that((index >= 0) && (index < front.length) && !removed[index], "Invalid point: " + index);
+    }
+}
@@ -1,9 +1,9 @@
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -51,8 +51,6 @@ public abstract class AbstractSolution<T> implements Solution<T> {
      */
     protected AbstractSolution(
             int numberOfVariables, int numberOfObjectives, int numberOfConstraints) {
-        attributes = new HashMap<>();
-
         variables = new ArrayList<>(numberOfVariables);
         for (int i = 0; i < numberOfVariables; i++) {
             variables.add(i, null);
@@ -68,7 +66,7 @@ public abstract class AbstractSolution<T> implements Solution<T> {
             constraints[i] = 0.0;
         }
 
-        attributes = new HashMap<Object, Object>();
+        attributes = new SlotAttributeMap();
     }
 
     @Override
@@ -2,10 +2,10 @@ package org.uma.jmetal.solution.binarysolution.impl;
 
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -58,7 +58,7 @@ public class DefaultBinarySolution
             constraints()[i] = solution.constraints()[i];
         }
 
-        attributes = new HashMap<>(solution.attributes);
+        attributes = new SlotAttributeMap(solution.attributes);
     }
 
     private static BinarySet createNewBinarySet(int numberOfBits, JMetalRandom randomGenerator) {
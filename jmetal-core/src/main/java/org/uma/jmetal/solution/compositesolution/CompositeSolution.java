@@ -2,9 +2,9 @@ package org.uma.jmetal.solution.compositesolution;
 
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 import org.uma.jmetal.util.errorchecking.Check;
 
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -70,7 +70,7 @@ public class CompositeSolution extends AbstractSolution<Solution<?>> {
             constraints()[i] = solution.constraints()[i];
         }
 
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new SlotAttributeMap(solution.attributes);
     }
 
     @Override
@@ -35,4 +35,20 @@ public interface DoubleSolution extends Solution<Double> {
         Double upperBound = solution.getUpperBound(index);
         return Bounds.create(lowerBound, upperBound);
     }
+
+    /**
+     * Returns the value of a variable as a primitive double. The default implementation reads it
+     * through {@link #variables()}; array-backed solutions override it to avoid unboxing.
+     */
+    default double getVariable(int index) {
+        return variables().get(index);
+    }
+
+    /**
+     * Sets the value of a variable from a primitive double. The default implementation writes it
+     * through {@link #variables()}; array-backed solutions override it to avoid boxing.
+     */
+    default void setVariable(int index, double value) {
+        variables().set(index, value);
+    }
 }
@@ -0,0 +1,209 @@
+package org.uma.jmetal.solution.doublesolution.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Implementation of {@link DoubleSolution} storing the decision variables in a primitive
+ * <code>double[]</code> instead of a <code>List&lt;Double&gt;</code>. Operators and problems can
+ * use {@link #getVariable(int)}, {@link #setVariable(int, double)} and {@link #variablesArray()}
+ * to read and write the variables without boxing. The list returned by {@link #variables()} is a
+ * fixed-size view backed by the array, so code written against {@link Solution#variables()} keeps
+ * working unchanged.
+ */
+@SuppressWarnings("serial")
+public class ArrayDoubleSolution implements DoubleSolution {
+    private final double[] variables;
+    private final double[] objectives;
+    private final double[] constraints;
+    protected Map<Object, Object> attributes;
+    protected List<Bounds<Double>> bounds;
+
+    private transient List<Double> variablesView;
+
+    /**
+     * Constructor
+     */
+    public ArrayDoubleSolution(
+            int numberOfObjectives,
+            int numberOfConstraints,
+            List<Bounds<Double>> boundsList) {
+        this.bounds = boundsList;
+        this.variables = new double[boundsList.size()];
+        this.objectives = new double[numberOfObjectives];
+        this.constraints = new double[numberOfConstraints];
+        this.attributes = new SlotAttributeMap();
+
+        for (int i = 0; i < boundsList.size(); i++) {
+            Bounds<Double> bounds = boundsList.get(i);
+            variables[i] = JMetalRandom.getInstance().nextDouble(bounds.getLowerBound(), bounds.getUpperBound());
+        }
+    }
+
+    /**
+     * Constructor
+     */
+    public ArrayDoubleSolution(int numberOfObjectives, List<Bounds<Double>> boundsList) {
+        this(numberOfObjectives, 0, boundsList);
+    }
+
+    /**
+     * Copy constructor
+     */
+    public ArrayDoubleSolution(ArrayDoubleSolution solution) {
+        variables = new double[solution.variables.length];
+        System.arraycopy(solution.variables, 0, variables, 0, variables.length);
+        objectives = solution.objectives.clone();
+        constraints = solution.constraints.clone();
+
+        bounds = solution.bounds;
+        attributes = new SlotAttributeMap(solution.attributes);
+    }
+
+    /**
+     * Returns the array storing the decision variables. Changes in the array are reflected in the
+     * solution and vice versa.
+     */
+    public double[] variablesArray() {
+        return variables;
+    }
+
+    @Override
+    public double getVariable(int index) {
+        return variables[index];
+    }
+
+    @Override
+    public void setVariable(int index, double value) {
+        variables[index] = value;
+    }
+
+    @Override
+    public List<Double> variables() {
+        if (variablesView == null) {
+            variablesView = new VariablesView();
+        }
+        return variablesView;
+    }
+
+    @Override
+    public double[] objectives() {
+        return objectives;
+    }
+
+    @Override
+    public double[] constraints() {
+        return constraints;
+    }
+
+    @Override
+    public Map<Object, Object> attributes() {
+        return attributes;
+    }
+
+    /**
+     * @deprecated Use {@link #getBounds(int)}{@link Bounds#getLowerBound()
+     * .getLowerBound()} instead.
+     */
+    @Deprecated
+    @Override
+    public Double getLowerBound(int index) {
+        return this.bounds.get(index).getLowerBound();
+    }
+
+    /**
+     * @deprecated Use {@link #getBounds(int)}{@link Bounds#getUpperBound()
+     * .getUpperBound()} instead.
+     */
+    @Deprecated
+    @Override
+    public Double getUpperBound(int index) {
+        return this.bounds.get(index).getUpperBound();
+    }
+
+    @Override
+    public Bounds<Double> getBounds(int index) {
+        return this.bounds.get(index);
+    }
+
+    @Override
+    public ArrayDoubleSolution copy() {
+        return new ArrayDoubleSolution(this);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Variables: ");
+        for (double var : variables) {
+            result.append(var).append(" ");
+        }
+        result.append("Objectives: ");
+        for (double obj : objectives) {
+            result.append(obj).append(" ");
+        }
+        result.append("Constraints: ");
+        for (double obj : constraints) {
+            result.append(obj).append(" ");
+        }
+        result.append("\t");
+        result.append("AlgorithmAttributes: ").append(attributes).append("\n");
+
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null) {
+            throw new JMetalException("The solution to compare is null");
+        }
+
+        if (o instanceof ArrayDoubleSolution) {
+            return Arrays.equals(variables, ((ArrayDoubleSolution) o).variables);
+        }
+
+        Solution<?> solution = (Solution<?>) o;
+
+        return this.variables().equals(solution.variables());
+    }
+
+    /**
+     * Same value as the hash code of the equivalent <code>List&lt;Double&gt;</code>, so that this
+     * class and {@link DefaultDoubleSolution} can be mixed in hash-based collections.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(variables);
+    }
+
+    /**
+     * Fixed-size {@link List} view of the variable array
+     */
+    private class VariablesView extends AbstractList<Double> implements RandomAccess {
+        @Override
+        public Double get(int index) {
+            return variables[index];
+        }
+
+        @Override
+        public Double set(int index, Double value) {
+            double previousValue = variables[index];
+            variables[index] = value;
+            return previousValue;
+        }
+
+        @Override
+        public int size() {
+            return variables.length;
+        }
+    }
+}
@@ -3,10 +3,10 @@ package org.uma.jmetal.solution.doublesolution.impl;
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -90,7 +90,7 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
         }
 
         bounds = solution.bounds;
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new SlotAttributeMap(solution.attributes);
     }
 
     /**
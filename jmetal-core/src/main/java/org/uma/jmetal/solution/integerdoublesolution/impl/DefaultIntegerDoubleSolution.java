@@ -8,9 +8,9 @@ import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.solution.integerdoublesolution.IntegerDoubleSolution;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 import org.uma.jmetal.util.errorchecking.Check;
 
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -90,7 +90,7 @@ public class DefaultIntegerDoubleSolution extends AbstractSolution<Solution<?>>
             constraints()[i] = solution.constraints()[i];
         }
 
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new SlotAttributeMap(solution.attributes);
     }
 
     @Override
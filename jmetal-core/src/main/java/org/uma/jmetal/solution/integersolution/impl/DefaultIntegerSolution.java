@@ -3,10 +3,10 @@ package org.uma.jmetal.solution.integersolution.impl;
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -85,7 +85,7 @@ public class DefaultIntegerSolution extends AbstractSolution<Integer> implements
 
         bounds = solution.bounds;
 
-        attributes = new HashMap<>(solution.attributes);
+        attributes = new SlotAttributeMap(solution.attributes);
     }
 
     /**
@@ -2,9 +2,9 @@ package org.uma.jmetal.solution.permutationsolution.impl;
 
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -54,7 +54,7 @@ public class IntegerPermutationSolution extends AbstractSolution<Integer>
             constraints()[i] = solution.constraints()[i];
         }
 
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new SlotAttributeMap(solution.attributes);
     }
 
     @Override
@@ -2,8 +2,8 @@ package org.uma.jmetal.solution.sequencesolution.impl;
 
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.sequencesolution.SequenceSolution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of solution representing sequences of chars.
@@ -41,7 +41,7 @@ public class CharSequenceSolution extends AbstractSolution<Character> implements
             constraints()[i] = solution.constraints()[i];
         }
 
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new SlotAttributeMap(solution.attributes);
     }
 
     @Override
@@ -0,0 +1,128 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Key of a solution attribute holding a primitive <code>double</code> or <code>int</code> value.
+ * Each key registered with {@link #of(Object)} is given a small integer slot which is used to store
+ * the value in the primitive arrays of a {@link SlotAttributeMap}, so reading and writing it in the
+ * inner loops of rankings and density estimators involves neither hashing nor boxing. Solutions
+ * whose attribute map is not a {@link SlotAttributeMap} are handled through the map using the
+ * identifier of the key, which is also the key under which the value is visible in {@link
+ * Solution#attributes()}.
+ *
+ * <p>Keys are registered once per identifier and kept for the lifetime of the JVM, so identifiers
+ * should be constants (typically class names) and not per-instance objects.
+ */
+public final class AttributeKey {
+    private static final Map<Object, AttributeKey> registry = new ConcurrentHashMap<>();
+    private static volatile AttributeKey[] keysBySlot = new AttributeKey[0];
+
+    private final Object id;
+    private final int slot;
+
+    private AttributeKey(Object id, int slot) {
+        this.id = id;
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the key associated to an identifier, registering it if it does not exist yet
+     */
+    public static AttributeKey of(Object id) {
+        Check.notNull(id);
+        AttributeKey key = registry.get(id);
+        if (key == null) {
+            key = register(id);
+        }
+        return key;
+    }
+
+    private static synchronized AttributeKey register(Object id) {
+        AttributeKey key = registry.get(id);
+        if (key == null) {
+            AttributeKey[] keys = Arrays.copyOf(keysBySlot, keysBySlot.length + 1);
+            key = new AttributeKey(id, keys.length - 1);
+            keys[key.slot] = key;
+            keysBySlot = keys;
+            registry.put(id, key);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the key registered for an identifier, or null if there is none
+     */
+    static AttributeKey lookup(Object id) {
+        return id == null ? null : registry.get(id);
+    }
+
+    /**
+     * Returns the key assigned to a slot
+     */
+    static AttributeKey bySlot(int slot) {
+        return keysBySlot[slot];
+    }
+
+    public Object getId() {
+        return id;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public boolean isPresent(Solution<?> solution) {
+        Map<Object, Object> attributes = solution.attributes();
+        if (attributes instanceof SlotAttributeMap) {
+            return ((SlotAttributeMap) attributes).contains(this);
+        }
+        return attributes.get(id) != null;
+    }
+
+    public double getDouble(Solution<?> solution, double defaultValue) {
+        Map<Object, Object> attributes = solution.attributes();
+        if (attributes instanceof SlotAttributeMap) {
+            return ((SlotAttributeMap) attributes).getDouble(this, defaultValue);
+        }
+        Object value = attributes.get(id);
+        return value == null ? defaultValue : ((Number) value).doubleValue();
+    }
+
+    public void setDouble(Solution<?> solution, double value) {
+        Map<Object, Object> attributes = solution.attributes();
+        if (attributes instanceof SlotAttributeMap) {
+            ((SlotAttributeMap) attributes).setDouble(this, value);
+        } else {
+            attributes.put(id, value);
+        }
+    }
+
+    public int getInt(Solution<?> solution, int defaultValue) {
+        Map<Object, Object> attributes = solution.attributes();
+        if (attributes instanceof SlotAttributeMap) {
+            return ((SlotAttributeMap) attributes).getInt(this, defaultValue);
+        }
+        Object value = attributes.get(id);
+        return value == null ? defaultValue : ((Number) value).intValue();
+    }
+
+    public void setInt(Solution<?> solution, int value) {
+        Map<Object, Object> attributes = solution.attributes();
+        if (attributes instanceof SlotAttributeMap) {
+            ((SlotAttributeMap) attributes).setInt(this, value);
+        } else {
+            attributes.put(id, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeKey{" + id + ", slot " + slot + "}";
+    }
+}
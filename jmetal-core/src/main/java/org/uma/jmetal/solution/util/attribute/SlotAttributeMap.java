@@ -0,0 +1,296 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Attribute map of a solution. Values of keys registered as {@link AttributeKey}s that are
+ * <code>Double</code> or <code>Integer</code> are stored unboxed in primitive arrays indexed by the
+ * slot of the key; any other entry is kept in a {@link HashMap} which is only allocated when
+ * needed. The class behaves as a regular {@link Map}, so code accessing the attributes through
+ * {@link org.uma.jmetal.solution.Solution#attributes()} works unchanged, while the methods of
+ * {@link AttributeKey} read and write the slots directly.
+ *
+ * <p>Slots are assigned per JVM, so instances are serialized as plain key/value entries.
+ */
+@SuppressWarnings("serial")
+public class SlotAttributeMap extends AbstractMap<Object, Object> implements Serializable {
+    private static final byte EMPTY = 0;
+    private static final byte DOUBLE = 1;
+    private static final byte INT = 2;
+
+    private static final long[] NO_VALUES = new long[0];
+    private static final byte[] NO_KINDS = new byte[0];
+
+    private transient long[] slotValues;
+    private transient byte[] slotKinds;
+    private transient int numberOfSlotValues;
+    private transient HashMap<Object, Object> otherValues;
+
+    /**
+     * Constructor
+     */
+    public SlotAttributeMap() {
+        slotValues = NO_VALUES;
+        slotKinds = NO_KINDS;
+    }
+
+    /**
+     * Copy constructor
+     */
+    public SlotAttributeMap(Map<Object, Object> attributes) {
+        this();
+        if (attributes instanceof SlotAttributeMap) {
+            SlotAttributeMap map = (SlotAttributeMap) attributes;
+            slotValues = map.slotValues.clone();
+            slotKinds = map.slotKinds.clone();
+            numberOfSlotValues = map.numberOfSlotValues;
+            if (map.otherValues != null) {
+                otherValues = new HashMap<>(map.otherValues);
+            }
+        } else {
+            putAll(attributes);
+        }
+    }
+
+    /* Slot access */
+
+    public boolean contains(AttributeKey key) {
+        int slot = key.getSlot();
+        return ((slot < slotKinds.length) && (slotKinds[slot] != EMPTY))
+                || ((otherValues != null) && (otherValues.get(key.getId()) != null));
+    }
+
+    public double getDouble(AttributeKey key, double defaultValue) {
+        int slot = key.getSlot();
+        if (slot < slotKinds.length) {
+            byte kind = slotKinds[slot];
+            if (kind == DOUBLE) {
+                return Double.longBitsToDouble(slotValues[slot]);
+            } else if (kind == INT) {
+                return (int) slotValues[slot];
+            }
+        }
+        Object value = otherValues == null ? null : otherValues.get(key.getId());
+        return value == null ? defaultValue : ((Number) value).doubleValue();
+    }
+
+    public void setDouble(AttributeKey key, double value) {
+        setSlot(key, Double.doubleToRawLongBits(value), DOUBLE);
+    }
+
+    public int getInt(AttributeKey key, int defaultValue) {
+        int slot = key.getSlot();
+        if (slot < slotKinds.length) {
+            byte kind = slotKinds[slot];
+            if (kind == INT) {
+                return (int) slotValues[slot];
+            } else if (kind == DOUBLE) {
+                return (int) Double.longBitsToDouble(slotValues[slot]);
+            }
+        }
+        Object value = otherValues == null ? null : otherValues.get(key.getId());
+        return value == null ? defaultValue : ((Number) value).intValue();
+    }
+
+    public void setInt(AttributeKey key, int value) {
+        setSlot(key, value, INT);
+    }
+
+    private void setSlot(AttributeKey key, long bits, byte kind) {
+        int slot = key.getSlot();
+        if (slot >= slotKinds.length) {
+            int length = Math.max(slot + 1, slotKinds.length * 2);
+            slotValues = Arrays.copyOf(slotValues, length);
+            slotKinds = Arrays.copyOf(slotKinds, length);
+        }
+        if (slotKinds[slot] == EMPTY) {
+            numberOfSlotValues++;
+            if (otherValues != null) {
+                otherValues.remove(key.getId());
+            }
+        }
+        slotValues[slot] = bits;
+        slotKinds[slot] = kind;
+    }
+
+    private Object getSlotValue(int slot) {
+        if (slot < slotKinds.length) {
+            byte kind = slotKinds[slot];
+            if (kind == DOUBLE) {
+                return Double.longBitsToDouble(slotValues[slot]);
+            } else if (kind == INT) {
+                return (int) slotValues[slot];
+            }
+        }
+        return null;
+    }
+
+    private Object clearSlot(int slot) {
+        Object previousValue = getSlotValue(slot);
+        if (previousValue != null) {
+            slotKinds[slot] = EMPTY;
+            numberOfSlotValues--;
+        }
+        return previousValue;
+    }
+
+    /* Map interface */
+
+    @Override
+    public Object get(Object key) {
+        AttributeKey attributeKey = AttributeKey.lookup(key);
+        if (attributeKey != null) {
+            Object value = getSlotValue(attributeKey.getSlot());
+            if (value != null) {
+                return value;
+            }
+        }
+        return otherValues == null ? null : otherValues.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        AttributeKey attributeKey = AttributeKey.lookup(key);
+        if ((attributeKey != null) && (getSlotValue(attributeKey.getSlot()) != null)) {
+            return true;
+        }
+        return (otherValues != null) && otherValues.containsKey(key);
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        AttributeKey attributeKey = AttributeKey.lookup(key);
+        if (attributeKey != null) {
+            if (value instanceof Double) {
+                Object previousValue = get(key);
+                setDouble(attributeKey, (Double) value);
+                return previousValue;
+            } else if (value instanceof Integer) {
+                Object previousValue = get(key);
+                setInt(attributeKey, (Integer) value);
+                return previousValue;
+            }
+            Object previousValue = clearSlot(attributeKey.getSlot());
+            if (previousValue != null) {
+                otherValues().put(key, value);
+                return previousValue;
+            }
+        }
+        return otherValues().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        AttributeKey attributeKey = AttributeKey.lookup(key);
+        if (attributeKey != null) {
+            Object previousValue = clearSlot(attributeKey.getSlot());
+            if (previousValue != null) {
+                return previousValue;
+            }
+        }
+        return otherValues == null ? null : otherValues.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slotKinds, EMPTY);
+        numberOfSlotValues = 0;
+        otherValues = null;
+    }
+
+    @Override
+    public int size() {
+        return numberOfSlotValues + (otherValues == null ? 0 : otherValues.size());
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        return new AbstractSet<Entry<Object, Object>>() {
+            @Override
+            public Iterator<Entry<Object, Object>> iterator() {
+                List<Entry<Object, Object>> entries = new ArrayList<>(size());
+                for (int slot = 0; slot < slotKinds.length; slot++) {
+                    if (slotKinds[slot] != EMPTY) {
+                        entries.add(new SimpleImmutableEntry<>(AttributeKey.bySlot(slot).getId(), getSlotValue(slot)));
+                    }
+                }
+                if (otherValues != null) {
+                    for (Entry<Object, Object> entry : otherValues.entrySet()) {
+                        entries.add(new SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+                    }
+                }
+
+                Iterator<Entry<Object, Object>> iterator = entries.iterator();
+                return new Iterator<Entry<Object, Object>>() {
+                    private Entry<Object, Object> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Object, Object> next() {
+                        current = iterator.next();
+                        return current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        SlotAttributeMap.this.remove(current.getKey());
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return SlotAttributeMap.this.size();
+            }
+        };
+    }
+
+    private HashMap<Object, Object> otherValues() {
+        if (otherValues == null) {
+            otherValues = new HashMap<>();
+        }
+        return otherValues;
+    }
+
+    /* Serialization */
+
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(size());
+        for (Entry<Object, Object> entry : entrySet()) {
+            stream.writeObject(entry.getKey());
+            stream.writeObject(entry.getValue());
+        }
+    }
+
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        slotValues = NO_VALUES;
+        slotKinds = NO_KINDS;
+        int size = stream.readInt();
+        for (int i = 0; i < size; i++) {
+            Object key = stream.readObject();
+            put(key, stream.readObject());
+        }
+    }
+}
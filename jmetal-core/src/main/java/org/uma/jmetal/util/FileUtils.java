@@ -0,0 +1,33 @@
+package org.uma.jmetal.util;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Utility methods for handling files
+ */
+public class FileUtils {
+
+    private FileUtils() throws InstantiationException {
+        throw new InstantiationException("Instances of this type are forbidden");
+    }
+
+    /**
+     * Moves a file replacing the target if it exists. The move is atomic when the file system supports
+     * it, so that readers never see a half written target; otherwise a plain move is done.
+     *
+     * @param source File to move, usually a temporary file written next to the target
+     * @param target File to replace
+     * @throws IOException If the file cannot be moved
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.uma.jmetal.util;
 
+import org.uma.jmetal.util.binaryfront.BinaryFront;
 import org.uma.jmetal.util.distance.Distance;
 import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
 import org.uma.jmetal.util.errorchecking.Check;
@@ -43,6 +44,9 @@ public class VectorUtils {
     }
 
     /**
+     * Reads a matrix from a text file with a vector per line or from a file in the binary front format
+     * ({@link BinaryFront}), which is detected by its magic number.
+     *
      * @param filePath the file need to read
      * @return referenceVectors. referenceVectors[i][j] means the i-th vector's j-th value
      * @throws JMetalException if error while read file
@@ -60,6 +64,10 @@ public class VectorUtils {
             }
         }
 
+        if (BinaryFront.isBinaryFront(Paths.get(path))) {
+            return BinaryFront.read(Paths.get(path)).toMatrix();
+        }
+
         List<String> vectorStrList = Files.readAllLines(Paths.get(path));
 
         referenceVectors = new double[vectorStrList.size()][];
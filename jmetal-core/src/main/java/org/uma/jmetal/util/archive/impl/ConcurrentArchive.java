@@ -0,0 +1,72 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decorator making an {@link Archive} safe to be shared by several threads. All the operations are
+ * serialized, as some archives (e.g., {@link NDTreeArchive}) update their internal structures when
+ * they are read. {@link #getSolutionList()} returns an unmodifiable snapshot, which is not changed
+ * by later insertions.
+ *
+ * <p>The decorated archive must not be used directly while it is shared.
+ *
+ * @param <S> Solution type
+ */
+@SuppressWarnings("serial")
+public class ConcurrentArchive<S> implements Archive<S> {
+    private final Archive<S> archive;
+
+    /**
+     * Constructor
+     *
+     * @param archive Archive to decorate
+     */
+    public ConcurrentArchive(Archive<S> archive) {
+        Check.notNull(archive);
+        this.archive = archive;
+    }
+
+    @Override
+    public synchronized boolean add(S solution) {
+        return archive.add(solution);
+    }
+
+    /**
+     * Adds a collection of solutions acquiring the lock once
+     *
+     * @return true if any of the solutions has been inserted
+     */
+    public synchronized boolean addAll(Collection<S> solutions) {
+        Check.notNull(solutions);
+        boolean inserted = false;
+        for (S solution : solutions) {
+            inserted |= archive.add(solution);
+        }
+        return inserted;
+    }
+
+    @Override
+    public synchronized S get(int index) {
+        return archive.get(index);
+    }
+
+    @Override
+    public synchronized List<S> getSolutionList() {
+        return Collections.unmodifiableList(new ArrayList<>(archive.getSolutionList()));
+    }
+
+    @Override
+    public synchronized int size() {
+        return archive.size();
+    }
+
+    public Archive<S> getArchive() {
+        return archive;
+    }
+}
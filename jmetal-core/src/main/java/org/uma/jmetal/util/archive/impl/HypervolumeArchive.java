@@ -1,17 +1,22 @@
 package org.uma.jmetal.util.archive.impl;
 
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContribution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
 import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Created by Antonio J. Nebro on 24/09/14.
  */
 @SuppressWarnings("serial")
 public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
+    private static final double DEFAULT_OFFSET = 100.0;
+
     private Comparator<S> comparator;
     Hypervolume<S> hypervolume;
 
@@ -21,6 +26,14 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
         this.hypervolume = hypervolume;
     }
 
+    /**
+     * Constructor. The contributions are computed exactly with {@link HypervolumeContribution}, using
+     * as reference point the maximum value of each objective in the archive plus an offset
+     */
+    public HypervolumeArchive(int maxSize) {
+        this(maxSize, null);
+    }
+
     @Override
     public void prune() {
         if (getSolutionList().size() > getMaxSize()) {
@@ -37,6 +50,24 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
 
     @Override
     public void computeDensityEstimator() {
-        hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList());
+        if (hypervolume != null) {
+            hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList());
+        } else {
+            List<S> solutionList = archive.getSolutionList();
+            if (solutionList.isEmpty()) {
+                return;
+            }
+            double[][] front = new double[solutionList.size()][];
+            for (int i = 0; i < front.length; i++) {
+                front[i] = solutionList.get(i).objectives();
+            }
+            double[] contributions = new HypervolumeContribution(
+                    HypervolumeContribution.referencePoint(front, DEFAULT_OFFSET)).compute(front);
+
+            HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>();
+            for (int i = 0; i < contributions.length; i++) {
+                hvContribution.setAttribute(solutionList.get(i), contributions[i]);
+            }
+        }
     }
 }
@@ -0,0 +1,467 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Unbounded archive of non-dominated solutions indexed so that the dominance and duplicate checks of
+ * a new solution, and the removal of the members it dominates, do not need to scan the whole
+ * archive:
+ * <ul>
+ *   <li>With two objectives the members are kept in a tree sorted by the first objective, where the
+ *   second objective is strictly decreasing, so an insertion costs O(log n) plus the number of
+ *   removed members.</li>
+ *   <li>With more objectives the members are kept in an ND-tree (A. Jaszkiewicz, T. Lust, "ND-Tree-
+ *   Based Update: A Fast Algorithm for the Dynamic Nondominance Problem", IEEE TEVC 22(5), 2018),
+ *   whose nodes store the ideal and nadir points of their subtree, so that whole subtrees are
+ *   skipped, rejected or discarded at once.</li>
+ * </ul>
+ *
+ * <p>The archive has the same contents as a {@link NonDominatedSolutionListArchive} using the
+ * default {@link org.uma.jmetal.util.comparator.DominanceComparator}, with the solutions in the same
+ * (insertion) order: the constraints are taken into account first, and a solution is not inserted if
+ * it is dominated by, or has the same objective values as, a member of the archive. The objectives
+ * of a solution are copied when it is inserted, so they must not change afterwards. The list
+ * returned by {@link #getSolutionList()} is an unmodifiable snapshot of the archive.
+ *
+ * @param <S> Solution type
+ */
+@SuppressWarnings("serial")
+public class NDTreeArchive<S extends Solution<?>> implements Archive<S> {
+    private static final int DEFAULT_MAXIMUM_LEAF_SIZE = 20;
+
+    private final int maximumLeafSize;
+
+    /* Members in insertion order; removed entries are kept until the next call to getSolutionList() */
+    private List<Entry<S>> entries;
+    private int numberOfRemovedEntries;
+    private int size;
+    private List<S> solutionList;
+
+    private int numberOfObjectives;
+    private double overallConstraintViolation;
+    private ParetoIndex<S> index;
+
+    /**
+     * Constructor
+     *
+     * @param maximumLeafSize Maximum number of solutions of a leaf of the ND-tree
+     */
+    public NDTreeArchive(int maximumLeafSize) {
+        Check.that(maximumLeafSize > 1, "The maximum leaf size must be greater than 1: " + maximumLeafSize);
+        this.maximumLeafSize = maximumLeafSize;
+        this.entries = new ArrayList<>();
+    }
+
+    /**
+     * Constructor
+     */
+    public NDTreeArchive() {
+        this(DEFAULT_MAXIMUM_LEAF_SIZE);
+    }
+
+    @Override
+    public boolean add(S solution) {
+        Check.notNull(solution);
+        double violation = solution.constraints() == null
+                ? 0.0
+                : ConstraintHandling.overallConstraintViolationDegree(solution);
+        Entry<S> entry = new Entry<>(solution, solution.objectives().clone());
+
+        if (size == 0) {
+            reset(entry.objectives.length, violation);
+        } else {
+            Check.that(entry.objectives.length == numberOfObjectives,
+                    "The solution has " + entry.objectives.length + " objectives instead of " + numberOfObjectives);
+            if (violation < overallConstraintViolation) {
+                return false;
+            } else if (violation > overallConstraintViolation) {
+                reset(numberOfObjectives, violation);
+            } else if (!index.update(entry)) {
+                return false;
+            }
+        }
+
+        index.insert(entry);
+        entries.add(entry);
+        size++;
+        solutionList = null;
+        return true;
+    }
+
+    public Archive<S> addAll(List<S> list) {
+        for (S solution : list) {
+            add(solution);
+        }
+        return this;
+    }
+
+    public Archive<S> join(Archive<S> archive) {
+        return addAll(archive.getSolutionList());
+    }
+
+    @Override
+    public List<S> getSolutionList() {
+        if (solutionList == null) {
+            if (numberOfRemovedEntries > 0) {
+                List<Entry<S>> members = new ArrayList<>(size);
+                for (Entry<S> entry : entries) {
+                    if (!entry.removed) {
+                        members.add(entry);
+                    }
+                }
+                entries = members;
+                numberOfRemovedEntries = 0;
+            }
+            List<S> list = new ArrayList<>(size);
+            for (Entry<S> entry : entries) {
+                list.add(entry.solution);
+            }
+            solutionList = Collections.unmodifiableList(list);
+        }
+        return solutionList;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public S get(int index) {
+        return getSolutionList().get(index);
+    }
+
+    private void reset(int numberOfObjectives, double overallConstraintViolation) {
+        this.numberOfObjectives = numberOfObjectives;
+        this.overallConstraintViolation = overallConstraintViolation;
+        this.entries = new ArrayList<>();
+        this.numberOfRemovedEntries = 0;
+        this.size = 0;
+        this.solutionList = null;
+        this.index = numberOfObjectives == 2 ? new TwoObjectivesIndex() : new NDTree();
+    }
+
+    private void discard(Entry<S> entry) {
+        entry.removed = true;
+        numberOfRemovedEntries++;
+        size--;
+    }
+
+    private static boolean weaklyDominates(double[] point1, double[] point2) {
+        for (int i = 0; i < point1.length; i++) {
+            if (point1[i] > point2[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean dominates(double[] point1, double[] point2) {
+        boolean isBetter = false;
+        for (int i = 0; i < point1.length; i++) {
+            if (point1[i] > point2[i]) {
+                return false;
+            } else if (point1[i] < point2[i]) {
+                isBetter = true;
+            }
+        }
+        return isBetter;
+    }
+
+    private static class Entry<S> implements Serializable {
+        private final S solution;
+        private final double[] objectives;
+        private boolean removed;
+
+        Entry(S solution, double[] objectives) {
+            this.solution = solution;
+            this.objectives = objectives;
+        }
+    }
+
+    private interface ParetoIndex<S> extends Serializable {
+        /**
+         * Discards the members dominated by a new entry.
+         *
+         * @return false if the entry is dominated by, or equal to, a member; in that case no member
+         * has been discarded
+         */
+        boolean update(Entry<S> entry);
+
+        /**
+         * Adds an entry which is not dominated by any member
+         */
+        void insert(Entry<S> entry);
+    }
+
+    /**
+     * Members sorted by the first objective. As they are non-dominated, the second objective is
+     * strictly decreasing.
+     */
+    private class TwoObjectivesIndex implements ParetoIndex<S> {
+        private final TreeMap<Double, Entry<S>> members = new TreeMap<>();
+
+        @Override
+        public boolean update(Entry<S> entry) {
+            double first = entry.objectives[0] + 0.0;
+            double second = entry.objectives[1];
+
+            // The member with the greatest first objective not greater than the new one has the lowest
+            // second objective among those which could dominate the new entry
+            Map.Entry<Double, Entry<S>> floor = members.floorEntry(first);
+            if ((floor != null) && (floor.getValue().objectives[1] <= second)) {
+                return false;
+            }
+
+            Iterator<Entry<S>> iterator = members.tailMap(first, true).values().iterator();
+            while (iterator.hasNext()) {
+                Entry<S> member = iterator.next();
+                if (member.objectives[1] < second) {
+                    break;
+                }
+                iterator.remove();
+                discard(member);
+            }
+            return true;
+        }
+
+        @Override
+        public void insert(Entry<S> entry) {
+            members.put(entry.objectives[0] + 0.0, entry);
+        }
+    }
+
+    /**
+     * ND-tree. The ideal and nadir points of a node are not shrunk when members are discarded, which
+     * keeps them valid (if not tight) bounds of the subtree.
+     */
+    private class NDTree implements ParetoIndex<S> {
+        private Node<S> root;
+
+        @Override
+        public boolean update(Entry<S> entry) {
+            if (root == null) {
+                return true;
+            }
+            if (!update(root, entry.objectives)) {
+                return false;
+            }
+            if (root.isEmpty()) {
+                root = null;
+            }
+            return true;
+        }
+
+        private boolean update(Node<S> node, double[] point) {
+            if (weaklyDominates(node.nadir, point)) {
+                return false;
+            }
+            if (dominates(point, node.ideal)) {
+                discardSubtree(node);
+                node.points = new ArrayList<>();
+                node.children = null;
+                return true;
+            }
+            if (!weaklyDominates(node.ideal, point) && !weaklyDominates(point, node.nadir)) {
+                return true;
+            }
+
+            if (node.isLeaf()) {
+                List<Entry<S>> points = node.points;
+                int numberOfPoints = 0;
+                for (int i = 0; i < points.size(); i++) {
+                    Entry<S> member = points.get(i);
+                    if (weaklyDominates(member.objectives, point)) {
+                        return false;
+                    }
+                    if (dominates(point, member.objectives)) {
+                        discard(member);
+                    } else {
+                        points.set(numberOfPoints++, member);
+                    }
+                }
+                points.subList(numberOfPoints, points.size()).clear();
+            } else {
+                List<Node<S>> children = node.children;
+                int numberOfChildren = 0;
+                for (int i = 0; i < children.size(); i++) {
+                    Node<S> child = children.get(i);
+                    if (!update(child, point)) {
+                        return false;
+                    }
+                    if (!child.isEmpty()) {
+                        children.set(numberOfChildren++, child);
+                    }
+                }
+                children.subList(numberOfChildren, children.size()).clear();
+                if (children.size() == 1) {
+                    Node<S> child = children.get(0);
+                    node.points = child.points;
+                    node.children = child.children;
+                }
+            }
+            return true;
+        }
+
+        private void discardSubtree(Node<S> node) {
+            if (node.isLeaf()) {
+                for (Entry<S> member : node.points) {
+                    discard(member);
+                }
+            } else {
+                for (Node<S> child : node.children) {
+                    discardSubtree(child);
+                }
+            }
+        }
+
+        @Override
+        public void insert(Entry<S> entry) {
+            if (root == null) {
+                root = new Node<>(entry.objectives);
+            }
+            Node<S> node = root;
+            node.expand(entry.objectives);
+            while (!node.isLeaf()) {
+                node = closestChild(node.children, entry.objectives);
+                node.expand(entry.objectives);
+            }
+            node.points.add(entry);
+            if (node.points.size() > maximumLeafSize) {
+                split(node);
+            }
+        }
+
+        /**
+         * Turns a leaf into an internal node with <code>numberOfObjectives + 1</code> children. The
+         * first seed is the point with the greatest average distance to the others, the following ones
+         * are those farthest from the seeds already chosen, and the remaining points go to the child
+         * closest to them.
+         */
+        private void split(Node<S> node) {
+            List<Entry<S>> points = node.points;
+            int numberOfPoints = points.size();
+            int numberOfChildren = Math.min(numberOfObjectives + 1, numberOfPoints);
+
+            int firstSeed = 0;
+            double greatestDistance = -1.0;
+            for (int i = 0; i < numberOfPoints; i++) {
+                double distance = 0.0;
+                for (int j = 0; j < numberOfPoints; j++) {
+                    distance += squaredDistance(points.get(i).objectives, points.get(j).objectives);
+                }
+                if (distance > greatestDistance) {
+                    greatestDistance = distance;
+                    firstSeed = i;
+                }
+            }
+
+            boolean[] assigned = new boolean[numberOfPoints];
+            double[] distanceToSeeds = new double[numberOfPoints];
+            Arrays.fill(distanceToSeeds, Double.POSITIVE_INFINITY);
+            List<Node<S>> children = new ArrayList<>(numberOfChildren);
+            int seed = firstSeed;
+            while (true) {
+                assigned[seed] = true;
+                Node<S> child = new Node<>(points.get(seed).objectives);
+                child.points.add(points.get(seed));
+                children.add(child);
+                if (children.size() == numberOfChildren) {
+                    break;
+                }
+
+                int nextSeed = -1;
+                double farthest = -1.0;
+                for (int i = 0; i < numberOfPoints; i++) {
+                    if (!assigned[i]) {
+                        distanceToSeeds[i] = Math.min(distanceToSeeds[i],
+                                squaredDistance(points.get(i).objectives, points.get(seed).objectives));
+                        if (distanceToSeeds[i] > farthest) {
+                            farthest = distanceToSeeds[i];
+                            nextSeed = i;
+                        }
+                    }
+                }
+                seed = nextSeed;
+            }
+
+            for (int i = 0; i < numberOfPoints; i++) {
+                if (!assigned[i]) {
+                    Node<S> child = closestChild(children, points.get(i).objectives);
+                    child.expand(points.get(i).objectives);
+                    child.points.add(points.get(i));
+                }
+            }
+
+            node.points = null;
+            node.children = children;
+        }
+
+        private Node<S> closestChild(List<Node<S>> children, double[] point) {
+            Node<S> closest = null;
+            double closestDistance = Double.POSITIVE_INFINITY;
+            for (Node<S> child : children) {
+                double distance = 0.0;
+                for (int i = 0; i < point.length; i++) {
+                    double difference = point[i] - (child.ideal[i] + child.nadir[i]) / 2.0;
+                    distance += difference * difference;
+                }
+                if ((closest == null) || (distance < closestDistance)) {
+                    closest = child;
+                    closestDistance = distance;
+                }
+            }
+            return closest;
+        }
+
+        private double squaredDistance(double[] point1, double[] point2) {
+            double distance = 0.0;
+            for (int i = 0; i < point1.length; i++) {
+                double difference = point1[i] - point2[i];
+                distance += difference * difference;
+            }
+            return distance;
+        }
+    }
+
+    private static class Node<S> implements Serializable {
+        private final double[] ideal;
+        private final double[] nadir;
+        private List<Entry<S>> points;
+        private List<Node<S>> children;
+
+        /* Creates an empty leaf whose bounds are the given point */
+        Node(double[] point) {
+            ideal = point.clone();
+            nadir = point.clone();
+            points = new ArrayList<>();
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+
+        boolean isEmpty() {
+            return isLeaf() ? points.isEmpty() : children.isEmpty();
+        }
+
+        void expand(double[] point) {
+            for (int i = 0; i < point.length; i++) {
+                ideal[i] = Math.min(ideal[i], point[i]);
+                nadir[i] = Math.max(nadir[i], point[i]);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.EqualSolutionsComparator;
+import org.uma.jmetal.util.population.ObjectiveMatrix;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -26,10 +27,13 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
     private Comparator<S> dominanceComparator;
     /* 是否是相同的解 */
     private Comparator<S> equalSolutions = new EqualSolutionsComparator<S>();
+    /* true if the dominance comparator is the default one, so the objective matrix can be used */
+    private boolean usesDefaultDominanceComparator;
 
     /* Constructor */
     public NonDominatedSolutionListArchive() {
         this(new DominanceComparator<S>());
+        usesDefaultDominanceComparator = true;
     }
 
     /* Constructor */
@@ -93,6 +97,46 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
     }
 
 
+    /**
+     * Inserts the solutions of an {@link ObjectiveMatrix}. The rows that are dominated by, or are
+     * duplicates of, other rows of the matrix are discarded first working on the contiguous objective
+     * values, so only the non-dominated rows of the batch are compared against the archive. The
+     * resulting archive is the same as the one obtained with {@link #addAll(List)}.
+     */
+    public Archive<S> addAll(ObjectiveMatrix<S> matrix) {
+        if (!usesDefaultDominanceComparator) {
+            return addAll(matrix.solutions());
+        }
+
+        int size = matrix.size();
+        boolean[] discarded = new boolean[size];
+        for (int p = 0; p < size; p++) {
+            if (discarded[p]) {
+                continue;
+            }
+            for (int q = p + 1; q < size; q++) {
+                if (!discarded[q]) {
+                    int flag = matrix.compareDominance(p, q);
+                    if (flag == -1) {
+                        discarded[q] = true;
+                    } else if (flag == 1) {
+                        discarded[p] = true;
+                        break;
+                    } else if (matrix.hasEqualObjectives(p, q)) {
+                        discarded[q] = true;
+                    }
+                }
+            }
+        }
+
+        for (int p = 0; p < size; p++) {
+            if (!discarded[p]) {
+                this.add(matrix.solution(p));
+            }
+        }
+        return this;
+    }
+
     @Override
     public List<S> getSolutionList() {
         return solutionList;
@@ -0,0 +1,250 @@
+package org.uma.jmetal.util.binaryfront;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Front or population read from a file in the binary format described in {@link
+ * BinaryFrontHeader}. The file is memory-mapped, so opening it does not copy the values: they are
+ * read from the page cache when accessed, and a column can be scanned without loading the others.
+ * The columns are views of a single mapping, which is shared by consecutive fronts of the same file,
+ * so a long log of fronts does not exhaust the number of mappings allowed to a process. {@link
+ * #toMatrix()} copies the front to the usual matrix with a row per point.
+ *
+ * <p>The mapping remains valid after the file is closed, until the object is garbage collected.
+ * Instances are immutable and can be shared among threads.
+ */
+public class BinaryFront {
+    /* Largest region of a file mapped at once, which is the limit of a MappedByteBuffer */
+    private static final long MAXIMUM_MAPPING_SIZE = Integer.MAX_VALUE;
+
+    private final BinaryFrontHeader header;
+    private final DoubleBuffer[] columns;
+
+    private BinaryFront(BinaryFrontHeader header, DoubleBuffer[] columns) {
+        this.header = header;
+        this.columns = columns;
+    }
+
+    /**
+     * Memory-maps a binary front file
+     */
+    public static BinaryFront read(Path path) {
+        Check.notNull(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            BinaryFrontHeader header = readHeader(channel, 0);
+            if (header == null) {
+                throw new JMetalException("Truncated binary front " + path);
+            }
+            return new BinaryFront(header, mapColumns(channel, 0, header, null));
+        } catch (IOException e) {
+            throw new JMetalException("Error reading binary front " + path, e);
+        }
+    }
+
+    /**
+     * Memory-maps a file containing a sequence of binary fronts, such as the log of generations
+     * written by {@link org.uma.jmetal.util.observer.impl.AsyncWriteSolutionsToFilesObserver}. An
+     * incomplete front at the end of the file, left by an interrupted writer, is ignored.
+     */
+    public static List<BinaryFront> readAll(Path path) {
+        Check.notNull(path);
+        List<BinaryFront> fronts = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = 0;
+            MappedRegion region = null;
+            BinaryFrontHeader header;
+            while ((position < channel.size()) && ((header = readHeader(channel, position)) != null)) {
+                long length = header.getColumnOffset(header.getNumberOfColumns());
+                if (((region == null) || !region.contains(position, length)) && (length <= MAXIMUM_MAPPING_SIZE)) {
+                    // The new region starts at this front and takes as many of the next ones as possible
+                    region = new MappedRegion(channel, position,
+                            Math.min(channel.size() - position, MAXIMUM_MAPPING_SIZE));
+                }
+                fronts.add(new BinaryFront(header, mapColumns(channel, position, header, region)));
+                position += length;
+            }
+        } catch (IOException e) {
+            throw new JMetalException("Error reading binary front " + path, e);
+        }
+        return fronts;
+    }
+
+    /**
+     * Reads the header of the front starting at the given position of the file, or returns null if
+     * the file ends before the front
+     */
+    private static BinaryFrontHeader readHeader(FileChannel channel, long position) throws IOException {
+        long available = channel.size() - position;
+        if (available < BinaryFrontHeader.FIXED_LENGTH) {
+            return null;
+        }
+        ByteBuffer fixedPart = ByteBuffer.allocate(BinaryFrontHeader.FIXED_LENGTH);
+        readFully(channel, fixedPart, position);
+        int headerLength = BinaryFrontHeader.decodeLength(fixedPart);
+        if (available < headerLength) {
+            return null;
+        }
+
+        ByteBuffer encodedHeader = ByteBuffer.allocate(headerLength);
+        readFully(channel, encodedHeader, position);
+        BinaryFrontHeader header = BinaryFrontHeader.decode(encodedHeader);
+
+        long numberOfRows = header.getNumberOfRows();
+        Check.that(numberOfRows <= Integer.MAX_VALUE, "Too many rows: " + numberOfRows);
+        if (available < header.getColumnOffset(header.getNumberOfColumns())) {
+            return null;
+        }
+        return header;
+    }
+
+    /**
+     * Returns the columns of the front starting at the given position of the file as views of a
+     * mapped region. If the region is null or does not contain the front, the front is mapped on its
+     * own; only a front longer than the largest mapping is mapped column by column.
+     */
+    private static DoubleBuffer[] mapColumns(FileChannel channel, long position, BinaryFrontHeader header,
+                                             MappedRegion region) throws IOException {
+        long length = header.getColumnOffset(header.getNumberOfColumns());
+        long columnLength = header.getNumberOfRows() * Double.BYTES;
+        DoubleBuffer[] columns = new DoubleBuffer[header.getNumberOfColumns()];
+        if ((region == null) || !region.contains(position, length)) {
+            if (length > MAXIMUM_MAPPING_SIZE) {
+                for (int column = 0; column < columns.length; column++) {
+                    columns[column] = channel
+                            .map(FileChannel.MapMode.READ_ONLY, position + header.getColumnOffset(column), columnLength)
+                            .order(ByteOrder.LITTLE_ENDIAN)
+                            .asDoubleBuffer();
+                }
+                return columns;
+            }
+            region = new MappedRegion(channel, position, length);
+        }
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = region.slice(position + header.getColumnOffset(column), (int) columnLength);
+        }
+        return columns;
+    }
+
+    /**
+     * Region of a file mapped in memory
+     */
+    private static class MappedRegion {
+        private final long start;
+        private final ByteBuffer buffer;
+
+        MappedRegion(FileChannel channel, long start, long length) throws IOException {
+            this.start = start;
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        }
+
+        boolean contains(long position, long length) {
+            return (position >= start) && (position + length <= start + buffer.capacity());
+        }
+
+        /**
+         * Returns the doubles stored from the given position of the file as a little-endian view
+         */
+        DoubleBuffer slice(long position, int length) {
+            ByteBuffer view = buffer.duplicate();
+            view.position((int) (position - start));
+            view.limit((int) (position - start) + length);
+            return view.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+    }
+
+    /**
+     * Returns true if the file starts with the magic number of the binary front format
+     */
+    public static boolean isBinaryFront(Path path) {
+        byte[] magic = new byte[BinaryFrontHeader.MAGIC.length];
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            int read = inputStream.readNBytes(magic, 0, magic.length);
+            return (read == magic.length) && Arrays.equals(magic, BinaryFrontHeader.MAGIC);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public BinaryFrontHeader getHeader() {
+        return header;
+    }
+
+    public int getNumberOfPoints() {
+        return (int) header.getNumberOfRows();
+    }
+
+    public int getNumberOfColumns() {
+        return header.getNumberOfColumns();
+    }
+
+    public double get(int point, int column) {
+        return columns[column].get(point);
+    }
+
+    /**
+     * Returns a read-only view of a column, backed by the mapped file
+     */
+    public DoubleBuffer getColumn(int column) {
+        return columns[column].asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a copy of a column
+     */
+    public double[] getColumnAsArray(int column) {
+        double[] values = new double[getNumberOfPoints()];
+        columns[column].duplicate().get(values);
+        return values;
+    }
+
+    /**
+     * Returns a copy of a point
+     */
+    public double[] getPoint(int point) {
+        double[] values = new double[columns.length];
+        for (int column = 0; column < columns.length; column++) {
+            values[column] = columns[column].get(point);
+        }
+        return values;
+    }
+
+    /**
+     * Returns a copy of the front as a matrix with a row per point
+     */
+    public double[][] toMatrix() {
+        int numberOfPoints = getNumberOfPoints();
+        double[][] matrix = new double[numberOfPoints][columns.length];
+        double[] values = new double[numberOfPoints];
+        for (int column = 0; column < columns.length; column++) {
+            columns[column].duplicate().get(values);
+            for (int point = 0; point < numberOfPoints; point++) {
+                matrix[point][column] = values[point];
+            }
+        }
+        return matrix;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,111 @@
+package org.uma.jmetal.util.binaryfront;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Conversions between the binary front format and the text files with a point per line written by
+ * {@link org.uma.jmetal.util.fileoutput.SolutionListOutput} (CSV, TSV or values separated by
+ * blanks). Empty lines are ignored.
+ */
+public class BinaryFrontConverter {
+    public static final String CSV_SEPARATOR = ",";
+    public static final String TSV_SEPARATOR = "\t";
+
+    private BinaryFrontConverter() {
+    }
+
+    /**
+     * Converts a text file into a binary front file
+     *
+     * @param textFile   Text file with a point per line
+     * @param separator  Separator of the values (a plain string, not a regular expression)
+     * @param binaryFile Binary file to write
+     * @param writer     Writer, which defines the header of the binary file
+     */
+    public static void textToBinary(Path textFile, String separator, Path binaryFile, BinaryFrontWriter writer) {
+        Check.notNull(writer);
+        writer.write(readText(textFile, separator), binaryFile);
+    }
+
+    public static void textToBinary(Path textFile, String separator, Path binaryFile) {
+        textToBinary(textFile, separator, binaryFile, new BinaryFrontWriter());
+    }
+
+    public static void csvToBinary(Path csvFile, Path binaryFile) {
+        textToBinary(csvFile, CSV_SEPARATOR, binaryFile);
+    }
+
+    public static void tsvToBinary(Path tsvFile, Path binaryFile) {
+        textToBinary(tsvFile, TSV_SEPARATOR, binaryFile);
+    }
+
+    /**
+     * Converts a binary front file into a text file with a point per line
+     */
+    public static void binaryToText(Path binaryFile, Path textFile, String separator) {
+        Check.notNull(separator);
+        BinaryFront front = BinaryFront.read(binaryFile);
+        try (BufferedWriter writer = Files.newBufferedWriter(textFile, StandardCharsets.UTF_8)) {
+            for (int point = 0; point < front.getNumberOfPoints(); point++) {
+                for (int column = 0; column < front.getNumberOfColumns(); column++) {
+                    if (column > 0) {
+                        writer.write(separator);
+                    }
+                    writer.write(Double.toString(front.get(point, column)));
+                }
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new JMetalException("Error writing file " + textFile, e);
+        }
+    }
+
+    public static void binaryToCsv(Path binaryFile, Path csvFile) {
+        binaryToText(binaryFile, csvFile, CSV_SEPARATOR);
+    }
+
+    public static void binaryToTsv(Path binaryFile, Path tsvFile) {
+        binaryToText(binaryFile, tsvFile, TSV_SEPARATOR);
+    }
+
+    /**
+     * Reads a text file with a point per line
+     */
+    public static double[][] readText(Path textFile, String separator) {
+        Check.notNull(textFile);
+        Check.notNull(separator);
+        Pattern pattern = Pattern.compile(Pattern.quote(separator));
+        List<double[]> points = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] values = pattern.split(line);
+                double[] point = new double[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    point[i] = Double.parseDouble(values[i].trim());
+                }
+                points.add(point);
+            }
+        } catch (IOException e) {
+            throw new JMetalException("Error reading file " + textFile, e);
+        } catch (NumberFormatException e) {
+            throw new JMetalException("Invalid value in file " + textFile, e);
+        }
+        return points.toArray(new double[0][]);
+    }
+}
@@ -0,0 +1,192 @@
+package org.uma.jmetal.util.binaryfront;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Header of a binary front file. The format, whose numbers are all little-endian, is:
+ * <pre>
+ * offset  size  content
+ *  0      8     magic number "JMFRONT" followed by a zero byte
+ *  8      4     version (1)
+ * 12      4     number of columns
+ * 16      8     number of rows
+ * 24      4     length of the header, which is a multiple of 8
+ * 28      4     number of metadata entries
+ * 32      -     for each column: direction (1 byte), name length (2 bytes) and name (UTF-8)
+ *         -     for each metadata entry: key length (2 bytes), key, value length (4 bytes) and value
+ *         -     zero padding up to the length of the header
+ * </pre>
+ * It is followed by the values, column after column, as 8-byte doubles, so a column (e.g., an
+ * objective) can be read without touching the other ones.
+ */
+public class BinaryFrontHeader {
+    public enum Direction {UNSPECIFIED, MINIMIZE, MAXIMIZE}
+
+    static final byte[] MAGIC = {'J', 'M', 'F', 'R', 'O', 'N', 'T', 0};
+    static final int VERSION = 1;
+    static final int FIXED_LENGTH = 32;
+
+    private final long numberOfRows;
+    private final int numberOfColumns;
+    private final List<Direction> directions;
+    private final List<String> columnNames;
+    private final Map<String, String> metadata;
+
+    /**
+     * Constructor
+     *
+     * @param numberOfRows    Number of points
+     * @param numberOfColumns Number of values of each point
+     * @param directions      Optimization direction of each column, or null if they are unspecified
+     * @param columnNames     Name of each column, or null to leave them empty
+     * @param metadata        Metadata entries, or null if there are none
+     */
+    public BinaryFrontHeader(long numberOfRows, int numberOfColumns, List<Direction> directions,
+                             List<String> columnNames, Map<String, String> metadata) {
+        Check.that(numberOfRows >= 0, "The number of rows cannot be negative: " + numberOfRows);
+        Check.that(numberOfColumns >= 0, "The number of columns cannot be negative: " + numberOfColumns);
+        Check.that((directions == null) || (directions.size() == numberOfColumns),
+                "The number of directions is not the number of columns");
+        Check.that((columnNames == null) || (columnNames.size() == numberOfColumns),
+                "The number of column names is not the number of columns");
+
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+        this.directions = Collections.unmodifiableList((directions == null)
+                ? new ArrayList<>(Collections.nCopies(numberOfColumns, Direction.UNSPECIFIED))
+                : new ArrayList<>(directions));
+        this.columnNames = Collections.unmodifiableList((columnNames == null)
+                ? new ArrayList<>(Collections.nCopies(numberOfColumns, ""))
+                : new ArrayList<>(columnNames));
+        this.metadata = Collections.unmodifiableMap((metadata == null)
+                ? new LinkedHashMap<>()
+                : new LinkedHashMap<>(metadata));
+    }
+
+    public long getNumberOfRows() {
+        return numberOfRows;
+    }
+
+    public int getNumberOfColumns() {
+        return numberOfColumns;
+    }
+
+    public List<Direction> getDirections() {
+        return directions;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Returns the length of the encoded header, which is the offset of the first value
+     */
+    public int getLength() {
+        int length = FIXED_LENGTH;
+        for (String name : columnNames) {
+            length += 1 + 2 + utf8(name).length;
+        }
+        for (Map.Entry<String, String> entry : metadata.entrySet()) {
+            length += 2 + utf8(entry.getKey()).length + 4 + utf8(entry.getValue()).length;
+        }
+        return (length + 7) & ~7;
+    }
+
+    /**
+     * Returns the offset in the file of the first value of a column
+     */
+    public long getColumnOffset(int column) {
+        return getLength() + (long) column * numberOfRows * Double.BYTES;
+    }
+
+    ByteBuffer encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(getLength()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(MAGIC)
+                .putInt(VERSION)
+                .putInt(numberOfColumns)
+                .putLong(numberOfRows)
+                .putInt(buffer.capacity())
+                .putInt(metadata.size());
+        for (int i = 0; i < numberOfColumns; i++) {
+            byte[] name = utf8(columnNames.get(i));
+            Check.that(name.length <= Short.MAX_VALUE, "Column name too long: " + columnNames.get(i));
+            buffer.put((byte) directions.get(i).ordinal()).putShort((short) name.length).put(name);
+        }
+        for (Map.Entry<String, String> entry : metadata.entrySet()) {
+            byte[] key = utf8(entry.getKey());
+            byte[] value = utf8(entry.getValue());
+            Check.that(key.length <= Short.MAX_VALUE, "Metadata key too long: " + entry.getKey());
+            buffer.putShort((short) key.length).put(key).putInt(value.length).put(value);
+        }
+        buffer.position(buffer.capacity());
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Returns the length of the header stored in its first {@link #FIXED_LENGTH} bytes, checking the
+     * magic number and the version
+     */
+    static int decodeLength(ByteBuffer fixedPart) {
+        ByteBuffer buffer = fixedPart.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new JMetalException("Not a binary front file");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new JMetalException("Unsupported binary front version: " + version);
+        }
+        return buffer.getInt(24);
+    }
+
+    static BinaryFrontHeader decode(ByteBuffer header) {
+        ByteBuffer buffer = header.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        decodeLength(buffer);
+        buffer.position(12);
+        int numberOfColumns = buffer.getInt();
+        long numberOfRows = buffer.getLong();
+        buffer.getInt();
+        int numberOfMetadataEntries = buffer.getInt();
+
+        List<Direction> directions = new ArrayList<>(numberOfColumns);
+        List<String> columnNames = new ArrayList<>(numberOfColumns);
+        for (int i = 0; i < numberOfColumns; i++) {
+            directions.add(Direction.values()[buffer.get()]);
+            columnNames.add(readString(buffer, buffer.getShort()));
+        }
+        Map<String, String> metadata = new LinkedHashMap<>();
+        for (int i = 0; i < numberOfMetadataEntries; i++) {
+            String key = readString(buffer, buffer.getShort());
+            metadata.put(key, readString(buffer, buffer.getInt()));
+        }
+        return new BinaryFrontHeader(numberOfRows, numberOfColumns, directions, columnNames, metadata);
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,164 @@
+package org.uma.jmetal.util.binaryfront;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.FileUtils;
+import org.uma.jmetal.util.binaryfront.BinaryFrontHeader.Direction;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writer of fronts and populations in the binary format described in {@link BinaryFrontHeader}.
+ * The column names, optimization directions and metadata set in the writer are stored in the
+ * header of every front it writes. Files are written to a temporary file which is then moved to the
+ * target path, so readers never see a partial front.
+ */
+public class BinaryFrontWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private List<Direction> directions;
+    private List<String> columnNames;
+    private final Map<String, String> metadata = new LinkedHashMap<>();
+
+    public BinaryFrontWriter setDirections(List<Direction> directions) {
+        this.directions = (directions == null) ? null : new ArrayList<>(directions);
+        return this;
+    }
+
+    /**
+     * Sets the direction of all the columns
+     */
+    public BinaryFrontWriter setDirection(Direction direction, int numberOfColumns) {
+        return setDirections(Collections.nCopies(numberOfColumns, direction));
+    }
+
+    public BinaryFrontWriter setColumnNames(List<String> columnNames) {
+        this.columnNames = (columnNames == null) ? null : new ArrayList<>(columnNames);
+        return this;
+    }
+
+    public BinaryFrontWriter putMetadata(String key, String value) {
+        Check.notNull(key);
+        Check.notNull(value);
+        metadata.put(key, value);
+        return this;
+    }
+
+    /**
+     * Writes a front given as a matrix with a row per point
+     */
+    public void write(double[][] front, Path path) {
+        Check.notNull(front);
+        Check.notNull(path);
+        Path temporaryFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temporaryFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                write(front, channel);
+            }
+            FileUtils.moveReplacing(temporaryFile, path);
+        } catch (IOException e) {
+            throw new JMetalException("Error writing binary front " + path, e);
+        }
+    }
+
+    /**
+     * Writes a front to a stream, which is not closed
+     */
+    public void write(double[][] front, OutputStream outputStream) {
+        Check.notNull(front);
+        Check.notNull(outputStream);
+        try {
+            write(front, Channels.newChannel(outputStream));
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new JMetalException("Error writing binary front", e);
+        }
+    }
+
+    /**
+     * Writes the objective values of a list of solutions. If no directions have been set, all the
+     * objectives are marked as minimized, which is the convention of jMetal.
+     */
+    public <S extends Solution<?>> void writeObjectives(List<S> solutions, Path path) {
+        Check.notNull(solutions);
+        double[][] front = new double[solutions.size()][];
+        for (int i = 0; i < front.length; i++) {
+            front[i] = solutions.get(i).objectives();
+        }
+        List<Direction> currentDirections = directions;
+        if ((directions == null) && (front.length > 0)) {
+            setDirection(Direction.MINIMIZE, front[0].length);
+        }
+        try {
+            write(front, path);
+        } finally {
+            directions = currentDirections;
+        }
+    }
+
+    /**
+     * Returns the header of the given front
+     */
+    public BinaryFrontHeader createHeader(double[][] front) {
+        int numberOfColumns = (front.length == 0)
+                ? ((directions != null) ? directions.size() : (columnNames != null) ? columnNames.size() : 0)
+                : front[0].length;
+        return new BinaryFrontHeader(front.length, numberOfColumns, directions, columnNames, metadata);
+    }
+
+    void write(double[][] front, WritableByteChannel channel) throws IOException {
+        BinaryFrontHeader header = createHeader(front);
+        int numberOfColumns = header.getNumberOfColumns();
+        for (double[] point : front) {
+            Check.that(point.length == numberOfColumns, "The points have different dimensions");
+        }
+
+        writeFully(header.encode(), channel);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        DoubleBuffer values = buffer.asDoubleBuffer();
+        for (int column = 0; column < numberOfColumns; column++) {
+            for (double[] point : front) {
+                if (!values.hasRemaining()) {
+                    flush(buffer, values, channel);
+                }
+                values.put(point[column]);
+            }
+        }
+        flush(buffer, values, channel);
+    }
+
+    private static void flush(ByteBuffer buffer, DoubleBuffer values, WritableByteChannel channel)
+            throws IOException {
+        buffer.limit(values.position() * Double.BYTES).position(0);
+        writeFully(buffer, channel);
+        buffer.clear();
+        values.clear();
+    }
+
+    private static void writeFully(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.util.CrowdingDistance;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.population.ObjectiveMatrix;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -18,100 +20,131 @@ import java.util.List;
 public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
 
     private final String attributeId = getClass().getName();
+    private final AttributeKey crowdingDistanceKey = AttributeKey.of(attributeId);
 
     /**
      * Assigns crowding distances to all population in a <code>SolutionSet</code>.
      *
+     * 拥挤度：
+     * 为了使得到的解在目标解空间中更加均匀，这里引入了拥挤度 nd 概念。
+     * 具体算法如下：
+     * 1.令参数 nd = 0，n属于 1...N
+     * 2.for 每个目标函数 Fm：
+     * （1）根据该目标函数对该等级的个体进行排序，记 Fm_max为个体目标函数的最大值，Fm_min为个体目标函数值的最小值；
+     * （2）对于排序后两个边界的拥挤度Ld 和 Nd设置无穷大；
+     * （3）计算 Nd = Nd + (Fm(i+1)-Fm(i-1))/(Fm_max - Fm_min)，其中Fm(i+1)是排序后后一个个体对应的第m个目标；
+     *  同理，Fm(i-1)是排序后前一个个体对应的第m个目标;
+     *
      * @param solutionList The <code>SolutionSet</code>.
      */
-
     @Override
     public void compute(List<S> solutionList) {
-
         int size = solutionList.size();
-        /* start 异常数据处理 */
         if (size == 0) {
             return;
         }
-        if (size == 1) {
-            solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-            return;
+
+        double[] distances = new CrowdingDistance(objectives(solutionList)).getDistances();
+        for (int i = 0; i < size; i++) {
+            crowdingDistanceKey.setDouble(solutionList.get(i), distances[i]);
+        }
+    }
+
+    /**
+     * Sequential truncation: removes the solution with the lowest crowding distance and updates the
+     * distances of the remaining ones, until <code>size</code> solutions are left. Only the
+     * neighbours of each removed solution are updated, so the cost is O(MN log N) instead of the
+     * O(MN^2 log N) of computing the distances again after each removal. The remaining solutions get
+     * their final crowding distance.
+     *
+     * @param solutionList The solutions to truncate, which are not modified
+     * @param size         The number of solutions to keep
+     * @return the remaining solutions, in the order of the list
+     */
+    public List<S> truncate(List<S> solutionList, int size) {
+        Check.notNull(solutionList);
+        Check.valueIsInRange(size, 0, solutionList.size());
+
+        CrowdingDistance crowdingDistance = new CrowdingDistance(objectives(solutionList));
+        while (crowdingDistance.size() > size) {
+            crowdingDistance.removeMostCrowded();
+        }
+
+        double[] distances = crowdingDistance.getDistances();
+        List<S> resultList = new ArrayList<>(size);
+        for (int i = 0; i < solutionList.size(); i++) {
+            if (!crowdingDistance.isRemoved(i)) {
+                crowdingDistanceKey.setDouble(solutionList.get(i), distances[i]);
+                resultList.add(solutionList.get(i));
+            }
         }
-        if (size == 2) {
-            solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-            solutionList.get(1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+        return resultList;
+    }
+
+    /**
+     * Assigns crowding distances to all the solutions of an {@link ObjectiveMatrix}. The distances
+     * are accumulated in a primitive array over the rows of the matrix and stored in the solutions
+     * once at the end; the result is the same as the one of {@link #compute(List)} applied to
+     * {@link ObjectiveMatrix#solutions()}.
+     *
+     * @param matrix The objective matrix of the solutions
+     */
+    public void compute(ObjectiveMatrix<S> matrix) {
+        int size = matrix.size();
+        if (size < 3) {
+            compute(matrix.solutions());
             return;
         }
-        /* end 异常数据处理 */
-        // Use a new SolutionSet to avoid altering the original solutionSet
-        List<S> front = new ArrayList<>(solutionList);
+
+        double[] distance = new double[size];
+        int[] front = new int[size];
         for (int i = 0; i < size; i++) {
-            /* 这里存的是拥挤度信息 */
-            front.get(i).attributes().put(attributeId, 0.0);
+            front[i] = i;
         }
-        /* start 拥挤度排序 */
-        int numberOfObjectives = solutionList.get(0).objectives().length;
-        /* 逐个目标累加拥挤度 */
+
+        int numberOfObjectives = matrix.getNumberOfObjectives();
         for (int i = 0; i < numberOfObjectives; ++i) {
-            // Sort the population by Obj n
-            /* 单目标的排序，ObjectiveComparator 内部装配的是升序 -->> 先排序 */
-            front.sort(new ObjectiveComparator<>(i));
-            // It may be beneficial to change this according to https://dl.acm.org/citation.cfm?doid=2463372.2463456.
-            // The additional change that may be beneficial is that if we have only two distinct objective values,
-            // we also don't update the crowding distance, as they all will "go to eleven",
-            // which makes no sense as this objective just appears to be non-discriminating.
-            double minObjective = front.get(0).objectives()[i];
-            double maxObjective = front.get(front.size() - 1).objectives()[i];
+            // The order obtained for the previous objective is kept for ties, as the list version does
+            matrix.sortByObjective(front, i);
+
+            double minObjective = matrix.get(front[0], i);
+            double maxObjective = matrix.get(front[size - 1], i);
             if (minObjective == maxObjective) {
-                // otherwise all crowding distances will be NaN = 0.0 / 0.0 except for two.
-                /*  若最大最小两个极值的value相同，那么该目标无拥挤度距离. */
                 continue;
             }
-            // Set the crowding distance for the extreme points
-            /* 最小的目标值，设置为无穷大 */
-            front.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-            /* 最大的目标值，设置为无穷大. */
-            front.get(size - 1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
 
-            // Increase the crowding distances for all the intermediate points
+            distance[front[0]] = Double.POSITIVE_INFINITY;
+            distance[front[size - 1]] = Double.POSITIVE_INFINITY;
+
             for (int j = 1; j < size - 1; j++) {
-                double distance = front.get(j + 1).objectives()[i] - front.get(j - 1).objectives()[i];
-                /* 归一化处理 */
-                distance = distance / (maxObjective - minObjective);
-                distance += (double) front.get(j).attributes().get(attributeId);
-                /* 最终遍历完全部的目标后，就完成了全部目标拥挤度获取. */
-                front.get(j).attributes().put(attributeId, distance);
+                double value = matrix.get(front[j + 1], i) - matrix.get(front[j - 1], i);
+                distance[front[j]] += value / (maxObjective - minObjective);
             }
         }
-        /* end 拥挤度排序 */
-        /**
-         * 拥挤度：
-         * 为了使得到的解在目标解空间中更加均匀，这里引入了拥挤度 nd 概念。
-         * 具体算法如下：
-         * 1.令参数 nd = 0，n属于 1...N
-         * 2.for 每个目标函数 Fm：
-         * （1）根据该目标函数对该等级的个体进行排序，记 Fm_max为个体目标函数的最大值，Fm_min为个体目标函数值的最小值；
-         * （2）对于排序后两个边界的拥挤度Ld 和 Nd设置无穷大；
-         * （3）计算 Nd = Nd + (Fm(i+1)-Fm(i-1))/(Fm_max - Fm_min)，其中Fm(i+1)是排序后后一个个体对应的第m个目标；
-         *  同理，Fm(i-1)是排序后前一个个体对应的第m个目标;
-         */
 
+        for (int i = 0; i < size; i++) {
+            crowdingDistanceKey.setDouble(matrix.solution(i), distance[i]);
+        }
+    }
+
+    private double[][] objectives(List<S> solutionList) {
+        double[][] objectives = new double[solutionList.size()][];
+        for (int i = 0; i < objectives.length; i++) {
+            objectives[i] = solutionList.get(i).objectives();
+        }
+        return objectives;
     }
 
     @Override
     public Double getValue(S solution) {
         /* 获取拥挤度 */
         Check.notNull(solution);
-        Double result = 0.0;
-        if (solution.attributes().get(attributeId) != null) {
-            result = (Double) solution.attributes().get(attributeId);
-        }
-        return result;
+        return crowdingDistanceKey.getDouble(solution, 0.0);
     }
 
     @Override
     public Comparator<S> getComparator() {
-        return Comparator.comparing(this::getValue).reversed();
+        return Comparator.comparingDouble((S solution) -> crowdingDistanceKey.getDouble(solution, 0.0)).reversed();
     }
 
 }
@@ -1,31 +1,45 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContribution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.errorchecking.Check;
-import org.uma.jmetal.util.legacy.front.impl.ArrayFront;
-import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
-import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 
 import java.util.Comparator;
 import java.util.List;
 
 /**
- * This class implements a density estimator based on the hypervolume contribution
+ * This class implements a density estimator based on the hypervolume contribution. The
+ * contributions are computed exactly with {@link HypervolumeContribution}; the higher the
+ * contribution, the better.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class HypervolumeContributionDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
+    private static final double DEFAULT_OFFSET = 100.0;
 
-    private String attributeId = getClass().getName();
-    private Hypervolume<S> hypervolume;
+    private final String attributeId = getClass().getName();
+    private final AttributeKey hypervolumeContributionKey = AttributeKey.of(attributeId);
+    private final HypervolumeContribution hypervolumeContribution;
 
+    /**
+     * Constructor. The reference point is the maximum value of each objective in the reference front
+     * plus an offset
+     */
     public HypervolumeContributionDensityEstimator(List<S> referenceFront) {
-        hypervolume = new PISAHypervolume<>(new ArrayFront(referenceFront));
+        Check.notNull(referenceFront);
+        Check.that(!referenceFront.isEmpty(), "The reference front is empty");
+        double[][] front = new double[referenceFront.size()][];
+        for (int i = 0; i < front.length; i++) {
+            front[i] = referenceFront.get(i).objectives();
+        }
+        hypervolumeContribution = new HypervolumeContribution(
+                HypervolumeContribution.referencePoint(front, DEFAULT_OFFSET));
     }
 
     public HypervolumeContributionDensityEstimator(double[] referencePoint) {
-        hypervolume = new PISAHypervolume<>(referencePoint);
+        hypervolumeContribution = new HypervolumeContribution(referencePoint);
     }
 
     /**
@@ -42,23 +56,25 @@ public class HypervolumeContributionDensityEstimator<S extends Solution<?>> impl
             return;
         }
 
-        hypervolume.computeHypervolumeContribution(solutionList);
+        double[][] front = new double[size][];
+        for (int i = 0; i < size; i++) {
+            front[i] = solutionList.get(i).objectives();
+        }
+
+        double[] contributions = hypervolumeContribution.compute(front);
+        for (int i = 0; i < size; i++) {
+            hypervolumeContributionKey.setDouble(solutionList.get(i), contributions[i]);
+        }
     }
 
     @Override
     public Double getValue(S solution) {
         Check.notNull(solution);
-
-        Double result = 0.0;
-        if (solution.attributes().get(attributeId) != null) {
-            result = (Double) solution.attributes().get(attributeId);
-        }
-        return result;
+        return hypervolumeContributionKey.getDouble(solution, 0.0);
     }
 
     @Override
     public Comparator<S> getComparator() {
-        return Comparator.comparing(this::getValue);
+        return Comparator.comparingDouble((S solution) -> hypervolumeContributionKey.getDouble(solution, 0.0)).reversed();
     }
 }
-
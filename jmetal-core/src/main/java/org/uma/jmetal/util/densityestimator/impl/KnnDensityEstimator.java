@@ -4,12 +4,10 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
-import org.uma.jmetal.util.distance.Distance;
-import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -20,9 +18,7 @@ import java.util.List;
  */
 public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
     private final String attributeId = getClass().getName();
-    private Distance<double[], double[]> distance = new EuclideanDistanceBetweenVectors();
     private int k;
-    private double[][] distanceMatrix;
     private boolean normalize;
 
     public KnnDensityEstimator(int k) {
@@ -30,12 +26,14 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
     }
 
     public KnnDensityEstimator(int k, boolean normalize) {
+        Check.that(k > 0, "The value of k must be positive: " + k);
         this.k = k;
         this.normalize = normalize;
     }
 
     /**
-     * Assigns the KNN distance to all the solutions in a list
+     * Assigns the KNN distance to all the solutions in a list. The neighbours are found with a {@link
+     * KdTree}, so the distances between all the pairs of solutions are not computed.
      *
      * @param solutionList
      */
@@ -48,9 +46,6 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
             return;
         }
 
-        /* Compute the distance matrix */
-        distanceMatrix = new double[solutionList.size()][solutionList.size()];
-
         double[][] solutionMatrix = null;
         if (normalize) {
             try {
@@ -62,21 +57,10 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
             solutionMatrix = SolutionListUtils.getMatrixWithObjectiveValues(solutionList);
         }
 
-        for (int i = 0; i < solutionList.size(); i++) {
-            for (int j = i + 1; j < solutionList.size(); j++) {
-                distanceMatrix[i][j] = distance.compute(solutionMatrix[i], solutionMatrix[j]);
-                distanceMatrix[j][i] = distanceMatrix[i][j];
-            }
-        }
-
         /* Get the k-nearest distance of all the solutions */
+        KdTree tree = new KdTree(solutionMatrix);
         for (int i = 0; i < solutionList.size(); i++) {
-            List<Double> distances = new ArrayList<>();
-            for (int j = 0; j < solutionList.size(); j++) {
-                distances.add(distanceMatrix[i][j]);
-            }
-            distances.sort(Comparator.naturalOrder());
-            solutionList.get(i).attributes().put(attributeId, distances.get(k));
+            solutionList.get(i).attributes().put(attributeId, tree.distanceToKthNearestNeighbor(i, k));
         }
     }
 
@@ -4,9 +4,9 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -24,6 +24,7 @@ public class StrenghtRawFitnessDensityEstimator<S extends Solution<?>>
             new DominanceComparator<Solution<?>>();
 
     public StrenghtRawFitnessDensityEstimator(int k) {
+        Check.that(k > 0, "The value of k must be positive: " + k);
         this.k = k;
     }
 
@@ -34,7 +35,6 @@ public class StrenghtRawFitnessDensityEstimator<S extends Solution<?>>
      */
     @Override
     public void compute(List<S> solutionList) {
-        double[][] distance = SolutionListUtils.distanceMatrix(solutionList);
         double[] strength = new double[solutionList.size()];
         double[] rawFitness = new double[solutionList.size()];
         double kDistance;
@@ -61,9 +61,10 @@ public class StrenghtRawFitnessDensityEstimator<S extends Solution<?>>
         // Add the distance to the k-th individual. In the reference paper of SPEA2,
         // k = sqrt(population.size()), but a value of k = 1 is recommended. See
         // http://www.tik.ee.ethz.ch/pisa/selectors/spea2/spea2_documentation.txt
-        for (int i = 0; i < distance.length; i++) {
-            Arrays.sort(distance[i]);
-            kDistance = 1.0 / (distance[i][k] + 2.0);
+        // The k-th neighbours are found with a k-d tree
+        KdTree tree = new KdTree(SolutionListUtils.getMatrixWithObjectiveValues(solutionList));
+        for (int i = 0; i < solutionList.size(); i++) {
+            kDistance = 1.0 / (tree.distanceToKthNearestNeighbor(i, k) + 2.0);
             solutionList.get(i).attributes().put(attributeId, rawFitness[i] + kDistance);
         }
     }
@@ -0,0 +1,236 @@
+package org.uma.jmetal.util.densityestimator.util;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Crowding distance of a set of points computed on primitive arrays. The points are sorted once per
+ * objective, and the order is kept in a doubly linked list of indices per objective, so that when a
+ * point is removed only the distances of its two neighbours in each objective have to be updated.
+ * The points with the lowest distance are kept in a heap, so a sequential truncation (removing the
+ * most crowded point and updating the distances, until the desired size is reached) costs
+ * O(MN log N) instead of recomputing the distances after each removal.
+ *
+ * <p>The distances are computed as in {@link
+ * org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator}: the sort of each
+ * objective is stable and starts from the order of the previous one, the extreme points of each
+ * objective get an infinite distance and the objectives whose values are all equal are ignored. If
+ * an extreme point is removed, the ranges of the objectives change and all the distances are
+ * computed again.
+ */
+public class CrowdingDistance {
+    private final double[][] points;
+    private final int numberOfObjectives;
+
+    private final int[][] previous;
+    private final int[][] next;
+    private final int[] first;
+    private final int[] last;
+    private final double[] range;
+
+    private final double[] distance;
+    private final boolean[] removed;
+    private int size;
+
+    private final PriorityQueue<Candidate> heap;
+
+    /**
+     * Constructor
+     *
+     * @param points Objective values of the points; the arrays are not copied
+     */
+    public CrowdingDistance(double[][] points) {
+        Check.notNull(points);
+        this.points = points;
+        this.size = points.length;
+        this.numberOfObjectives = (points.length == 0) ? 0 : points[0].length;
+
+        previous = new int[numberOfObjectives][points.length];
+        next = new int[numberOfObjectives][points.length];
+        first = new int[numberOfObjectives];
+        last = new int[numberOfObjectives];
+        range = new double[numberOfObjectives];
+        distance = new double[points.length];
+        removed = new boolean[points.length];
+        heap = new PriorityQueue<>();
+
+        Integer[] order = new Integer[points.length];
+        for (int i = 0; i < points.length; i++) {
+            Check.that(points[i].length == numberOfObjectives, "The points have different dimensions");
+            order[i] = i;
+        }
+        for (int m = 0; m < numberOfObjectives; m++) {
+            final int objective = m;
+            Arrays.sort(order, (i, j) -> Double.compare(points[i][objective], points[j][objective]));
+            for (int k = 0; k < order.length; k++) {
+                previous[m][order[k]] = (k == 0) ? -1 : order[k - 1];
+                next[m][order[k]] = (k == order.length - 1) ? -1 : order[k + 1];
+            }
+            if (order.length > 0) {
+                first[m] = order[0];
+                last[m] = order[order.length - 1];
+            }
+        }
+
+        computeAll();
+    }
+
+    /**
+     * Returns the number of points which have not been removed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the crowding distance of the point at position <code>index</code>
+     */
+    public double getDistance(int index) {
+        checkPoint(index);
+        return distance[index];
+    }
+
+    /**
+     * Returns true if the point at position <code>index</code> has been removed
+     */
+    public boolean isRemoved(int index) {
+        return removed[index];
+    }
+
+    /**
+     * Returns the crowding distances of all the points; the removed ones have a value of 0
+     */
+    public double[] getDistances() {
+        return distance.clone();
+    }
+
+    /**
+     * Removes the point with the lowest crowding distance and updates the distances of the others.
+     * If several points have that distance, the one with the highest index is removed.
+     *
+     * @return the index of the removed point
+     */
+    public int removeMostCrowded() {
+        if (size == 0) {
+            throw new JMetalException("There are no points left");
+        }
+        Candidate candidate = heap.poll();
+        while (removed[candidate.index] || (candidate.distance != distance[candidate.index])) {
+            candidate = heap.poll();
+        }
+        remove(candidate.index);
+        return candidate.index;
+    }
+
+    /**
+     * Removes a point and updates the distances of its neighbours
+     */
+    public void remove(int index) {
+        checkPoint(index);
+        removed[index] = true;
+        distance[index] = 0.0;
+        size--;
+
+        boolean isExtreme = false;
+        for (int m = 0; m < numberOfObjectives; m++) {
+            isExtreme |= (first[m] == index) || (last[m] == index);
+        }
+
+        for (int m = 0; m < numberOfObjectives; m++) {
+            int before = previous[m][index];
+            int after = next[m][index];
+            if (before == -1) {
+                first[m] = after;
+            } else {
+                next[m][before] = after;
+            }
+            if (after == -1) {
+                last[m] = before;
+            } else {
+                previous[m][after] = before;
+            }
+
+            if (!isExtreme && (range[m] > 0.0)) {
+                // The gap of each neighbour now spans the removed point
+                distance[before] += (points[after][m] - points[index][m]) / range[m];
+                distance[after] += (points[index][m] - points[before][m]) / range[m];
+            }
+        }
+
+        if (isExtreme || (size <= 2)) {
+            computeAll();
+        } else {
+            // The links of the removed point are left untouched, so they still lead to its neighbours
+            for (int m = 0; m < numberOfObjectives; m++) {
+                push(previous[m][index]);
+                push(next[m][index]);
+            }
+        }
+    }
+
+    private void push(int index) {
+        if ((index != -1) && !removed[index]) {
+            heap.add(new Candidate(index, distance[index]));
+        }
+    }
+
+    private void computeAll() {
+        heap.clear();
+        for (int i = 0; i < points.length; i++) {
+            if (!removed[i]) {
+                distance[i] = 0.0;
+            }
+        }
+
+        if (size <= 2) {
+            for (int i = 0; i < points.length; i++) {
+                if (!removed[i]) {
+                    distance[i] = Double.POSITIVE_INFINITY;
+                }
+            }
+        } else {
+            for (int m = 0; m < numberOfObjectives; m++) {
+                double minimum = points[first[m]][m];
+                double maximum = points[last[m]][m];
+                range[m] = maximum - minimum;
+                if (range[m] == 0.0) {
+                    // otherwise all crowding distances will be NaN = 0.0 / 0.0 except for two
+                    continue;
+                }
+
+                distance[first[m]] = Double.POSITIVE_INFINITY;
+                distance[last[m]] = Double.POSITIVE_INFINITY;
+                for (int i = next[m][first[m]]; i != last[m]; i = next[m][i]) {
+                    distance[i] += (points[next[m][i]][m] - points[previous[m][i]][m]) / range[m];
+                }
+            }
+        }
+
+        for (int i = 0; i < points.length; i++) {
+            push(i);
+        }
+    }
+
+    private void checkPoint(int index) {
+        Check.that((index >= 0) && (index < points.length) && !removed[index], "Invalid point: " + index);
+    }
+
+    private static class Candidate implements Comparable<Candidate> {
+        private final int index;
+        private final double distance;
+
+        Candidate(int index, double distance) {
+            this.index = index;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            int result = Double.compare(distance, other.distance);
+            return (result != 0) ? result : Integer.compare(other.index, index);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package org.uma.jmetal.util.distance;
+
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.Arrays;
+
+/**
+ * k-d tree over a set of points for k-nearest-neighbour queries with the Euclidean distance. Points
+ * can be removed from the tree, which makes it suitable for truncation procedures that repeatedly
+ * discard the most crowded point (e.g., the environmental selection of SPEA2) without recomputing
+ * the distances among all the points.
+ *
+ * <p>The tree is built once, in O(N log N), by splitting the points at the median of the dimension
+ * with the largest spread. Each node keeps the bounding box of its points and the number of points
+ * not removed, so queries skip empty subtrees and those farther than the current k-th neighbour. A
+ * removal costs O(log N). The distances are computed as in {@link
+ * org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors}.
+ */
+public class KdTree {
+    private static final int LEAF_SIZE = 8;
+
+    private final double[][] points;
+    private final int dimension;
+
+    /* Indices of the points, ordered so that the points of each node are contiguous */
+    private final int[] order;
+
+    /* Nodes, stored in arrays; the children of a leaf are -1 */
+    private final int[] start;
+    private final int[] end;
+    private final int[] left;
+    private final int[] right;
+    private final int[] parent;
+    private final int[] alive;
+    private final double[][] lowerBound;
+    private final double[][] upperBound;
+    private int numberOfNodes;
+
+    private final int[] leafOf;
+    private final boolean[] removed;
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param points Points of the tree; the arrays are not copied, so they must not be modified while
+     *               the tree is in use
+     */
+    public KdTree(double[][] points) {
+        Check.notNull(points);
+        this.points = points;
+        this.dimension = (points.length == 0) ? 0 : points[0].length;
+        for (double[] point : points) {
+            Check.that(point.length == dimension, "The points have different dimensions");
+        }
+
+        order = new int[points.length];
+        for (int i = 0; i < points.length; i++) {
+            order[i] = i;
+        }
+
+        int maximumNumberOfNodes = Math.max(1, 2 * points.length);
+        start = new int[maximumNumberOfNodes];
+        end = new int[maximumNumberOfNodes];
+        left = new int[maximumNumberOfNodes];
+        right = new int[maximumNumberOfNodes];
+        parent = new int[maximumNumberOfNodes];
+        alive = new int[maximumNumberOfNodes];
+        lowerBound = new double[maximumNumberOfNodes][];
+        upperBound = new double[maximumNumberOfNodes][];
+
+        leafOf = new int[points.length];
+        removed = new boolean[points.length];
+        size = points.length;
+
+        build(0, points.length, -1);
+    }
+
+    private int build(int first, int last, int parentNode) {
+        int node = numberOfNodes++;
+        start[node] = first;
+        end[node] = last;
+        parent[node] = parentNode;
+        alive[node] = last - first;
+
+        double[] lower = new double[dimension];
+        double[] upper = new double[dimension];
+        Arrays.fill(lower, Double.POSITIVE_INFINITY);
+        Arrays.fill(upper, Double.NEGATIVE_INFINITY);
+        for (int i = first; i < last; i++) {
+            double[] point = points[order[i]];
+            for (int d = 0; d < dimension; d++) {
+                lower[d] = Math.min(lower[d], point[d]);
+                upper[d] = Math.max(upper[d], point[d]);
+            }
+        }
+        lowerBound[node] = lower;
+        upperBound[node] = upper;
+
+        int splitDimension = 0;
+        for (int d = 1; d < dimension; d++) {
+            if (upper[d] - lower[d] > upper[splitDimension] - lower[splitDimension]) {
+                splitDimension = d;
+            }
+        }
+
+        if ((last - first <= LEAF_SIZE) || (dimension == 0) || !(upper[splitDimension] > lower[splitDimension])) {
+            left[node] = -1;
+            right[node] = -1;
+            for (int i = first; i < last; i++) {
+                leafOf[order[i]] = node;
+            }
+        } else {
+            int middle = (first + last) >>> 1;
+            select(first, last - 1, middle, splitDimension);
+            left[node] = build(first, middle, node);
+            right[node] = build(middle, last, node);
+        }
+        return node;
+    }
+
+    /**
+     * Quickselect: reorders the indices between first and last (both included) so that the one at
+     * position k is that of the k-th smallest value of the given dimension
+     */
+    private void select(int first, int last, int k, int splitDimension) {
+        while (last > first) {
+            double pivot = points[order[(first + last) >>> 1]][splitDimension];
+            int i = first;
+            int j = last;
+            while (i <= j) {
+                while (points[order[i]][splitDimension] < pivot) {
+                    i++;
+                }
+                while (points[order[j]][splitDimension] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                last = j;
+            } else if (k >= i) {
+                first = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of points which have not been removed
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isRemoved(int point) {
+        return removed[point];
+    }
+
+    /**
+     * Removes a point from the tree
+     */
+    public void remove(int point) {
+        Check.that((point >= 0) && (point < points.length) && !removed[point], "Invalid point: " + point);
+        removed[point] = true;
+        size--;
+        for (int node = leafOf[point]; node != -1; node = parent[node]) {
+            alive[node]--;
+        }
+    }
+
+    /**
+     * Returns the k nearest neighbours of a point of the tree, excluding the point itself, sorted by
+     * increasing distance. Fewer than k neighbours are returned if there are not enough points.
+     */
+    public Neighbors nearestNeighbors(int point, int k) {
+        Check.that((point >= 0) && (point < points.length), "Invalid point: " + point);
+        return nearestNeighbors(points[point], k, point);
+    }
+
+    /**
+     * Returns the k points of the tree nearest to a query point, sorted by increasing distance
+     */
+    public Neighbors nearestNeighbors(double[] query, int k) {
+        return nearestNeighbors(query, k, -1);
+    }
+
+    /**
+     * Returns the distance from a point of the tree to its k-th nearest neighbour (k starts at 1),
+     * excluding the point itself, or infinity if there are fewer than k other points
+     */
+    public double distanceToKthNearestNeighbor(int point, int k) {
+        Neighbors neighbors = nearestNeighbors(point, k);
+        return (neighbors.size() < k) ? Double.POSITIVE_INFINITY : neighbors.getDistance(k - 1);
+    }
+
+    private Neighbors nearestNeighbors(double[] query, int k, int excludedPoint) {
+        Check.notNull(query);
+        Check.that(query.length == dimension, "The query point has a wrong dimension: " + query.length);
+        Check.that(k > 0, "The number of neighbours must be positive: " + k);
+
+        Neighbors neighbors = new Neighbors(k);
+        if (size > 0) {
+            search(0, query, excludedPoint, neighbors);
+        }
+        neighbors.computeDistances();
+        return neighbors;
+    }
+
+    private void search(int node, double[] query, int excludedPoint, Neighbors neighbors) {
+        if (alive[node] == 0) {
+            return;
+        }
+        if (left[node] == -1) {
+            for (int i = start[node]; i < end[node]; i++) {
+                int point = order[i];
+                if (!removed[point] && (point != excludedPoint)) {
+                    neighbors.add(point, squaredDistance(query, points[point]));
+                }
+            }
+            return;
+        }
+
+        double leftBound = squaredDistanceToBox(query, left[node]);
+        double rightBound = squaredDistanceToBox(query, right[node]);
+        int nearChild = (leftBound <= rightBound) ? left[node] : right[node];
+        int farChild = (leftBound <= rightBound) ? right[node] : left[node];
+        double farBound = Math.max(leftBound, rightBound);
+
+        search(nearChild, query, excludedPoint, neighbors);
+        // Points at the same distance as the current k-th neighbour may have a lower index
+        if (!neighbors.isFull() || (farBound <= neighbors.worstSquaredDistance())) {
+            search(farChild, query, excludedPoint, neighbors);
+        }
+    }
+
+    private double squaredDistanceToBox(double[] query, int node) {
+        double distance = 0.0;
+        double[] lower = lowerBound[node];
+        double[] upper = upperBound[node];
+        for (int d = 0; d < dimension; d++) {
+            double diff = 0.0;
+            if (query[d] < lower[d]) {
+                diff = lower[d] - query[d];
+            } else if (query[d] > upper[d]) {
+                diff = query[d] - upper[d];
+            }
+            distance += diff * diff;
+        }
+        return distance;
+    }
+
+    private static double squaredDistance(double[] vector1, double[] vector2) {
+        double distance = 0.0;
+        double diff;
+        for (int i = 0; i < vector1.length; i++) {
+            diff = vector1[i] - vector2[i];
+            distance += diff * diff;
+        }
+        return distance;
+    }
+
+    /**
+     * Result of a k-nearest-neighbour query: the indices of the neighbours and their distances,
+     * sorted by increasing distance. Neighbours at the same distance are sorted by index.
+     */
+    public static class Neighbors {
+        private final int[] indices;
+        private final double[] squaredDistances;
+        private double[] distances;
+        private int size;
+
+        private Neighbors(int capacity) {
+            this.indices = new int[capacity];
+            this.squaredDistances = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == indices.length;
+        }
+
+        private double worstSquaredDistance() {
+            return squaredDistances[size - 1];
+        }
+
+        /**
+         * Inserts a candidate, keeping the candidates sorted and discarding the worst one if there are
+         * too many
+         */
+        private void add(int index, double squaredDistance) {
+            int position = size;
+            while ((position > 0) && ((squaredDistances[position - 1] > squaredDistance)
+                    || ((squaredDistances[position - 1] == squaredDistance) && (indices[position - 1] > index)))) {
+                position--;
+            }
+            if (position == indices.length) {
+                return;
+            }
+            int last = Math.min(size, indices.length - 1);
+            System.arraycopy(indices, position, indices, position + 1, last - position);
+            System.arraycopy(squaredDistances, position, squaredDistances, position + 1, last - position);
+            indices[position] = index;
+            squaredDistances[position] = squaredDistance;
+            size = last + 1;
+        }
+
+        private void computeDistances() {
+            distances = new double[size];
+            for (int i = 0; i < size; i++) {
+                distances[i] = Math.sqrt(squaredDistances[i]);
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int getIndex(int i) {
+            Check.that(i < size, "Invalid neighbour: " + i);
+            return indices[i];
+        }
+
+        public double getDistance(int i) {
+            Check.that(i < size, "Invalid neighbour: " + i);
+            return distances[i];
+        }
+    }
+}
@@ -4,6 +4,8 @@ import org.uma.jmetal.problem.Problem;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Created by Antonio J. Nebro on 30/05/14.
@@ -13,4 +15,31 @@ public interface SolutionListEvaluator<S> extends Serializable {
     List<S> evaluate(List<S> solutionList, Problem<S> problem);
 
     void shutdown();
+
+    /**
+     * Starts the evaluation of a list of solutions, returning a future completed with the list when
+     * all of them have been evaluated. Unless overridden, the list is evaluated in the calling thread,
+     * so the future is already completed when it is returned.
+     */
+    default CompletableFuture<List<S>> evaluateAsync(List<S> solutionList, Problem<S> problem) {
+        return evaluateAsync(solutionList, problem, solution -> {
+        });
+    }
+
+    /**
+     * Starts the evaluation of a list of solutions. Each solution is passed to the consumer as soon
+     * as it has been evaluated, possibly from another thread and in any order, so the consumer must
+     * be thread-safe. The default implementation calls {@link #evaluate(List, Problem)} in the calling
+     * thread and then passes the solutions to the consumer.
+     */
+    default CompletableFuture<List<S>> evaluateAsync(
+            List<S> solutionList, Problem<S> problem, Consumer<S> evaluatedSolutionConsumer) {
+        try {
+            evaluate(solutionList, problem);
+            solutionList.forEach(evaluatedSolutionConsumer);
+            return CompletableFuture.completedFuture(solutionList);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,211 @@
+package org.uma.jmetal.util.evaluator.cache;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Decorator of a {@link Problem} which does not evaluate again the solutions whose variables have
+ * already been evaluated: the objectives and constraints are taken from an {@link EvaluationCache}.
+ * Solutions are identified by a {@link SolutionKey}, which by default supports binary, integer,
+ * permutation and double variables (the latter optionally quantized).
+ *
+ * <p>The problem can be evaluated by several threads, as {@link
+ * org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator} does; if duplicated
+ * solutions are evaluated at the same time, only one of them is evaluated by the decorated problem
+ * and the others wait for its result. As the results are shared, the decorated problem must be
+ * deterministic.
+ *
+ * <p>The problem can be serialized if its key function is serializable, as those of the
+ * constructors which do not take one are. The cached evaluations are not serialized: they may live
+ * in a spill file of the process which created them, so a deserialized problem starts with an empty
+ * in-memory cache of the same maximum size.
+ *
+ * @param <S> Solution type
+ */
+@SuppressWarnings("serial")
+public class CachedProblem<S extends Solution<?>> implements Problem<S> {
+    private final Problem<S> problem;
+    private transient EvaluationCache cache;
+    private final Function<S, SolutionKey> keyFunction;
+    private transient ConcurrentHashMap<SolutionKey, CompletableFuture<EvaluationCache.Entry>> inProgress;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor
+     *
+     * @param problem     Problem to decorate
+     * @param cache       Cache of evaluations
+     * @param keyFunction Function computing the key of a solution; it must be serializable for the
+     *                    problem to be serializable
+     */
+    public CachedProblem(Problem<S> problem, EvaluationCache cache, Function<S, SolutionKey> keyFunction) {
+        Check.notNull(problem);
+        Check.notNull(cache);
+        Check.notNull(keyFunction);
+        this.problem = problem;
+        this.cache = cache;
+        this.keyFunction = keyFunction;
+        this.inProgress = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Constructor
+     *
+     * @param problem Problem to decorate
+     * @param cache   Cache of evaluations
+     * @param quantum Resolution used to compare double variables; 0 to compare them exactly
+     */
+    public CachedProblem(Problem<S> problem, EvaluationCache cache, double quantum) {
+        this(problem, cache,
+                (Function<S, SolutionKey> & Serializable) solution -> SolutionKey.of(solution, quantum));
+    }
+
+    /**
+     * Constructor of a problem with an in-memory cache
+     *
+     * @param problem     Problem to decorate
+     * @param maximumSize Maximum number of evaluations kept in the cache
+     */
+    public CachedProblem(Problem<S> problem, int maximumSize) {
+        this(problem, new EvaluationCache(maximumSize),
+                (Function<S, SolutionKey> & Serializable) SolutionKey::of);
+    }
+
+    @Override
+    public S evaluate(S solution) {
+        SolutionKey key = keyFunction.apply(solution);
+        EvaluationCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            hits.incrementAndGet();
+            entry.copyTo(solution);
+            return solution;
+        }
+
+        CompletableFuture<EvaluationCache.Entry> evaluation = new CompletableFuture<>();
+        CompletableFuture<EvaluationCache.Entry> previous = inProgress.putIfAbsent(key, evaluation);
+        if (previous != null) {
+            hits.incrementAndGet();
+            waitFor(previous).copyTo(solution);
+            return solution;
+        }
+
+        try {
+            // The evaluation may have finished between the lookup and the registration
+            entry = cache.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                entry.copyTo(solution);
+            } else {
+                misses.incrementAndGet();
+                problem.evaluate(solution);
+                entry = EvaluationCache.Entry.of(solution);
+                cache.put(key, entry);
+            }
+            evaluation.complete(entry);
+        } catch (RuntimeException | Error e) {
+            evaluation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inProgress.remove(key, evaluation);
+        }
+
+        return solution;
+    }
+
+    private EvaluationCache.Entry waitFor(CompletableFuture<EvaluationCache.Entry> evaluation) {
+        try {
+            return evaluation.join();
+        } catch (CompletionException e) {
+            throw new JMetalException("Error evaluating a duplicated solution", e);
+        }
+    }
+
+    @Override
+    public S createSolution() {
+        return problem.createSolution();
+    }
+
+    @Override
+    public int getNumberOfVariables() {
+        return problem.getNumberOfVariables();
+    }
+
+    @Override
+    public int getNumberOfObjectives() {
+        return problem.getNumberOfObjectives();
+    }
+
+    @Override
+    public int getNumberOfConstraints() {
+        return problem.getNumberOfConstraints();
+    }
+
+    @Override
+    public String getName() {
+        return problem.getName();
+    }
+
+    public Problem<S> getProblem() {
+        return problem;
+    }
+
+    public EvaluationCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Returns the number of evaluations taken from the cache or from a concurrent evaluation of the
+     * same solution
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of solutions evaluated by the decorated problem
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the fraction of evaluations which have been taken from the cache
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return (total == 0) ? 0.0 : (double) hits.get() / total;
+    }
+
+    /**
+     * Resets the hit and miss counters
+     */
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(cache.getMaximumSize());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        cache = new EvaluationCache(in.readInt());
+        inProgress = new ConcurrentHashMap<>();
+    }
+}
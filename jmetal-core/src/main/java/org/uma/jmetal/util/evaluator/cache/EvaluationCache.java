@@ -0,0 +1,274 @@
+package org.uma.jmetal.util.evaluator.cache;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the objectives and constraints of evaluated solutions, indexed by {@link
+ * SolutionKey}. The entries are kept in memory in least recently used order; when the cache is full,
+ * the least recently used entry is evicted or, if a spill file has been set, appended to it. Entries
+ * found in the spill file are moved back to memory. The index of the spill file only keeps a 64-bit
+ * fingerprint and the position of each entry, and the key stored in the file is checked on reading.
+ * The file is append only, so an entry evicted several times is written several times.
+ *
+ * <p>All the methods are synchronized, so a cache can be shared by several threads.
+ */
+public class EvaluationCache implements Closeable {
+    private final int maximumSize;
+    private final LinkedHashMap<SolutionKey, Entry> entries;
+    private final Path spillFile;
+    private FileChannel spillChannel;
+    private final Map<Long, Long> spillIndex;
+
+    private long evictions;
+    private long spilledEntries;
+    private long spillHits;
+
+    /**
+     * Constructor of an in-memory cache
+     *
+     * @param maximumSize Maximum number of entries kept in memory
+     */
+    public EvaluationCache(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maximumSize Maximum number of entries kept in memory
+     * @param spillFile   File where the evicted entries are stored, or null; it is overwritten
+     */
+    public EvaluationCache(int maximumSize, Path spillFile) {
+        Check.that(maximumSize > 0, "The maximum size must be positive: " + maximumSize);
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.spillFile = spillFile;
+        this.spillIndex = new HashMap<>();
+        if (spillFile != null) {
+            try {
+                spillChannel = FileChannel.open(spillFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                throw new JMetalException("Error opening the spill file " + spillFile, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached evaluation of a key, or null if it is not in the cache
+     */
+    public synchronized Entry get(SolutionKey key) {
+        Entry entry = entries.get(key);
+        if ((entry == null) && (spillChannel != null)) {
+            entry = readSpilledEntry(key);
+            if (entry != null) {
+                spillHits++;
+                put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Stores the evaluation of a key
+     */
+    public synchronized void put(SolutionKey key, Entry entry) {
+        Check.notNull(key);
+        Check.notNull(entry);
+        entries.put(key, entry);
+        if (entries.size() > maximumSize) {
+            Map.Entry<SolutionKey, Entry> eldest = entries.entrySet().iterator().next();
+            entries.remove(eldest.getKey());
+            evictions++;
+            if (spillChannel != null) {
+                spill(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries, including the spilled ones
+     */
+    public synchronized void clear() {
+        entries.clear();
+        spillIndex.clear();
+        if (spillChannel != null) {
+            try {
+                spillChannel.truncate(0);
+            } catch (IOException e) {
+                throw new JMetalException("Error truncating the spill file " + spillFile, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries in memory
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getSpilledEntries() {
+        return spilledEntries;
+    }
+
+    /**
+     * Returns the number of entries found in the spill file
+     */
+    public synchronized long getSpillHits() {
+        return spillHits;
+    }
+
+    /**
+     * Closes the spill file, which is not deleted
+     */
+    @Override
+    public synchronized void close() {
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                throw new JMetalException("Error closing the spill file " + spillFile, e);
+            }
+            spillChannel = null;
+        }
+    }
+
+    /**
+     * Record: number of longs of the key, number of objectives and constraints (ints), then the key
+     * and the values, in little-endian order
+     */
+    private void spill(SolutionKey key, Entry entry) {
+        long[] data = key.getData();
+        ByteBuffer buffer = ByteBuffer
+                .allocate(3 * Integer.BYTES + Long.BYTES * data.length
+                        + Double.BYTES * (entry.objectives.length + entry.constraints.length))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(data.length).putInt(entry.objectives.length).putInt(entry.constraints.length);
+        for (long value : data) {
+            buffer.putLong(value);
+        }
+        for (double value : entry.objectives) {
+            buffer.putDouble(value);
+        }
+        for (double value : entry.constraints) {
+            buffer.putDouble(value);
+        }
+        buffer.flip();
+
+        try {
+            long position = spillChannel.size();
+            while (buffer.hasRemaining()) {
+                spillChannel.write(buffer, position + buffer.position());
+            }
+            spillIndex.put(key.fingerprint(), position);
+            spilledEntries++;
+        } catch (IOException e) {
+            throw new JMetalException("Error writing the spill file " + spillFile, e);
+        }
+    }
+
+    private Entry readSpilledEntry(SolutionKey key) {
+        Long position = spillIndex.get(key.fingerprint());
+        if (position == null) {
+            return null;
+        }
+
+        try {
+            ByteBuffer header = read(position, 3 * Integer.BYTES);
+            int keyLength = header.getInt();
+            int numberOfObjectives = header.getInt();
+            int numberOfConstraints = header.getInt();
+            ByteBuffer body = read(position + 3 * Integer.BYTES,
+                    Long.BYTES * keyLength + Double.BYTES * (numberOfObjectives + numberOfConstraints));
+
+            long[] data = new long[keyLength];
+            for (int i = 0; i < keyLength; i++) {
+                data[i] = body.getLong();
+            }
+            if (!Arrays.equals(data, key.getData())) {
+                return null;
+            }
+            double[] objectives = new double[numberOfObjectives];
+            for (int i = 0; i < numberOfObjectives; i++) {
+                objectives[i] = body.getDouble();
+            }
+            double[] constraints = new double[numberOfConstraints];
+            for (int i = 0; i < numberOfConstraints; i++) {
+                constraints[i] = body.getDouble();
+            }
+            return new Entry(objectives, constraints);
+        } catch (IOException e) {
+            throw new JMetalException("Error reading the spill file " + spillFile, e);
+        }
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (spillChannel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Objectives and constraints of an evaluated solution
+     */
+    public static class Entry {
+        private final double[] objectives;
+        private final double[] constraints;
+
+        public Entry(double[] objectives, double[] constraints) {
+            this.objectives = objectives.clone();
+            this.constraints = constraints.clone();
+        }
+
+        /**
+         * Returns an entry with the objectives and constraints of an evaluated solution
+         */
+        public static Entry of(Solution<?> solution) {
+            return new Entry(solution.objectives(), solution.constraints());
+        }
+
+        /**
+         * Copies the objectives and constraints to a solution
+         */
+        public void copyTo(Solution<?> solution) {
+            System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+            System.arraycopy(constraints, 0, solution.constraints(), 0, constraints.length);
+        }
+
+        public double[] getObjectives() {
+            return objectives.clone();
+        }
+
+        public double[] getConstraints() {
+            return constraints.clone();
+        }
+    }
+}
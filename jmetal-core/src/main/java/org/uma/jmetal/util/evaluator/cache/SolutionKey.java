@@ -0,0 +1,134 @@
+package org.uma.jmetal.util.evaluator.cache;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable key identifying the decision variables of a solution, used by {@link EvaluationCache}.
+ * The variables are encoded in an array of longs: a {@link BinarySet} by its length and its words,
+ * integers (e.g., the elements of a permutation) and characters by their values, and doubles by
+ * their bits or, if a quantum is given, by the value rounded to a multiple of the quantum, so that
+ * solutions whose variables differ by less than the quantum share their evaluation.
+ */
+public final class SolutionKey {
+    private static final long BINARY_SET = 1;
+    private static final long INTEGER = 2;
+    private static final long DOUBLE = 3;
+
+    private final long[] data;
+    private final int hash;
+
+    /**
+     * Constructor
+     *
+     * @param data Encoding of the variables; the array is not copied
+     */
+    public SolutionKey(long[] data) {
+        Check.notNull(data);
+        this.data = data;
+        this.hash = Arrays.hashCode(data);
+    }
+
+    /**
+     * Returns the key of the variables of a solution, with the double values compared exactly
+     */
+    public static SolutionKey of(Solution<?> solution) {
+        return of(solution, 0.0);
+    }
+
+    /**
+     * Returns the key of the variables of a solution
+     *
+     * @param quantum Resolution of the double values; 0 to compare them exactly
+     */
+    public static SolutionKey of(Solution<?> solution, double quantum) {
+        Check.that(quantum >= 0.0, "The quantum cannot be negative: " + quantum);
+        List<?> variables = solution.variables();
+        LongArrayBuilder builder = new LongArrayBuilder(variables.size() * 2);
+        for (Object variable : variables) {
+            if (variable instanceof BinarySet) {
+                BinarySet binarySet = (BinarySet) variable;
+                long[] words = binarySet.toLongArray();
+                builder.add(BINARY_SET);
+                builder.add(binarySet.getBinarySetLength());
+                builder.add(words.length);
+                for (long word : words) {
+                    builder.add(word);
+                }
+            } else if ((variable instanceof Integer) || (variable instanceof Long)
+                    || (variable instanceof Short) || (variable instanceof Byte)) {
+                builder.add(INTEGER);
+                builder.add(((Number) variable).longValue());
+            } else if (variable instanceof Character) {
+                builder.add(INTEGER);
+                builder.add((Character) variable);
+            } else if ((variable instanceof Double) || (variable instanceof Float)) {
+                double value = ((Number) variable).doubleValue();
+                builder.add(DOUBLE);
+                if (quantum > 0.0) {
+                    builder.add(Math.round(value / quantum));
+                } else {
+                    // +0.0 and -0.0 are the same value
+                    builder.add((value == 0.0) ? 0L : Double.doubleToLongBits(value));
+                }
+            } else {
+                throw new JMetalException("Variables of type " + variable.getClass().getName()
+                        + " are not supported; a custom key function must be used");
+            }
+        }
+        return new SolutionKey(builder.toArray());
+    }
+
+    long[] getData() {
+        return data;
+    }
+
+    /**
+     * Returns a 64-bit hash of the key
+     */
+    long fingerprint() {
+        long h = 0x9e3779b97f4a7c15L;
+        for (long value : data) {
+            h = (h ^ value) * 0xbf58476d1ce4e5b9L;
+            h ^= h >>> 31;
+        }
+        return h ^ data.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return (this == other)
+                || ((other instanceof SolutionKey) && (hash == ((SolutionKey) other).hash)
+                && Arrays.equals(data, ((SolutionKey) other).data));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static class LongArrayBuilder {
+        private long[] values;
+        private int size;
+
+        LongArrayBuilder(int capacity) {
+            values = new long[Math.max(4, capacity)];
+        }
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
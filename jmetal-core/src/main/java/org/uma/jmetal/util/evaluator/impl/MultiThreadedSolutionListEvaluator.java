@@ -2,42 +2,331 @@ package org.uma.jmetal.util.evaluator.impl;
 
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 
 /**
+ * Evaluator computing the solutions of a list in parallel on its own executor, which can be a
+ * fixed thread pool, a {@link ForkJoinPool} or, if the Java runtime supports them, a virtual thread
+ * per task executor (suitable for problems whose evaluation waits for I/O, such as external
+ * simulators). The common fork/join pool is not used, so the evaluator does not interfere with
+ * the parallel streams of the rest of the application.
+ *
+ * <p>The list is split in chunks of consecutive solutions, each of them evaluated by a task. The
+ * size of the chunks (the grain size) can be set; by default, it is chosen to have about four
+ * chunks per thread. The executor is created on the first evaluation and released by {@link
+ * #shutdown()}; an executor given to the constructor is never shut down by the evaluator. The time
+ * taken by the last batch is available with {@link #getLastBatchStatistics()}. With {@link
+ * #evaluateAsync(List, Problem, Consumer)}, the caller does not wait for the evaluation and is
+ * notified of each evaluated solution.
+ *
+ * <p>If a {@link RandomStreams} family is set, the evaluation of the i-th solution computed by the
+ * evaluator draws its random numbers from the i-th stream, so stochastic problems give the same
+ * results whatever the number of threads.
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class MultiThreadedSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+    public enum ExecutorType {FIXED, FORK_JOIN, VIRTUAL}
+
+    private static final int CHUNKS_PER_THREAD = 4;
 
     private final int numberOfThreads;
+    private final ExecutorType executorType;
+    private final boolean ownsExecutor;
+    private transient ExecutorService executor;
+
+    private int grainSize = 0;
+    private transient RandomStreams randomStreams;
+    private long numberOfEvaluatedSolutions = 0;
 
+    private BatchStatistics lastBatchStatistics;
+    private long numberOfBatches = 0;
+    private long totalElapsedTime = 0;
+
+    /**
+     * Constructor. The solutions are evaluated in a {@link ForkJoinPool}.
+     *
+     * @param numberOfThreads Number of threads; if 0, the number of available processors is used
+     */
     public MultiThreadedSolutionListEvaluator(int numberOfThreads) {
-        if (numberOfThreads == 0) {
-            this.numberOfThreads = Runtime.getRuntime().availableProcessors();
-        } else {
-            this.numberOfThreads = numberOfThreads;
-            System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-                    "" + this.numberOfThreads);
-        }
-        JMetalLogger.logger.info("Number of cores: " + numberOfThreads);
+        this(numberOfThreads, ExecutorType.FORK_JOIN);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param numberOfThreads Number of threads; if 0, the number of available processors is used.
+     *                        With virtual threads, it only determines the default grain size.
+     * @param executorType    Kind of executor
+     */
+    public MultiThreadedSolutionListEvaluator(int numberOfThreads, ExecutorType executorType) {
+        Check.that(numberOfThreads >= 0, "The number of threads cannot be negative: " + numberOfThreads);
+        Check.notNull(executorType);
+        this.numberOfThreads = (numberOfThreads == 0) ? Runtime.getRuntime().availableProcessors() : numberOfThreads;
+        this.executorType = executorType;
+        this.ownsExecutor = true;
+        JMetalLogger.logger.info("Number of cores: " + this.numberOfThreads);
+    }
+
+    /**
+     * Constructor using an external executor, which is not shut down by {@link #shutdown()}
+     *
+     * @param executor        Executor evaluating the chunks of solutions
+     * @param numberOfThreads Number of threads of the executor, used to choose the default grain size
+     */
+    public MultiThreadedSolutionListEvaluator(ExecutorService executor, int numberOfThreads) {
+        Check.notNull(executor);
+        Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+        this.executor = executor;
+        this.numberOfThreads = numberOfThreads;
+        this.executorType = null;
+        this.ownsExecutor = false;
     }
 
     @Override
     public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
-        solutionList.parallelStream().forEach(problem::evaluate);
+        try {
+            return evaluateAsync(solutionList, problem).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            } else if (e.getCause() instanceof JMetalException) {
+                throw (JMetalException) e.getCause();
+            }
+            throw new JMetalException("Error evaluating a solution", (Exception) e.getCause());
+        }
+    }
 
-        return solutionList;
+    /**
+     * Starts the evaluation of the chunks of the list in the executor and returns without waiting
+     * for them
+     */
+    @Override
+    public CompletableFuture<List<S>> evaluateAsync(
+            List<S> solutionList, Problem<S> problem, Consumer<S> evaluatedSolutionConsumer) {
+        Check.notNull(solutionList);
+        Check.notNull(problem);
+        Check.notNull(evaluatedSolutionConsumer);
+        if (solutionList.isEmpty()) {
+            return CompletableFuture.completedFuture(solutionList);
+        }
+
+        long startTime = System.nanoTime();
+        int size = solutionList.size();
+        int chunkSize = (grainSize > 0) ? grainSize : Math.max(1, size / (numberOfThreads * CHUNKS_PER_THREAD));
+        long firstIndex = reserveStreamIndices(size);
+        RandomStreams streams = randomStreams;
+        ExecutorService currentExecutor = getExecutor();
+
+        List<CompletableFuture<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(size, from + chunkSize);
+            chunks.add(CompletableFuture.supplyAsync(() -> {
+                long chunkStartTime = System.nanoTime();
+                for (int i = start; i < end; i++) {
+                    S solution = solutionList.get(i);
+                    if (streams == null) {
+                        problem.evaluate(solution);
+                    } else {
+                        streams.runWithStream(firstIndex + i, () -> problem.evaluate(solution));
+                    }
+                    evaluatedSolutionConsumer.accept(solution);
+                }
+                return System.nanoTime() - chunkStartTime;
+            }, currentExecutor));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            long evaluationTime = 0;
+            for (CompletableFuture<Long> chunk : chunks) {
+                evaluationTime += chunk.join();
+            }
+            recordBatch(new BatchStatistics(size, chunks.size(), System.nanoTime() - startTime, evaluationTime));
+            return solutionList;
+        });
+    }
+
+    private synchronized long reserveStreamIndices(int numberOfSolutions) {
+        long firstIndex = numberOfEvaluatedSolutions;
+        numberOfEvaluatedSolutions += numberOfSolutions;
+        return firstIndex;
+    }
+
+    private synchronized void recordBatch(BatchStatistics batchStatistics) {
+        lastBatchStatistics = batchStatistics;
+        numberOfBatches++;
+        totalElapsedTime += batchStatistics.getElapsedTime();
+        if (JMetalLogger.logger.isLoggable(Level.FINE)) {
+            JMetalLogger.logger.fine(batchStatistics.toString());
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = createExecutor();
+        }
+        return executor;
+    }
+
+    private ExecutorService createExecutor() {
+        switch (executorType) {
+            case FIXED:
+                AtomicInteger threadCounter = new AtomicInteger();
+                return Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "jmetal-evaluator-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            case VIRTUAL:
+                try {
+                    // By reflection, so that the code can be compiled for Java versions without virtual threads
+                    return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+                    JMetalLogger.logger.warning("Virtual threads are not available; a fork/join pool is used instead");
+                    return new ForkJoinPool(numberOfThreads);
+                }
+            default:
+                return new ForkJoinPool(numberOfThreads);
+        }
     }
 
     public int getNumberOfThreads() {
         return numberOfThreads;
     }
 
+    public ExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    public int getGrainSize() {
+        return grainSize;
+    }
+
+    /**
+     * Sets the number of solutions evaluated by each task; 0 (the default) chooses it from the number
+     * of threads
+     */
+    public MultiThreadedSolutionListEvaluator<S> setGrainSize(int grainSize) {
+        Check.that(grainSize >= 0, "The grain size cannot be negative: " + grainSize);
+        this.grainSize = grainSize;
+        return this;
+    }
+
+    /**
+     * Makes the evaluation of each solution draw its random numbers from its own stream of the
+     * family; null disables it
+     */
+    public MultiThreadedSolutionListEvaluator<S> setRandomStreams(RandomStreams randomStreams) {
+        this.randomStreams = randomStreams;
+        return this;
+    }
+
+    /**
+     * Returns the statistics of the last evaluated list, or null if none has been evaluated
+     */
+    public synchronized BatchStatistics getLastBatchStatistics() {
+        return lastBatchStatistics;
+    }
+
+    public synchronized long getNumberOfBatches() {
+        return numberOfBatches;
+    }
+
+    /**
+     * Returns the wall-clock time spent evaluating lists, in nanoseconds
+     */
+    public synchronized long getTotalElapsedTime() {
+        return totalElapsedTime;
+    }
+
+    /**
+     * Shuts down the executor, if it was created by the evaluator, and waits for its tasks to finish.
+     * A new executor is created if the evaluator is used again.
+     */
     @Override
-    public void shutdown() {
-        //This method is an intentionally-blank override.
+    public synchronized void shutdown() {
+        if (ownsExecutor && (executor != null)) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            executor = null;
+        }
+    }
+
+    /**
+     * Timing of the evaluation of a list of solutions. The times are measured in nanoseconds.
+     */
+    public static class BatchStatistics {
+        private final int numberOfSolutions;
+        private final int numberOfChunks;
+        private final long elapsedTime;
+        private final long evaluationTime;
+
+        public BatchStatistics(int numberOfSolutions, int numberOfChunks, long elapsedTime, long evaluationTime) {
+            this.numberOfSolutions = numberOfSolutions;
+            this.numberOfChunks = numberOfChunks;
+            this.elapsedTime = elapsedTime;
+            this.evaluationTime = evaluationTime;
+        }
+
+        public int getNumberOfSolutions() {
+            return numberOfSolutions;
+        }
+
+        public int getNumberOfChunks() {
+            return numberOfChunks;
+        }
+
+        /**
+         * Returns the wall-clock time of the evaluation of the list
+         */
+        public long getElapsedTime() {
+            return elapsedTime;
+        }
+
+        /**
+         * Returns the sum of the times taken by the chunks, i.e., the time that a sequential evaluation
+         * would have taken
+         */
+        public long getEvaluationTime() {
+            return evaluationTime;
+        }
+
+        /**
+         * Returns the ratio between the evaluation time and the elapsed time
+         */
+        public double getSpeedUp() {
+            return (elapsedTime == 0) ? 0.0 : (double) evaluationTime / elapsedTime;
+        }
+
+        @Override
+        public String toString() {
+            return "Evaluated " + numberOfSolutions + " solutions in " + numberOfChunks + " chunks: "
+                    + TimeUnit.NANOSECONDS.toMillis(elapsedTime) + " ms elapsed, "
+                    + TimeUnit.NANOSECONDS.toMillis(evaluationTime) + " ms of evaluation";
+        }
     }
 }
@@ -0,0 +1,271 @@
+package org.uma.jmetal.util.neighborhood.util;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.StringTokenizer;
+
+/**
+ * Sets of weight vectors evenly spread over the unit simplex, as used by MOEA/D and its variants.
+ * The vectors are generated in memory, so no weight file is needed for a given number of
+ * objectives and vectors:
+ *
+ * <ul>
+ *   <li>With two objectives, the vectors are evenly spaced on the segment from (0, 1) to (1, 0).
+ *   <li>If the number of vectors is that of a simplex-lattice design (Das and Dennis, 1998) with
+ *       some number of divisions H, that is, C(H + M - 1, M - 1), the lattice is generated.
+ *   <li>Otherwise, a uniform design is used: a good lattice point set in the unit hypercube of
+ *       dimension M - 1, which is mapped to the simplex by the transformation of Fang and Wang
+ *       (1994).
+ * </ul>
+ */
+public class UniformWeightVectors {
+    /* Number of generators of the good lattice point set tried to find the best one */
+    private static final int NUMBER_OF_GENERATOR_CANDIDATES = 256;
+
+    private UniformWeightVectors() {
+    }
+
+    /**
+     * Returns a set of weight vectors, generated as described in the class documentation
+     */
+    public static double[][] generate(int numberOfObjectives, int numberOfVectors) {
+        Check.that(numberOfObjectives > 1, "The number of objectives must be greater than one: " + numberOfObjectives);
+        Check.that(numberOfVectors > 0, "The number of vectors must be positive: " + numberOfVectors);
+
+        if (numberOfObjectives == 2) {
+            return twoObjectives(numberOfVectors);
+        }
+        int divisions = 0;
+        while (numberOfSimplexLatticeVectors(numberOfObjectives, divisions) < numberOfVectors) {
+            divisions++;
+        }
+        if (numberOfSimplexLatticeVectors(numberOfObjectives, divisions) == numberOfVectors) {
+            return simplexLattice(numberOfObjectives, divisions);
+        }
+        return uniformDesign(numberOfObjectives, numberOfVectors);
+    }
+
+    /**
+     * Vectors evenly spaced on the segment from (0, 1) to (1, 0)
+     */
+    public static double[][] twoObjectives(int numberOfVectors) {
+        double[][] vectors = new double[numberOfVectors][2];
+        for (int n = 0; n < numberOfVectors; n++) {
+            double a = (numberOfVectors == 1) ? 0.5 : 1.0 * n / (numberOfVectors - 1);
+            vectors[n][0] = a;
+            vectors[n][1] = 1 - a;
+        }
+        return vectors;
+    }
+
+    /**
+     * Returns C(H + M - 1, M - 1), the number of vectors of a simplex-lattice design with M
+     * objectives and H divisions, or {@link Long#MAX_VALUE} if it is too large
+     */
+    public static long numberOfSimplexLatticeVectors(int numberOfObjectives, int divisions) {
+        long result = 1;
+        for (int i = 1; i < numberOfObjectives; i++) {
+            // result * (H + i) is divisible by i, as it is C(H + i, i) * i
+            if (result > Long.MAX_VALUE / (divisions + i)) {
+                return Long.MAX_VALUE;
+            }
+            result = result * (divisions + i) / i;
+        }
+        return result;
+    }
+
+    /**
+     * Simplex-lattice design of Das and Dennis: all the vectors whose components are multiples of
+     * 1/H and sum 1. The vectors are sorted in lexicographic order, as in the weight files of
+     * jMetal.
+     */
+    public static double[][] simplexLattice(int numberOfObjectives, int divisions) {
+        Check.that(numberOfObjectives > 1, "The number of objectives must be greater than one: " + numberOfObjectives);
+        Check.that(divisions > 0, "The number of divisions must be positive: " + divisions);
+        long numberOfVectors = numberOfSimplexLatticeVectors(numberOfObjectives, divisions);
+        if (numberOfVectors > Integer.MAX_VALUE - 8) {
+            throw new JMetalException("Too many weight vectors: " + numberOfVectors);
+        }
+
+        double[][] vectors = new double[(int) numberOfVectors][];
+        int[] numerators = new int[numberOfObjectives];
+        int count = 0;
+        boolean done = false;
+        while (!done) {
+            int sum = 0;
+            for (int m = 0; m < numberOfObjectives - 1; m++) {
+                sum += numerators[m];
+            }
+            numerators[numberOfObjectives - 1] = divisions - sum;
+
+            double[] vector = new double[numberOfObjectives];
+            for (int m = 0; m < numberOfObjectives; m++) {
+                vector[m] = (double) numerators[m] / divisions;
+            }
+            vectors[count++] = vector;
+
+            // Next combination: increase the rightmost free component which can be increased
+            done = true;
+            for (int m = numberOfObjectives - 2; m >= 0; m--) {
+                if (numerators[numberOfObjectives - 1] > 0) {
+                    numerators[m]++;
+                    done = false;
+                    break;
+                }
+                numerators[numberOfObjectives - 1] += numerators[m];
+                numerators[m] = 0;
+            }
+        }
+        return vectors;
+    }
+
+    /**
+     * Uniform design with any number of vectors. The points of a rank-1 lattice (good lattice point
+     * set) in [0, 1]<sup>M-1</sup>, whose generator is the one with the largest minimum distance
+     * among the points out of a set of candidates, are mapped to the simplex. The result is
+     * deterministic.
+     */
+    public static double[][] uniformDesign(int numberOfObjectives, int numberOfVectors) {
+        Check.that(numberOfObjectives > 1, "The number of objectives must be greater than one: " + numberOfObjectives);
+        Check.that(numberOfVectors > 0, "The number of vectors must be positive: " + numberOfVectors);
+        int dimension = numberOfObjectives - 1;
+        int[] generator = bestGenerator(numberOfVectors, dimension);
+
+        double[][] vectors = new double[numberOfVectors][numberOfObjectives];
+        double[] point = new double[dimension];
+        for (int k = 0; k < numberOfVectors; k++) {
+            for (int d = 0; d < dimension; d++) {
+                point[d] = ((long) k * generator[d] % numberOfVectors + 0.5) / numberOfVectors;
+            }
+            toSimplex(point, vectors[k]);
+        }
+        return vectors;
+    }
+
+    /**
+     * Transformation of Fang and Wang from the unit hypercube of dimension M - 1 to the simplex of
+     * dimension M, which keeps the uniformity of the points
+     */
+    private static void toSimplex(double[] point, double[] vector) {
+        int numberOfObjectives = vector.length;
+        double product = 1.0;
+        for (int i = 0; i < numberOfObjectives - 1; i++) {
+            double root = Math.pow(point[i], 1.0 / (numberOfObjectives - 1 - i));
+            vector[i] = product * (1.0 - root);
+            product *= root;
+        }
+        vector[numberOfObjectives - 1] = product;
+    }
+
+    /**
+     * Korobov generator (1, a, a<sup>2</sup>, ...) mod N with the largest minimum distance on the
+     * torus between the points of the lattice. The lattice is a group, so the minimum distance is
+     * that of the nearest point to the origin.
+     */
+    private static int[] bestGenerator(int numberOfVectors, int dimension) {
+        int[] best = korobovGenerator(1, numberOfVectors, dimension);
+        double bestDistance = -1.0;
+        int candidates = 0;
+        for (int a = 2; (a < numberOfVectors) && (candidates < NUMBER_OF_GENERATOR_CANDIDATES); a++) {
+            if (greatestCommonDivisor(a, numberOfVectors) != 1) {
+                continue;
+            }
+            candidates++;
+            int[] generator = korobovGenerator(a, numberOfVectors, dimension);
+            double distance = minimumSquaredDistance(generator, numberOfVectors, bestDistance);
+            if (distance > bestDistance) {
+                bestDistance = distance;
+                best = generator;
+            }
+        }
+        return best;
+    }
+
+    private static int[] korobovGenerator(int a, int numberOfVectors, int dimension) {
+        int[] generator = new int[dimension];
+        long value = 1;
+        for (int d = 0; d < dimension; d++) {
+            generator[d] = (int) value;
+            value = value * a % numberOfVectors;
+        }
+        return generator;
+    }
+
+    /**
+     * Returns the minimum squared distance on the torus from the origin to the other points of the
+     * lattice; the search stops as soon as it is not greater than the given bound
+     */
+    private static double minimumSquaredDistance(int[] generator, int numberOfVectors, double bound) {
+        double minimum = Double.POSITIVE_INFINITY;
+        for (int k = 1; k < numberOfVectors; k++) {
+            double distance = 0.0;
+            for (int g : generator) {
+                double coordinate = (double) ((long) k * g % numberOfVectors) / numberOfVectors;
+                double diff = Math.min(coordinate, 1.0 - coordinate);
+                distance += diff * diff;
+            }
+            if (distance < minimum) {
+                minimum = distance;
+                if (minimum <= bound) {
+                    break;
+                }
+            }
+        }
+        return minimum;
+    }
+
+    private static int greatestCommonDivisor(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
+    /**
+     * Reads a weight file, with one vector per line, from the classpath or, if it is not found
+     * there, from the file system
+     *
+     * @return the vectors, or null if the file does not exist
+     */
+    public static double[][] read(String fileName, int numberOfObjectives, int numberOfVectors) {
+        InputStream inputStream = UniformWeightVectors.class.getClassLoader().getResourceAsStream(fileName);
+        try {
+            if (inputStream == null) {
+                if (!new File(fileName).isFile()) {
+                    return null;
+                }
+                inputStream = new FileInputStream(fileName);
+            }
+        } catch (IOException e) {
+            throw new JMetalException("Error opening the weight file " + fileName, e);
+        }
+
+        double[][] vectors = new double[numberOfVectors][numberOfObjectives];
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(inputStream))) {
+            int i = 0;
+            String aux = br.readLine();
+            while ((aux != null) && (i < numberOfVectors)) {
+                StringTokenizer st = new StringTokenizer(aux);
+                int j = 0;
+                while (st.hasMoreTokens() && (j < numberOfObjectives)) {
+                    vectors[i][j] = Double.parseDouble(st.nextToken());
+                    j++;
+                }
+                aux = br.readLine();
+                i++;
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new JMetalException("Error reading the weight file " + fileName, e);
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,358 @@
+package org.uma.jmetal.util.neighborhood.util;
+
+import org.uma.jmetal.util.FileUtils;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.distance.KdTree;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Weight vectors and neighbourhoods of the subproblems of MOEA/D, shared by all the algorithms of
+ * the process. The weight vectors are read from a weight file if there is one for the given number
+ * of objectives and vectors, and generated by {@link UniformWeightVectors} otherwise. The
+ * neighbourhood of each subproblem, i.e., the T subproblems whose weight vectors are the nearest
+ * ones, is found with a {@link KdTree}, in parallel.
+ *
+ * <p>Both are kept in memory, keyed by the number of objectives, vectors and neighbours (and by the
+ * weight file or the weight vectors themselves), so building several algorithms with the same
+ * configuration, as in an experiment, computes them once. The neighbourhoods can also be stored in
+ * a directory, so that they are computed once across runs. The arrays returned are copies, so the
+ * algorithms can modify them.
+ */
+public class WeightVectorCache {
+    private static final WeightVectorCache instance = new WeightVectorCache();
+    private static final int FILE_MAGIC = 0x4a4d4e42;
+
+    private final Map<WeightVectorKey, double[][]> weightVectors = new ConcurrentHashMap<>();
+    private final Map<NeighborhoodKey, int[][]> neighborhoods = new ConcurrentHashMap<>();
+    private volatile Path directory;
+    private volatile boolean parallel = true;
+
+    /**
+     * Returns the cache shared by the whole process
+     */
+    public static WeightVectorCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Sets the directory where the neighbourhoods are stored; null (the default) to keep them only
+     * in memory
+     */
+    public WeightVectorCache setDirectory(Path directory) {
+        this.directory = directory;
+        return this;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets whether the neighbourhoods are computed in parallel (the default)
+     */
+    public WeightVectorCache setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Removes the weight vectors and neighbourhoods kept in memory
+     */
+    public void clear() {
+        weightVectors.clear();
+        neighborhoods.clear();
+    }
+
+    /**
+     * Returns the weight vectors of MOEA/D. With two objectives and up to 300 vectors, they are
+     * evenly spaced; otherwise, they are read from the file <code>W[M]D_[N].dat</code> of the data
+     * directory, which is looked for in the classpath and in the file system, and if there is no such
+     * file they are generated.
+     *
+     * @param numberOfObjectives Number of objectives (M)
+     * @param numberOfVectors    Number of weight vectors (N)
+     * @param dataDirectory      Directory of the weight files; it can be null
+     */
+    public double[][] getWeightVectors(int numberOfObjectives, int numberOfVectors, String dataDirectory) {
+        Check.that(numberOfObjectives > 1, "The number of objectives must be greater than one: " + numberOfObjectives);
+        Check.that(numberOfVectors > 0, "The number of vectors must be positive: " + numberOfVectors);
+
+        WeightVectorKey key = new WeightVectorKey(numberOfObjectives, numberOfVectors, dataDirectory);
+        double[][] vectors = weightVectors.computeIfAbsent(key, k -> loadWeightVectors(
+                numberOfObjectives, numberOfVectors, dataDirectory));
+        return copy(vectors);
+    }
+
+    private static double[][] loadWeightVectors(int numberOfObjectives, int numberOfVectors, String dataDirectory) {
+        if ((numberOfObjectives == 2) && (numberOfVectors <= 300)) {
+            return UniformWeightVectors.twoObjectives(numberOfVectors);
+        }
+
+        double[][] vectors = null;
+        if (dataDirectory != null) {
+            String fileName = "W" + numberOfObjectives + "D_" + numberOfVectors + ".dat";
+            vectors = UniformWeightVectors.read(dataDirectory + "/" + fileName, numberOfObjectives, numberOfVectors);
+        }
+        if (vectors == null) {
+            JMetalLogger.logger.info("No weight file for " + numberOfObjectives + " objectives and "
+                    + numberOfVectors + " vectors; the weight vectors are generated");
+            vectors = UniformWeightVectors.generate(numberOfObjectives, numberOfVectors);
+        }
+        return vectors;
+    }
+
+    /**
+     * Returns the neighbourhoods of a set of weight vectors: the row i contains the indices of the
+     * <code>neighborhoodSize</code> vectors nearest to vector i (including itself), sorted by
+     * distance. Vectors at the same distance are sorted as by
+     * <code>MOEADUtils.minFastSort</code>, so the neighbourhoods are the same as those computed by
+     * the previous versions of MOEA/D.
+     */
+    public int[][] getNeighborhood(double[][] vectors, int neighborhoodSize) {
+        Check.notNull(vectors);
+        Check.that((neighborhoodSize > 0) && (neighborhoodSize <= vectors.length),
+                "The neighborhood size must be between 1 and the number of vectors: " + neighborhoodSize);
+
+        NeighborhoodKey key = new NeighborhoodKey(copy(vectors), neighborhoodSize);
+        int[][] neighborhood = neighborhoods.computeIfAbsent(key, this::loadNeighborhood);
+        return copy(neighborhood);
+    }
+
+    private int[][] loadNeighborhood(NeighborhoodKey key) {
+        Path file = (directory == null) ? null : directory.resolve(key.getFileName());
+        int[][] neighborhood = null;
+        if ((file != null) && Files.isRegularFile(file)) {
+            neighborhood = read(file, key);
+        }
+        if (neighborhood == null) {
+            neighborhood = computeNeighborhood(key.vectors, key.neighborhoodSize, parallel);
+            if (file != null) {
+                write(file, key, neighborhood);
+            }
+        }
+        return neighborhood;
+    }
+
+    /**
+     * Computes the neighbourhoods of a set of weight vectors (see {@link #getNeighborhood}) without
+     * using the cache
+     */
+    public static int[][] computeNeighborhood(double[][] vectors, int neighborhoodSize, boolean parallel) {
+        Check.notNull(vectors);
+        Check.that((neighborhoodSize > 0) && (neighborhoodSize <= vectors.length),
+                "The neighborhood size must be between 1 and the number of vectors: " + neighborhoodSize);
+
+        KdTree tree = new KdTree(vectors);
+        int[][] neighborhood = new int[vectors.length][];
+        IntStream rows = IntStream.range(0, vectors.length);
+        (parallel ? rows.parallel() : rows).forEach(i ->
+                neighborhood[i] = nearestVectors(tree, vectors[i], neighborhoodSize));
+        return neighborhood;
+    }
+
+    /**
+     * Returns the T vectors nearest to a query. All the vectors at the T-th smallest distance are
+     * taken from the tree, and the partial selection sort of MOEA/D is applied to them, sorted by
+     * index, which is the order in which it would find them among all the vectors.
+     */
+    private static int[] nearestVectors(KdTree tree, double[] query, int neighborhoodSize) {
+        int numberOfCandidates = neighborhoodSize;
+        KdTree.Neighbors neighbors = tree.nearestNeighbors(query, numberOfCandidates);
+        double lastDistance = neighbors.getDistance(neighborhoodSize - 1);
+        while ((neighbors.size() == numberOfCandidates)
+                && (neighbors.getDistance(numberOfCandidates - 1) == lastDistance)
+                && (numberOfCandidates < tree.size())) {
+            numberOfCandidates = (int) Math.min(tree.size(), 2L * numberOfCandidates);
+            neighbors = tree.nearestNeighbors(query, numberOfCandidates);
+        }
+
+        int size = 0;
+        while ((size < neighbors.size()) && (neighbors.getDistance(size) <= lastDistance)) {
+            size++;
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        final KdTree.Neighbors candidates = neighbors;
+        Arrays.sort(order, (a, b) -> Integer.compare(candidates.getIndex(a), candidates.getIndex(b)));
+        double[] x = new double[size];
+        int[] idx = new int[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = candidates.getDistance(order[i]);
+            idx[i] = candidates.getIndex(order[i]);
+        }
+
+        // Partial selection sort of MOEADUtils.minFastSort
+        for (int i = 0; i < neighborhoodSize; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (x[i] > x[j]) {
+                    double temp = x[i];
+                    x[i] = x[j];
+                    x[j] = temp;
+                    int id = idx[i];
+                    idx[i] = idx[j];
+                    idx[j] = id;
+                }
+            }
+        }
+        return Arrays.copyOf(idx, neighborhoodSize);
+    }
+
+    private static int[][] read(Path file, NeighborhoodKey key) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if ((input.readInt() != FILE_MAGIC)
+                    || (input.readInt() != key.vectors.length)
+                    || (input.readInt() != key.numberOfObjectives)
+                    || (input.readInt() != key.neighborhoodSize)) {
+                return null;
+            }
+            for (double[] vector : key.vectors) {
+                for (double value : vector) {
+                    if (Double.doubleToLongBits(input.readDouble()) != Double.doubleToLongBits(value)) {
+                        return null;
+                    }
+                }
+            }
+            int[][] neighborhood = new int[key.vectors.length][key.neighborhoodSize];
+            for (int[] row : neighborhood) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = input.readInt();
+                }
+            }
+            return neighborhood;
+        } catch (IOException e) {
+            JMetalLogger.logger.warning("The neighborhood file " + file + " cannot be read: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the weight vectors and their neighbourhoods to a temporary file which is then renamed,
+     * so other processes never read an incomplete file. An error only leaves the file out of the
+     * cache.
+     */
+    private static void write(Path file, NeighborhoodKey key, int[][] neighborhood) {
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(FILE_MAGIC);
+                output.writeInt(key.vectors.length);
+                output.writeInt(key.numberOfObjectives);
+                output.writeInt(key.neighborhoodSize);
+                for (double[] vector : key.vectors) {
+                    for (double value : vector) {
+                        output.writeDouble(value);
+                    }
+                }
+                for (int[] row : neighborhood) {
+                    for (int value : row) {
+                        output.writeInt(value);
+                    }
+                }
+            }
+            FileUtils.moveReplacing(temporaryFile, file);
+        } catch (IOException e) {
+            JMetalLogger.logger.warning("The neighborhood file " + file + " cannot be written: " + e.getMessage());
+            try {
+                if (temporaryFile != null) {
+                    Files.deleteIfExists(temporaryFile);
+                }
+            } catch (IOException ignored) {
+                // The temporary file is left behind
+            }
+        }
+    }
+
+    private static double[][] copy(double[][] matrix) {
+        double[][] result = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            result[i] = matrix[i].clone();
+        }
+        return result;
+    }
+
+    private static int[][] copy(int[][] matrix) {
+        int[][] result = new int[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            result[i] = matrix[i].clone();
+        }
+        return result;
+    }
+
+    private static class WeightVectorKey {
+        private final int numberOfObjectives;
+        private final int numberOfVectors;
+        private final String dataDirectory;
+
+        WeightVectorKey(int numberOfObjectives, int numberOfVectors, String dataDirectory) {
+            this.numberOfObjectives = numberOfObjectives;
+            this.numberOfVectors = numberOfVectors;
+            this.dataDirectory = dataDirectory;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            WeightVectorKey that = (WeightVectorKey) o;
+            return numberOfObjectives == that.numberOfObjectives
+                    && numberOfVectors == that.numberOfVectors
+                    && Objects.equals(dataDirectory, that.dataDirectory);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(numberOfObjectives, numberOfVectors, dataDirectory);
+        }
+    }
+
+    /**
+     * Key of a neighbourhood: (M, N, T) and the weight vectors, which are compared by value
+     */
+    private static class NeighborhoodKey {
+        private final double[][] vectors;
+        private final int numberOfObjectives;
+        private final int neighborhoodSize;
+        private final int hash;
+
+        NeighborhoodKey(double[][] vectors, int neighborhoodSize) {
+            this.vectors = vectors;
+            this.numberOfObjectives = (vectors.length == 0) ? 0 : vectors[0].length;
+            this.neighborhoodSize = neighborhoodSize;
+            this.hash = 31 * Arrays.deepHashCode(vectors) + neighborhoodSize;
+        }
+
+        String getFileName() {
+            return String.format("W%dD_%d_T%d_%08x.nbh", numberOfObjectives, vectors.length, neighborhoodSize, hash);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            NeighborhoodKey that = (NeighborhoodKey) o;
+            return neighborhoodSize == that.neighborhoodSize && Arrays.deepEquals(vectors, that.vectors);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
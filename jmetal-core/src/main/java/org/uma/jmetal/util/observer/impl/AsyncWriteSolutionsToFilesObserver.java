@@ -0,0 +1,386 @@
+package org.uma.jmetal.util.observer.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.binaryfront.BinaryFront;
+import org.uma.jmetal.util.binaryfront.BinaryFrontHeader.Direction;
+import org.uma.jmetal.util.binaryfront.BinaryFrontWriter;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observer.Observer;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+/**
+ * Asynchronous version of {@link WriteSolutionsToFilesObserver}. Every <code>frequency</code>
+ * updates, the objectives and variables of the population are copied into a snapshot buffer taken
+ * from a pool, and the snapshot is handed to a background thread which writes it, so the algorithm
+ * only pays for the copy. The buffers are reused, so no garbage is generated once the pool is
+ * warm.
+ *
+ * <p>The snapshots can be written as in {@link WriteSolutionsToFilesObserver} (files VAR.x.tsv and
+ * FUN.x.tsv, where x is the update counter) or appended to a single log file, {@link
+ * #LOG_FILE_NAME}, as a sequence of fronts in the binary format of {@link BinaryFrontWriter}, which
+ * can be read with {@link BinaryFront#readAll(Path)}. Each front of the log has a column per
+ * objective (named f1, f2, ...) followed by a column per variable (x1, x2, ...) if the variables
+ * are numbers, and the metadata entries {@link #GENERATION_KEY} and {@link #EVALUATIONS_KEY}.
+ *
+ * <p>The number of snapshots waiting to be written is bounded by the size of the pool. When it is
+ * exhausted, the observer either blocks the algorithm until a snapshot has been written or drops
+ * the new one, as set by the {@link QueueFullPolicy}. {@link #close()} waits for the pending
+ * snapshots to be written and must be called when the algorithm has finished.
+ */
+public class AsyncWriteSolutionsToFilesObserver implements Observer<Map<String, Object>>, AutoCloseable {
+    public enum OutputMode {FILE_PER_GENERATION, SINGLE_LOG}
+
+    public enum QueueFullPolicy {BLOCK, DROP}
+
+    public static final String LOG_FILE_NAME = "generations.bin";
+    public static final String GENERATION_KEY = "generation";
+    public static final String EVALUATIONS_KEY = "evaluations";
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    private static final String SEPARATOR = "\t";
+    private static final AtomicInteger writerCounter = new AtomicInteger();
+
+    private final int frequency;
+    private final Path outputDirectory;
+    private final OutputMode outputMode;
+    private final QueueFullPolicy queueFullPolicy;
+
+    private final BlockingQueue<Snapshot> pool;
+    private final BlockingQueue<Snapshot> queue;
+    private final Snapshot endOfQueue;
+    private final Thread writer;
+    private final AtomicReference<Exception> failure;
+    private final AtomicLong writtenSnapshots;
+    private final AtomicLong droppedSnapshots;
+
+    private OutputStream logStream;
+    private int counter;
+    private volatile boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param frequency       Number of updates between two snapshots
+     * @param outputDirectory Directory of the output files, which is created if it does not exist
+     * @param outputMode      Whether a pair of files is written per snapshot or all of them are
+     *                        appended to a single log
+     * @param queueCapacity   Maximum number of snapshots waiting to be written
+     * @param queueFullPolicy What to do with a snapshot when there are already
+     *                        <code>queueCapacity</code> waiting to be written
+     */
+    public AsyncWriteSolutionsToFilesObserver(
+            int frequency,
+            String outputDirectory,
+            OutputMode outputMode,
+            int queueCapacity,
+            QueueFullPolicy queueFullPolicy) {
+        Check.that(frequency > 0, "The frequency must be positive: " + frequency);
+        Check.notNull(outputDirectory);
+        Check.notNull(outputMode);
+        Check.notNull(queueFullPolicy);
+        Check.that(queueCapacity > 0, "The queue capacity must be positive: " + queueCapacity);
+
+        this.frequency = frequency;
+        this.outputDirectory = Paths.get(outputDirectory);
+        this.outputMode = outputMode;
+        this.queueFullPolicy = queueFullPolicy;
+
+        try {
+            Files.createDirectories(this.outputDirectory);
+            if (outputMode == OutputMode.SINGLE_LOG) {
+                FileChannel channel = FileChannel.open(this.outputDirectory.resolve(LOG_FILE_NAME),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                logStream = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            }
+        } catch (IOException e) {
+            throw new JMetalException("Unable to create the output files in " + outputDirectory, e);
+        }
+
+        pool = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < queueCapacity; i++) {
+            pool.add(new Snapshot());
+        }
+        queue = new LinkedBlockingQueue<>();
+        endOfQueue = new Snapshot();
+        failure = new AtomicReference<>();
+        writtenSnapshots = new AtomicLong();
+        droppedSnapshots = new AtomicLong();
+
+        writer = new Thread(this::write, "jmetal-snapshot-writer-" + writerCounter.incrementAndGet());
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Constructor of an observer writing a pair of files per snapshot, which blocks the algorithm
+     * when {@link #DEFAULT_QUEUE_CAPACITY} snapshots are waiting to be written
+     */
+    public AsyncWriteSolutionsToFilesObserver(int frequency, String outputDirectory) {
+        this(frequency, outputDirectory, OutputMode.FILE_PER_GENERATION, DEFAULT_QUEUE_CAPACITY, QueueFullPolicy.BLOCK);
+    }
+
+    /**
+     * This method copies the population into a snapshot and queues it
+     *
+     * @param data Map of pairs (key, value)
+     */
+    @Override
+    public void update(Observable<Map<String, Object>> observable, Map<String, Object> data) {
+        Check.that(!closed, "The observer has been closed");
+        List<?> population = (List<?>) data.get("POPULATION");
+
+        if (population != null) {
+            if (counter % frequency == 0) {
+                Snapshot snapshot = takeSnapshotBuffer();
+                if (snapshot == null) {
+                    droppedSnapshots.incrementAndGet();
+                } else {
+                    Object evaluations = data.get("EVALUATIONS");
+                    snapshot.copy(
+                            (List<? extends Solution<?>>) population,
+                            counter,
+                            (evaluations instanceof Number) ? ((Number) evaluations).longValue() : -1,
+                            outputMode == OutputMode.SINGLE_LOG);
+                    queue.add(snapshot);
+                }
+            }
+        } else {
+            JMetalLogger.logger.warning(getClass().getName() + ": The POPULATION is null");
+        }
+
+        counter++;
+    }
+
+    private Snapshot takeSnapshotBuffer() {
+        if (queueFullPolicy == QueueFullPolicy.DROP) {
+            return pool.poll();
+        }
+        try {
+            return pool.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while waiting for a snapshot buffer", e);
+        }
+    }
+
+    /**
+     * Waits for the pending snapshots to be written and closes the log file. Any error raised when
+     * writing the snapshots is thrown here.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            queue.add(endOfQueue);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JMetalException("Interrupted while waiting for the snapshots to be written", e);
+            }
+            if (logStream != null) {
+                try {
+                    logStream.close();
+                } catch (IOException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }
+        if (failure.get() != null) {
+            throw new JMetalException("Error writing the snapshots in " + outputDirectory, failure.get());
+        }
+    }
+
+    /**
+     * Returns the number of snapshots written so far
+     */
+    public long getWrittenSnapshots() {
+        return writtenSnapshots.get();
+    }
+
+    /**
+     * Returns the number of snapshots dropped because the queue was full
+     */
+    public long getDroppedSnapshots() {
+        return droppedSnapshots.get();
+    }
+
+    /**
+     * Loop of the writer thread. After an error the snapshots are discarded, so that the algorithm
+     * is not blocked, and the error is reported by {@link #close()}.
+     */
+    private void write() {
+        BinaryFrontWriter frontWriter = new BinaryFrontWriter();
+        while (true) {
+            Snapshot snapshot;
+            try {
+                snapshot = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (snapshot == endOfQueue) {
+                return;
+            }
+
+            if (failure.get() == null) {
+                try {
+                    if (outputMode == OutputMode.SINGLE_LOG) {
+                        snapshot.appendTo(logStream, frontWriter);
+                    } else {
+                        snapshot.writeFiles(outputDirectory);
+                    }
+                    writtenSnapshots.incrementAndGet();
+                } catch (IOException | RuntimeException e) {
+                    if (failure.compareAndSet(null, e)) {
+                        JMetalLogger.logger.log(Level.SEVERE, "Error writing snapshot " + snapshot.generation, e);
+                    }
+                }
+            }
+            pool.add(snapshot);
+        }
+    }
+
+    public String getName() {
+        return "Asynchronous write solutions to files observer";
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+    /**
+     * Copy of the objectives and variables of a population. The rows hold the objectives followed by
+     * the variables, when they are numbers; otherwise the variables are kept as text, unless they are
+     * not needed. The arrays are reused when the dimensions do not change.
+     */
+    private static class Snapshot {
+        private int generation;
+        private long evaluations;
+        private int numberOfObjectives;
+        private int numberOfNumericVariables;
+        private double[][] rows = new double[0][];
+        private String[][] variableText;
+
+        void copy(List<? extends Solution<?>> population, int generation, long evaluations, boolean numbersOnly) {
+            this.generation = generation;
+            this.evaluations = evaluations;
+
+            Solution<?> first = population.isEmpty() ? null : population.get(0);
+            numberOfObjectives = (first == null) ? 0 : first.objectives().length;
+            int numberOfVariables = (first == null) ? 0 : first.variables().size();
+            boolean doubleVariables = true;
+            boolean numericVariables = true;
+            if (first != null) {
+                for (Object variable : first.variables()) {
+                    doubleVariables &= variable instanceof Double;
+                    numericVariables &= variable instanceof Number;
+                }
+            }
+            // The variables are written as numbers in the log; in text files, only doubles are, so
+            // that the other types keep their usual representation
+            boolean variablesAsNumbers = numbersOnly ? numericVariables : doubleVariables;
+            numberOfNumericVariables = variablesAsNumbers ? numberOfVariables : 0;
+
+            int numberOfColumns = numberOfObjectives + numberOfNumericVariables;
+            if ((rows.length != population.size()) || ((rows.length > 0) && (rows[0].length != numberOfColumns))) {
+                rows = new double[population.size()][numberOfColumns];
+            }
+            boolean textNeeded = !variablesAsNumbers && !numbersOnly;
+            if (textNeeded && ((variableText == null) || (variableText.length != population.size()))) {
+                variableText = new String[population.size()][];
+            }
+
+            for (int i = 0; i < population.size(); i++) {
+                Solution<?> solution = population.get(i);
+                System.arraycopy(solution.objectives(), 0, rows[i], 0, numberOfObjectives);
+                List<?> variables = solution.variables();
+                if (variablesAsNumbers) {
+                    for (int j = 0; j < numberOfNumericVariables; j++) {
+                        rows[i][numberOfObjectives + j] = ((Number) variables.get(j)).doubleValue();
+                    }
+                } else if (textNeeded) {
+                    if ((variableText[i] == null) || (variableText[i].length != variables.size())) {
+                        variableText[i] = new String[variables.size()];
+                    }
+                    for (int j = 0; j < variables.size(); j++) {
+                        variableText[i][j] = "" + variables.get(j);
+                    }
+                }
+            }
+            if (!textNeeded) {
+                variableText = null;
+            }
+        }
+
+        void appendTo(OutputStream outputStream, BinaryFrontWriter frontWriter) throws IOException {
+            int numberOfColumns = numberOfObjectives + numberOfNumericVariables;
+            List<Direction> directions = new ArrayList<>(numberOfColumns);
+            List<String> names = new ArrayList<>(numberOfColumns);
+            for (int j = 0; j < numberOfObjectives; j++) {
+                directions.add(Direction.MINIMIZE);
+                names.add("f" + (j + 1));
+            }
+            for (int j = 0; j < numberOfNumericVariables; j++) {
+                directions.add(Direction.UNSPECIFIED);
+                names.add("x" + (j + 1));
+            }
+            frontWriter
+                    .setDirections(directions)
+                    .setColumnNames(names)
+                    .putMetadata(GENERATION_KEY, "" + generation)
+                    .putMetadata(EVALUATIONS_KEY, "" + evaluations)
+                    .write(rows, outputStream);
+        }
+
+        void writeFiles(Path directory) throws IOException {
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    directory.resolve("FUN." + generation + ".tsv"), StandardCharsets.UTF_8)) {
+                for (double[] row : rows) {
+                    for (int j = 0; j < numberOfObjectives; j++) {
+                        writer.write((j == 0) ? "" + row[j] : SEPARATOR + row[j]);
+                    }
+                    writer.newLine();
+                }
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    directory.resolve("VAR." + generation + ".tsv"), StandardCharsets.UTF_8)) {
+                for (int i = 0; i < rows.length; i++) {
+                    if (variableText != null) {
+                        writer.write(String.join(SEPARATOR, variableText[i]));
+                    } else {
+                        for (int j = 0; j < numberOfNumericVariables; j++) {
+                            writer.write((j == 0) ? "" + rows[i][numberOfObjectives + j]
+                                    : SEPARATOR + rows[i][numberOfObjectives + j]);
+                        }
+                    }
+                    writer.newLine();
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package org.uma.jmetal.util.point;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.SlotAttributeMap;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -46,7 +46,7 @@ public class PointSolution implements Solution<Double> {
     public PointSolution(int numberOfObjectives) {
         this.numberOfObjectives = numberOfObjectives;
         objectives = new double[numberOfObjectives];
-        attributes = new HashMap<>();
+        attributes = new SlotAttributeMap();
     }
 
     /**
@@ -0,0 +1,242 @@
+package org.uma.jmetal.util.population;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Structure-of-arrays snapshot of the objective vectors of a list of solutions. The objectives of
+ * the whole population are copied into a single contiguous <code>double[]</code>, stored either
+ * row by row (all the objectives of a solution together) or column by column (all the values of an
+ * objective together), and the overall constraint violation degree of every solution is kept in a
+ * second array. Row <code>i</code> of the matrix corresponds to the solution at position
+ * <code>i</code> of the list, which can be obtained with {@link #solution(int)}.
+ *
+ * <p>The matrix is a snapshot: changes in the objectives of the solutions after the matrix has been
+ * created are not reflected unless {@link #update()} is invoked.
+ *
+ * @param <S> Solution type
+ */
+public class ObjectiveMatrix<S extends Solution<?>> {
+    public enum Layout {
+        ROW_MAJOR,
+        COLUMN_MAJOR
+    }
+
+    private final List<S> solutions;
+    private final int numberOfRows;
+    private final int numberOfObjectives;
+    private final Layout layout;
+    private final int rowStride;
+    private final int columnStride;
+    private final double[] data;
+    private final double[] constraintViolation;
+
+    /**
+     * Constructor. The objectives are stored in row-major order.
+     */
+    public ObjectiveMatrix(List<S> solutionList) {
+        this(solutionList, Layout.ROW_MAJOR);
+    }
+
+    /**
+     * Constructor
+     */
+    public ObjectiveMatrix(List<S> solutionList, Layout layout) {
+        Check.notNull(solutionList);
+        Check.notNull(layout);
+
+        this.solutions = Collections.unmodifiableList(new ArrayList<>(solutionList));
+        this.numberOfRows = solutionList.size();
+        this.numberOfObjectives = numberOfRows == 0 ? 0 : solutionList.get(0).objectives().length;
+        this.layout = layout;
+
+        if (layout == Layout.ROW_MAJOR) {
+            rowStride = numberOfObjectives;
+            columnStride = 1;
+        } else {
+            rowStride = 1;
+            columnStride = numberOfRows;
+        }
+
+        data = new double[numberOfRows * numberOfObjectives];
+        constraintViolation = new double[numberOfRows];
+
+        update();
+    }
+
+    /**
+     * Copies again the objectives and constraint violation degrees of the solutions into the matrix
+     */
+    public void update() {
+        for (int i = 0; i < numberOfRows; i++) {
+            S solution = solutions.get(i);
+            double[] objectives = solution.objectives();
+            Check.that(objectives.length == numberOfObjectives,
+                    "The solution " + i + " has " + objectives.length + " objectives instead of " + numberOfObjectives);
+            for (int j = 0; j < numberOfObjectives; j++) {
+                data[i * rowStride + j * columnStride] = objectives[j];
+            }
+            constraintViolation[i] = solution.constraints() == null
+                    ? 0.0
+                    : ConstraintHandling.overallConstraintViolationDegree(solution);
+        }
+    }
+
+    public int size() {
+        return numberOfRows;
+    }
+
+    public int getNumberOfObjectives() {
+        return numberOfObjectives;
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the value of an objective of the solution at row <code>index</code>
+     */
+    public double get(int index, int objective) {
+        return data[index * rowStride + objective * columnStride];
+    }
+
+    /**
+     * Returns the overall constraint violation degree of the solution at row <code>index</code>
+     */
+    public double getOverallConstraintViolation(int index) {
+        return constraintViolation[index];
+    }
+
+    /**
+     * Returns the solution at row <code>index</code>
+     */
+    public S solution(int index) {
+        return solutions.get(index);
+    }
+
+    /**
+     * Returns an unmodifiable view of the solutions of the matrix, in row order
+     */
+    public List<S> solutions() {
+        return solutions;
+    }
+
+    /**
+     * Returns the backing array. Element <code>(i, j)</code> is at position <code>i *
+     * getNumberOfObjectives() + j</code> in row-major layout and at position <code>j * size() + i
+     * </code> in column-major layout.
+     */
+    public double[] data() {
+        return data;
+    }
+
+    /**
+     * Dominance test between two rows, taking into account the constraint violation degree first as
+     * done by {@link org.uma.jmetal.util.comparator.DominanceComparator}.
+     *
+     * @return -1, or 0, or 1 if the first row dominates the second one, both are non-dominated, or
+     * the first row is dominated by the second one, respectively.
+     */
+    public int compareDominance(int index1, int index2) {
+        double violation1 = constraintViolation[index1];
+        double violation2 = constraintViolation[index2];
+        if ((violation1 < 0) && (violation2 < 0)) {
+            int result = Double.compare(violation2, violation1);
+            if (result != 0) {
+                return result;
+            }
+        } else if ((violation1 == 0) && (violation2 < 0)) {
+            return -1;
+        } else if ((violation1 < 0) && (violation2 == 0)) {
+            return 1;
+        }
+
+        boolean bestIsOne = false;
+        boolean bestIsTwo = false;
+        int position1 = index1 * rowStride;
+        int position2 = index2 * rowStride;
+        for (int j = 0; j < numberOfObjectives; j++) {
+            double value1 = data[position1];
+            double value2 = data[position2];
+            if (value1 < value2) {
+                bestIsOne = true;
+            } else if (value2 < value1) {
+                bestIsTwo = true;
+            }
+            position1 += columnStride;
+            position2 += columnStride;
+        }
+
+        return Boolean.compare(bestIsTwo, bestIsOne);
+    }
+
+    /**
+     * Returns true if the two rows have exactly the same objective values
+     */
+    public boolean hasEqualObjectives(int index1, int index2) {
+        int position1 = index1 * rowStride;
+        int position2 = index2 * rowStride;
+        for (int j = 0; j < numberOfObjectives; j++) {
+            if (data[position1] != data[position2]) {
+                return false;
+            }
+            position1 += columnStride;
+            position2 += columnStride;
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the given row indices in ascending order of an objective. The sort is stable, so rows
+     * having the same value keep their relative order in <code>indices</code>.
+     */
+    public void sortByObjective(int[] indices, int objective) {
+        int[] buffer = new int[indices.length];
+        mergeSort(indices, buffer, 0, indices.length, objective * columnStride);
+    }
+
+    private void mergeSort(int[] indices, int[] buffer, int from, int to, int offset) {
+        if (to - from < 2) {
+            return;
+        }
+        if (to - from <= 16) {
+            for (int i = from + 1; i < to; i++) {
+                int index = indices[i];
+                double value = data[index * rowStride + offset];
+                int k = i - 1;
+                while ((k >= from) && (Double.compare(data[indices[k] * rowStride + offset], value) > 0)) {
+                    indices[k + 1] = indices[k];
+                    k--;
+                }
+                indices[k + 1] = index;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(indices, buffer, from, middle, offset);
+        mergeSort(indices, buffer, middle, to, offset);
+        if (Double.compare(data[indices[middle - 1] * rowStride + offset], data[indices[middle] * rowStride + offset]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(indices, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if ((right >= to)
+                    || ((left < middle)
+                    && (Double.compare(data[buffer[left] * rowStride + offset], data[buffer[right] * rowStride + offset]) <= 0))) {
+                indices[i] = buffer[left++];
+            } else {
+                indices[i] = buffer[right++];
+            }
+        }
+    }
+}
@@ -5,53 +5,121 @@ import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 import java.io.Serializable;
 
 /**
+ * Random number service used by the operators and the algorithms. By default, all the draws come
+ * from a single shared {@link PseudoRandomGenerator}. A generator can also be bound to the current
+ * thread with {@link #setThreadRandomGenerator(PseudoRandomGenerator)} (see {@link
+ * RandomStreams#runWithStream(long, Runnable)}), and {@link #setThreadLocalStreams(RandomStreams)}
+ * gives every thread its own stream, so that parallel code does not contend on the shared
+ * generator.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-    private static JMetalRandom instance;
+    private static final JMetalRandom instance = new JMetalRandom();
+    private static final ThreadLocal<PseudoRandomGenerator> threadGenerator = new ThreadLocal<>();
+    private static final ThreadLocal<ThreadStream> threadStream = new ThreadLocal<>();
+
     private PseudoRandomGenerator randomGenerator;
+    private transient volatile RandomStreams threadLocalStreams;
 
     private JMetalRandom() {
         randomGenerator = new JavaRandomGenerator();
     }
 
     public static JMetalRandom getInstance() {
-        if (instance == null) {
-            instance = new JMetalRandom();
-        }
         return instance;
     }
 
+    /**
+     * Sets the shared generator
+     */
     public void setRandomGenerator(PseudoRandomGenerator randomGenerator) {
         this.randomGenerator = randomGenerator;
     }
 
+    /**
+     * Returns the generator used by the current thread: the one bound to it, if any, then its
+     * thread-local stream, if they are enabled, and the shared generator otherwise
+     */
     public PseudoRandomGenerator getRandomGenerator() {
+        PseudoRandomGenerator generator = threadGenerator.get();
+        if (generator != null) {
+            return generator;
+        }
+
+        RandomStreams streams = threadLocalStreams;
+        if (streams != null) {
+            ThreadStream stream = threadStream.get();
+            if ((stream == null) || (stream.streams != streams)) {
+                stream = new ThreadStream(streams, streams.nextThreadStream());
+                threadStream.set(stream);
+            }
+            return stream.generator;
+        }
+
         return randomGenerator;
     }
 
+    /**
+     * Binds a generator to the current thread, which will use it instead of the shared one; a null
+     * value removes the binding
+     *
+     * @return the generator previously bound to the thread, or null
+     */
+    public PseudoRandomGenerator setThreadRandomGenerator(PseudoRandomGenerator generator) {
+        PseudoRandomGenerator previous = threadGenerator.get();
+        if (generator == null) {
+            threadGenerator.remove();
+        } else {
+            threadGenerator.set(generator);
+        }
+        return previous;
+    }
+
+    /**
+     * Makes each thread without a bound generator draw its numbers from its own stream of the given
+     * family; a null value makes the threads use the shared generator again
+     */
+    public void setThreadLocalStreams(RandomStreams streams) {
+        this.threadLocalStreams = streams;
+    }
+
+    public RandomStreams getThreadLocalStreams() {
+        return threadLocalStreams;
+    }
+
     public int nextInt(int lowerBound, int upperBound) {
-        return randomGenerator.nextInt(lowerBound, upperBound);
+        return getRandomGenerator().nextInt(lowerBound, upperBound);
     }
 
     public double nextDouble() {
-        return randomGenerator.nextDouble();
+        return getRandomGenerator().nextDouble();
     }
 
     public double nextDouble(double lowerBound, double upperBound) {
-        return randomGenerator.nextDouble(lowerBound, upperBound);
+        return getRandomGenerator().nextDouble(lowerBound, upperBound);
     }
 
     public void setSeed(long seed) {
-        randomGenerator.setSeed(seed);
+        getRandomGenerator().setSeed(seed);
     }
 
     public long getSeed() {
-        return randomGenerator.getSeed();
+        return getRandomGenerator().getSeed();
     }
 
     public String getGeneratorName() {
-        return randomGenerator.getName();
+        return getRandomGenerator().getName();
+    }
+
+    private static class ThreadStream {
+        private final RandomStreams streams;
+        private final PseudoRandomGenerator generator;
+
+        ThreadStream(RandomStreams streams, PseudoRandomGenerator generator) {
+            this.streams = streams;
+            this.generator = generator;
+        }
     }
 }
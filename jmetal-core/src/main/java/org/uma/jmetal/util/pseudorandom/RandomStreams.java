@@ -0,0 +1,114 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Family of independent random streams derived from a master seed. The seed of the stream with
+ * index <code>i</code> is obtained by mixing the master seed and <code>i</code> with the SplitMix64
+ * finalizer, so every stream depends only on the master seed and its index, and not on the thread
+ * that uses it or on the order in which the streams are requested.
+ *
+ * <p>The streams are used through {@link JMetalRandom}, so the operators do not need to be changed:
+ * <ul>
+ *   <li>{@link #runWithStream(long, Runnable)} binds the stream with a given index to the current
+ *   thread while a task is run. If each task (e.g., the crossover of a pair of parents, or the
+ *   evaluation of a solution) is given a fixed index, the results are reproducible regardless of the
+ *   number of threads and of the scheduling.</li>
+ *   <li>{@link JMetalRandom#setThreadLocalStreams(RandomStreams)} gives each thread its own stream
+ *   the first time it draws a number, which removes the contention on the shared generator. The
+ *   streams are assigned in the order in which the threads first use the generator.</li>
+ * </ul>
+ * The generators are created by a factory receiving the seed of each stream, so any {@link
+ * PseudoRandomGenerator} can be used; by default, they are {@link SplittableRandomGenerator}s.
+ */
+public class RandomStreams {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long masterSeed;
+    private final LongFunction<PseudoRandomGenerator> generatorFactory;
+    private final AtomicLong nextThreadStream;
+
+    /**
+     * Constructor
+     *
+     * @param masterSeed       Seed from which the seeds of the streams are derived
+     * @param generatorFactory Function creating a generator from the seed of a stream
+     */
+    public RandomStreams(long masterSeed, LongFunction<PseudoRandomGenerator> generatorFactory) {
+        Check.notNull(generatorFactory);
+        this.masterSeed = masterSeed;
+        this.generatorFactory = generatorFactory;
+        this.nextThreadStream = new AtomicLong();
+    }
+
+    /**
+     * Constructor of streams of {@link SplittableRandomGenerator}s
+     */
+    public RandomStreams(long masterSeed) {
+        this(masterSeed, SplittableRandomGenerator::new);
+    }
+
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Returns a new generator positioned at the beginning of the stream with the given index
+     */
+    public PseudoRandomGenerator getStream(long index) {
+        return generatorFactory.apply(seedOf(masterSeed, index));
+    }
+
+    /**
+     * Returns the stream following the last one handed to a thread
+     */
+    PseudoRandomGenerator nextThreadStream() {
+        return getStream(nextThreadStream.getAndIncrement());
+    }
+
+    /**
+     * Runs a task drawing its random numbers from the stream with the given index. The stream is
+     * bound to the current thread in {@link JMetalRandom} and the previous binding is restored at
+     * the end.
+     */
+    public void runWithStream(long index, Runnable task) {
+        callWithStream(index, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Computes a result drawing the random numbers from the stream with the given index
+     *
+     * @see #runWithStream(long, Runnable)
+     */
+    public <T> T callWithStream(long index, Supplier<T> task) {
+        Check.notNull(task);
+        JMetalRandom random = JMetalRandom.getInstance();
+        PseudoRandomGenerator previous = random.setThreadRandomGenerator(getStream(index));
+        try {
+            return task.get();
+        } finally {
+            random.setThreadRandomGenerator(previous);
+        }
+    }
+
+    /**
+     * Returns the seed of the stream with the given index
+     */
+    public static long seedOf(long masterSeed, long index) {
+        return mix64(masterSeed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
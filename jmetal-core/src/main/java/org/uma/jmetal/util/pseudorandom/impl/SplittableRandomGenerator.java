@@ -0,0 +1,65 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generator based on {@link SplittableRandom}. Unlike {@link JavaRandomGenerator}, which is backed
+ * by a {@link java.util.Random} updated with a compare-and-set on every draw, it has no
+ * synchronization at all, so each instance must be used by a single thread. It is the default
+ * generator of the streams handed to threads and tasks by {@link
+ * org.uma.jmetal.util.pseudorandom.RandomStreams}.
+ */
+@SuppressWarnings("serial")
+public class SplittableRandomGenerator implements PseudoRandomGenerator {
+    private SplittableRandom rnd;
+    private long seed;
+    private static final String NAME = "SplittableRandomGenerator";
+
+    /**
+     * Constructor
+     */
+    public SplittableRandomGenerator() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Constructor
+     */
+    public SplittableRandomGenerator(long seed) {
+        this.seed = seed;
+        rnd = new SplittableRandom(seed);
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public int nextInt(int lowerBound, int upperBound) {
+        return lowerBound + rnd.nextInt((upperBound - lowerBound) + 1);
+    }
+
+    @Override
+    public double nextDouble(double lowerBound, double upperBound) {
+        return lowerBound + rnd.nextDouble() * (upperBound - lowerBound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return nextDouble(0.0, 1.0);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        rnd = new SplittableRandom(seed);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,362 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+import ru.ifmo.nds.JensenFortinBuzdalov;
+import ru.ifmo.nds.NonDominatedSorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Non-dominated sorting {@link Ranking} choosing the sorting algorithm according to the size of the
+ * population and the number of objectives:
+ * <ul>
+ *   <li>{@link Strategy#DIVIDE_AND_CONQUER}: the Jensen-Fortin-Buzdalov divide-and-conquer algorithm
+ *   (O(N log^{M-1} N)), provided by the
+ *   <a href="https://github.com/mbuzdalov/non-dominated-sorting">non-dominated sorting repository</a>
+ *   (hybridized with ENS for small subproblems). It is the best choice for a low number of
+ *   objectives.</li>
+ *   <li>{@link Strategy#PARALLEL_DOMINANCE_MATRIX}: the dominance counters and dominated sets of the
+ *   fast non-dominated sorting algorithm are built in parallel in a {@link ForkJoinPool}, each task
+ *   handling a block of rows of the dominance matrix, and the fronts are then peeled sequentially.
+ *   It is the best choice when there are many objectives, as the divide-and-conquer algorithm
+ *   degrades with the number of objectives.</li>
+ *   <li>{@link Strategy#AUTOMATIC} (default): selects one of the above for each call to
+ *   {@link #compute(List)}. The dominance matrix is used for small populations, and for medium-size
+ *   populations with many objectives when the pool has more than one thread; the
+ *   divide-and-conquer algorithm is used otherwise.</li>
+ * </ul>
+ *
+ * <p>The ranks are the same as those computed by {@link FastNonDominatedSortRanking} with the
+ * default {@link org.uma.jmetal.util.comparator.DominanceComparator}: if some solution violates the
+ * constraints, the solutions are grouped by their overall constraint violation degree, in
+ * decreasing order, and each group is sorted after the previous one. Solutions of the same rank
+ * appear in the sub-fronts in the order of the input list.
+ *
+ * @param <S> Solution type
+ */
+public class AdaptiveNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+    public enum Strategy {
+        AUTOMATIC,
+        DIVIDE_AND_CONQUER,
+        PARALLEL_DOMINANCE_MATRIX
+    }
+
+    /* Below this size the sequential dominance matrix is faster than any other strategy */
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+    /* Above this number of objectives the divide-and-conquer algorithm is not used by default */
+    private static final int MAXIMUM_NUMBER_OF_OBJECTIVES_FOR_DIVIDE_AND_CONQUER = 5;
+    /* Above this size the quadratic cost of the dominance matrix dominates even when parallelized */
+    private static final int MAXIMUM_SIZE_FOR_DOMINANCE_MATRIX = 4096;
+    /* Number of rows of the dominance matrix computed by each fork-join task */
+    private static final int ROWS_PER_TASK = 32;
+
+    private final String attributeId = getClass().getName();
+    private final AttributeKey rankKey = AttributeKey.of(attributeId);
+
+    private final Strategy strategy;
+    private final ForkJoinPool pool;
+
+    private List<ArrayList<S>> rankedSubPopulations;
+    private NonDominatedSorting sortingInstance;
+
+    /**
+     * Constructor
+     *
+     * @param strategy Sorting strategy
+     * @param pool     Pool used by the {@link Strategy#PARALLEL_DOMINANCE_MATRIX} strategy
+     */
+    public AdaptiveNonDominatedSortRanking(Strategy strategy, ForkJoinPool pool) {
+        Check.notNull(strategy);
+        Check.notNull(pool);
+        this.strategy = strategy;
+        this.pool = pool;
+        this.rankedSubPopulations = new ArrayList<>();
+    }
+
+    /**
+     * Constructor
+     */
+    public AdaptiveNonDominatedSortRanking(Strategy strategy) {
+        this(strategy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor
+     */
+    public AdaptiveNonDominatedSortRanking() {
+        this(Strategy.AUTOMATIC);
+    }
+
+    @Override
+    public Ranking<S> compute(List<S> solutionList) {
+        Check.notNull(solutionList);
+        rankedSubPopulations = new ArrayList<>();
+        int numberOfSolutions = solutionList.size();
+        if (numberOfSolutions == 0) {
+            return this;
+        }
+
+        int numberOfObjectives = solutionList.get(0).objectives().length;
+        double[] violation = new double[numberOfSolutions];
+        boolean hasConstraintViolation = false;
+        for (int i = 0; i < numberOfSolutions; i++) {
+            S solution = solutionList.get(i);
+            Check.that(solution.objectives().length == numberOfObjectives,
+                    "Solutions have different numbers of objectives");
+            violation[i] = ConstraintHandling.overallConstraintViolationDegree(solution);
+            hasConstraintViolation |= violation[i] < 0;
+        }
+
+        int[] ranks = new int[numberOfSolutions];
+        if (!hasConstraintViolation) {
+            sort(solutionList, ranks, numberOfObjectives);
+        } else {
+            // Groups of solutions with the same constraint violation degree are sorted separately,
+            // from the least to the most violating one, as every solution of a group is dominated by
+            // all the solutions of the previous groups
+            Integer[] order = new Integer[numberOfSolutions];
+            for (int i = 0; i < numberOfSolutions; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (i, j) -> Double.compare(violation[j], violation[i]));
+
+            int rankOffset = 0;
+            int groupStart = 0;
+            while (groupStart < numberOfSolutions) {
+                int groupEnd = groupStart + 1;
+                while ((groupEnd < numberOfSolutions) && (violation[order[groupEnd]] == violation[order[groupStart]])) {
+                    groupEnd++;
+                }
+
+                List<S> group = new ArrayList<>(groupEnd - groupStart);
+                for (int k = groupStart; k < groupEnd; k++) {
+                    group.add(solutionList.get(order[k]));
+                }
+                int[] groupRanks = new int[group.size()];
+                int maxRank = sort(group, groupRanks, numberOfObjectives);
+                for (int k = groupStart; k < groupEnd; k++) {
+                    ranks[order[k]] = groupRanks[k - groupStart] + rankOffset;
+                }
+
+                rankOffset += maxRank + 1;
+                groupStart = groupEnd;
+            }
+        }
+
+        for (int i = 0; i < numberOfSolutions; i++) {
+            S solution = solutionList.get(i);
+            rankKey.setInt(solution, ranks[i]);
+            while (rankedSubPopulations.size() <= ranks[i]) {
+                rankedSubPopulations.add(new ArrayList<>());
+            }
+            rankedSubPopulations.get(ranks[i]).add(solution);
+        }
+
+        return this;
+    }
+
+    /**
+     * Computes the Pareto ranks, without considering constraints, of a list of solutions
+     *
+     * @return the maximum rank
+     */
+    private int sort(List<S> solutions, int[] ranks, int numberOfObjectives) {
+        int size = solutions.size();
+        switch (selectStrategy(size, numberOfObjectives)) {
+            case DIVIDE_AND_CONQUER:
+                double[][] points = new double[size][];
+                for (int i = 0; i < size; i++) {
+                    points[i] = solutions.get(i).objectives();
+                }
+                ensureSortingInstance(size, numberOfObjectives);
+                sortingInstance.sort(points, ranks, size);
+                break;
+            default:
+                double[] objectives = new double[size * numberOfObjectives];
+                for (int i = 0; i < size; i++) {
+                    System.arraycopy(solutions.get(i).objectives(), 0, objectives, i * numberOfObjectives, numberOfObjectives);
+                }
+                dominanceMatrixSort(objectives, size, numberOfObjectives, ranks, size >= SEQUENTIAL_THRESHOLD);
+                break;
+        }
+
+        int maxRank = 0;
+        for (int i = 0; i < size; i++) {
+            maxRank = Math.max(maxRank, ranks[i]);
+        }
+        return maxRank;
+    }
+
+    private Strategy selectStrategy(int size, int numberOfObjectives) {
+        if (strategy != Strategy.AUTOMATIC) {
+            return strategy;
+        }
+        if (size < SEQUENTIAL_THRESHOLD) {
+            return Strategy.PARALLEL_DOMINANCE_MATRIX;
+        }
+        if ((numberOfObjectives > MAXIMUM_NUMBER_OF_OBJECTIVES_FOR_DIVIDE_AND_CONQUER)
+                && (pool.getParallelism() > 1)
+                && (size <= MAXIMUM_SIZE_FOR_DOMINANCE_MATRIX)) {
+            return Strategy.PARALLEL_DOMINANCE_MATRIX;
+        }
+        return Strategy.DIVIDE_AND_CONQUER;
+    }
+
+    private void ensureSortingInstance(int numberOfPoints, int numberOfObjectives) {
+        if ((sortingInstance == null)
+                || (sortingInstance.getMaximumPoints() < numberOfPoints)
+                || (sortingInstance.getMaximumDimension() < numberOfObjectives)) {
+            if (sortingInstance != null) {
+                sortingInstance.close();
+            }
+            sortingInstance = JensenFortinBuzdalov
+                    .getRedBlackTreeSweepHybridENSImplementation(1)
+                    .getInstance(numberOfPoints, numberOfObjectives);
+        }
+    }
+
+    /**
+     * Fast non-dominated sorting on a row-major objective array. The dominance counters and the
+     * dominated sets of every row are independent, so they can be computed in parallel.
+     */
+    private void dominanceMatrixSort(double[] objectives, int size, int numberOfObjectives, int[] ranks, boolean parallel) {
+        int[] dominateMe = new int[size];
+        int[][] iDominate = new int[size][];
+
+        DominanceMatrixTask task = new DominanceMatrixTask(objectives, size, numberOfObjectives, dominateMe, iDominate, 0, size);
+        if (parallel) {
+            pool.invoke(task);
+        } else {
+            task.compute();
+        }
+
+        int[] front = new int[size];
+        int end = 0;
+        for (int p = 0; p < size; p++) {
+            if (dominateMe[p] == 0) {
+                front[end++] = p;
+                ranks[p] = 0;
+            }
+        }
+
+        int start = 0;
+        int rank = 0;
+        while (end > start) {
+            rank++;
+            int frontEnd = end;
+            for (int k = start; k < frontEnd; k++) {
+                for (int q : iDominate[front[k]]) {
+                    if (--dominateMe[q] == 0) {
+                        front[end++] = q;
+                        ranks[q] = rank;
+                    }
+                }
+            }
+            start = frontEnd;
+        }
+    }
+
+    private static class DominanceMatrixTask extends RecursiveAction {
+        private final double[] objectives;
+        private final int size;
+        private final int numberOfObjectives;
+        private final int[] dominateMe;
+        private final int[][] iDominate;
+        private final int from;
+        private final int to;
+
+        DominanceMatrixTask(double[] objectives, int size, int numberOfObjectives, int[] dominateMe,
+                            int[][] iDominate, int from, int to) {
+            this.objectives = objectives;
+            this.size = size;
+            this.numberOfObjectives = numberOfObjectives;
+            this.dominateMe = dominateMe;
+            this.iDominate = iDominate;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if ((to - from > ROWS_PER_TASK) && (getPool() != null)) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new DominanceMatrixTask(objectives, size, numberOfObjectives, dominateMe, iDominate, from, middle),
+                        new DominanceMatrixTask(objectives, size, numberOfObjectives, dominateMe, iDominate, middle, to));
+                return;
+            }
+
+            int[] dominated = new int[16];
+            for (int p = from; p < to; p++) {
+                int numberOfDominated = 0;
+                int numberOfDominating = 0;
+                for (int q = 0; q < size; q++) {
+                    if (q != p) {
+                        int flag = dominanceTest(p, q);
+                        if (flag == -1) {
+                            if (numberOfDominated == dominated.length) {
+                                dominated = Arrays.copyOf(dominated, Math.min(size, 2 * numberOfDominated));
+                            }
+                            dominated[numberOfDominated++] = q;
+                        } else if (flag == 1) {
+                            numberOfDominating++;
+                        }
+                    }
+                }
+                dominateMe[p] = numberOfDominating;
+                iDominate[p] = Arrays.copyOf(dominated, numberOfDominated);
+            }
+        }
+
+        private int dominanceTest(int p, int q) {
+            boolean bestIsOne = false;
+            boolean bestIsTwo = false;
+            int position1 = p * numberOfObjectives;
+            int position2 = q * numberOfObjectives;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                double value1 = objectives[position1 + j];
+                double value2 = objectives[position2 + j];
+                if (value1 < value2) {
+                    bestIsOne = true;
+                } else if (value2 < value1) {
+                    bestIsTwo = true;
+                }
+                if (bestIsOne && bestIsTwo) {
+                    return 0;
+                }
+            }
+            return Boolean.compare(bestIsTwo, bestIsOne);
+        }
+    }
+
+    @Override
+    public List<S> getSubFront(int rank) {
+        Check.that(rank < rankedSubPopulations.size(),
+                "Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+        return rankedSubPopulations.get(rank);
+    }
+
+    @Override
+    public int getNumberOfSubFronts() {
+        return rankedSubPopulations.size();
+    }
+
+    @Override
+    public Integer getRank(S solution) {
+        Check.notNull(solution);
+        return rankKey.getInt(solution, -1);
+    }
+
+    @Override
+    public Object getAttributedId() {
+        return attributeId;
+    }
+}
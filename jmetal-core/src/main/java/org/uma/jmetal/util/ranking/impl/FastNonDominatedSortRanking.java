@@ -1,12 +1,15 @@
 package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
 import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.population.ObjectiveMatrix;
 import org.uma.jmetal.util.ranking.Ranking;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
@@ -24,7 +27,10 @@ import java.util.Iterator;
 public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
 
     private String attributeId = getClass().getName();
+    private AttributeKey rankKey = AttributeKey.of(attributeId);
     private Comparator<S> dominanceComparator;
+    /* true if the dominance comparator is the default one, so the objective matrix can be used */
+    private boolean usesDefaultDominanceComparator;
     /* 约束违反情况比较 */
     private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR
             = new ConstraintViolationComparator<Solution<?>>();
@@ -46,6 +52,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     /* Constructor */
     public FastNonDominatedSortRanking() {
         this(new DominanceComparator<>());
+        usesDefaultDominanceComparator = true;
     }
 
     @Override
@@ -96,7 +103,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
         for (int i = 0; i < population.size(); i++) {
             if (dominateMe[i] == 0) {
                 front.get(0).add(i);
-                solutionList.get(i).attributes().put(attributeId, 0);
+                rankKey.setInt(solutionList.get(i), 0);
             }
         }
         /* end 确定支配关系 */
@@ -114,7 +121,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
                     dominateMe[index]--;
                     if (dominateMe[index] == 0) {
                         front.get(i).add(index);
-                        solutionList.get(index).attributes().put(attributeId, i);
+                        rankKey.setInt(solutionList.get(index), i);
                     }
                 }
             }
@@ -134,6 +141,89 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
         return this;
     }
 
+    /**
+     * Computes the ranking working directly on the objective values stored in an {@link
+     * ObjectiveMatrix}. The result is the same as the one of {@link #compute(List)} applied to {@link
+     * ObjectiveMatrix#solutions()}. If this ranking was created with a custom dominance comparator,
+     * the list version is used instead, as the comparator cannot be applied to the matrix.
+     */
+    public Ranking<S> compute(ObjectiveMatrix<S> matrix) {
+        if (!usesDefaultDominanceComparator) {
+            return compute(matrix.solutions());
+        }
+
+        int populationSize = matrix.size();
+        int[] dominateMe = new int[populationSize];
+        int[][] iDominate = new int[populationSize][];
+        int[] iDominateSize = new int[populationSize];
+        for (int p = 0; p < populationSize; p++) {
+            iDominate[p] = new int[4];
+        }
+
+        for (int p = 0; p < populationSize - 1; p++) {
+            for (int q = p + 1; q < populationSize; q++) {
+                int flagDominate = matrix.compareDominance(p, q);
+                if (flagDominate == -1) {
+                    iDominate[p] = append(iDominate[p], iDominateSize[p]++, q);
+                    dominateMe[q]++;
+                } else if (flagDominate == 1) {
+                    iDominate[q] = append(iDominate[q], iDominateSize[q]++, p);
+                    dominateMe[p]++;
+                }
+            }
+        }
+
+        // The fronts are stored consecutively in a single array; frontStart[i] is the position of
+        // the first member of front i
+        int[] fronts = new int[populationSize];
+        int[] frontStart = new int[populationSize + 1];
+        int end = 0;
+        for (int p = 0; p < populationSize; p++) {
+            if (dominateMe[p] == 0) {
+                fronts[end++] = p;
+                rankKey.setInt(matrix.solution(p), 0);
+            }
+        }
+
+        int numberOfFronts = 0;
+        int start = 0;
+        while (end > start) {
+            numberOfFronts++;
+            frontStart[numberOfFronts] = end;
+            for (int k = start, frontEnd = end; k < frontEnd; k++) {
+                int p = fronts[k];
+                for (int l = 0; l < iDominateSize[p]; l++) {
+                    int index = iDominate[p][l];
+                    dominateMe[index]--;
+                    if (dominateMe[index] == 0) {
+                        fronts[end++] = index;
+                        rankKey.setInt(matrix.solution(index), numberOfFronts);
+                    }
+                }
+            }
+            start = frontStart[numberOfFronts];
+        }
+
+        rankedSubPopulations = new ArrayList<>(numberOfFronts);
+        for (int j = 0; j < numberOfFronts; j++) {
+            ArrayList<S> subFront = new ArrayList<>(frontStart[j + 1] - frontStart[j]);
+            for (int k = frontStart[j]; k < frontStart[j + 1]; k++) {
+                subFront.add(matrix.solution(fronts[k]));
+            }
+            rankedSubPopulations.add(subFront);
+        }
+
+        return this;
+    }
+
+    private static int[] append(int[] array, int size, int value) {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, size * 2);
+        }
+        array[size] = value;
+        return array;
+    }
+
     @Override
     public List<S> getSubFront(int rank) {
         Check.that(rank < rankedSubPopulations.size(),
@@ -149,11 +239,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     @Override
     public Integer getRank(S solution) {
         Check.notNull(solution);
-        Integer result = -1;
-        if (solution.attributes().get(attributeId) != null) {
-            result = (Integer) solution.attributes().get(attributeId);
-        }
-        return result;
+        return rankKey.getInt(solution, -1);
     }
 
     @Override
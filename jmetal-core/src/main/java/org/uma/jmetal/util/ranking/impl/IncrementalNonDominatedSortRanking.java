@@ -0,0 +1,289 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Non-dominated sorting {@link Ranking} keeping the fronts between calls, so that solutions can be
+ * inserted and removed one at a time without sorting the whole population again. It is intended for
+ * steady-state algorithms, where re-ranking the population for each new solution costs O(MN^2) per
+ * evaluation.
+ *
+ * <p>The fronts are updated following the efficient non-dominated level update (ENLU) approach:
+ * <ul>
+ *   <li>{@link #insert(Solution)}: the front of the new solution is found with a binary search over
+ *   the fronts (if a solution of front <code>k</code> dominates the new one, some solution of every
+ *   front before <code>k</code> dominates it as well), and the solutions it dominates in that front
+ *   are moved one front down, which can in turn move solutions of the following fronts.</li>
+ *   <li>{@link #remove(Solution)}: the solutions of the next front which are no longer dominated by
+ *   any solution of the front of the removed one are moved one front up, and so on.</li>
+ * </ul>
+ * Only the fronts affected by an update are visited, so the cost is usually much lower than the
+ * one of a full sort. The ranks are the same as those computed by {@link FastNonDominatedSortRanking}
+ * with the same dominance comparator. Solutions are tracked by identity.
+ *
+ * @param <S> Solution type
+ */
+public class IncrementalNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+    private final String attributeId = getClass().getName();
+    private final AttributeKey rankKey = AttributeKey.of(attributeId);
+
+    private final Comparator<S> dominanceComparator;
+
+    private final List<List<S>> fronts;
+    private final Set<S> members;
+
+    /**
+     * Constructor
+     */
+    public IncrementalNonDominatedSortRanking(Comparator<S> dominanceComparator) {
+        Check.notNull(dominanceComparator);
+        this.dominanceComparator = dominanceComparator;
+        this.fronts = new ArrayList<>();
+        this.members = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Constructor
+     */
+    public IncrementalNonDominatedSortRanking() {
+        this(new DominanceComparator<>());
+    }
+
+    /**
+     * Discards the current fronts and ranks the solutions of the list
+     */
+    @Override
+    public Ranking<S> compute(List<S> solutionList) {
+        Check.notNull(solutionList);
+        fronts.clear();
+        members.clear();
+        for (S solution : solutionList) {
+            insert(solution);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a solution to the ranking, updating the ranks of the solutions it dominates
+     *
+     * @return the rank of the solution
+     */
+    public int insert(S solution) {
+        Check.notNull(solution);
+        Check.that(!members.contains(solution), "The solution is already ranked");
+
+        int low = 0;
+        int high = fronts.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (isDominatedByFront(solution, fronts.get(middle))) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int rank = low;
+
+        members.add(solution);
+        if (rank == fronts.size()) {
+            fronts.add(new ArrayList<>());
+        }
+        List<S> moved = extractDominated(fronts.get(rank), Collections.singletonList(solution));
+        addToFront(solution, rank);
+
+        int level = rank + 1;
+        while (!moved.isEmpty()) {
+            if (level == fronts.size()) {
+                fronts.add(new ArrayList<>());
+            }
+            List<S> nextMoved = extractDominated(fronts.get(level), moved);
+            for (S movedSolution : moved) {
+                addToFront(movedSolution, level);
+            }
+            moved = nextMoved;
+            level++;
+        }
+
+        return rank;
+    }
+
+    /**
+     * Removes a solution from the ranking, updating the ranks of the solutions it dominated
+     *
+     * @return true if the solution was ranked
+     */
+    public boolean remove(S solution) {
+        Check.notNull(solution);
+        if (!members.remove(solution)) {
+            return false;
+        }
+
+        int level = rankKey.getInt(solution, -1);
+        removeByIdentity(fronts.get(level), solution);
+
+        while (level + 1 < fronts.size()) {
+            List<S> front = fronts.get(level);
+            List<S> nextFront = fronts.get(level + 1);
+            List<S> promoted = new ArrayList<>();
+            int size = 0;
+            for (S candidate : nextFront) {
+                if (isDominatedByFront(candidate, front)) {
+                    nextFront.set(size++, candidate);
+                } else {
+                    promoted.add(candidate);
+                }
+            }
+            if (promoted.isEmpty()) {
+                break;
+            }
+            nextFront.subList(size, nextFront.size()).clear();
+            for (S promotedSolution : promoted) {
+                addToFront(promotedSolution, level);
+            }
+            level++;
+        }
+
+        while (!fronts.isEmpty() && fronts.get(fronts.size() - 1).isEmpty()) {
+            fronts.remove(fronts.size() - 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the solution of the last front having the lowest density estimator value, which is the
+     * one discarded by a sequential truncation of that front. If several solutions share the lowest
+     * value, the last one in the front is removed.
+     *
+     * @return the removed solution
+     */
+    public S removeWorst(DensityEstimator<S> densityEstimator) {
+        Check.notNull(densityEstimator);
+        if (fronts.isEmpty()) {
+            throw new JMetalException("The ranking is empty");
+        }
+
+        List<S> lastFront = fronts.get(fronts.size() - 1);
+        densityEstimator.compute(lastFront);
+        S worst = lastFront.get(0);
+        double worstValue = densityEstimator.getValue(worst);
+        for (int i = 1; i < lastFront.size(); i++) {
+            double value = densityEstimator.getValue(lastFront.get(i));
+            if (value <= worstValue) {
+                worst = lastFront.get(i);
+                worstValue = value;
+            }
+        }
+
+        remove(worst);
+        return worst;
+    }
+
+    /**
+     * Returns true if the solution (not an equal one) is ranked
+     */
+    public boolean contains(S solution) {
+        return members.contains(solution);
+    }
+
+    /**
+     * Returns the number of ranked solutions
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Returns all the ranked solutions, front by front
+     */
+    public List<S> getSolutionList() {
+        List<S> solutionList = new ArrayList<>(members.size());
+        for (List<S> front : fronts) {
+            solutionList.addAll(front);
+        }
+        return solutionList;
+    }
+
+    private boolean isDominatedByFront(S solution, List<S> front) {
+        for (S member : front) {
+            if (dominanceComparator.compare(member, solution) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes from a front the solutions dominated by any of the given ones and returns them
+     */
+    private List<S> extractDominated(List<S> front, List<S> dominatingSolutions) {
+        List<S> dominated = new ArrayList<>();
+        int size = 0;
+        for (S member : front) {
+            boolean isDominated = false;
+            for (S dominatingSolution : dominatingSolutions) {
+                if (dominanceComparator.compare(dominatingSolution, member) < 0) {
+                    isDominated = true;
+                    break;
+                }
+            }
+            if (isDominated) {
+                dominated.add(member);
+            } else {
+                front.set(size++, member);
+            }
+        }
+        front.subList(size, front.size()).clear();
+        return dominated;
+    }
+
+    private void addToFront(S solution, int rank) {
+        fronts.get(rank).add(solution);
+        rankKey.setInt(solution, rank);
+    }
+
+    private void removeByIdentity(List<S> front, S solution) {
+        for (int i = 0; i < front.size(); i++) {
+            if (front.get(i) == solution) {
+                front.remove(i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public List<S> getSubFront(int rank) {
+        Check.that(rank < fronts.size(),
+                "Invalid rank: " + rank + ". Max rank = " + (fronts.size() - 1));
+        return fronts.get(rank);
+    }
+
+    @Override
+    public int getNumberOfSubFronts() {
+        return fronts.size();
+    }
+
+    @Override
+    public Integer getRank(S solution) {
+        Check.notNull(solution);
+        return rankKey.getInt(solution, -1);
+    }
+
+    @Override
+    public Object getAttributedId() {
+        return attributeId;
+    }
+}
@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.ranking.Ranking;
@@ -21,6 +22,7 @@ import java.util.List;
 public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
 
     private final String attributeId = getClass().getName();
+    private final AttributeKey rankKey = AttributeKey.of(attributeId);
     private static final int INSERTIONSORT = 7;
     private int SOL_ID; //field to store the identifier of the jMetal solution
     private int SORT_INDEX; //field to store the solution index after ordering by the first objective
@@ -56,7 +58,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
             for (int r = rankedSubPopulations.size(); r <= ranking[i]; r++) {
                 rankedSubPopulations.add(new ArrayList<S>());
             }
-            solutionSet.get(i).attributes().put(attributeId, ranking[i]);
+            rankKey.setInt(solutionSet.get(i), ranking[i]);
             rankedSubPopulations.get(ranking[i]).add(solutionSet.get(i));
         }
         return this;
@@ -216,11 +218,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
     public Integer getRank(S solution) {
         /* not null */
         Check.notNull(solution);
-        Integer result = -1;
-        if (solution.attributes().get(attributeId) != null) {
-            result = (Integer) solution.attributes().get(attributeId);
-        }
-        return result;
+        return rankKey.getInt(solution, -1);
     }
 
     @Override
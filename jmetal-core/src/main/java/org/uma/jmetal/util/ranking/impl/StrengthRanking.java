@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -31,6 +32,7 @@ import java.util.stream.IntStream;
 public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
 
     private final String attributeId = getClass().getName();
+    private final AttributeKey rankKey = AttributeKey.of(attributeId);
 
     /* default populate {@link org.uma.jmetal.util.comparator.DominanceComparator} */
     private Comparator<S> dominanceComparator;
@@ -76,7 +78,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
 
         int maxFitnessValue = 0;
         for (int i = 0; i < solutionList.size(); i++) {
-            solutionList.get(i).attributes().put(attributeId, rawFitness[i]);
+            rankKey.setInt(solutionList.get(i), rawFitness[i]);
             if (rawFitness[i] > maxFitnessValue) {
                 maxFitnessValue = rawFitness[i];
             }
@@ -88,7 +90,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
 
         // Assign each solution to its corresponding front
         /* 注意这里是支配强度 */
-        solutionList.forEach(solution -> rankedSubPopulations.get((int) solution.attributes().get(attributeId)).add(solution));
+        solutionList.forEach(solution -> rankedSubPopulations.get(rankKey.getInt(solution, 0)).add(solution));
 
         // Remove empty fronts
         // rankedSubPopulations.stream().filter(list -> (list.size() == 0));
@@ -125,11 +127,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
     @Override
     public Integer getRank(S solution) {
         Check.notNull(solution);
-        Integer result = -1;
-        if (solution.attributes().get(attributeId) != null) {
-            result = (Integer) solution.attributes().get(attributeId);
-        }
-        return result;
+        return rankKey.getInt(solution, -1);
     }
 
     @Override
@@ -1,10 +1,57 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
 
 /**
+ * Fitness attribute. The value is kept in the primitive slot of its {@link AttributeKey}, so
+ * {@link #getValue(Solution)} and {@link #setValue(Solution, double)} avoid hashing and boxing.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class Fitness<S extends Solution<?>> extends GenericSolutionAttribute<S, Double> {
+    private transient AttributeKey fitnessKey;
+
+    @Override
+    public Double getAttribute(S solution) {
+        AttributeKey key = getKey();
+        return key.isPresent(solution) ? key.getDouble(solution, 0.0) : null;
+    }
+
+    @Override
+    public void setAttribute(S solution, Double value) {
+        if (value == null) {
+            super.setAttribute(solution, null);
+        } else {
+            getKey().setDouble(solution, value);
+        }
+    }
+
+    /**
+     * Returns the fitness of a solution
+     *
+     * @throws InvalidConditionException if the fitness of the solution has not been assigned
+     */
+    public double getValue(S solution) {
+        AttributeKey key = getKey();
+        double value = key.getDouble(solution, Double.NaN);
+        if (Double.isNaN(value)) {
+            Check.that(key.isPresent(solution), "The fitness of the solution has not been assigned");
+        }
+        return value;
+    }
+
+    public void setValue(S solution, double value) {
+        getKey().setDouble(solution, value);
+    }
+
+    private AttributeKey getKey() {
+        if (fitnessKey == null) {
+            fitnessKey = AttributeKey.of(getAttributeIdentifier());
+        }
+        return fitnessKey;
+    }
 }
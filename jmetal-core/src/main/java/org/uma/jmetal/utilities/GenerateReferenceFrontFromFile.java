@@ -1,7 +1,7 @@
 package org.uma.jmetal.utilities;
 
 import org.uma.jmetal.util.StoredSolutionsUtils;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NDTreeArchive;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.point.PointSolution;
@@ -35,7 +35,7 @@ public class GenerateReferenceFrontFromFile {
         String inputFileName = args[0];
         String outputFileName = args[1];
 
-        NonDominatedSolutionListArchive<PointSolution> archive = new NonDominatedSolutionListArchive<>();
+        NDTreeArchive<PointSolution> archive = new NDTreeArchive<>();
         List<String> fileNameList = new ArrayList<>();
 
         if (Files.isRegularFile(Paths.get(inputFileName))) {
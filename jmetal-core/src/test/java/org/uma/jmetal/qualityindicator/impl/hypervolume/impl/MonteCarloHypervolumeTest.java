@@ -0,0 +1,103 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContribution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.termination.impl.TerminationByQualityIndicator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MonteCarloHypervolumeTest {
+    private final double EPSILON = 0.00000001;
+
+    @Test
+    public void shouldTheEstimateOfTheZDT1FrontContainTheExactValue() throws IOException {
+        double[][] front = VectorUtils.readVectors("../resources/referenceFrontsCSV/ZDT1.csv", ",");
+
+        MonteCarloHypervolume hypervolume = new MonteCarloHypervolume(front);
+        MonteCarloHypervolume.Estimate estimate = hypervolume.estimate(front);
+        double exact = new PISAHypervolume(front).compute(front);
+
+        assertTrue(estimate.toString(), estimate.getLowerBound() <= exact);
+        assertTrue(estimate.toString(), estimate.getUpperBound() >= exact);
+        assertEquals(exact, estimate.getValue(), 0.01);
+    }
+
+    @Test
+    public void shouldTheEstimatedContributionsBeCloseToTheExactOnes() {
+        double[][] front = {{0.1, 0.8}, {0.3, 0.5}, {0.5, 0.3}, {0.8, 0.1}, {0.6, 0.6}};
+        MonteCarloHypervolume hypervolume = new MonteCarloHypervolume();
+        hypervolume.setNumberOfSamples(400000);
+
+        MonteCarloHypervolume.Estimate[] estimates = hypervolume.estimateContributions(front);
+        double[] exact = new HypervolumeContribution(new double[]{1.0, 1.0}).compute(front);
+
+        for (int i = 0; i < front.length; i++) {
+            assertTrue(estimates[i].toString(), estimates[i].getLowerBound() <= exact[i] + EPSILON);
+            assertTrue(estimates[i].toString(), estimates[i].getUpperBound() >= exact[i] - EPSILON);
+        }
+        assertEquals(0.0, estimates[4].getValue(), EPSILON);
+    }
+
+    @Test
+    public void shouldTheSamplerReduceTheErrorWhenAddingSamples() {
+        double[][] front = {{0.2, 0.7, 0.4}, {0.5, 0.1, 0.6}, {0.6, 0.5, 0.1}};
+        MonteCarloHypervolume.Sampler sampler = new MonteCarloHypervolume().sampler(front);
+
+        sampler.addSamples(1000);
+        double firstError = sampler.getEstimate().getError();
+        sampler.addSamples(99000);
+        MonteCarloHypervolume.Estimate estimate = sampler.getEstimate();
+
+        assertEquals(100000, estimate.getNumberOfSamples());
+        assertTrue(estimate.getError() < firstError);
+        assertEquals(new HypervolumeContribution(new double[]{1.0, 1.0, 1.0}).hypervolume(front),
+                estimate.getValue(), 3 * estimate.getError());
+    }
+
+    @Test
+    public void shouldTheResultBeReproducible() {
+        double[][] front = {{0.2, 0.7, 0.4, 0.1}, {0.5, 0.1, 0.6, 0.3}, {0.6, 0.5, 0.1, 0.2}};
+        MonteCarloHypervolume hypervolume = new MonteCarloHypervolume();
+
+        assertEquals(hypervolume.compute(front), hypervolume.compute(front), 0.0);
+    }
+
+    @Test
+    public void shouldTheHypervolumeOfPointsNotDominatingTheReferencePointBeZero() {
+        MonteCarloHypervolume hypervolume = new MonteCarloHypervolume();
+
+        assertEquals(0.0, hypervolume.compute(new double[][]{{1.0, 0.0}, {0.0, 1.0}}), EPSILON);
+        assertEquals(0.0, hypervolume.compute(new double[0][]), EPSILON);
+    }
+
+    @Test
+    public void shouldWorkWithTheTerminationByQualityIndicator() throws IOException {
+        double[][] referenceFront = VectorUtils.readVectors("../resources/referenceFrontsCSV/ZDT1.csv", ",");
+        TerminationByQualityIndicator termination =
+                new TerminationByQualityIndicator(new MonteCarloHypervolume(), referenceFront, 0.95, 1000000);
+
+        List<DefaultDoubleSolution> population = new ArrayList<>();
+        for (double[] point : referenceFront) {
+            DefaultDoubleSolution solution = new DefaultDoubleSolution(2, Collections.emptyList());
+            solution.objectives()[0] = point[0];
+            solution.objectives()[1] = point[1];
+            population.add(solution);
+        }
+        Map<String, Object> status = new HashMap<>();
+        status.put("POPULATION", population);
+        status.put("EVALUATIONS", 100);
+
+        assertTrue(termination.isMet(status));
+        assertTrue(termination.getReferenceFrontIndicatorValue() > 0.0);
+    }
+}
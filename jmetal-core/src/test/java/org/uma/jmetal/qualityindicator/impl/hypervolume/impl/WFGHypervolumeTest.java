@@ -0,0 +1,71 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+public class WFGHypervolumeTest {
+    /**
+     * Front of points on the positive part of the unit sphere, which are non-dominated
+     */
+    private static double[][] randomFront(Random random, int numberOfPoints, int numberOfObjectives) {
+        double[][] front = new double[numberOfPoints][numberOfObjectives];
+        for (double[] point : front) {
+            double norm = 0.0;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                point[j] = random.nextDouble() + 0.01;
+                norm += point[j] * point[j];
+            }
+            for (int j = 0; j < numberOfObjectives; j++) {
+                point[j] /= Math.sqrt(norm);
+            }
+        }
+        return front;
+    }
+
+    @Test
+    public void shouldComputeTheSameValuesWhenUsedFromSeveralThreads() throws Exception {
+        Random random = new Random(1);
+        double[][] referenceFront = new double[][]{{1.0, 0.0, 0.0, 0.0}, {0.0, 1.0, 0.0, 0.0},
+                {0.0, 0.0, 1.0, 0.0}, {0.0, 0.0, 0.0, 1.0}};
+        List<double[][]> fronts = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            fronts.add(randomFront(random, 40, 4));
+        }
+
+        double[] expected = new double[fronts.size()];
+        for (int i = 0; i < fronts.size(); i++) {
+            expected[i] = new WFGHypervolume(referenceFront).compute(fronts.get(i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                WFGHypervolume hypervolume = new WFGHypervolume(referenceFront);
+                results.add(executor.submit(() -> {
+                    double[] values = new double[fronts.size()];
+                    for (int i = 0; i < fronts.size(); i++) {
+                        values[i] = hypervolume.compute(fronts.get(i));
+                    }
+                    return values;
+                }));
+            }
+            for (Future<double[]> result : results) {
+                double[] values = result.get();
+                for (int i = 0; i < values.length; i++) {
+                    assertEquals(expected[i], values[i], 0.0);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
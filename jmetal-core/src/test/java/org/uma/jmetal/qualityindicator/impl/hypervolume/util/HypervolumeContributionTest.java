@@ -0,0 +1,180 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class HypervolumeContributionTest {
+    private static final double EPSILON = 0.0000001;
+
+    @Test
+    public void shouldComputeTheContributionsOfATwoObjectiveFront() {
+        double[][] front = {{1.0, 3.0}, {2.0, 2.0}, {3.0, 1.0}};
+        HypervolumeContribution contribution = new HypervolumeContribution(new double[]{4.0, 4.0});
+
+        assertArrayEquals(new double[]{1.0, 1.0, 1.0}, contribution.compute(front), EPSILON);
+        assertEquals(6.0, contribution.hypervolume(front), EPSILON);
+    }
+
+    @Test
+    public void shouldComputeTheContributionsOfAThreeObjectiveFront() {
+        double[][] front = {{0.0, 0.0, 1.0}, {1.0, 1.0, 0.0}};
+        HypervolumeContribution contribution = new HypervolumeContribution(new double[]{2.0, 2.0, 2.0});
+
+        assertArrayEquals(new double[]{3.0, 1.0}, contribution.compute(front), EPSILON);
+        assertEquals(5.0, contribution.hypervolume(front), EPSILON);
+    }
+
+    @Test
+    public void shouldPointsOutsideTheReferenceBoxAndDuplicatedPointsHaveNoContribution() {
+        double[][] front = {{1.0, 3.0}, {1.0, 3.0}, {3.0, 1.0}, {5.0, 0.0}, {4.0, 0.5}};
+        HypervolumeContribution contribution = new HypervolumeContribution(new double[]{4.0, 4.0});
+
+        assertArrayEquals(new double[]{0.0, 0.0, 2.0, 0.0, 0.0}, contribution.compute(front), EPSILON);
+    }
+
+    @Test
+    public void shouldComputeTheSameContributionsAsTheDifferenceOfHypervolumes() {
+        Random random = new Random(1);
+        for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+            for (int run = 0; run < 10; run++) {
+                double[][] front = randomFront(random, 12 + run * 3, numberOfObjectives);
+                HypervolumeContribution contribution = new HypervolumeContribution(
+                        HypervolumeContribution.referencePoint(front, 1.0));
+
+                assertArrayEquals(bruteForceContributions(contribution, front), contribution.compute(front), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void shouldRemovingPointsKeepTheContributionsUpdated() {
+        Random random = new Random(2);
+        for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+            double[][] front = randomFront(random, 25, numberOfObjectives);
+            HypervolumeContribution contribution = new HypervolumeContribution(
+                    HypervolumeContribution.referencePoint(front, 0.5));
+            contribution.setFront(front);
+
+            boolean[] removed = new boolean[front.length];
+            while (contribution.size() > 1) {
+                removed[contribution.removeLeastContributor()] = true;
+
+                double[][] remaining = Arrays.stream(front)
+                        .filter(point -> !removed[indexOf(front, point)])
+                        .toArray(double[][]::new);
+                double[] expected = contribution.compute(remaining);
+                for (int i = 0, k = 0; i < front.length; i++) {
+                    if (!removed[i]) {
+                        assertEquals(expected[k++], contribution.getContribution(i), EPSILON);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldRemovingAnyPointKeepTheContributionsEqualToTheBruteForceOnes() {
+        Random random = new Random(3);
+        for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+            for (int run = 0; run < 5; run++) {
+                double[][] front = randomFront(random, 30, numberOfObjectives);
+                // The reference point leaves some points outside the reference box
+                HypervolumeContribution contribution = new HypervolumeContribution(
+                        HypervolumeContribution.referencePoint(front, -0.05));
+                contribution.setFront(front);
+
+                List<Integer> order = new ArrayList<>();
+                for (int i = 0; i < front.length; i++) {
+                    order.add(i);
+                }
+                Collections.shuffle(order, random);
+                boolean[] removed = new boolean[front.length];
+                for (int i : order.subList(0, front.length - 1)) {
+                    contribution.remove(i);
+                    removed[i] = true;
+
+                    double[][] remaining = Arrays.stream(front)
+                            .filter(point -> !removed[indexOf(front, point)])
+                            .toArray(double[][]::new);
+                    double[] expected = bruteForceContributions(contribution, remaining);
+                    for (int j = 0, k = 0; j < front.length; j++) {
+                        if (!removed[j]) {
+                            assertEquals(expected[k++], contribution.getContribution(j), EPSILON);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldRemoveTheLastOfTheLeastContributors() {
+        double[][] front = {{1.0, 3.0}, {2.0, 2.0}, {3.0, 1.0}};
+        HypervolumeContribution contribution = new HypervolumeContribution(new double[]{4.0, 4.0});
+        contribution.setFront(front);
+
+        assertEquals(2, contribution.removeLeastContributor());
+        assertEquals(2.0, contribution.getContribution(1), EPSILON);
+    }
+
+    @Test(expected = InvalidConditionException.class)
+    public void shouldGetContributionOfARemovedPointRaiseAnException() {
+        HypervolumeContribution contribution = new HypervolumeContribution(new double[]{4.0, 4.0});
+        contribution.setFront(new double[][]{{1.0, 3.0}, {3.0, 1.0}});
+        contribution.remove(0);
+
+        contribution.getContribution(0);
+    }
+
+    private static double[] bruteForceContributions(HypervolumeContribution contribution, double[][] front) {
+        double hypervolume = contribution.hypervolume(front);
+        double[] result = new double[front.length];
+        for (int i = 0; i < front.length; i++) {
+            double[][] others = new double[front.length - 1][];
+            for (int j = 0, k = 0; j < front.length; j++) {
+                if (j != i) {
+                    others[k++] = front[j];
+                }
+            }
+            result[i] = hypervolume - contribution.hypervolume(others);
+        }
+        return result;
+    }
+
+    /**
+     * Points on a rounded simplex, so that there are repeated values and some dominated points
+     */
+    private static double[][] randomFront(Random random, int numberOfPoints, int numberOfObjectives) {
+        double[][] front = new double[numberOfPoints][numberOfObjectives];
+        for (double[] point : front) {
+            double sum = 0.0;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                point[j] = random.nextDouble();
+                sum += point[j];
+            }
+            for (int j = 0; j < numberOfObjectives; j++) {
+                point[j] = Math.round(point[j] / sum * 20.0) / 20.0 + (random.nextInt(4) == 0 ? 0.1 : 0.0);
+            }
+        }
+        front[numberOfPoints - 1] = front[0].clone();
+        return front;
+    }
+
+    private static int indexOf(double[][] front, double[] point) {
+        for (int i = 0; i < front.length; i++) {
+            if (front[i] == point) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,90 @@
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ArrayDoubleSolutionTest {
+    private final List<Bounds<Double>> bounds =
+            Arrays.asList(Bounds.create(0.0, 1.0), Bounds.create(-2.0, 2.0), Bounds.create(5.0, 10.0));
+
+    @Test
+    public void shouldConstructorCreateVariablesWithinTheBounds() {
+        ArrayDoubleSolution solution = new ArrayDoubleSolution(2, 1, bounds);
+
+        assertEquals(3, solution.variables().size());
+        assertEquals(2, solution.objectives().length);
+        assertEquals(1, solution.constraints().length);
+        for (int i = 0; i < bounds.size(); i++) {
+            assertTrue(solution.getVariable(i) >= bounds.get(i).getLowerBound());
+            assertTrue(solution.getVariable(i) <= bounds.get(i).getUpperBound());
+        }
+    }
+
+    @Test
+    public void shouldTheVariablesViewBeBackedByTheArray() {
+        ArrayDoubleSolution solution = new ArrayDoubleSolution(2, bounds);
+
+        solution.variables().set(1, 1.5);
+        assertEquals(1.5, solution.variablesArray()[1], 0.0);
+
+        solution.setVariable(2, 7.0);
+        assertEquals(7.0, solution.variables().get(2), 0.0);
+
+        solution.variablesArray()[0] = 0.25;
+        assertEquals(0.25, solution.getVariable(0), 0.0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldTheVariablesViewHaveAFixedSize() {
+        new ArrayDoubleSolution(2, bounds).variables().add(1.0);
+    }
+
+    @Test
+    public void shouldCopyReturnAnIndependentIdenticalSolution() {
+        ArrayDoubleSolution solution = new ArrayDoubleSolution(2, 1, bounds);
+        solution.objectives()[0] = 3.0;
+        solution.constraints()[0] = -1.0;
+        solution.attributes().put("key", "value");
+
+        ArrayDoubleSolution copy = solution.copy();
+
+        assertEquals(solution, copy);
+        assertArrayEquals(solution.objectives(), copy.objectives(), 0.0);
+        assertArrayEquals(solution.constraints(), copy.constraints(), 0.0);
+        assertEquals("value", copy.attributes().get("key"));
+        assertNotSame(solution.variablesArray(), copy.variablesArray());
+
+        copy.setVariable(0, 0.5);
+        copy.objectives()[0] = 4.0;
+        assertEquals(3.0, solution.objectives()[0], 0.0);
+        assertNotEquals(solution.getVariable(0), 0.5, 0.0);
+    }
+
+    @Test
+    public void shouldEqualsAndHashCodeBeConsistentWithDefaultDoubleSolution() {
+        ArrayDoubleSolution arraySolution = new ArrayDoubleSolution(2, bounds);
+        DoubleSolution defaultSolution = new DefaultDoubleSolution(2, bounds);
+        for (int i = 0; i < bounds.size(); i++) {
+            defaultSolution.variables().set(i, arraySolution.getVariable(i));
+        }
+
+        assertEquals(arraySolution, defaultSolution);
+        assertEquals(defaultSolution, arraySolution);
+        assertEquals(defaultSolution.hashCode(), arraySolution.hashCode());
+    }
+
+    @Test
+    public void shouldGetBoundsReturnTheBoundsOfTheVariable() {
+        ArrayDoubleSolution solution = new ArrayDoubleSolution(2, bounds);
+
+        assertSame(bounds.get(1), solution.getBounds(1));
+    }
+}
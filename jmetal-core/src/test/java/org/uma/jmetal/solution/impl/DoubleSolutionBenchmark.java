@@ -0,0 +1,102 @@
+package org.uma.jmetal.solution.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing {@link DefaultDoubleSolution} and {@link ArrayDoubleSolution} when
+ * copying, reading and varying solutions with a large number of variables. Run it with the main
+ * method or through the JMH runner on the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleSolutionBenchmark {
+    @Param({"30", "1000", "5000"})
+    public int numberOfVariables;
+
+    @Param({"default", "array"})
+    public String implementation;
+
+    private DoubleSolution parent1;
+    private DoubleSolution parent2;
+    private SBXCrossover crossover;
+    private PolynomialMutation mutation;
+
+    @Setup
+    public void setup() {
+        List<Bounds<Double>> bounds = new ArrayList<>(numberOfVariables);
+        for (int i = 0; i < numberOfVariables; i++) {
+            bounds.add(Bounds.create(0.0, 1.0));
+        }
+
+        if ("array".equals(implementation)) {
+            parent1 = new ArrayDoubleSolution(2, bounds);
+            parent2 = new ArrayDoubleSolution(2, bounds);
+        } else {
+            parent1 = new DefaultDoubleSolution(2, bounds);
+            parent2 = new DefaultDoubleSolution(2, bounds);
+        }
+
+        crossover = new SBXCrossover(1.0, 20.0);
+        mutation = new PolynomialMutation(1.0 / numberOfVariables, 20.0);
+    }
+
+    @Benchmark
+    public DoubleSolution copy() {
+        return (DoubleSolution) parent1.copy();
+    }
+
+    @Benchmark
+    public double sumOfVariables() {
+        double sum = 0.0;
+        for (int i = 0; i < numberOfVariables; i++) {
+            sum += parent1.getVariable(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public DoubleSolution crossoverAndMutation() {
+        List<DoubleSolution> parents = new ArrayList<>(2);
+        parents.add(parent1);
+        parents.add(parent2);
+        List<DoubleSolution> offspring = crossover.execute(parents);
+
+        return mutation.execute(offspring.get(0));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DoubleSolutionBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,124 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class SlotAttributeMapTest {
+    private static final AttributeKey DOUBLE_KEY = AttributeKey.of("SlotAttributeMapTest.double");
+    private static final AttributeKey INT_KEY = AttributeKey.of("SlotAttributeMapTest.int");
+
+    @Test
+    public void shouldOfReturnTheSameKeyForTheSameIdentifier() {
+        assertSame(DOUBLE_KEY, AttributeKey.of("SlotAttributeMapTest.double"));
+        assertNotEquals(DOUBLE_KEY.getSlot(), INT_KEY.getSlot());
+    }
+
+    @Test
+    public void shouldSlotValuesBeVisibleThroughTheMapInterface() {
+        SlotAttributeMap map = new SlotAttributeMap();
+        map.setDouble(DOUBLE_KEY, 2.5);
+        map.setInt(INT_KEY, 3);
+
+        assertEquals(2, map.size());
+        assertEquals(2.5, map.get(DOUBLE_KEY.getId()));
+        assertEquals(3, map.get(INT_KEY.getId()));
+        assertTrue(map.containsKey(INT_KEY.getId()));
+    }
+
+    @Test
+    public void shouldMapValuesOfRegisteredKeysBeStoredInTheSlots() {
+        SlotAttributeMap map = new SlotAttributeMap();
+        map.put(DOUBLE_KEY.getId(), 1.5);
+        map.put(INT_KEY.getId(), 7);
+
+        assertEquals(1.5, map.getDouble(DOUBLE_KEY, 0.0), 0.0);
+        assertEquals(7, map.getInt(INT_KEY, -1));
+        assertTrue(map.contains(DOUBLE_KEY));
+    }
+
+    @Test
+    public void shouldNonNumericValuesOfRegisteredKeysBeStoredInTheMap() {
+        SlotAttributeMap map = new SlotAttributeMap();
+        map.setDouble(DOUBLE_KEY, 1.0);
+
+        assertEquals(1.0, map.put(DOUBLE_KEY.getId(), "text"));
+        assertEquals("text", map.get(DOUBLE_KEY.getId()));
+        assertEquals(1, map.size());
+
+        map.setDouble(DOUBLE_KEY, 2.0);
+        assertEquals(2.0, map.get(DOUBLE_KEY.getId()));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void shouldUnregisteredKeysWorkAsInAHashMap() {
+        SlotAttributeMap map = new SlotAttributeMap();
+        map.put("unregistered", "value");
+        map.setInt(INT_KEY, 4);
+
+        Map<Object, Object> expected = new HashMap<>();
+        expected.put("unregistered", "value");
+        expected.put(INT_KEY.getId(), 4);
+
+        assertEquals(expected, map);
+        assertEquals("value", map.remove("unregistered"));
+        assertEquals(4, map.remove(INT_KEY.getId()));
+        assertTrue(map.isEmpty());
+        assertEquals(-1, map.getInt(INT_KEY, -1));
+    }
+
+    @Test
+    public void shouldTheCopyConstructorCopyAllTheValues() {
+        SlotAttributeMap map = new SlotAttributeMap();
+        map.setDouble(DOUBLE_KEY, 1.0);
+        map.put("other", 5L);
+
+        SlotAttributeMap copy = new SlotAttributeMap(map);
+        copy.setDouble(DOUBLE_KEY, 2.0);
+
+        assertEquals(1.0, map.getDouble(DOUBLE_KEY, 0.0), 0.0);
+        assertEquals(2.0, copy.getDouble(DOUBLE_KEY, 0.0), 0.0);
+        assertEquals(5L, copy.get("other"));
+    }
+
+    @Test
+    public void shouldTheAttributeKeyAccessorsWorkOnSolutions() {
+        DoubleSolution solution = new DummyDoubleProblem(2, 2, 0).createSolution();
+        DOUBLE_KEY.setDouble(solution, 0.75);
+
+        DoubleSolution copy = (DoubleSolution) solution.copy();
+
+        assertEquals(0.75, DOUBLE_KEY.getDouble(copy, 0.0), 0.0);
+        assertEquals(0.75, copy.attributes().get(DOUBLE_KEY.getId()));
+        assertFalse(INT_KEY.isPresent(copy));
+    }
+
+    @Test
+    public void shouldSerializationKeepTheValues() throws Exception {
+        SlotAttributeMap map = new SlotAttributeMap();
+        map.setDouble(DOUBLE_KEY, 3.5);
+        map.put("other", "value");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(map);
+        }
+        SlotAttributeMap readMap;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            readMap = (SlotAttributeMap) input.readObject();
+        }
+
+        assertEquals(map, readMap);
+        assertEquals(3.5, readMap.getDouble(DOUBLE_KEY, 0.0), 0.0);
+    }
+}
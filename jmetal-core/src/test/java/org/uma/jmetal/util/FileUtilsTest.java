@@ -0,0 +1,48 @@
+package org.uma.jmetal.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class FileUtilsTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldMoveReplacingCreateTheTargetIfItDoesNotExist() throws IOException {
+        Path source = folder.getRoot().toPath().resolve("file.tmp");
+        Path target = folder.getRoot().toPath().resolve("file");
+        Files.write(source, "content".getBytes(StandardCharsets.UTF_8));
+
+        FileUtils.moveReplacing(source, target);
+
+        assertFalse(Files.exists(source));
+        assertEquals("content", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldMoveReplacingReplaceAnExistingTarget() throws IOException {
+        Path source = folder.getRoot().toPath().resolve("file.tmp");
+        Path target = folder.getRoot().toPath().resolve("file");
+        Files.write(target, "old".getBytes(StandardCharsets.UTF_8));
+        Files.write(source, "new".getBytes(StandardCharsets.UTF_8));
+
+        FileUtils.moveReplacing(source, target);
+
+        assertFalse(Files.exists(source));
+        assertEquals("new", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldMoveReplacingFailIfTheSourceDoesNotExist() throws IOException {
+        FileUtils.moveReplacing(folder.getRoot().toPath().resolve("missing"),
+                folder.getRoot().toPath().resolve("file"));
+    }
+}
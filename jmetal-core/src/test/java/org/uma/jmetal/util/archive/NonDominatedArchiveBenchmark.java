@@ -0,0 +1,88 @@
+package org.uma.jmetal.util.archive;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.util.archive.impl.NDTreeArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark measuring the time needed to insert a sequence of solutions into an unbounded
+ * non-dominated archive. The solutions are spread around a simplex which slowly approaches the
+ * origin, so the archive grows large while new solutions keep dominating some of its members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class NonDominatedArchiveBenchmark {
+    @Param({"1000", "10000", "50000"})
+    public int numberOfSolutions;
+
+    @Param({"2", "3", "5"})
+    public int numberOfObjectives;
+
+    @Param({"list", "ndtree"})
+    public String archive;
+
+    private List<DoubleSolution> solutions;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(numberOfSolutions * 31L + numberOfObjectives);
+        solutions = new ArrayList<>(numberOfSolutions);
+        for (int i = 0; i < numberOfSolutions; i++) {
+            DoubleSolution solution = new DefaultDoubleSolution(numberOfObjectives, Collections.emptyList());
+            double scale = 1.0 - 0.2 * i / numberOfSolutions + 0.05 * random.nextDouble();
+            double sum = 0.0;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.objectives()[j] = random.nextDouble();
+                sum += solution.objectives()[j];
+            }
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.objectives()[j] = scale * solution.objectives()[j] / sum;
+            }
+            solutions.add(solution);
+        }
+    }
+
+    @Benchmark
+    public int add() {
+        Archive<DoubleSolution> archiveInstance =
+                "list".equals(archive) ? new NonDominatedSolutionListArchive<>() : new NDTreeArchive<>();
+        for (DoubleSolution solution : solutions) {
+            archiveInstance.add(solution);
+        }
+        return archiveInstance.getSolutionList().size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(NonDominatedArchiveBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
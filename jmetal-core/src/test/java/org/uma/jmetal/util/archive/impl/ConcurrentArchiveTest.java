@@ -0,0 +1,59 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConcurrentArchiveTest {
+
+    private List<DoubleSolution> createPoints(int numberOfPoints, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<DoubleSolution> points = new ArrayList<>(numberOfPoints);
+        for (int i = 0; i < numberOfPoints; i++) {
+            DoubleSolution point = new DefaultDoubleSolution(3, Collections.emptyList());
+            for (int j = 0; j < 3; j++) {
+                point.objectives()[j] = random.nextDouble();
+            }
+            points.add(point);
+        }
+        return points;
+    }
+
+    @Test
+    public void shouldConcurrentInsertionsGiveTheSameFrontAsSequentialOnes() throws InterruptedException {
+        int numberOfThreads = 4;
+        List<List<DoubleSolution>> batches = new ArrayList<>();
+        NonDominatedSolutionListArchive<DoubleSolution> sequentialArchive = new NonDominatedSolutionListArchive<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            List<DoubleSolution> batch = createPoints(2000, i);
+            batches.add(batch);
+            batch.forEach(sequentialArchive::add);
+        }
+
+        ConcurrentArchive<DoubleSolution> archive = new ConcurrentArchive<>(new NDTreeArchive<>());
+        List<Thread> threads = new ArrayList<>();
+        for (List<DoubleSolution> batch : batches) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < batch.size(); i += 100) {
+                    archive.addAll(batch.subList(i, i + 100));
+                    archive.getSolutionList();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(sequentialArchive.size(), archive.size());
+        assertEquals(new HashSet<>(sequentialArchive.getSolutionList()), new HashSet<>(archive.getSolutionList()));
+    }
+}
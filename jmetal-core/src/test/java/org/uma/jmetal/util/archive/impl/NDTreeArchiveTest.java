@@ -0,0 +1,110 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class NDTreeArchiveTest {
+
+    private PointSolution createPoint(double... objectives) {
+        PointSolution solution = new PointSolution(objectives.length);
+        System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+        return solution;
+    }
+
+    @Test
+    public void shouldConstructorCreateAnEmptyArchive() {
+        NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>();
+
+        assertEquals(0, archive.size());
+        assertEquals(0, archive.getSolutionList().size());
+    }
+
+    @Test
+    public void shouldAddRejectADominatedSolutionAndADuplicate() {
+        NDTreeArchive<PointSolution> archive = new NDTreeArchive<>();
+        PointSolution solution = createPoint(1.0, 1.0, 1.0);
+
+        assertTrue(archive.add(solution));
+        assertFalse(archive.add(createPoint(1.0, 2.0, 1.0)));
+        assertFalse(archive.add(createPoint(1.0, 1.0, 1.0)));
+        assertEquals(1, archive.size());
+        assertSame(solution, archive.get(0));
+    }
+
+    @Test
+    public void shouldAddRemoveTheDominatedSolutions() {
+        NDTreeArchive<PointSolution> archive = new NDTreeArchive<>();
+        archive.add(createPoint(2.0, 1.0));
+        archive.add(createPoint(1.0, 2.0));
+        archive.add(createPoint(3.0, 0.5));
+        PointSolution solution = createPoint(1.0, 1.0);
+
+        assertTrue(archive.add(solution));
+        assertEquals(2, archive.size());
+        assertEquals(3.0, archive.get(0).objectives()[0], 0.0);
+        assertSame(solution, archive.get(1));
+    }
+
+    private void shouldHaveTheSameContentsAsTheListArchive(int numberOfObjectives, int numberOfSolutions, boolean withConstraints) {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 1);
+        JMetalRandom random = JMetalRandom.getInstance();
+        NonDominatedSolutionListArchive<DoubleSolution> listArchive = new NonDominatedSolutionListArchive<>();
+        NDTreeArchive<DoubleSolution> treeArchive = new NDTreeArchive<>(4);
+
+        for (int i = 0; i < numberOfSolutions; i++) {
+            DoubleSolution solution = problem.createSolution();
+            // Points close to a shrinking simplex, so that many of them are non-dominated and others
+            // dominate whole regions of the archive
+            double scale = 1.0 - 0.5 * i / numberOfSolutions + 0.2 * random.nextDouble();
+            double sum = 0.0;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.objectives()[j] = random.nextInt(1, 20);
+                sum += solution.objectives()[j];
+            }
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.objectives()[j] = Math.round(100 * scale * solution.objectives()[j] / sum) / 100.0;
+            }
+            solution.constraints()[0] = withConstraints && (random.nextDouble() < 0.3) ? -random.nextInt(1, 3) : 0.0;
+
+            assertEquals(listArchive.add(solution), treeArchive.add(solution));
+            assertEquals(listArchive.size(), treeArchive.size());
+        }
+
+        List<DoubleSolution> expected = listArchive.getSolutionList();
+        List<DoubleSolution> result = treeArchive.getSolutionList();
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), result.get(i));
+        }
+    }
+
+    @Test
+    public void shouldTheArchiveHaveTheSameContentsAsTheListArchiveWithTwoObjectives() {
+        shouldHaveTheSameContentsAsTheListArchive(2, 3000, false);
+    }
+
+    @Test
+    public void shouldTheArchiveHaveTheSameContentsAsTheListArchiveWithThreeObjectives() {
+        shouldHaveTheSameContentsAsTheListArchive(3, 3000, false);
+    }
+
+    @Test
+    public void shouldTheArchiveHaveTheSameContentsAsTheListArchiveWithSixObjectives() {
+        shouldHaveTheSameContentsAsTheListArchive(6, 3000, false);
+    }
+
+    @Test
+    public void shouldTheArchiveHaveTheSameContentsAsTheListArchiveWithConstraints() {
+        shouldHaveTheSameContentsAsTheListArchive(3, 1000, true);
+    }
+}
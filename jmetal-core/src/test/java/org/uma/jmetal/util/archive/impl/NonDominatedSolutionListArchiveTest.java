@@ -6,6 +6,11 @@ import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.population.ObjectiveMatrix;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
@@ -239,4 +244,36 @@ public class NonDominatedSolutionListArchiveTest {
 
         assertEquals(2, archive1.getSolutionList().size(), EPSILON);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldAddAllFromAnObjectiveMatrixProduceTheSameArchiveAsAddAllFromAList() {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+        JMetalRandom random = JMetalRandom.getInstance();
+
+        List<DoubleSolution> initial = new ArrayList<>();
+        List<DoubleSolution> batch = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            DoubleSolution solution = problem.createSolution();
+            solution.objectives()[0] = random.nextInt(0, 30);
+            solution.objectives()[1] = 30 - solution.objectives()[0] + random.nextInt(0, 4);
+            if (i < 50) {
+                initial.add(solution);
+            } else {
+                batch.add(solution);
+            }
+        }
+
+        NonDominatedSolutionListArchive<DoubleSolution> listArchive = new NonDominatedSolutionListArchive<>();
+        listArchive.addAll(initial);
+        listArchive.addAll(batch);
+
+        NonDominatedSolutionListArchive<DoubleSolution> matrixArchive = new NonDominatedSolutionListArchive<>();
+        matrixArchive.addAll(initial);
+        matrixArchive.addAll(new ObjectiveMatrix<>(batch));
+
+        assertEquals(listArchive.size(), matrixArchive.size());
+        for (int i = 0; i < listArchive.size(); i++) {
+            assertSame(listArchive.get(i), matrixArchive.get(i));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.uma.jmetal.util.binaryfront;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.binaryfront.BinaryFrontHeader.Direction;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.DoubleBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BinaryFrontTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static double[][] randomFront(int numberOfPoints, int numberOfColumns) {
+        Random random = new Random(1);
+        double[][] front = new double[numberOfPoints][numberOfColumns];
+        for (double[] point : front) {
+            for (int j = 0; j < numberOfColumns; j++) {
+                point[j] = random.nextDouble() * 100 - 50;
+            }
+        }
+        return front;
+    }
+
+    @Test
+    public void shouldReadTheFrontWrittenWithItsHeader() throws IOException {
+        double[][] front = randomFront(1000, 3);
+        front[0][0] = Double.NaN;
+        front[1][1] = Double.POSITIVE_INFINITY;
+        front[2][2] = -0.0;
+        Path file = folder.getRoot().toPath().resolve("front.bin");
+
+        new BinaryFrontWriter()
+                .setDirections(List.of(Direction.MINIMIZE, Direction.MAXIMIZE, Direction.UNSPECIFIED))
+                .setColumnNames(List.of("f1", "f2", "xá"))
+                .putMetadata("algorithm", "NSGAII")
+                .putMetadata("evaluations", "25000")
+                .write(front, file);
+
+        BinaryFront result = BinaryFront.read(file);
+        BinaryFrontHeader header = result.getHeader();
+        assertEquals(1000, result.getNumberOfPoints());
+        assertEquals(3, result.getNumberOfColumns());
+        assertEquals(List.of(Direction.MINIMIZE, Direction.MAXIMIZE, Direction.UNSPECIFIED), header.getDirections());
+        assertEquals(List.of("f1", "f2", "xá"), header.getColumnNames());
+        assertEquals("NSGAII", header.getMetadata().get("algorithm"));
+        assertEquals("25000", header.getMetadata().get("evaluations"));
+        assertEquals(0, header.getLength() % 8);
+        assertEquals(header.getColumnOffset(3), Files.size(file));
+
+        double[][] matrix = result.toMatrix();
+        for (int i = 0; i < front.length; i++) {
+            assertArrayEquals(front[i], matrix[i], 0.0);
+            assertArrayEquals(front[i], result.getPoint(i), 0.0);
+        }
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(result.get(2, 2)));
+    }
+
+    @Test
+    public void shouldStoreTheValuesColumnByColumn() {
+        double[][] front = randomFront(100, 4);
+        Path file = folder.getRoot().toPath().resolve("front.bin");
+        new BinaryFrontWriter().write(front, file);
+
+        BinaryFront result = BinaryFront.read(file);
+        for (int j = 0; j < 4; j++) {
+            DoubleBuffer column = result.getColumn(j);
+            double[] values = result.getColumnAsArray(j);
+            assertEquals(100, column.remaining());
+            assertTrue(column.isReadOnly());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(front[i][j], column.get(i), 0.0);
+                assertEquals(front[i][j], values[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void shouldWriteTheSameBytesToAStream() throws IOException {
+        double[][] front = randomFront(10000, 2);
+        Path file = folder.getRoot().toPath().resolve("front.bin");
+        BinaryFrontWriter writer = new BinaryFrontWriter().putMetadata("run", "0");
+        writer.write(front, file);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writer.write(front, outputStream);
+
+        assertArrayEquals(Files.readAllBytes(file), outputStream.toByteArray());
+    }
+
+    @Test
+    public void shouldReadALogWithMoreColumnsThanTheMappingsAllowedToAProcess() throws IOException {
+        // 2,200 fronts of 30 columns exceed the default limit of 65,530 mappings of Linux
+        int numberOfFronts = 2200;
+        Path file = folder.getRoot().toPath().resolve("generations.bin");
+        BinaryFrontWriter writer = new BinaryFrontWriter();
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < numberOfFronts; i++) {
+                double[][] front = new double[2][30];
+                front[0][29] = i;
+                front[1][0] = -i;
+                writer.write(front, outputStream);
+            }
+        }
+
+        List<BinaryFront> fronts = BinaryFront.readAll(file);
+        assertEquals(numberOfFronts, fronts.size());
+        for (int i = 0; i < numberOfFronts; i++) {
+            assertEquals(30, fronts.get(i).getNumberOfColumns());
+            assertEquals(i, fronts.get(i).get(0, 29), 0.0);
+            assertEquals(-i, fronts.get(i).getColumn(0).get(1), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldHandleAnEmptyFront() {
+        Path file = folder.getRoot().toPath().resolve("empty.bin");
+        new BinaryFrontWriter().setDirection(Direction.MINIMIZE, 3).write(new double[0][], file);
+
+        BinaryFront result = BinaryFront.read(file);
+        assertEquals(0, result.getNumberOfPoints());
+        assertEquals(3, result.getNumberOfColumns());
+        assertEquals(0, result.toMatrix().length);
+    }
+
+    @Test
+    public void shouldConvertCsvAndTsvFiles() throws IOException {
+        Path csv = folder.getRoot().toPath().resolve("front.csv");
+        Files.write(csv, "1.0,2.5\n-3.0,4E-3\n\n0.125,1e10\n".getBytes(StandardCharsets.UTF_8));
+        Path binary = folder.getRoot().toPath().resolve("front.bin");
+        Path tsv = folder.getRoot().toPath().resolve("front.tsv");
+
+        BinaryFrontConverter.csvToBinary(csv, binary);
+        double[][] expected = {{1.0, 2.5}, {-3.0, 0.004}, {0.125, 1e10}};
+        double[][] result = BinaryFront.read(binary).toMatrix();
+        assertEquals(3, result.length);
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(expected[i], result[i], 0.0);
+        }
+
+        BinaryFrontConverter.binaryToTsv(binary, tsv);
+        double[][] text = BinaryFrontConverter.readText(tsv, BinaryFrontConverter.TSV_SEPARATOR);
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(expected[i], text[i], 0.0);
+        }
+    }
+
+    @Test
+    public void shouldBeReadByVectorUtils() throws IOException {
+        double[][] front = randomFront(50, 3);
+        Path binary = folder.getRoot().toPath().resolve("front.bin");
+        new BinaryFrontWriter().write(front, binary);
+
+        double[][] result = VectorUtils.readVectors(binary.toString(), ",");
+        assertTrue(Arrays.deepEquals(front, result));
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldFailIfTheFileIsNotABinaryFront() throws IOException {
+        Path csv = folder.getRoot().toPath().resolve("front.csv");
+        Files.write(csv, "1.0,2.0,3.0,4.0,5.0,6.0,7.0,8.0,9.0\n".getBytes(StandardCharsets.UTF_8));
+        assertFalse(BinaryFront.isBinaryFront(csv));
+        BinaryFront.read(csv);
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldFailIfTheFileIsTruncated() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("front.bin");
+        new BinaryFrontWriter().write(randomFront(100, 2), file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 8));
+        BinaryFront.read(file);
+    }
+}
@@ -0,0 +1,50 @@
+package org.uma.jmetal.util.comparator;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.solutionattribute.impl.Fitness;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class FitnessComparatorTest {
+    private final Fitness<DoubleSolution> fitness = new Fitness<>();
+
+    @Test
+    public void shouldCompareOrderTheSolutionsByIncreasingFitness() {
+        DoubleSolution solution1 = new DummyDoubleProblem(2, 2, 0).createSolution();
+        DoubleSolution solution2 = new DummyDoubleProblem(2, 2, 0).createSolution();
+        fitness.setValue(solution1, 1.0);
+        fitness.setValue(solution2, 2.0);
+
+        var comparator = new FitnessComparator<DoubleSolution>();
+
+        assertEquals(-1, comparator.compare(solution1, solution2));
+        assertEquals(1, comparator.compare(solution2, solution1));
+        assertEquals(0, comparator.compare(solution1, solution1));
+    }
+
+    @Test
+    public void shouldCompareRaiseAnExceptionIfAFitnessHasNotBeenAssigned() {
+        DoubleSolution solution1 = new DummyDoubleProblem(2, 2, 0).createSolution();
+        DoubleSolution solution2 = new DummyDoubleProblem(2, 2, 0).createSolution();
+        fitness.setValue(solution1, 0.0);
+
+        var comparator = new FitnessComparator<DoubleSolution>();
+
+        assertThrows(InvalidConditionException.class, () -> comparator.compare(solution1, solution2));
+        assertThrows(InvalidConditionException.class, () -> comparator.compare(solution2, solution1));
+    }
+
+    @Test
+    public void shouldCompareAcceptANaNFitness() {
+        DoubleSolution solution1 = new DummyDoubleProblem(2, 2, 0).createSolution();
+        DoubleSolution solution2 = new DummyDoubleProblem(2, 2, 0).createSolution();
+        fitness.setValue(solution1, Double.NaN);
+        fitness.setValue(solution2, Double.NaN);
+
+        assertEquals(0, new FitnessComparator<DoubleSolution>().compare(solution1, solution2));
+    }
+}
@@ -3,11 +3,15 @@ package org.uma.jmetal.util.densityestimator;
 import org.junit.Test;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.population.ObjectiveMatrix;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class CrowdingDistanceDensityEstimatorTest {
     private static final double EPSILON = 0.000000001;
@@ -65,4 +69,69 @@ public class CrowdingDistanceDensityEstimatorTest {
         assertEquals(Double.POSITIVE_INFINITY, crowdingDistance.getValue(solution2), EPSILON);
         assertEquals(2.0, crowdingDistance.getValue(solution3), EPSILON);
     }
+
+    @Test
+    public void shouldComputeOnAnObjectiveMatrixAssignTheSameValuesAsComputeOnAList() {
+        CrowdingDistanceDensityEstimator<PointSolution> crowdingDistance = new CrowdingDistanceDensityEstimator<>();
+        JMetalRandom random = JMetalRandom.getInstance();
+
+        List<PointSolution> solutionList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            PointSolution solution = new PointSolution(3);
+            for (int j = 0; j < 3; j++) {
+                solution.objectives()[j] = random.nextInt(0, 20);
+            }
+            solutionList.add(solution);
+        }
+
+        crowdingDistance.compute(solutionList);
+        List<Double> expectedValues = new ArrayList<>();
+        for (PointSolution solution : solutionList) {
+            expectedValues.add(crowdingDistance.getValue(solution));
+            solution.attributes().clear();
+        }
+
+        crowdingDistance.compute(new ObjectiveMatrix<>(solutionList));
+
+        for (int i = 0; i < solutionList.size(); i++) {
+            assertEquals(expectedValues.get(i), crowdingDistance.getValue(solutionList.get(i)), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldTruncateKeepTheSameSolutionsAsRecomputingTheDistancesAfterEachRemoval() {
+        CrowdingDistanceDensityEstimator<PointSolution> crowdingDistance = new CrowdingDistanceDensityEstimator<>();
+        JMetalRandom random = JMetalRandom.getInstance();
+
+        for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+            List<PointSolution> solutionList = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                PointSolution solution = new PointSolution(numberOfObjectives);
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    solution.objectives()[j] = random.nextDouble();
+                }
+                solutionList.add(solution);
+            }
+
+            List<PointSolution> expected = new ArrayList<>(solutionList);
+            while (expected.size() > 20) {
+                crowdingDistance.compute(expected);
+                expected.sort(Comparator.comparing(crowdingDistance::getValue).reversed());
+                expected.remove(expected.size() - 1);
+            }
+            crowdingDistance.compute(expected);
+            List<Double> expectedValues = new ArrayList<>();
+            for (PointSolution solution : expected) {
+                expectedValues.add(crowdingDistance.getValue(solution));
+            }
+
+            List<PointSolution> result = crowdingDistance.truncate(solutionList, 20);
+
+            assertEquals(20, result.size());
+            assertTrue(result.containsAll(expected));
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expectedValues.get(i), crowdingDistance.getValue(expected.get(i)), EPSILON);
+            }
+        }
+    }
 }
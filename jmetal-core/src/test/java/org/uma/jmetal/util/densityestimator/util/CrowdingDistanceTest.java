@@ -0,0 +1,103 @@
+package org.uma.jmetal.util.densityestimator.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CrowdingDistanceTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test
+    public void shouldComputeTheCrowdingDistanceOfThreePoints() {
+        CrowdingDistance crowdingDistance = new CrowdingDistance(new double[][]{{0.0, 1.0}, {1.0, 0.0}, {0.5, 0.5}});
+
+        assertArrayEquals(new double[]{Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 2.0},
+                crowdingDistance.getDistances(), EPSILON);
+    }
+
+    @Test
+    public void shouldRemoveTheMostCrowdedPointAndUpdateItsNeighbours() {
+        double[][] points = {{0.0, 1.0}, {0.1, 0.9}, {0.2, 0.8}, {0.6, 0.4}, {1.0, 0.0}};
+        CrowdingDistance crowdingDistance = new CrowdingDistance(points);
+
+        assertEquals(1, crowdingDistance.removeMostCrowded());
+        assertEquals(4, crowdingDistance.size());
+        assertArrayEquals(new double[]{Double.POSITIVE_INFINITY, 0.0, 1.2, 1.6, Double.POSITIVE_INFINITY},
+                crowdingDistance.getDistances(), EPSILON);
+    }
+
+    @Test
+    public void shouldTheDistancesAfterEachRemovalBeTheSameAsComputingThemAgain() {
+        Random random = new Random(1);
+        for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+            double[][] points = new double[50][numberOfObjectives];
+            for (double[] point : points) {
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    point[j] = random.nextDouble();
+                }
+            }
+
+            CrowdingDistance crowdingDistance = new CrowdingDistance(points);
+            List<Integer> remaining = new ArrayList<>();
+            for (int i = 0; i < points.length; i++) {
+                remaining.add(i);
+            }
+
+            while (crowdingDistance.size() > 1) {
+                double[] expected = naiveCrowdingDistance(points, remaining);
+                int mostCrowded = 0;
+                for (int k = 0; k < remaining.size(); k++) {
+                    assertEquals(expected[k], crowdingDistance.getDistance(remaining.get(k)), EPSILON);
+                    if (expected[k] <= expected[mostCrowded]) {
+                        mostCrowded = k;
+                    }
+                }
+
+                assertEquals((int) remaining.get(mostCrowded), crowdingDistance.removeMostCrowded());
+                remaining.remove(mostCrowded);
+            }
+        }
+    }
+
+    @Test(expected = InvalidConditionException.class)
+    public void shouldGetTheDistanceOfARemovedPointRaiseAnException() {
+        CrowdingDistance crowdingDistance = new CrowdingDistance(new double[][]{{0.0, 1.0}, {1.0, 0.0}, {0.5, 0.5}});
+        crowdingDistance.remove(2);
+
+        crowdingDistance.getDistance(2);
+    }
+
+    private static double[] naiveCrowdingDistance(double[][] points, List<Integer> indices) {
+        int size = indices.size();
+        double[] distance = new double[size];
+        if (size <= 2) {
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            return distance;
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int k = 0; k < size; k++) {
+            order.add(k);
+        }
+        for (int m = 0; m < points[0].length; m++) {
+            final int objective = m;
+            order.sort(Comparator.comparingDouble(k -> points[indices.get(k)][objective]));
+            double minimum = points[indices.get(order.get(0))][m];
+            double maximum = points[indices.get(order.get(size - 1))][m];
+            distance[order.get(0)] = Double.POSITIVE_INFINITY;
+            distance[order.get(size - 1)] = Double.POSITIVE_INFINITY;
+            for (int k = 1; k < size - 1; k++) {
+                distance[order.get(k)] += (points[indices.get(order.get(k + 1))][m]
+                        - points[indices.get(order.get(k - 1))][m]) / (maximum - minimum);
+            }
+        }
+        return distance;
+    }
+}
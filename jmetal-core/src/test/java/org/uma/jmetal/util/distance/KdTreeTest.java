@@ -0,0 +1,142 @@
+package org.uma.jmetal.util.distance;
+
+import org.junit.Test;
+import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KdTreeTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test
+    public void shouldFindTheNearestNeighboursOfAPoint() {
+        double[][] points = {{0.0, 0.0}, {1.0, 0.0}, {0.0, 2.0}, {3.0, 3.0}};
+        KdTree tree = new KdTree(points);
+
+        KdTree.Neighbors neighbors = tree.nearestNeighbors(0, 2);
+
+        assertEquals(2, neighbors.size());
+        assertEquals(1, neighbors.getIndex(0));
+        assertEquals(1.0, neighbors.getDistance(0), EPSILON);
+        assertEquals(2, neighbors.getIndex(1));
+        assertEquals(2.0, neighbors.getDistance(1), EPSILON);
+    }
+
+    @Test
+    public void shouldFindTheNearestNeighboursOfAQueryPoint() {
+        double[][] points = {{0.0, 0.0}, {1.0, 0.0}, {0.0, 2.0}, {3.0, 3.0}};
+        KdTree tree = new KdTree(points);
+
+        KdTree.Neighbors neighbors = tree.nearestNeighbors(new double[]{2.9, 3.0}, 1);
+
+        assertEquals(3, neighbors.getIndex(0));
+        assertEquals(0.1, neighbors.getDistance(0), EPSILON);
+    }
+
+    @Test
+    public void shouldSortTheNeighboursAtTheSameDistanceByIndex() {
+        double[][] points = new double[20][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[]{1.0, 1.0};
+        }
+        KdTree tree = new KdTree(points);
+
+        KdTree.Neighbors neighbors = tree.nearestNeighbors(10, 3);
+
+        assertEquals(0, neighbors.getIndex(0));
+        assertEquals(1, neighbors.getIndex(1));
+        assertEquals(2, neighbors.getIndex(2));
+        assertEquals(0.0, neighbors.getDistance(2), EPSILON);
+    }
+
+    @Test
+    public void shouldReturnInfinityIfThereAreNotEnoughNeighbours() {
+        KdTree tree = new KdTree(new double[][]{{0.0, 0.0}, {1.0, 0.0}});
+
+        assertEquals(1.0, tree.distanceToKthNearestNeighbor(0, 1), EPSILON);
+        assertEquals(Double.POSITIVE_INFINITY, tree.distanceToKthNearestNeighbor(0, 2), EPSILON);
+    }
+
+    @Test
+    public void shouldIgnoreTheRemovedPoints() {
+        double[][] points = {{0.0, 0.0}, {1.0, 0.0}, {0.0, 2.0}, {3.0, 3.0}};
+        KdTree tree = new KdTree(points);
+
+        tree.remove(1);
+
+        assertEquals(3, tree.size());
+        assertTrue(tree.isRemoved(1));
+        assertFalse(tree.isRemoved(0));
+        assertEquals(2, tree.nearestNeighbors(0, 1).getIndex(0));
+    }
+
+    @Test(expected = InvalidConditionException.class)
+    public void shouldRemovingAPointTwiceRaiseAnException() {
+        KdTree tree = new KdTree(new double[][]{{0.0, 0.0}, {1.0, 0.0}});
+
+        tree.remove(1);
+        tree.remove(1);
+    }
+
+    @Test(expected = InvalidConditionException.class)
+    public void shouldPointsWithDifferentDimensionsRaiseAnException() {
+        new KdTree(new double[][]{{0.0, 0.0}, {1.0}});
+    }
+
+    @Test
+    public void shouldTheDistancesToTheNeighboursBeTheSameAsWithABruteForceSearch() {
+        Random random = new Random(1);
+        for (int dimension = 1; dimension <= 5; dimension++) {
+            double[][] points = new double[150][dimension];
+            for (double[] point : points) {
+                for (int d = 0; d < dimension; d++) {
+                    // Values on a grid, so that there are ties
+                    point[d] = random.nextInt(10) / 10.0;
+                }
+            }
+            KdTree tree = new KdTree(points);
+
+            while (tree.size() > 1) {
+                for (int i = 0; i < points.length; i++) {
+                    if (!tree.isRemoved(i)) {
+                        List<Double> expected = bruteForceDistances(points, tree, i);
+                        int k = Math.min(expected.size(), 5);
+                        KdTree.Neighbors neighbors = tree.nearestNeighbors(i, k);
+
+                        assertEquals(k, neighbors.size());
+                        for (int j = 0; j < k; j++) {
+                            assertEquals(expected.get(j), neighbors.getDistance(j), 0.0);
+                        }
+                    }
+                }
+                for (int removals = Math.min(5, tree.size() - 1); removals > 0; removals--) {
+                    int toRemove;
+                    do {
+                        toRemove = random.nextInt(points.length);
+                    } while (tree.isRemoved(toRemove));
+                    tree.remove(toRemove);
+                }
+            }
+        }
+    }
+
+    private List<Double> bruteForceDistances(double[][] points, KdTree tree, int point) {
+        EuclideanDistanceBetweenVectors distance = new EuclideanDistanceBetweenVectors();
+        List<Double> distances = new ArrayList<>();
+        for (int i = 0; i < points.length; i++) {
+            if ((i != point) && !tree.isRemoved(i)) {
+                distances.add(distance.compute(points[point], points[i]));
+            }
+        }
+        distances.sort(Comparator.naturalOrder());
+        return distances;
+    }
+}
@@ -0,0 +1,208 @@
+package org.uma.jmetal.util.evaluator.cache;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CachedProblemTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Problem counting its evaluations, whose objectives are the sum and the product of the variables
+     */
+    @SuppressWarnings("serial")
+    private static class CountingProblem extends DummyDoubleProblem {
+        private final AtomicInteger evaluations = new AtomicInteger();
+
+        CountingProblem() {
+            super(2, 2, 1);
+        }
+
+        @Override
+        public DoubleSolution evaluate(DoubleSolution solution) {
+            evaluations.incrementAndGet();
+            double x = solution.variables().get(0);
+            double y = solution.variables().get(1);
+            solution.objectives()[0] = x + y;
+            solution.objectives()[1] = x * y;
+            solution.constraints()[0] = x - y;
+            return solution;
+        }
+    }
+
+    private DoubleSolution createSolution(CountingProblem problem, double x, double y) {
+        DoubleSolution solution = problem.createSolution();
+        solution.variables().set(0, x);
+        solution.variables().set(1, y);
+        return solution;
+    }
+
+    @Test
+    public void shouldEvaluateDuplicatedSolutionsOnlyOnce() {
+        CountingProblem problem = new CountingProblem();
+        CachedProblem<DoubleSolution> cachedProblem = new CachedProblem<>(problem, 100);
+
+        cachedProblem.evaluate(createSolution(problem, 1.0, 2.0));
+        DoubleSolution duplicate = cachedProblem.evaluate(createSolution(problem, 1.0, 2.0));
+        cachedProblem.evaluate(createSolution(problem, 2.0, 1.0));
+
+        assertEquals(2, problem.evaluations.get());
+        assertArrayEquals(new double[]{3.0, 2.0}, duplicate.objectives(), 0.0);
+        assertArrayEquals(new double[]{-1.0}, duplicate.constraints(), 0.0);
+        assertEquals(1, cachedProblem.getHits());
+        assertEquals(2, cachedProblem.getMisses());
+        assertEquals(1.0 / 3.0, cachedProblem.getHitRate(), 1e-12);
+    }
+
+    @Test
+    public void shouldShareTheEvaluationOfCloseDoubleSolutionsIfAQuantumIsSet() {
+        CountingProblem problem = new CountingProblem();
+        CachedProblem<DoubleSolution> cachedProblem =
+                new CachedProblem<>(problem, new EvaluationCache(100), 1e-6);
+
+        cachedProblem.evaluate(createSolution(problem, 1.0, 2.0));
+        cachedProblem.evaluate(createSolution(problem, 1.0 + 1e-9, 2.0));
+        cachedProblem.evaluate(createSolution(problem, 1.0 + 1e-3, 2.0));
+
+        assertEquals(2, problem.evaluations.get());
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsedEntries() {
+        CountingProblem problem = new CountingProblem();
+        CachedProblem<DoubleSolution> cachedProblem = new CachedProblem<>(problem, 2);
+
+        cachedProblem.evaluate(createSolution(problem, 1.0, 1.0));
+        cachedProblem.evaluate(createSolution(problem, 2.0, 2.0));
+        cachedProblem.evaluate(createSolution(problem, 1.0, 1.0));
+        cachedProblem.evaluate(createSolution(problem, 3.0, 3.0));
+        assertEquals(3, problem.evaluations.get());
+        assertEquals(1, cachedProblem.getCache().getEvictions());
+
+        cachedProblem.evaluate(createSolution(problem, 1.0, 1.0));
+        assertEquals(3, problem.evaluations.get());
+        cachedProblem.evaluate(createSolution(problem, 2.0, 2.0));
+        assertEquals(4, problem.evaluations.get());
+        assertEquals(2, cachedProblem.getCache().size());
+    }
+
+    @Test
+    public void shouldRecoverTheEvictedEntriesFromTheSpillFile() throws IOException {
+        CountingProblem problem = new CountingProblem();
+        Path spillFile = folder.newFile("cache.bin").toPath();
+        try (EvaluationCache cache = new EvaluationCache(2, spillFile)) {
+            CachedProblem<DoubleSolution> cachedProblem = new CachedProblem<>(problem, cache, 0.0);
+            for (int i = 0; i < 10; i++) {
+                cachedProblem.evaluate(createSolution(problem, i, 2.0 * i));
+            }
+            assertEquals(8, cache.getSpilledEntries());
+
+            for (int i = 0; i < 10; i++) {
+                DoubleSolution solution = cachedProblem.evaluate(createSolution(problem, i, 2.0 * i));
+                assertArrayEquals(new double[]{3.0 * i, 2.0 * i * i}, solution.objectives(), 0.0);
+                assertArrayEquals(new double[]{-i}, solution.constraints(), 0.0);
+            }
+            assertEquals(10, problem.evaluations.get());
+            // Reading the spilled entries evicts the last two, which are also read from the file
+            assertEquals(10, cache.getSpillHits());
+        }
+    }
+
+    @Test
+    public void shouldIdentifyBinaryAndPermutationSolutionsByTheirVariables() {
+        BinarySolution first = new DefaultBinarySolution(Arrays.asList(70, 3), 1);
+        BinarySolution second = (BinarySolution) first.copy();
+        assertEquals(SolutionKey.of(first), SolutionKey.of(second));
+
+        second.variables().get(0).flip(65);
+        assertNotEquals(SolutionKey.of(first), SolutionKey.of(second));
+
+        assertNotEquals(SolutionKey.of(permutation(0, 1, 2)), SolutionKey.of(permutation(0, 2, 1)));
+        assertEquals(SolutionKey.of(permutation(2, 0, 1)), SolutionKey.of(permutation(2, 0, 1)));
+    }
+
+    private DoubleSolution permutation(int... values) {
+        // Only the variables are used to compute the key, so their type does not matter to the solution
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        DoubleSolution solution = new CountingProblem().createSolution();
+        List variables = solution.variables();
+        variables.clear();
+        for (int value : values) {
+            variables.add(value);
+        }
+        return solution;
+    }
+
+    @Test
+    public void shouldWorkWithTheSequentialAndMultiThreadedEvaluators() {
+        CountingProblem problem = new CountingProblem();
+        CachedProblem<DoubleSolution> cachedProblem = new CachedProblem<>(problem, 1000);
+
+        List<DoubleSolution> solutions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            solutions.add(createSolution(problem, i % 20, 1.0));
+        }
+
+        MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator = new MultiThreadedSolutionListEvaluator<>(4);
+        evaluator.evaluate(solutions, cachedProblem);
+        evaluator.shutdown();
+        new SequentialSolutionListEvaluator<DoubleSolution>().evaluate(solutions, cachedProblem);
+
+        assertEquals(20, problem.evaluations.get());
+        for (int i = 0; i < solutions.size(); i++) {
+            assertEquals((i % 20) + 1.0, solutions.get(i).objectives()[0], 0.0);
+        }
+        assertEquals(380, cachedProblem.getHits());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldADeserializedProblemEvaluateWithAnEmptyCache() throws IOException, ClassNotFoundException {
+        CountingProblem problem = new CountingProblem();
+        CachedProblem<DoubleSolution> cachedProblem =
+                new CachedProblem<>(problem, new EvaluationCache(10), 1e-6);
+        cachedProblem.evaluate(createSolution(problem, 1.0, 2.0));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cachedProblem);
+        }
+        CachedProblem<DoubleSolution> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (CachedProblem<DoubleSolution>) in.readObject();
+        }
+
+        assertEquals(0, copy.getCache().size());
+        assertEquals(10, copy.getCache().getMaximumSize());
+        assertEquals(1, copy.getMisses());
+
+        CountingProblem problemCopy = (CountingProblem) copy.getProblem();
+        DoubleSolution solution = copy.evaluate(createSolution(problem, 1.0, 2.0));
+        copy.evaluate(createSolution(problem, 1.0 + 1e-9, 2.0));
+
+        assertArrayEquals(new double[]{3.0, 2.0}, solution.objectives(), 0.0);
+        assertEquals(2, problemCopy.evaluations.get());
+        assertEquals(1, copy.getHits());
+        assertEquals(2, copy.getMisses());
+    }
+}
@@ -0,0 +1,198 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator.ExecutorType;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class MultiThreadedSolutionListEvaluatorTest {
+
+    /**
+     * Problem whose first objective is the index stored in the first variable and whose second one
+     * is a random number
+     */
+    @SuppressWarnings("serial")
+    private static class StochasticProblem extends DummyDoubleProblem {
+        StochasticProblem() {
+            super(1, 2, 0);
+        }
+
+        @Override
+        public DoubleSolution evaluate(DoubleSolution solution) {
+            solution.objectives()[0] = solution.variables().get(0) * 2;
+            solution.objectives()[1] = JMetalRandom.getInstance().nextDouble();
+            return solution;
+        }
+    }
+
+    private List<DoubleSolution> createSolutions(DummyDoubleProblem problem, int numberOfSolutions) {
+        List<DoubleSolution> solutions = new ArrayList<>(numberOfSolutions);
+        for (int i = 0; i < numberOfSolutions; i++) {
+            DoubleSolution solution = problem.createSolution();
+            solution.variables().set(0, (double) i);
+            solutions.add(solution);
+        }
+        return solutions;
+    }
+
+    private void assertAllTheSolutionsAreEvaluated(MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator) {
+        StochasticProblem problem = new StochasticProblem();
+        List<DoubleSolution> solutions = createSolutions(problem, 101);
+
+        evaluator.evaluate(solutions, problem);
+        evaluator.shutdown();
+
+        for (int i = 0; i < solutions.size(); i++) {
+            assertEquals(2.0 * i, solutions.get(i).objectives()[0], 0.0);
+        }
+    }
+
+    @Test
+    public void shouldEvaluateAllTheSolutionsWithEveryKindOfExecutor() {
+        for (ExecutorType executorType : ExecutorType.values()) {
+            assertAllTheSolutionsAreEvaluated(new MultiThreadedSolutionListEvaluator<>(3, executorType));
+        }
+    }
+
+    @Test
+    public void shouldEvaluateAllTheSolutionsWithAnExternalExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        assertAllTheSolutionsAreEvaluated(new MultiThreadedSolutionListEvaluator<>(executor, 2));
+
+        assertFalse(executor.isShutdown());
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldTheGrainSizeDetermineTheNumberOfChunks() {
+        StochasticProblem problem = new StochasticProblem();
+        MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator =
+                new MultiThreadedSolutionListEvaluator<DoubleSolution>(2).setGrainSize(10);
+
+        evaluator.evaluate(createSolutions(problem, 95), problem);
+        evaluator.shutdown();
+
+        assertEquals(95, evaluator.getLastBatchStatistics().getNumberOfSolutions());
+        assertEquals(10, evaluator.getLastBatchStatistics().getNumberOfChunks());
+        assertEquals(1, evaluator.getNumberOfBatches());
+    }
+
+    @Test
+    public void shouldTheEvaluatorBeUsableAfterShutdown() {
+        MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator = new MultiThreadedSolutionListEvaluator<>(2);
+
+        assertAllTheSolutionsAreEvaluated(evaluator);
+        assertAllTheSolutionsAreEvaluated(evaluator);
+
+        assertEquals(2, evaluator.getNumberOfBatches());
+    }
+
+    @Test
+    public void shouldRandomStreamsMakeTheEvaluationIndependentOfTheNumberOfThreads() {
+        List<List<Double>> results = new ArrayList<>();
+        for (int numberOfThreads : new int[]{1, 4}) {
+            StochasticProblem problem = new StochasticProblem();
+            MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator =
+                    new MultiThreadedSolutionListEvaluator<DoubleSolution>(numberOfThreads)
+                            .setGrainSize(3)
+                            .setRandomStreams(new RandomStreams(7));
+
+            List<Double> values = new ArrayList<>();
+            for (int batch = 0; batch < 2; batch++) {
+                evaluator.evaluate(createSolutions(problem, 20), problem)
+                        .forEach(solution -> values.add(solution.objectives()[1]));
+            }
+            evaluator.shutdown();
+            results.add(values);
+        }
+
+        assertEquals(results.get(0), results.get(1));
+        assertNotEquals(results.get(0).get(0), results.get(0).get(20));
+    }
+
+    @Test
+    public void shouldEvaluateAsyncNotifyEachEvaluatedSolutionAndCompleteWithTheList() {
+        StochasticProblem problem = new StochasticProblem();
+        List<DoubleSolution> solutions = createSolutions(problem, 50);
+        Set<DoubleSolution> notified = ConcurrentHashMap.newKeySet();
+        MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator =
+                new MultiThreadedSolutionListEvaluator<DoubleSolution>(3).setGrainSize(4);
+
+        CompletableFuture<List<DoubleSolution>> future = evaluator.evaluateAsync(solutions, problem, notified::add);
+        List<DoubleSolution> result = future.join();
+        evaluator.shutdown();
+
+        assertSame(solutions, result);
+        assertEquals(50, notified.size());
+        for (int i = 0; i < solutions.size(); i++) {
+            assertEquals(2.0 * i, solutions.get(i).objectives()[0], 0.0);
+        }
+    }
+
+    @Test
+    public void shouldEvaluateAsyncCompleteExceptionallyIfAnEvaluationFails() {
+        DummyDoubleProblem problem = new DummyDoubleProblem(1, 2, 0) {
+            @Override
+            public DoubleSolution evaluate(DoubleSolution solution) {
+                throw new IllegalStateException("Evaluation error");
+            }
+        };
+        MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator = new MultiThreadedSolutionListEvaluator<>(2);
+
+        CompletableFuture<List<DoubleSolution>> future = evaluator.evaluateAsync(createSolutions(problem, 10), problem);
+
+        try {
+            future.join();
+            fail("An exception should have been raised");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldTheDefaultEvaluateAsyncReturnACompletedFuture() {
+        StochasticProblem problem = new StochasticProblem();
+        List<DoubleSolution> solutions = createSolutions(problem, 5);
+        List<DoubleSolution> notified = new ArrayList<>();
+
+        CompletableFuture<List<DoubleSolution>> future =
+                new SequentialSolutionListEvaluator<DoubleSolution>().evaluateAsync(solutions, problem, notified::add);
+
+        assertTrue(future.isDone());
+        assertEquals(solutions, notified);
+        assertEquals(8.0, solutions.get(4).objectives()[0], 0.0);
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldAnExceptionEvaluatingASolutionBeRethrown() {
+        DummyDoubleProblem problem = new DummyDoubleProblem(1, 2, 0) {
+            @Override
+            public DoubleSolution evaluate(DoubleSolution solution) {
+                throw new IllegalStateException("Evaluation error");
+            }
+        };
+        MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator = new MultiThreadedSolutionListEvaluator<>(2);
+        try {
+            evaluator.evaluate(createSolutions(problem, 10), problem);
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+}
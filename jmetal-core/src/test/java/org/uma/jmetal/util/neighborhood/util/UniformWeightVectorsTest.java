@@ -0,0 +1,84 @@
+package org.uma.jmetal.util.neighborhood.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class UniformWeightVectorsTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test
+    public void shouldNumberOfSimplexLatticeVectorsBeCorrect() {
+        assertEquals(91, UniformWeightVectors.numberOfSimplexLatticeVectors(3, 12));
+        assertEquals(220, UniformWeightVectors.numberOfSimplexLatticeVectors(10, 3));
+        assertEquals(1, UniformWeightVectors.numberOfSimplexLatticeVectors(5, 0));
+    }
+
+    @Test
+    public void shouldSimplexLatticeBeEqualToTheWeightFilesOfMOEAD() throws IOException {
+        assertArrayEquals(VectorUtils.readVectors("../resources/weightVectorFiles/moead/W3D_91.dat", " "),
+                UniformWeightVectors.simplexLattice(3, 12));
+        assertArrayEquals(VectorUtils.readVectors("../resources/weightVectorFiles/moead/W10D_220.dat", " "),
+                UniformWeightVectors.simplexLattice(10, 3));
+    }
+
+    @Test
+    public void shouldGenerateReturnASimplexLatticeIfTheNumberOfVectorsMatchesOne() {
+        assertArrayEquals(UniformWeightVectors.simplexLattice(4, 8), UniformWeightVectors.generate(4, 165));
+    }
+
+    @Test
+    public void shouldGenerateReturnEvenlySpacedVectorsWithTwoObjectives() {
+        double[][] vectors = UniformWeightVectors.generate(2, 5);
+
+        assertArrayEquals(new double[]{0.0, 1.0}, vectors[0], EPSILON);
+        assertArrayEquals(new double[]{0.25, 0.75}, vectors[1], EPSILON);
+        assertArrayEquals(new double[]{1.0, 0.0}, vectors[4], EPSILON);
+    }
+
+    @Test
+    public void shouldUniformDesignReturnDistinctVectorsOfTheSimplex() {
+        for (int numberOfObjectives = 3; numberOfObjectives <= 8; numberOfObjectives++) {
+            double[][] vectors = UniformWeightVectors.generate(numberOfObjectives, 317);
+
+            assertEquals(317, vectors.length);
+            Set<String> distinctVectors = new HashSet<>();
+            for (double[] vector : vectors) {
+                assertEquals(numberOfObjectives, vector.length);
+                double sum = 0.0;
+                for (double value : vector) {
+                    assertTrue(value >= 0.0);
+                    sum += value;
+                }
+                assertEquals(1.0, sum, EPSILON);
+                distinctVectors.add(Arrays.toString(vector));
+            }
+            assertEquals(317, distinctVectors.size());
+        }
+    }
+
+    @Test
+    public void shouldUniformDesignBeDeterministic() {
+        assertArrayEquals(UniformWeightVectors.uniformDesign(5, 1000), UniformWeightVectors.uniformDesign(5, 1000));
+    }
+
+    @Test
+    public void shouldReadReturnNullIfTheFileDoesNotExist() {
+        assertNull(UniformWeightVectors.read("nonExistingDirectory/W3D_100.dat", 3, 100));
+    }
+
+    @Test(expected = InvalidConditionException.class)
+    public void shouldGenerateRaiseAnExceptionWithOneObjective() {
+        UniformWeightVectors.generate(1, 10);
+    }
+}
@@ -0,0 +1,119 @@
+package org.uma.jmetal.util.neighborhood.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+public class WeightVectorCacheTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Neighbourhoods computed as in the previous versions of MOEA/D: a partial selection sort of
+     * the distances to all the vectors
+     */
+    private static int[][] bruteForceNeighborhood(double[][] vectors, int neighborhoodSize) {
+        int[][] neighborhood = new int[vectors.length][neighborhoodSize];
+        for (int i = 0; i < vectors.length; i++) {
+            double[] x = new double[vectors.length];
+            int[] idx = new int[vectors.length];
+            for (int j = 0; j < vectors.length; j++) {
+                double sum = 0;
+                for (int n = 0; n < vectors[i].length; n++) {
+                    sum += (vectors[i][n] - vectors[j][n]) * (vectors[i][n] - vectors[j][n]);
+                }
+                x[j] = Math.sqrt(sum);
+                idx[j] = j;
+            }
+            for (int k = 0; k < neighborhoodSize; k++) {
+                for (int j = k + 1; j < vectors.length; j++) {
+                    if (x[k] > x[j]) {
+                        double temp = x[k];
+                        x[k] = x[j];
+                        x[j] = temp;
+                        int id = idx[k];
+                        idx[k] = idx[j];
+                        idx[j] = id;
+                    }
+                }
+            }
+            System.arraycopy(idx, 0, neighborhood[i], 0, neighborhoodSize);
+        }
+        return neighborhood;
+    }
+
+    @Test
+    public void shouldComputeNeighborhoodBeEqualToTheBruteForceOneWithTies() {
+        double[][] vectors = UniformWeightVectors.simplexLattice(3, 12);
+
+        assertArrayEquals(bruteForceNeighborhood(vectors, 20), WeightVectorCache.computeNeighborhood(vectors, 20, false));
+        assertArrayEquals(bruteForceNeighborhood(vectors, 20), WeightVectorCache.computeNeighborhood(vectors, 20, true));
+    }
+
+    @Test
+    public void shouldComputeNeighborhoodBeEqualToTheBruteForceOne() {
+        Random random = new Random(1);
+        for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+            double[][] vectors = new double[300][numberOfObjectives];
+            for (double[] vector : vectors) {
+                for (int m = 0; m < numberOfObjectives; m++) {
+                    vector[m] = random.nextInt(4) / 4.0;
+                }
+            }
+
+            assertArrayEquals(bruteForceNeighborhood(vectors, 10), WeightVectorCache.computeNeighborhood(vectors, 10, true));
+            assertArrayEquals(bruteForceNeighborhood(vectors, 300), WeightVectorCache.computeNeighborhood(vectors, 300, true));
+        }
+    }
+
+    @Test
+    public void shouldGetReturnCopiesOfTheCachedArrays() {
+        WeightVectorCache cache = new WeightVectorCache();
+        double[][] vectors = cache.getWeightVectors(3, 91, null);
+        int[][] neighborhood = cache.getNeighborhood(vectors, 10);
+
+        vectors[0][0] = 10.0;
+        neighborhood[0][0] = -1;
+
+        assertArrayEquals(UniformWeightVectors.simplexLattice(3, 12), cache.getWeightVectors(3, 91, null));
+        assertNotSame(neighborhood, cache.getNeighborhood(UniformWeightVectors.simplexLattice(3, 12), 10));
+        assertEquals(0, cache.getNeighborhood(UniformWeightVectors.simplexLattice(3, 12), 10)[0][0]);
+    }
+
+    @Test
+    public void shouldGetWeightVectorsReadTheWeightFileIfItExists() {
+        WeightVectorCache cache = new WeightVectorCache();
+
+        double[][] vectors = cache.getWeightVectors(3, 300, "../resources/weightVectorFiles/moead");
+
+        assertArrayEquals(new double[]{1.0, 0.0, 0.0}, vectors[0], 0.0);
+        assertArrayEquals(new double[]{0.0, 0.0, 1.0}, vectors[1], 0.0);
+    }
+
+    @Test
+    public void shouldTheNeighborhoodsBeStoredInTheDirectory() throws Exception {
+        Path directory = folder.newFolder("cache").toPath();
+        double[][] vectors = UniformWeightVectors.generate(5, 400);
+
+        int[][] neighborhood = new WeightVectorCache().setDirectory(directory).getNeighborhood(vectors, 15);
+        File[] files = directory.toFile().listFiles();
+
+        assertEquals(1, files.length);
+        assertArrayEquals(neighborhood, new WeightVectorCache().setDirectory(directory).getNeighborhood(vectors, 15));
+        assertArrayEquals(neighborhood, WeightVectorCache.computeNeighborhood(vectors, 15, false));
+    }
+
+    @Test(expected = InvalidConditionException.class)
+    public void shouldGetNeighborhoodRaiseAnExceptionIfTheSizeIsTooLarge() {
+        new WeightVectorCache().getNeighborhood(UniformWeightVectors.generate(3, 10), 11);
+    }
+}
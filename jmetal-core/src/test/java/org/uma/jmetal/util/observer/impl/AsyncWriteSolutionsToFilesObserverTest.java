@@ -0,0 +1,163 @@
+package org.uma.jmetal.util.observer.impl;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.binaryfront.BinaryFront;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.observer.impl.AsyncWriteSolutionsToFilesObserver.OutputMode;
+import org.uma.jmetal.util.observer.impl.AsyncWriteSolutionsToFilesObserver.QueueFullPolicy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class AsyncWriteSolutionsToFilesObserverTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static List<DoubleSolution> createPopulation(int size, int generation) {
+        List<Pair<Double, Double>> bounds = Collections.nCopies(3, new ImmutablePair<>(0.0, 1.0));
+        List<DoubleSolution> population = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            DoubleSolution solution = new DefaultDoubleSolution(bounds, 2);
+            solution.objectives()[0] = generation + i / 10.0;
+            solution.objectives()[1] = generation - i / 10.0;
+            population.add(solution);
+        }
+        return population;
+    }
+
+    private static Map<String, Object> data(List<? extends Solution<?>> population, int evaluations) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("POPULATION", population);
+        data.put("EVALUATIONS", evaluations);
+        return data;
+    }
+
+    @Test
+    public void shouldWriteTheSameFilesAsTheSynchronousObserver() throws IOException {
+        Path asyncDirectory = folder.newFolder("async").toPath();
+        Path syncDirectory = folder.newFolder("sync").toPath();
+        List<List<DoubleSolution>> populations = new ArrayList<>();
+
+        try (AsyncWriteSolutionsToFilesObserver observer =
+                     new AsyncWriteSolutionsToFilesObserver(2, asyncDirectory.toString())) {
+            for (int generation = 0; generation < 5; generation++) {
+                List<DoubleSolution> population = createPopulation(20, generation);
+                populations.add(population);
+                observer.update(null, data(population, generation * 20));
+            }
+        }
+
+        for (int generation = 0; generation < 5; generation++) {
+            Path fun = asyncDirectory.resolve("FUN." + generation + ".tsv");
+            Path var = asyncDirectory.resolve("VAR." + generation + ".tsv");
+            if (generation % 2 != 0) {
+                assertFalse(Files.exists(fun));
+                continue;
+            }
+            Path expectedFun = syncDirectory.resolve("FUN." + generation + ".tsv");
+            Path expectedVar = syncDirectory.resolve("VAR." + generation + ".tsv");
+            new SolutionListOutput(populations.get(generation))
+                    .setFunFileOutputContext(new DefaultFileOutputContext(expectedFun.toString()))
+                    .setVarFileOutputContext(new DefaultFileOutputContext(expectedVar.toString()))
+                    .print();
+            assertEquals(Files.readAllLines(expectedFun), Files.readAllLines(fun));
+            assertEquals(Files.readAllLines(expectedVar), Files.readAllLines(var));
+        }
+    }
+
+    @Test
+    public void shouldAppendTheSnapshotsToASingleLog() {
+        Path directory = folder.getRoot().toPath().resolve("log");
+        List<List<DoubleSolution>> populations = new ArrayList<>();
+
+        AsyncWriteSolutionsToFilesObserver observer = new AsyncWriteSolutionsToFilesObserver(
+                1, directory.toString(), OutputMode.SINGLE_LOG, 2, QueueFullPolicy.BLOCK);
+        for (int generation = 0; generation < 50; generation++) {
+            List<DoubleSolution> population = createPopulation(100, generation);
+            populations.add(population);
+            observer.update(null, data(population, generation * 100));
+        }
+        observer.close();
+
+        assertEquals(50, observer.getWrittenSnapshots());
+        assertEquals(0, observer.getDroppedSnapshots());
+
+        List<BinaryFront> fronts =
+                BinaryFront.readAll(directory.resolve(AsyncWriteSolutionsToFilesObserver.LOG_FILE_NAME));
+        assertEquals(50, fronts.size());
+        for (int generation = 0; generation < 50; generation++) {
+            BinaryFront front = fronts.get(generation);
+            assertEquals("" + generation, front.getHeader().getMetadata().get(AsyncWriteSolutionsToFilesObserver.GENERATION_KEY));
+            assertEquals("" + generation * 100, front.getHeader().getMetadata().get(AsyncWriteSolutionsToFilesObserver.EVALUATIONS_KEY));
+            assertEquals(List.of("f1", "f2", "x1", "x2", "x3"), front.getHeader().getColumnNames());
+            for (int i = 0; i < 100; i++) {
+                DoubleSolution solution = populations.get(generation).get(i);
+                assertEquals(solution.objectives()[1], front.get(i, 1), 0.0);
+                assertEquals(solution.variables().get(2), front.get(i, 4), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void shouldLogOnlyTheObjectivesOfNonNumericalSolutions() {
+        Path directory = folder.getRoot().toPath().resolve("log");
+        List<BinarySolution> population = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            BinarySolution solution = new DefaultBinarySolution(List.of(8, 4), 3);
+            solution.objectives()[2] = i;
+            population.add(solution);
+        }
+
+        try (AsyncWriteSolutionsToFilesObserver observer = new AsyncWriteSolutionsToFilesObserver(
+                1, directory.toString(), OutputMode.SINGLE_LOG, 1, QueueFullPolicy.BLOCK)) {
+            observer.update(null, data(population, 10));
+        }
+
+        BinaryFront front = BinaryFront.readAll(directory.resolve(AsyncWriteSolutionsToFilesObserver.LOG_FILE_NAME)).get(0);
+        assertEquals(3, front.getNumberOfColumns());
+        assertEquals(9.0, front.get(9, 2), 0.0);
+    }
+
+    @Test
+    public void shouldAccountForEverySnapshotWhenDropping() {
+        Path directory = folder.getRoot().toPath().resolve("drop");
+        AsyncWriteSolutionsToFilesObserver observer = new AsyncWriteSolutionsToFilesObserver(
+                1, directory.toString(), OutputMode.SINGLE_LOG, 1, QueueFullPolicy.DROP);
+        List<DoubleSolution> population = createPopulation(1000, 0);
+        for (int generation = 0; generation < 200; generation++) {
+            observer.update(null, data(population, generation));
+        }
+        observer.close();
+
+        assertEquals(200, observer.getWrittenSnapshots() + observer.getDroppedSnapshots());
+        assertEquals(observer.getWrittenSnapshots(),
+                BinaryFront.readAll(directory.resolve(AsyncWriteSolutionsToFilesObserver.LOG_FILE_NAME)).size());
+    }
+
+    @Test(expected = InvalidConditionException.class)
+    public void shouldNotAcceptUpdatesOnceClosed() {
+        AsyncWriteSolutionsToFilesObserver observer =
+                new AsyncWriteSolutionsToFilesObserver(1, folder.getRoot().toPath().resolve("closed").toString());
+        observer.close();
+        observer.update(null, data(createPopulation(1, 0), 0));
+    }
+}
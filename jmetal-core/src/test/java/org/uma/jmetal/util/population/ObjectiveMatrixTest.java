@@ -0,0 +1,118 @@
+package org.uma.jmetal.util.population;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ObjectiveMatrixTest {
+
+    private List<DoubleSolution> createPopulation(int size, int numberOfObjectives, int numberOfConstraints) {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, numberOfConstraints);
+        JMetalRandom random = JMetalRandom.getInstance();
+        List<DoubleSolution> population = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DoubleSolution solution = problem.createSolution();
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.objectives()[j] = random.nextInt(0, 5);
+            }
+            for (int j = 0; j < numberOfConstraints; j++) {
+                solution.constraints()[j] = random.nextInt(-2, 1);
+            }
+            population.add(solution);
+        }
+        return population;
+    }
+
+    @Test
+    public void shouldConstructorCopyTheObjectivesInRowMajorOrder() {
+        List<DoubleSolution> population = createPopulation(4, 3, 0);
+        ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(population);
+
+        assertEquals(4, matrix.size());
+        assertEquals(3, matrix.getNumberOfObjectives());
+        assertEquals(ObjectiveMatrix.Layout.ROW_MAJOR, matrix.getLayout());
+        for (int i = 0; i < 4; i++) {
+            assertSame(population.get(i), matrix.solution(i));
+            for (int j = 0; j < 3; j++) {
+                assertEquals(population.get(i).objectives()[j], matrix.get(i, j), 0.0);
+                assertEquals(population.get(i).objectives()[j], matrix.data()[i * 3 + j], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void shouldConstructorCopyTheObjectivesInColumnMajorOrder() {
+        List<DoubleSolution> population = createPopulation(4, 3, 0);
+        ObjectiveMatrix<DoubleSolution> matrix =
+                new ObjectiveMatrix<>(population, ObjectiveMatrix.Layout.COLUMN_MAJOR);
+
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 3; j++) {
+                assertEquals(population.get(i).objectives()[j], matrix.get(i, j), 0.0);
+                assertEquals(population.get(i).objectives()[j], matrix.data()[j * 4 + i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void shouldAnEmptyListProduceAnEmptyMatrix() {
+        ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(new ArrayList<>());
+
+        assertEquals(0, matrix.size());
+        assertEquals(0, matrix.data().length);
+    }
+
+    @Test
+    public void shouldUpdateReflectTheChangesInTheSolutions() {
+        List<DoubleSolution> population = createPopulation(3, 2, 0);
+        ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(population);
+
+        population.get(1).objectives()[1] = 42.0;
+        matrix.update();
+
+        assertEquals(42.0, matrix.get(1, 1), 0.0);
+    }
+
+    @Test
+    public void shouldCompareDominanceReturnTheSameAsTheDominanceComparator() {
+        DominanceComparator<DoubleSolution> comparator = new DominanceComparator<>();
+        for (ObjectiveMatrix.Layout layout : ObjectiveMatrix.Layout.values()) {
+            List<DoubleSolution> population = createPopulation(40, 3, 2);
+            ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(population, layout);
+            for (int i = 0; i < population.size(); i++) {
+                for (int k = 0; k < population.size(); k++) {
+                    assertEquals(comparator.compare(population.get(i), population.get(k)),
+                            matrix.compareDominance(i, k));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortByObjectiveBeStable() {
+        List<DoubleSolution> population = createPopulation(100, 2, 0);
+        ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(population);
+        int[] indices = new int[population.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+
+        matrix.sortByObjective(indices, 1);
+
+        for (int i = 1; i < indices.length; i++) {
+            double previous = matrix.get(indices[i - 1], 1);
+            double current = matrix.get(indices[i], 1);
+            assertTrue(previous <= current);
+            if (previous == current) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+}
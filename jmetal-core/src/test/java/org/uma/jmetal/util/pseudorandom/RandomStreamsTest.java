@@ -0,0 +1,127 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class RandomStreamsTest {
+    private final JMetalRandom random = JMetalRandom.getInstance();
+
+    @After
+    public void tearDown() {
+        random.setThreadLocalStreams(null);
+        random.setThreadRandomGenerator(null);
+    }
+
+    @Test
+    public void shouldTheStreamsDependOnlyOnTheMasterSeedAndTheIndex() {
+        RandomStreams streams = new RandomStreams(1234);
+
+        double[] first = draw(streams.getStream(5), 10);
+        double[] second = draw(new RandomStreams(1234).getStream(5), 10);
+
+        assertArrayEquals(first, second, 0.0);
+        assertFalse(first[0] == draw(streams.getStream(6), 1)[0]);
+        assertFalse(first[0] == draw(new RandomStreams(1235).getStream(5), 1)[0]);
+    }
+
+    @Test
+    public void shouldTheStreamsBeCreatedWithTheGivenFactory() {
+        RandomStreams streams = new RandomStreams(1234, JavaRandomGenerator::new);
+
+        PseudoRandomGenerator generator = streams.getStream(3);
+
+        assertTrue(generator instanceof JavaRandomGenerator);
+        assertEquals(RandomStreams.seedOf(1234, 3), generator.getSeed());
+    }
+
+    @Test
+    public void shouldRunWithStreamMakeJMetalRandomDrawFromTheStreamAndRestoreTheGenerator() {
+        PseudoRandomGenerator shared = random.getRandomGenerator();
+        RandomStreams streams = new RandomStreams(1);
+
+        double[] expected = draw(streams.getStream(7), 5);
+        double[] values = streams.callWithStream(7, () -> draw(random, 5));
+
+        assertArrayEquals(expected, values, 0.0);
+        assertSame(shared, random.getRandomGenerator());
+    }
+
+    @Test
+    public void shouldTasksBeReproducibleRegardlessOfTheThreadsRunningThem() throws Exception {
+        RandomStreams streams = new RandomStreams(42);
+        int numberOfTasks = 32;
+
+        List<double[]> sequential = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            final int task = i;
+            sequential.add(streams.callWithStream(task, () -> draw(random, 20)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> futures = new ArrayList<>();
+            for (int i = numberOfTasks - 1; i >= 0; i--) {
+                final int task = i;
+                futures.add(0, executor.submit(() -> streams.callWithStream(task, () -> draw(random, 20))));
+            }
+            for (int i = 0; i < numberOfTasks; i++) {
+                assertArrayEquals(sequential.get(i), futures.get(i).get(), 0.0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldThreadLocalStreamsGiveEachThreadItsOwnGenerator() throws Exception {
+        random.setThreadLocalStreams(new RandomStreams(3));
+
+        PseudoRandomGenerator mainGenerator = random.getRandomGenerator();
+        PseudoRandomGenerator[] otherGenerator = new PseudoRandomGenerator[1];
+        Thread thread = new Thread(() -> otherGenerator[0] = random.getRandomGenerator());
+        thread.start();
+        thread.join();
+
+        assertTrue(mainGenerator instanceof SplittableRandomGenerator);
+        assertSame(mainGenerator, random.getRandomGenerator());
+        assertNotSame(mainGenerator, otherGenerator[0]);
+        assertNotEquals(mainGenerator.getSeed(), otherGenerator[0].getSeed());
+    }
+
+    @Test
+    public void shouldDisablingThreadLocalStreamsRestoreTheSharedGenerator() {
+        PseudoRandomGenerator shared = random.getRandomGenerator();
+
+        random.setThreadLocalStreams(new RandomStreams(3));
+        assertNotSame(shared, random.getRandomGenerator());
+
+        random.setThreadLocalStreams(null);
+        assertSame(shared, random.getRandomGenerator());
+    }
+
+    private static double[] draw(PseudoRandomGenerator generator, int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = generator.nextDouble();
+        }
+        return values;
+    }
+
+    private static double[] draw(JMetalRandom random, int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextDouble();
+        }
+        return values;
+    }
+}
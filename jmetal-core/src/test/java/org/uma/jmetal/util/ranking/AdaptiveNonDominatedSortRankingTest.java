@@ -0,0 +1,89 @@
+package org.uma.jmetal.util.ranking;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.AdaptiveNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.AdaptiveNonDominatedSortRanking.Strategy;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveNonDominatedSortRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+
+    public AdaptiveNonDominatedSortRankingTest() {
+        setRanking(new AdaptiveNonDominatedSortRanking<DoubleSolution>());
+    }
+
+    private List<DoubleSolution> createPopulation(int size, int numberOfObjectives, boolean withConstraints) {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 1);
+        JMetalRandom random = JMetalRandom.getInstance();
+        List<DoubleSolution> population = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DoubleSolution solution = problem.createSolution();
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.objectives()[j] = random.nextInt(0, 8);
+            }
+            solution.constraints()[0] = withConstraints ? Math.min(0, random.nextInt(-3, 3)) : 0.0;
+            population.add(solution);
+        }
+        return population;
+    }
+
+    private void assertSameRanking(List<DoubleSolution> population, Ranking<DoubleSolution> ranking) {
+        FastNonDominatedSortRanking<DoubleSolution> reference = new FastNonDominatedSortRanking<>();
+        reference.compute(population);
+        List<Integer> expectedRanks = new ArrayList<>();
+        for (DoubleSolution solution : population) {
+            expectedRanks.add(reference.getRank(solution));
+        }
+
+        ranking.compute(population);
+
+        assertEquals(reference.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+        for (int i = 0; i < population.size(); i++) {
+            assertEquals(expectedRanks.get(i), ranking.getRank(population.get(i)));
+        }
+        for (int rank = 0; rank < reference.getNumberOfSubFronts(); rank++) {
+            assertEquals(new HashSet<>(reference.getSubFront(rank)), new HashSet<>(ranking.getSubFront(rank)));
+        }
+    }
+
+    @Test
+    public void shouldEveryStrategyComputeTheSameRanksAsTheFastNonDominatedSort() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Strategy strategy : Strategy.values()) {
+                for (int numberOfObjectives : new int[]{2, 3, 7}) {
+                    for (int size : new int[]{10, 150}) {
+                        assertSameRanking(createPopulation(size, numberOfObjectives, false),
+                                new AdaptiveNonDominatedSortRanking<>(strategy, pool));
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldEveryStrategyComputeTheSameRanksAsTheFastNonDominatedSortWithConstraints() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Strategy strategy : Strategy.values()) {
+                for (int numberOfObjectives : new int[]{2, 3, 7}) {
+                    assertSameRanking(createPopulation(200, numberOfObjectives, true),
+                            new AdaptiveNonDominatedSortRanking<>(strategy, pool));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -1,13 +1,59 @@
 package org.uma.jmetal.util.ranking;
 
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.population.ObjectiveMatrix;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
 public class FastNonDominatedSortRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
 
     public FastNonDominatedSortRankingTest() {
         setRanking(new FastNonDominatedSortRanking<DoubleSolution>());
     }
 
-}
+    @Test
+    public void shouldComputeOnAnObjectiveMatrixReturnTheSameRankingAsComputeOnAList() {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, 3, 1);
+        JMetalRandom random = JMetalRandom.getInstance();
+        List<DoubleSolution> population = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            DoubleSolution solution = problem.createSolution();
+            for (int j = 0; j < 3; j++) {
+                solution.objectives()[j] = random.nextInt(0, 10);
+            }
+            solution.constraints()[0] = random.nextInt(-1, 3) < 0 ? -1.0 : 0.0;
+            population.add(solution);
+        }
+
+        FastNonDominatedSortRanking<DoubleSolution> listRanking = new FastNonDominatedSortRanking<>();
+        listRanking.compute(population);
+        List<Integer> expectedRanks = new ArrayList<>();
+        for (DoubleSolution solution : population) {
+            expectedRanks.add(listRanking.getRank(solution));
+        }
 
+        FastNonDominatedSortRanking<DoubleSolution> matrixRanking = new FastNonDominatedSortRanking<>();
+        matrixRanking.compute(new ObjectiveMatrix<>(population));
+
+        assertEquals(listRanking.getNumberOfSubFronts(), matrixRanking.getNumberOfSubFronts());
+        for (int i = 0; i < population.size(); i++) {
+            assertEquals(expectedRanks.get(i), matrixRanking.getRank(population.get(i)));
+        }
+        for (int rank = 0; rank < listRanking.getNumberOfSubFronts(); rank++) {
+            List<DoubleSolution> expected = listRanking.getSubFront(rank);
+            List<DoubleSolution> actual = matrixRanking.getSubFront(rank);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), actual.get(i));
+            }
+        }
+    }
+}
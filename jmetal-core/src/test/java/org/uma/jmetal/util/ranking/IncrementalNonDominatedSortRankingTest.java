@@ -0,0 +1,122 @@
+package org.uma.jmetal.util.ranking;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalNonDominatedSortRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+
+    public IncrementalNonDominatedSortRankingTest() {
+        setRanking(new IncrementalNonDominatedSortRanking<DoubleSolution>());
+    }
+
+    private DoubleSolution createSolution(DummyDoubleProblem problem, int numberOfObjectives) {
+        JMetalRandom random = JMetalRandom.getInstance();
+        DoubleSolution solution = problem.createSolution();
+        for (int j = 0; j < numberOfObjectives; j++) {
+            solution.objectives()[j] = random.nextInt(0, 10);
+        }
+        solution.constraints()[0] = random.nextInt(-1, 4) < 0 ? -random.nextInt(1, 2) : 0.0;
+        return solution;
+    }
+
+    private void assertSameRankingAsFastNonDominatedSort(
+            List<DoubleSolution> population, IncrementalNonDominatedSortRanking<DoubleSolution> ranking) {
+        FastNonDominatedSortRanking<DoubleSolution> reference = new FastNonDominatedSortRanking<>();
+        reference.compute(population);
+
+        assertEquals(population.size(), ranking.size());
+        assertEquals(reference.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+        for (DoubleSolution solution : population) {
+            assertEquals(reference.getRank(solution), ranking.getRank(solution));
+        }
+        for (int rank = 0; rank < reference.getNumberOfSubFronts(); rank++) {
+            assertEquals(new HashSet<>(reference.getSubFront(rank)), new HashSet<>(ranking.getSubFront(rank)));
+        }
+    }
+
+    @Test
+    public void shouldInsertAndRemoveKeepTheSameRanksAsTheFastNonDominatedSort() {
+        int numberOfObjectives = 3;
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 1);
+        JMetalRandom random = JMetalRandom.getInstance();
+        IncrementalNonDominatedSortRanking<DoubleSolution> ranking = new IncrementalNonDominatedSortRanking<>();
+
+        List<DoubleSolution> population = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            population.add(createSolution(problem, numberOfObjectives));
+        }
+        ranking.compute(population);
+        assertSameRankingAsFastNonDominatedSort(population, ranking);
+
+        for (int step = 0; step < 200; step++) {
+            DoubleSolution solution = createSolution(problem, numberOfObjectives);
+            population.add(solution);
+            ranking.insert(solution);
+            assertSameRankingAsFastNonDominatedSort(population, ranking);
+
+            DoubleSolution removedSolution = population.remove(random.nextInt(0, population.size() - 1));
+            assertTrue(ranking.remove(removedSolution));
+            assertFalse(ranking.contains(removedSolution));
+            assertSameRankingAsFastNonDominatedSort(population, ranking);
+        }
+    }
+
+    @Test
+    public void shouldRemoveWorstRemoveTheSolutionOfTheLastFrontWithTheLowestCrowdingDistance() {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+        double[][] objectives = {{0, 0}, {1, 4}, {2, 3}, {2.5, 2.5}, {4, 1}};
+        List<DoubleSolution> population = new ArrayList<>();
+        for (double[] values : objectives) {
+            DoubleSolution solution = problem.createSolution();
+            solution.objectives()[0] = values[0];
+            solution.objectives()[1] = values[1];
+            population.add(solution);
+        }
+
+        IncrementalNonDominatedSortRanking<DoubleSolution> ranking = new IncrementalNonDominatedSortRanking<>();
+        ranking.compute(population);
+        assertEquals(2, ranking.getNumberOfSubFronts());
+
+        DoubleSolution removedSolution = ranking.removeWorst(new CrowdingDistanceDensityEstimator<>());
+
+        assertEquals(2.0, removedSolution.objectives()[0], 0.0);
+        assertEquals(4, ranking.size());
+        assertEquals(3, ranking.getSubFront(1).size());
+    }
+
+    @Test
+    public void shouldRemovingTheOnlySolutionOfTheFirstFrontMoveUpTheOtherFronts() {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+        List<DoubleSolution> population = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            DoubleSolution solution = problem.createSolution();
+            solution.objectives()[0] = i;
+            solution.objectives()[1] = i;
+            population.add(solution);
+        }
+
+        IncrementalNonDominatedSortRanking<DoubleSolution> ranking = new IncrementalNonDominatedSortRanking<>();
+        ranking.compute(population);
+        assertEquals(4, ranking.getNumberOfSubFronts());
+
+        ranking.remove(population.get(0));
+
+        assertEquals(3, ranking.getNumberOfSubFronts());
+        for (int i = 1; i < 4; i++) {
+            assertEquals(i - 1, (int) ranking.getRank(population.get(i)));
+        }
+    }
+}
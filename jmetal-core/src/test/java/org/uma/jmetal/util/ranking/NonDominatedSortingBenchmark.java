@@ -0,0 +1,107 @@
+package org.uma.jmetal.util.ranking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.ranking.impl.AdaptiveNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.AdaptiveNonDominatedSortRanking.Strategy;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the non-dominated sorting {@link Ranking} implementations on random
+ * populations with N points uniformly distributed in a M-dimensional hyperplane, which makes most of
+ * them mutually non-dominated. The quadratic algorithms need a lot of time for the largest sizes;
+ * use <code>-p</code> to restrict the sweep, e.g.
+ * <code>-p ranking=adaptive,merge -p size=100000</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NonDominatedSortingBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    @Param({"2", "3", "5", "10", "15"})
+    public int numberOfObjectives;
+
+    @Param({"fast", "merge", "adaptive", "divideAndConquer", "parallelDominanceMatrix"})
+    public String ranking;
+
+    private List<DoubleSolution> population;
+    private Ranking<DoubleSolution> rankingInstance;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(size * 31L + numberOfObjectives);
+        population = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DoubleSolution solution = new DefaultDoubleSolution(numberOfObjectives, Collections.emptyList());
+            double sum = 0.0;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.objectives()[j] = random.nextDouble();
+                sum += solution.objectives()[j];
+            }
+            // Random noise off the hyperplane to get several fronts
+            double scale = 1.0 + 0.1 * random.nextDouble();
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.objectives()[j] = scale * solution.objectives()[j] / sum;
+            }
+            population.add(solution);
+        }
+
+        switch (ranking) {
+            case "fast":
+                rankingInstance = new FastNonDominatedSortRanking<>();
+                break;
+            case "merge":
+                rankingInstance = new MergeNonDominatedSortRanking<>();
+                break;
+            case "divideAndConquer":
+                rankingInstance = new AdaptiveNonDominatedSortRanking<>(Strategy.DIVIDE_AND_CONQUER);
+                break;
+            case "parallelDominanceMatrix":
+                rankingInstance = new AdaptiveNonDominatedSortRanking<>(Strategy.PARALLEL_DOMINANCE_MATRIX);
+                break;
+            default:
+                rankingInstance = new AdaptiveNonDominatedSortRanking<>();
+                break;
+        }
+    }
+
+    @Benchmark
+    public int compute() {
+        return rankingInstance.compute(population).getNumberOfSubFronts();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(NonDominatedSortingBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
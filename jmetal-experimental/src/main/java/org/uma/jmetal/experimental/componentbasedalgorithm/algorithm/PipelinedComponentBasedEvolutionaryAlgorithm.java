@@ -0,0 +1,111 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.Evaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.MatingPoolSelection;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.solutionscreation.SolutionsCreation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.Variation;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.observable.impl.DefaultObservable;
+import org.uma.jmetal.util.termination.Termination;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Variant of {@link ComponentBasedEvolutionaryAlgorithm} in which the evaluation of the offspring
+ * of a generation overlaps with the selection and the variation of the next one. The offspring of
+ * generation g are submitted with {@link Evaluation#evaluateAsync(List)} and, while they are being
+ * evaluated, the offspring of generation g+1 are created from the current population. When the
+ * evaluation finishes, the offspring of generation g are merged with the population by the
+ * replacement, and the offspring of generation g+1 are submitted.
+ *
+ * <p>Hence, the parents of each generation are selected from the population of the previous one,
+ * which is one replacement behind the population of the generational scheme. This lag is the price
+ * of keeping the evaluation threads busy while the main thread creates new solutions, which pays
+ * off when the evaluation is parallel (e.g., with a {@link
+ * org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.MultithreadedEvaluation})
+ * and the selection and variation steps are not negligible. With a sequential evaluation, the
+ * algorithm behaves like the generational one with the lag, and there is no overlap. The last
+ * created offspring population is discarded when the stopping condition is met.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class PipelinedComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
+        extends ComponentBasedEvolutionaryAlgorithm<S> {
+
+    /**
+     * Constructor
+     */
+    public PipelinedComponentBasedEvolutionaryAlgorithm(
+            String name,
+            Evaluation<S> evaluation,
+            SolutionsCreation<S> initialPopulationCreation,
+            Termination termination,
+            MatingPoolSelection<S> selection,
+            Variation<S> variation,
+            Replacement<S> replacement) {
+        super(name, evaluation, initialPopulationCreation, termination, selection, variation, replacement);
+    }
+
+    /**
+     * Constructor taking the components of an existing algorithm (e.g., an instance of {@link
+     * org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII})
+     */
+    public PipelinedComponentBasedEvolutionaryAlgorithm(ComponentBasedEvolutionaryAlgorithm<S> algorithm) {
+        this.name = algorithm.name;
+        this.problem = algorithm.getProblem();
+        this.evaluation = algorithm.evaluation;
+        this.createInitialPopulation = algorithm.createInitialPopulation;
+        this.termination = algorithm.termination;
+        this.selection = algorithm.selection;
+        this.variation = algorithm.variation;
+        this.replacement = algorithm.replacement;
+        this.archive = algorithm.archive;
+
+        this.observable = new DefaultObservable<>(name);
+        this.attributes = new HashMap<>();
+    }
+
+    @Override
+    public void run() {
+        initTime = System.currentTimeMillis();
+
+        population = createInitialPopulation();
+        population = evaluatePopulation(population);
+        initProgress();
+
+        List<S> offspringPopulation = reproduction(selection(population));
+        while (!isStoppingConditionReached()) {
+            CompletableFuture<List<S>> pendingEvaluation = evaluation.evaluateAsync(offspringPopulation);
+
+            List<S> nextOffspringPopulation = reproduction(selection(population));
+
+            List<S> evaluatedOffspringPopulation = waitForEvaluation(pendingEvaluation);
+            if (null != archive) {
+                evaluatedOffspringPopulation.forEach(archive::add);
+            }
+            population = replacement(population, evaluatedOffspringPopulation);
+            updateProgress();
+
+            offspringPopulation = nextOffspringPopulation;
+        }
+
+        totalComputingTime = System.currentTimeMillis() - initTime;
+    }
+
+    private List<S> waitForEvaluation(CompletableFuture<List<S>> pendingEvaluation) {
+        try {
+            return pendingEvaluation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JMetalException("Error evaluating the offspring population", e);
+        }
+    }
+}
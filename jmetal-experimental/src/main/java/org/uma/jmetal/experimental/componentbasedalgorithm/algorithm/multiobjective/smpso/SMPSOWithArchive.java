@@ -99,7 +99,7 @@ public class SMPSOWithArchive extends SMPSO {
     protected void initializeLeader(List<DoubleSolution> swarm) {
         super.initializeLeader(swarm);
         for (DoubleSolution particle : swarm) {
-            archive.add(particle);
+            archive.add((DoubleSolution) particle.copy());
         }
     }
 
@@ -8,7 +8,6 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
-import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 import org.uma.jmetal.util.termination.Termination;
@@ -37,6 +36,24 @@ public class SMSEMOA<S extends Solution<?>> extends NSGAII<S> {
         this.selection = new RandomMatingPoolSelection<>(variation.getMatingPoolSize());
     }
 
+    /**
+     * Constructor. The hypervolume contributions are computed exactly with {@link
+     * org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContribution}
+     */
+    public SMSEMOA(
+            Problem<S> problem,
+            int populationSize,
+            CrossoverOperator<S> crossoverOperator,
+            MutationOperator<S> mutationOperator,
+            Termination termination,
+            Ranking<S> ranking) {
+        super(problem, populationSize, 1, crossoverOperator, mutationOperator, termination, ranking);
+
+        this.replacement = new SMSEMOAReplacement<>(ranking);
+
+        this.selection = new RandomMatingPoolSelection<>(variation.getMatingPoolSize());
+    }
+
     /**
      * Constructor
      */
@@ -52,7 +69,6 @@ public class SMSEMOA<S extends Solution<?>> extends NSGAII<S> {
                 crossoverOperator,
                 mutationOperator,
                 termination,
-                new PISAHypervolume<>(),
                 new FastNonDominatedSortRanking<>());
     }
 
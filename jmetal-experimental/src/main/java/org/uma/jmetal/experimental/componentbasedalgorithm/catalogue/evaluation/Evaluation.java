@@ -3,9 +3,34 @@ package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation
 import org.uma.jmetal.solution.Solution;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface Evaluation<S extends Solution<?>> {
     List<S> evaluate(List<S> solutionList);
 
     int getComputedEvaluations();
+
+    /**
+     * Starts the evaluation of a list of solutions, returning a future completed with the list when
+     * all of them have been evaluated. Unless overridden, the list is evaluated in the calling thread.
+     */
+    default CompletableFuture<List<S>> evaluateAsync(List<S> solutionList) {
+        return evaluateAsync(solutionList, solution -> {
+        });
+    }
+
+    /**
+     * Starts the evaluation of a list of solutions, passing each one to the consumer as soon as it
+     * has been evaluated (possibly from another thread)
+     */
+    default CompletableFuture<List<S>> evaluateAsync(List<S> solutionList, Consumer<S> evaluatedSolutionConsumer) {
+        try {
+            evaluate(solutionList);
+            solutionList.forEach(evaluatedSolutionConsumer);
+            return CompletableFuture.completedFuture(solutionList);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
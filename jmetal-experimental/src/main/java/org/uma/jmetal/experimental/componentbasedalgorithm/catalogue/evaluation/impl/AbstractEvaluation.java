@@ -6,6 +6,8 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public abstract class AbstractEvaluation<S extends Solution<?>> implements Evaluation<S> {
     private SolutionListEvaluator<S> evaluator;
@@ -22,12 +24,33 @@ public abstract class AbstractEvaluation<S extends Solution<?>> implements Evalu
     public List<S> evaluate(List<S> solutionList) {
         evaluator.evaluate(solutionList, problem);
 
-        numberOfComputedEvaluations += solutionList.size();
+        synchronized (this) {
+            numberOfComputedEvaluations += solutionList.size();
+        }
 
         return solutionList;
     }
 
-    public int getComputedEvaluations() {
+    /**
+     * Starts the evaluation with the asynchronous method of the evaluator. The number of computed
+     * evaluations is updated when the whole list has been evaluated.
+     */
+    @Override
+    public CompletableFuture<List<S>> evaluateAsync(List<S> solutionList, Consumer<S> evaluatedSolutionConsumer) {
+        return evaluator.evaluateAsync(solutionList, problem, evaluatedSolutionConsumer)
+                .thenApply(evaluatedSolutions -> {
+                    synchronized (this) {
+                        numberOfComputedEvaluations += evaluatedSolutions.size();
+                    }
+                    return evaluatedSolutions;
+                });
+    }
+
+    public SolutionListEvaluator<S> getEvaluator() {
+        return evaluator;
+    }
+
+    public synchronized int getComputedEvaluations() {
         return numberOfComputedEvaluations;
     }
 }
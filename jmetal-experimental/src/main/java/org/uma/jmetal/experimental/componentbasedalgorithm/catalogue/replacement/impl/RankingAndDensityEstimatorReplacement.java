@@ -4,12 +4,32 @@ import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement
 import org.uma.jmetal.experimental.componentbasedalgorithm.util.Preference;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
-
+import java.util.Set;
+
+/**
+ * Replacement keeping the best solutions according to a {@link Ranking} and, within the last front
+ * that fits, a {@link DensityEstimator}.
+ *
+ * <p>If the ranking is an {@link IncrementalNonDominatedSortRanking}, the fronts are kept between
+ * calls: when the current list is the one returned by the previous call, the offspring are inserted
+ * into the existing fronts and the worst solutions are removed one by one, instead of ranking the
+ * joint population again. This is the sequential truncation, so it is used with the {@link
+ * RemovalPolicy#sequential} policy and, as both policies are equivalent in that case, with the
+ * {@link RemovalPolicy#oneShot} one when there is a single offspring (steady-state algorithms).
+ *
+ * <p>With a {@link CrowdingDistanceDensityEstimator}, the sequential truncation of a front is done
+ * with {@link CrowdingDistanceDensityEstimator#truncate(List, int)}, which only updates the
+ * distances of the neighbours of each removed solution.
+ */
 public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
         implements Replacement<S> {
     private Ranking<S> ranking;
@@ -36,6 +56,12 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
     }
 
     public List<S> replace(List<S> solutionList, List<S> offspringList) {
+        if ((ranking instanceof IncrementalNonDominatedSortRanking)
+                && ((removalPolicy == RemovalPolicy.sequential) || (offspringList.size() == 1))) {
+            return incrementalReplacement(
+                    (IncrementalNonDominatedSortRanking<S>) ranking, solutionList, offspringList);
+        }
+
         List<S> jointPopulation = new ArrayList<>();
         jointPopulation.addAll(solutionList);
         jointPopulation.addAll(offspringList);
@@ -85,6 +111,9 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
             resultList.addAll(
                     sequentialTruncation(
                             rankingId + 1, sizeOfTheResultingSolutionList - currentRankSolutions.size()));
+        } else if (densityEstimator instanceof CrowdingDistanceDensityEstimator) {
+            resultList = ((CrowdingDistanceDensityEstimator<S>) densityEstimator)
+                    .truncate(currentRankSolutions, sizeOfTheResultingSolutionList);
         } else {
             for (S solution : currentRankSolutions) resultList.add(solution);
             while (resultList.size() > sizeOfTheResultingSolutionList) {
@@ -97,4 +126,51 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
 
         return resultList;
     }
+
+    private List<S> incrementalReplacement(
+            IncrementalNonDominatedSortRanking<S> incrementalRanking, List<S> solutionList, List<S> offspringList) {
+        if (!isRankedBy(incrementalRanking, solutionList)) {
+            incrementalRanking.compute(solutionList);
+        }
+        for (S solution : offspringList) {
+            incrementalRanking.insert(solution);
+        }
+        while (incrementalRanking.size() > solutionList.size()) {
+            List<S> lastSubfront =
+                    incrementalRanking.getSubFront(incrementalRanking.getNumberOfSubFronts() - 1);
+            int excess = incrementalRanking.size() - solutionList.size();
+            if ((excess > 1) && (densityEstimator instanceof CrowdingDistanceDensityEstimator)) {
+                // Removing solutions from the last front does not change the other fronts
+                List<S> discarded = new ArrayList<>(lastSubfront);
+                if (excess < lastSubfront.size()) {
+                    Set<S> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+                    kept.addAll(((CrowdingDistanceDensityEstimator<S>) densityEstimator)
+                            .truncate(lastSubfront, lastSubfront.size() - excess));
+                    discarded.removeIf(kept::contains);
+                }
+                for (S solution : discarded) {
+                    incrementalRanking.remove(solution);
+                }
+            } else {
+                incrementalRanking.removeWorst(densityEstimator);
+            }
+        }
+
+        for (int i = 0; i < incrementalRanking.getNumberOfSubFronts(); i++) {
+            densityEstimator.compute(incrementalRanking.getSubFront(i));
+        }
+        return incrementalRanking.getSolutionList();
+    }
+
+    private boolean isRankedBy(IncrementalNonDominatedSortRanking<S> incrementalRanking, List<S> solutionList) {
+        if (incrementalRanking.size() != solutionList.size()) {
+            return false;
+        }
+        for (S solution : solutionList) {
+            if (!incrementalRanking.contains(solution)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
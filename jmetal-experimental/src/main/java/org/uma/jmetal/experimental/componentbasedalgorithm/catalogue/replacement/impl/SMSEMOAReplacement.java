@@ -1,21 +1,35 @@
 package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl;
 
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContribution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
-import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 import org.uma.jmetal.util.ranking.Ranking;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Replacement of SMS-EMOA: the joint population is ranked and the solutions of the last fronts
+ * contributing the least hypervolume are discarded. By default the contributions are computed
+ * exactly with {@link HypervolumeContribution}, using as reference point the maximum value of each
+ * objective in the joint population plus an offset; after each removal only the contributions of
+ * the solutions whose exclusive region was bounded by the removed one are computed again, so any
+ * number of offspring solutions can be handled. If a legacy
+ * {@link Hypervolume} is given, it is used instead, and the offspring list must contain a single
+ * solution.
+ *
+ * @param <S> Solution type
+ */
 public class SMSEMOAReplacement<S extends Solution<?>>
         implements Replacement<S> {
+    private static final double DEFAULT_OFFSET = 100.0;
+
     private Ranking<S> ranking;
     private Hypervolume<S> hypervolume;
 
     public SMSEMOAReplacement(Ranking<S> ranking) {
-        this(ranking, new PISAHypervolume<>());
+        this(ranking, null);
     }
 
     public SMSEMOAReplacement(
@@ -31,6 +45,10 @@ public class SMSEMOAReplacement<S extends Solution<?>>
 
         ranking.compute(jointPopulation);
 
+        if (hypervolume == null) {
+            return replaceByExactContributions(jointPopulation, solutionList.size());
+        }
+
         List<S> lastSubfront = ranking.getSubFront(ranking.getNumberOfSubFronts() - 1);
 
         lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation);
@@ -46,4 +64,39 @@ public class SMSEMOAReplacement<S extends Solution<?>>
 
         return resultPopulation;
     }
+
+    private List<S> replaceByExactContributions(List<S> jointPopulation, int populationSize) {
+        double[][] jointFront = new double[jointPopulation.size()][];
+        for (int i = 0; i < jointFront.length; i++) {
+            jointFront[i] = jointPopulation.get(i).objectives();
+        }
+        HypervolumeContribution hypervolumeContribution = new HypervolumeContribution(
+                HypervolumeContribution.referencePoint(jointFront, DEFAULT_OFFSET));
+
+        List<S> resultPopulation = new ArrayList<>(populationSize);
+        for (int i = 0; (i < ranking.getNumberOfSubFronts()) && (resultPopulation.size() < populationSize); i++) {
+            List<S> subfront = ranking.getSubFront(i);
+            int remaining = populationSize - resultPopulation.size();
+            if (subfront.size() <= remaining) {
+                resultPopulation.addAll(subfront);
+            } else {
+                double[][] front = new double[subfront.size()][];
+                for (int j = 0; j < front.length; j++) {
+                    front[j] = subfront.get(j).objectives();
+                }
+                hypervolumeContribution.setFront(front);
+                boolean[] removed = new boolean[front.length];
+                while (hypervolumeContribution.size() > remaining) {
+                    removed[hypervolumeContribution.removeLeastContributor()] = true;
+                }
+                for (int j = 0; j < front.length; j++) {
+                    if (!removed[j]) {
+                        resultPopulation.add(subfront.get(j));
+                    }
+                }
+            }
+        }
+
+        return resultPopulation;
+    }
 }
@@ -7,11 +7,27 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
+
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
 
 /**
+ * Variation applying the crossover and the mutation operators to the groups of parents in
+ * parallel. The groups are split among the threads of a {@link ForkJoinPool}, which is either
+ * provided by the user or created by the variation (in that case, it should be released with
+ * {@link #shutdown()}); the common pool is never used.
+ *
+ * <p>The result does not depend on the number of threads: in each call to {@link #variate(List,
+ * List)}, a seed is drawn from {@link JMetalRandom}, and the operators applied to the i-th group of
+ * parents draw their random numbers from the i-th stream of a {@link RandomStreams} family derived
+ * from that seed. This holds for operators using {@link JMetalRandom}, which is the default in
+ * jMetal; operators with their own random generators are not reproducible when run in parallel.
+ *
  * @param <S>
  */
 public class ParallelCrossoverAndMutationVariation<S extends Solution<?>> implements Variation<S> {
@@ -19,9 +35,43 @@ public class ParallelCrossoverAndMutationVariation<S extends Solution<?>> implem
     private MutationOperator<S> mutation;
     private int matingPoolSize;
     private int offspringPopulationSize;
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
 
+    /**
+     * Constructor. A pool with as many threads as available processors is created.
+     */
     public ParallelCrossoverAndMutationVariation(
             int offspringPopulationSize, CrossoverOperator<S> crossover, MutationOperator<S> mutation) {
+        this(offspringPopulationSize, crossover, mutation, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor. A pool with the given number of threads is created.
+     */
+    public ParallelCrossoverAndMutationVariation(
+            int offspringPopulationSize, CrossoverOperator<S> crossover, MutationOperator<S> mutation,
+            int numberOfThreads) {
+        this(offspringPopulationSize, crossover, mutation, createPool(numberOfThreads), true);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param pool Pool where the operators are applied; it is not shut down by the variation
+     */
+    public ParallelCrossoverAndMutationVariation(
+            int offspringPopulationSize, CrossoverOperator<S> crossover, MutationOperator<S> mutation,
+            ForkJoinPool pool) {
+        this(offspringPopulationSize, crossover, mutation, pool, false);
+    }
+
+    private ParallelCrossoverAndMutationVariation(
+            int offspringPopulationSize, CrossoverOperator<S> crossover, MutationOperator<S> mutation,
+            ForkJoinPool pool, boolean ownsPool) {
+        Check.notNull(pool);
+        this.pool = pool;
+        this.ownsPool = ownsPool;
         this.crossover = crossover;
         this.mutation = mutation;
         this.offspringPopulationSize = offspringPopulationSize;
@@ -53,12 +103,21 @@ public class ParallelCrossoverAndMutationVariation<S extends Solution<?>> implem
             parentsList.add(parents);
         }
 
-        List<S> offspringPopulation = parentsList.stream().flatMap(parents -> {
-            List<S> offspring = crossover.execute(parents);
-            offspring.forEach(solution -> mutation.execute(solution));
+        RandomStreams streams = new RandomStreams((long) (JMetalRandom.getInstance().nextDouble() * Long.MAX_VALUE));
+        List<List<S>> offspringList = new ArrayList<>(parentsList.size());
+        parentsList.forEach(parents -> offspringList.add(null));
+
+        pool.invoke(ForkJoinTask.adapt(() ->
+                IntStream.range(0, parentsList.size()).parallel().forEach(i ->
+                        offspringList.set(i, streams.callWithStream(i, () -> {
+                            List<S> offspring = crossover.execute(parentsList.get(i));
+                            offspring.forEach(solution -> mutation.execute(solution));
+
+                            return offspring;
+                        })))));
 
-            return offspring.stream();
-        }).collect(Collectors.toList());
+        List<S> offspringPopulation = new ArrayList<>(offspringPopulationSize);
+        offspringList.forEach(offspringPopulation::addAll);
 
         while (offspringPopulation.size() > offspringPopulationSize) {
             offspringPopulation.remove(offspringPopulation.size() - 1);
@@ -74,6 +133,24 @@ public class ParallelCrossoverAndMutationVariation<S extends Solution<?>> implem
         return offspringPopulation;
     }
 
+    /**
+     * Shuts down the pool if it was created by the variation
+     */
+    public void shutdown() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    private static ForkJoinPool createPool(int numberOfThreads) {
+        Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+        return new ForkJoinPool(numberOfThreads);
+    }
+
     /**
      * A crossover operator is applied to a number of parents, and it assumed that the population
      * contains a valid number of population. This method checks that.
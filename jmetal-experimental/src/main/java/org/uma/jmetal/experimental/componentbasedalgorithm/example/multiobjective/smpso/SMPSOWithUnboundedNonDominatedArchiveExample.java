@@ -14,7 +14,7 @@ import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NDTreeArchive;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -49,7 +49,7 @@ public class SMPSOWithUnboundedNonDominatedArchiveExample extends AbstractAlgori
         Evaluation<DoubleSolution> evaluation = new SequentialEvaluation<>(problem);
         Termination termination = new TerminationByEvaluations(50000);
 
-        Archive<DoubleSolution> externalArchive = new NonDominatedSolutionListArchive<>();
+        Archive<DoubleSolution> externalArchive = new NDTreeArchive<>();
 
         algorithm = new SMPSOWithArchive(problem, swarmSize, leadersArchive, mutation, evaluation, termination, externalArchive);
 
@@ -0,0 +1,62 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.Evaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.MultithreadedEvaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.SequentialEvaluation;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.Kursawe;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelinedComponentBasedEvolutionaryAlgorithmIT {
+
+    private PipelinedComponentBasedEvolutionaryAlgorithm<DoubleSolution> createNSGAII(
+            DoubleProblem problem, Evaluation<DoubleSolution> evaluation) {
+        NSGAII<DoubleSolution> nsgaii = new NSGAII<>(
+                problem,
+                100,
+                100,
+                new SBXCrossover(0.9, 20.0),
+                new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+                new TerminationByEvaluations(25000));
+        nsgaii.withEvaluation(evaluation);
+
+        return new PipelinedComponentBasedEvolutionaryAlgorithm<>(nsgaii);
+    }
+
+    @Test
+    public void shouldThePipelinedNSGAIIReturnAFullFrontWhenSolvingASimpleProblemWithAMultithreadedEvaluation() {
+        DoubleProblem problem = new Kursawe();
+        Evaluation<DoubleSolution> evaluation = new MultithreadedEvaluation<>(4, problem);
+        PipelinedComponentBasedEvolutionaryAlgorithm<DoubleSolution> algorithm = createNSGAII(problem, evaluation);
+
+        algorithm.run();
+
+        List<DoubleSolution> population = algorithm.getResult();
+        assertTrue(population.size() >= 98);
+        assertEquals(algorithm.getEvaluations(), evaluation.getComputedEvaluations());
+        assertEquals("NSGA-II", algorithm.getName());
+    }
+
+    @Test
+    public void shouldThePipelinedNSGAIIWorkWithASequentialEvaluation() {
+        DoubleProblem problem = new Kursawe();
+        Evaluation<DoubleSolution> evaluation = new SequentialEvaluation<>(problem);
+        PipelinedComponentBasedEvolutionaryAlgorithm<DoubleSolution> algorithm = createNSGAII(problem, evaluation);
+
+        algorithm.run();
+
+        assertEquals(100, algorithm.getResult().size());
+        assertEquals(25000, algorithm.getEvaluations());
+        assertEquals(25000, evaluation.getComputedEvaluations());
+    }
+}
@@ -0,0 +1,53 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.RankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RankingAndDensityEstimatorReplacementTest {
+
+    private DoubleSolution createSolution(DummyDoubleProblem problem) {
+        DoubleSolution solution = problem.createSolution();
+        solution.objectives()[0] = JMetalRandom.getInstance().nextDouble();
+        solution.objectives()[1] = JMetalRandom.getInstance().nextDouble();
+        solution.objectives()[2] = JMetalRandom.getInstance().nextDouble();
+        return solution;
+    }
+
+    @Test
+    public void shouldTheIncrementalRankingKeepTheSameRanksAsTheFastNonDominatedSortInASteadyStateLoop() {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+        IncrementalNonDominatedSortRanking<DoubleSolution> ranking = new IncrementalNonDominatedSortRanking<>();
+        RankingAndDensityEstimatorReplacement<DoubleSolution> replacement =
+                new RankingAndDensityEstimatorReplacement<>(
+                        ranking, new CrowdingDistanceDensityEstimator<>(), Replacement.RemovalPolicy.oneShot);
+
+        int populationSize = 30;
+        List<DoubleSolution> population = new ArrayList<>();
+        for (int i = 0; i < populationSize; i++) {
+            population.add(createSolution(problem));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            population = replacement.replace(population, Collections.singletonList(createSolution(problem)));
+            assertEquals(populationSize, population.size());
+
+            FastNonDominatedSortRanking<DoubleSolution> reference = new FastNonDominatedSortRanking<>();
+            reference.compute(population);
+            for (DoubleSolution solution : population) {
+                assertEquals(reference.getRank(solution), ranking.getRank(solution));
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.SMSEMOAReplacement;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SMSEMOAReplacementTest {
+
+    private List<DoubleSolution> createSolutions(DummyDoubleProblem problem, int numberOfSolutions) {
+        List<DoubleSolution> solutions = new ArrayList<>();
+        for (int i = 0; i < numberOfSolutions; i++) {
+            DoubleSolution solution = problem.createSolution();
+            for (int j = 0; j < solution.objectives().length; j++) {
+                solution.objectives()[j] = JMetalRandom.getInstance().nextDouble();
+            }
+            solutions.add(solution);
+        }
+        return solutions;
+    }
+
+    private Set<DoubleSolution> identitySet(List<DoubleSolution> solutions) {
+        Set<DoubleSolution> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(solutions);
+        return set;
+    }
+
+    @Test
+    public void shouldKeepTheSameSolutionsAsTheLegacyHypervolumeWithOneOffspring() {
+        for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+            DummyDoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, 0);
+            SMSEMOAReplacement<DoubleSolution> replacement =
+                    new SMSEMOAReplacement<>(new FastNonDominatedSortRanking<>());
+            SMSEMOAReplacement<DoubleSolution> legacyReplacement =
+                    new SMSEMOAReplacement<>(new FastNonDominatedSortRanking<>(), new PISAHypervolume<>());
+
+            List<DoubleSolution> population = createSolutions(problem, 40);
+            for (int i = 0; i < 50; i++) {
+                List<DoubleSolution> offspring = createSolutions(problem, 1);
+                List<DoubleSolution> result = replacement.replace(population, offspring);
+                List<DoubleSolution> legacyResult = legacyReplacement.replace(population, offspring);
+
+                assertEquals(population.size(), result.size());
+                assertEquals(identitySet(legacyResult), identitySet(result));
+                population = result;
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepThePopulationSizeWithSeveralOffspring() {
+        DummyDoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+        SMSEMOAReplacement<DoubleSolution> replacement =
+                new SMSEMOAReplacement<>(new FastNonDominatedSortRanking<>());
+
+        List<DoubleSolution> population = createSolutions(problem, 40);
+        List<DoubleSolution> offspring = createSolutions(problem, 25);
+        List<DoubleSolution> result = replacement.replace(population, offspring);
+
+        assertEquals(40, result.size());
+        assertEquals(40, identitySet(result).size());
+
+        FastNonDominatedSortRanking<DoubleSolution> ranking = new FastNonDominatedSortRanking<>();
+        List<DoubleSolution> jointPopulation = new ArrayList<>(population);
+        jointPopulation.addAll(offspring);
+        ranking.compute(jointPopulation);
+        assertTrue(identitySet(result).containsAll(ranking.getSubFront(0)) || ranking.getSubFront(0).size() > 40);
+    }
+}
@@ -0,0 +1,94 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.impl.CrossoverAndMutationVariation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.impl.ParallelCrossoverAndMutationVariation;
+import org.uma.jmetal.operator.crossover.impl.PMXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PermutationSwapMutation;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.solution.permutationsolution.impl.IntegerPermutationSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark measuring the time needed to produce an offspring population with the PMX
+ * crossover and the swap mutation on large permutations, sequentially and with the parallel
+ * variation using a given number of threads (0 stands for {@link CrossoverAndMutationVariation}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ParallelCrossoverAndMutationVariationBenchmark {
+    @Param({"1000", "10000"})
+    public int permutationLength;
+
+    @Param({"0", "1", "2", "4"})
+    public int numberOfThreads;
+
+    private static final int POPULATION_SIZE = 100;
+
+    private List<PermutationSolution<Integer>> population;
+    private CrossoverAndMutationVariation<PermutationSolution<Integer>> sequentialVariation;
+    private ParallelCrossoverAndMutationVariation<PermutationSolution<Integer>> parallelVariation;
+
+    @Setup
+    public void setup() {
+        JMetalRandom.getInstance().setSeed(1);
+        population = new ArrayList<>(POPULATION_SIZE);
+        for (int i = 0; i < POPULATION_SIZE; i++) {
+            population.add(new IntegerPermutationSolution(permutationLength, 1));
+        }
+
+        PMXCrossover crossover = new PMXCrossover(1.0);
+        PermutationSwapMutation<Integer> mutation = new PermutationSwapMutation<>(1.0 / permutationLength);
+        if (numberOfThreads == 0) {
+            sequentialVariation = new CrossoverAndMutationVariation<>(POPULATION_SIZE, crossover, mutation);
+        } else {
+            parallelVariation =
+                    new ParallelCrossoverAndMutationVariation<>(POPULATION_SIZE, crossover, mutation, numberOfThreads);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (parallelVariation != null) {
+            parallelVariation.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<PermutationSolution<Integer>> variate() {
+        return (numberOfThreads == 0)
+                ? sequentialVariation.variate(population, population)
+                : parallelVariation.variate(population, population);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ParallelCrossoverAndMutationVariationBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,101 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.impl.ParallelCrossoverAndMutationVariation;
+import org.uma.jmetal.operator.crossover.impl.PMXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PermutationSwapMutation;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.solution.permutationsolution.impl.IntegerPermutationSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelCrossoverAndMutationVariationTest {
+    private static final int PERMUTATION_LENGTH = 200;
+
+    private List<PermutationSolution<Integer>> createPopulation(int size) {
+        List<PermutationSolution<Integer>> population = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PermutationSolution<Integer> solution = new IntegerPermutationSolution(PERMUTATION_LENGTH, 1);
+            Collections.sort(solution.variables());
+            Collections.shuffle(solution.variables(), new Random(i));
+            population.add(solution);
+        }
+        return population;
+    }
+
+    private List<List<Integer>> variables(List<PermutationSolution<Integer>> solutions) {
+        List<List<Integer>> variables = new ArrayList<>();
+        solutions.forEach(solution -> variables.add(new ArrayList<>(solution.variables())));
+        return variables;
+    }
+
+    private List<List<Integer>> variate(int numberOfThreads, long seed) {
+        JMetalRandom.getInstance().setSeed(seed);
+        List<PermutationSolution<Integer>> population = createPopulation(50);
+
+        ParallelCrossoverAndMutationVariation<PermutationSolution<Integer>> variation =
+                new ParallelCrossoverAndMutationVariation<>(
+                        50, new PMXCrossover(0.9), new PermutationSwapMutation<>(0.2), numberOfThreads);
+        try {
+            return variables(variation.variate(population, population));
+        } finally {
+            variation.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldVariateReturnTheOffspringPopulationSize() {
+        ParallelCrossoverAndMutationVariation<PermutationSolution<Integer>> variation =
+                new ParallelCrossoverAndMutationVariation<>(
+                        9, new PMXCrossover(0.9), new PermutationSwapMutation<>(0.2), 2);
+        List<PermutationSolution<Integer>> population = createPopulation(10);
+
+        assertEquals(9, variation.variate(population, population).size());
+        variation.shutdown();
+    }
+
+    @Test
+    public void shouldTheOffspringNotDependOnTheNumberOfThreads() {
+        List<List<Integer>> sequential = variate(1, 10);
+
+        assertEquals(sequential, variate(2, 10));
+        assertEquals(sequential, variate(4, 10));
+        assertFalse(sequential.equals(variate(4, 11)));
+    }
+
+    @Test
+    public void shouldAnExternalPoolBeUsedAndNotShutDown() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ParallelCrossoverAndMutationVariation<PermutationSolution<Integer>> variation =
+                new ParallelCrossoverAndMutationVariation<>(
+                        10, new PMXCrossover(0.9), new PermutationSwapMutation<>(0.2), pool);
+        List<PermutationSolution<Integer>> population = createPopulation(10);
+
+        variation.variate(population, population);
+        variation.shutdown();
+
+        assertFalse(pool.isShutdown());
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldVariateRaiseAnExceptionIfTheNumberOfParentsIsWrong() {
+        ParallelCrossoverAndMutationVariation<PermutationSolution<Integer>> variation =
+                new ParallelCrossoverAndMutationVariation<>(
+                        10, new PMXCrossover(0.9), new PermutationSwapMutation<>(0.2), 1);
+        List<PermutationSolution<Integer>> population = createPopulation(9);
+
+        assertThrows(JMetalException.class, () -> variation.variate(population, population));
+        variation.shutdown();
+    }
+}
@@ -8,13 +8,12 @@ import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.FileUtils;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -23,6 +22,8 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
@@ -35,6 +36,14 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
  * in the same directory of the FUN files.
  *
+ * <p>The problems are processed one after the other: the reference front of a problem is read and
+ * normalized once and given to all the indicators, and then the FUN files of all the algorithms are
+ * processed in parallel, using as many threads as the number of cores of the experiment. Each FUN
+ * file is read and normalized once and all the indicators are computed on it. An indicator computes
+ * the values of several fronts at the same time, so it must be thread-safe, as those of jMetal are.
+ * The indicator files and the summary file are written at once, replacing the previous ones
+ * atomically.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ComputeQualityIndicators<S extends Solution<?>, Result extends List<S>> implements ExperimentComponent {
@@ -47,90 +56,91 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     @Override
     public void run() throws IOException {
         experiment.removeDuplicatedAlgorithms();
-        resetIndicatorFiles();
-
-        for (QualityIndicator indicator : experiment.getIndicatorList()) {
-            JMetalLogger.logger.info("Computing indicator: " + indicator.getName());
-
-            for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-                String algorithmDirectory;
-                algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag();
-                for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-                    String problemDirectory = algorithmDirectory + "/" + problem.getTag();
-
-                    String referenceFrontDirectory = experiment.getReferenceFrontDirectory();
-
-                    String referenceFrontName = referenceFrontDirectory + "/" + problem.getReferenceFront();
-
-                    JMetalLogger.logger.info("RF: " + referenceFrontName);
-
-                    double[][] referenceFront = VectorUtils.readVectors(referenceFrontName, ",");
-                    double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
 
+        List<QualityIndicator> indicators = experiment.getIndicatorList();
+        List<ExperimentAlgorithm<S, Result>> algorithms = experiment.getAlgorithmList();
+        List<ExperimentProblem<S>> problems = experiment.getProblemList();
+        int numberOfRuns = experiment.getIndependentRuns();
+
+        /* values[problem][indicator][algorithm][run] */
+        double[][][][] values = new double[problems.size()][indicators.size()][algorithms.size()][numberOfRuns];
+        ForkJoinPool pool = new ForkJoinPool(experiment.getNumberOfCores());
+        try {
+            for (int p = 0; p < problems.size(); p++) {
+                ExperimentProblem<S> problem = problems.get(p);
+                String referenceFrontName = experiment.getReferenceFrontDirectory() + "/" + problem.getReferenceFront();
+                JMetalLogger.logger.info("Computing indicators of problem " + problem.getTag() + ". RF: " + referenceFrontName);
+
+                double[][] referenceFront = VectorUtils.readVectors(referenceFrontName, ",");
+                double[] minimumValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+                double[] maximumValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+                double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
+                for (QualityIndicator indicator : indicators) {
                     indicator.setReferenceFront(normalizedReferenceFront);
+                }
 
+                double[][][] problemValues = values[p];
+                pool.submit(() -> IntStream.range(0, algorithms.size() * numberOfRuns).parallel().forEach(task -> {
+                    int algorithm = task / numberOfRuns;
+                    int run = task % numberOfRuns;
+                    double[][] front = readFront(getProblemDirectory(algorithms.get(algorithm), problem) + "/"
+                            + experiment.getOutputParetoFrontFileName() + run + ".csv");
+                    double[][] normalizedFront = NormalizeUtils.normalize(front, minimumValues, maximumValues);
+                    for (int i = 0; i < indicators.size(); i++) {
+                        problemValues[i][algorithm][run] = indicators.get(i).compute(normalizedFront);
+                    }
+                })).get();
 
-                    //Front referenceFront = new ArrayFront(referenceFrontName, ",");
-
-                    //FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
-                    //Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
-
-                    String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
-
-                    //indicator.setReferenceParetoFront(normalizedReferenceFront);
-
-                    double[] indicatorValues = new double[experiment.getIndependentRuns()];
-                    IntStream.range(0, experiment.getIndependentRuns()).forEach(run -> {
-                        String frontFileName = problemDirectory + "/" +
-                                experiment.getOutputParetoFrontFileName() + run + ".csv";
-                        double[][] front = new double[0][];
-                        try {
-                            front = VectorUtils.readVectors(frontFileName, ",");
-                        } catch (IOException e) {
-                            e.printStackTrace();
+                for (int i = 0; i < indicators.size(); i++) {
+                    for (int a = 0; a < algorithms.size(); a++) {
+                        List<String> lines = new ArrayList<>(numberOfRuns);
+                        for (double value : problemValues[i][a]) {
+                            lines.add("" + value);
                         }
-
-                        double[][] normalizedFront =
-                                NormalizeUtils.normalize(
-                                        front,
-                                        NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
-                                        NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
-                        Double indicatorValue = indicator.compute(normalizedFront);
-                        JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
-                        indicatorValues[run] = indicatorValue;
-                    });
-
-                    for (double indicatorValue : indicatorValues) {
-                        writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
+                        writeFile(getProblemDirectory(algorithms.get(a), problem) + "/" + indicators.get(i).getName(), lines);
                     }
-
-          /*
-          for (int run = 0; run < experiment.getIndependentRuns(); run++) {
-            String frontFileName = problemDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + run + ".csv";
-
-            Front front = new ArrayFront(frontFileName, ",");
-            Front normalizedFront = frontNormalizer.normalize(front);
-            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
-            Double indicatorValue = (Double) indicator.evaluate((List<S>) normalizedPopulation);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
-
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
-          }
-           */
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while computing the quality indicators", e);
+        } catch (ExecutionException e) {
+            throw new JMetalException("Error computing the quality indicators", e);
+        } finally {
+            pool.shutdown();
         }
+
         findBestIndicatorFronts(experiment);
-        writeSummaryFile(experiment);
+        writeSummaryFile(values);
     }
 
-    private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
+    private String getProblemDirectory(ExperimentAlgorithm<?, ?> algorithm, ExperimentProblem<?> problem) {
+        return experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag() + "/" + problem.getTag();
+    }
 
-        try (FileWriter os = new FileWriter(qualityIndicatorFile, true)) {
-            os.write("" + indicatorValue + "\n");
-        } catch (IOException ex) {
-            throw new JMetalException("Error writing indicator file" + ex);
+    /**
+     * Reads a front; if it cannot be read, the indicators are computed on an empty front
+     */
+    private double[][] readFront(String frontFileName) {
+        try {
+            return VectorUtils.readVectors(frontFileName, ",");
+        } catch (IOException e) {
+            JMetalLogger.logger.warning("Error reading front " + frontFileName + ": " + e.getMessage());
+            return new double[0][];
+        }
+    }
+
+    /**
+     * Writes a file replacing the previous one atomically, so that it is never left half written
+     */
+    private void writeFile(String fileName, List<String> lines) {
+        Path file = Paths.get(fileName);
+        Path temporaryFile = Paths.get(fileName + ".tmp");
+        try {
+            Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+            FileUtils.moveReplacing(temporaryFile, file);
+        } catch (IOException e) {
+            throw new JMetalException("Error writing file " + fileName, e);
         }
     }
 
@@ -199,94 +209,26 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
         }
     }
 
-    /**
-     * Deletes the files containing the indicator values if the exist.
-     */
-    private void resetIndicatorFiles() {
-        for (QualityIndicator indicator : experiment.getIndicatorList()) {
-            for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-                for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-                    String algorithmDirectory;
-                    algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag();
-                    String problemDirectory = algorithmDirectory + "/" + problem.getTag();
-                    String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
-
-                    resetFile(qualityIndicatorFile);
-                }
-            }
-        }
-    }
-
-    /**
-     * Deletes a file or directory if it does exist
-     *
-     * @param file
-     */
-    private void resetFile(String file) {
-        File f = new File(file);
-        if (f.exists()) {
-            JMetalLogger.logger.info("Already existing file " + file);
-
-            if (f.isDirectory()) {
-                JMetalLogger.logger.info("Deleting directory " + file);
-                if (f.delete()) {
-                    JMetalLogger.logger.info("Directory successfully deleted.");
-                } else {
-                    JMetalLogger.logger.info("Error deleting directory.");
-                }
-            } else {
-                JMetalLogger.logger.info("Deleting file " + file);
-                if (f.delete()) {
-                    JMetalLogger.logger.info("File successfully deleted.");
-                } else {
-                    JMetalLogger.logger.info("Error deleting file.");
-                }
-            }
-        } else {
-            JMetalLogger.logger.info("File " + file + " does NOT exist.");
-        }
-    }
-
-    private void writeSummaryFile(Experiment<S, Result> experiment) {
+    private void writeSummaryFile(double[][][][] values) {
         JMetalLogger.logger.info("Writing org.uma.jmetal.experiment summary file");
-        String headerOfCSVFile = "Algorithm,Problem,IndicatorName,ExecutionId,IndicatorValue";
-        String csvFileName = this.experiment.getExperimentBaseDirectory() + "/QualityIndicatorSummary.csv";
-        resetFile(csvFileName);
-
-        try (FileWriter os = new FileWriter(csvFileName, true)) {
-            os.write("" + headerOfCSVFile + "\n");
-
-            for (QualityIndicator indicator : experiment.getIndicatorList()) {
-                for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-                    String algorithmDirectory;
-                    algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-                            algorithm.getAlgorithmTag();
-
-                    for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-                        String indicatorFileName =
-                                algorithmDirectory + "/" + problem.getTag() + "/" + indicator.getName();
-                        Path indicatorFile = Paths.get(indicatorFileName);
-                        if (indicatorFile == null) {
-                            throw new JMetalException("Indicator file " + indicator.getName() + " doesn't exist");
-                        }
-                        System.out.println("-----");
-                        System.out.println(indicatorFileName);
-
-                        List<String> fileArray;
-                        fileArray = Files.readAllLines(indicatorFile, StandardCharsets.UTF_8);
-                        System.out.println(fileArray);
-                        System.out.println("++++++");
-
-                        for (int i = 0; i < fileArray.size(); i++) {
-                            String row = algorithm.getAlgorithmTag() + "," + problem.getTag() + "," + indicator.getName() + "," + i + "," + fileArray.get(i);
-                            os.write("" + row + "\n");
-                        }
+        List<String> lines = new ArrayList<>();
+        lines.add("Algorithm,Problem,IndicatorName,ExecutionId,IndicatorValue");
+
+        List<QualityIndicator> indicators = experiment.getIndicatorList();
+        List<ExperimentAlgorithm<S, Result>> algorithms = experiment.getAlgorithmList();
+        List<ExperimentProblem<S>> problems = experiment.getProblemList();
+        for (int i = 0; i < indicators.size(); i++) {
+            for (int a = 0; a < algorithms.size(); a++) {
+                for (int p = 0; p < problems.size(); p++) {
+                    double[] runValues = values[p][i][a];
+                    for (int run = 0; run < runValues.length; run++) {
+                        lines.add(algorithms.get(a).getAlgorithmTag() + "," + problems.get(p).getTag() + ","
+                                + indicators.get(i).getName() + "," + run + "," + runValues[run]);
                     }
                 }
             }
-        } catch (IOException ex) {
-            throw new JMetalException("Error writing indicator file" + ex);
         }
+
+        writeFile(experiment.getExperimentBaseDirectory() + "/QualityIndicatorSummary.csv", lines);
     }
 }
-
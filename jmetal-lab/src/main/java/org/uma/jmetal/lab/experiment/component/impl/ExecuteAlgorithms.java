@@ -3,27 +3,46 @@ package org.uma.jmetal.lab.experiment.component.impl;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.lab.experiment.component.ExperimentComponent;
 import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentScheduler;
+import org.uma.jmetal.lab.experiment.util.RunManifest;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 import java.io.File;
-import java.util.LinkedList;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class {@link
- * Experiment}. Java 8 parallel streams are used to run the algorithms in parallel.
+ * Experiment}. The runs are executed in parallel, using as many cores as indicated by the
+ * experiment, by an {@link ExperimentScheduler}, which starts first the runs expected to take
+ * longer, can stop the runs exceeding a timeout and can execute each run in its own JVM.
  *
  * <p>The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per
  * org.uma.jmetal.experiment, which are stored in the directory {@link Experiment
- * #getExperimentBaseDirectory()}/algorithmName/problemName.
+ * #getExperimentBaseDirectory()}/algorithmName/problemName. The state of the runs is recorded in a
+ * {@link RunManifest} stored in the file {@link #MANIFEST_FILE_NAME} of the experiment directory, so
+ * that an interrupted experiment resumes from the runs that had not finished. Runs which failed are
+ * retried up to {@link #setMaximumNumberOfAttempts(int)} times; runs which timed out are not retried
+ * until the experiment is executed again.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
         implements ExperimentComponent {
+    public static final String MANIFEST_FILE_NAME = "runs.manifest";
+
     private Experiment<S, Result> experiment;
+    private RunManifest manifest;
+    private long runTimeout;
+    private boolean processPerRun;
+    private List<String> jvmOptions = new ArrayList<>();
+    private int maximumNumberOfAttempts = 5;
+    private Consumer<ExperimentScheduler.Progress> progressListener;
 
     /**
      * Constructor
@@ -32,64 +51,117 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
         this.experiment = configuration;
     }
 
+    /**
+     * Sets the maximum wall-clock time of a run, in milliseconds; 0 (the default) means no limit
+     */
+    public ExecuteAlgorithms<S, Result> setRunTimeout(long runTimeout) {
+        Check.that(runTimeout >= 0, "The run timeout cannot be negative: " + runTimeout);
+        this.runTimeout = runTimeout;
+        return this;
+    }
+
+    /**
+     * Sets whether each run is executed in its own JVM, so that a run exceeding the timeout can be
+     * killed. The algorithms must be serializable.
+     */
+    public ExecuteAlgorithms<S, Result> setProcessPerRun(boolean processPerRun) {
+        this.processPerRun = processPerRun;
+        return this;
+    }
+
+    /**
+     * Sets the options of the JVMs executing the runs when there is a process per run
+     */
+    public ExecuteAlgorithms<S, Result> setJvmOptions(List<String> jvmOptions) {
+        Check.notNull(jvmOptions);
+        this.jvmOptions = new ArrayList<>(jvmOptions);
+        return this;
+    }
+
+    public ExecuteAlgorithms<S, Result> setMaximumNumberOfAttempts(int maximumNumberOfAttempts) {
+        Check.that(maximumNumberOfAttempts > 0, "The number of attempts must be positive: " + maximumNumberOfAttempts);
+        this.maximumNumberOfAttempts = maximumNumberOfAttempts;
+        return this;
+    }
+
+    /**
+     * Sets a listener receiving the progress of the experiment each time a run ends; by default it
+     * is logged
+     */
+    public ExecuteAlgorithms<S, Result> setProgressListener(Consumer<ExperimentScheduler.Progress> progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
     @Override
     public void run() {
         JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
         prepareOutputDirectory();
-
-        System.setProperty(
-                "java.util.concurrent.ForkJoinPool.common.parallelism",
-                "" + this.experiment.getNumberOfCores());
-
-        int retryCounter = 0;
-        int maxRetries = 5;
-        boolean computationNotFinished = true;
-
-        while (computationNotFinished && (retryCounter < maxRetries)) {
-            List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = checkTaskStatus();
-            if (unfinishedAlgorithmList.size() == 0) {
-                computationNotFinished = false;
-            } else {
-                JMetalLogger.logger.info(
-                        "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
-                unfinishedAlgorithmList
-                        .parallelStream()
-                        .forEach(algorithm -> algorithm.runAlgorithm(experiment));
-                retryCounter++;
-            }
+        manifest = loadManifest();
+
+        int attempts = 0;
+        List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = checkTaskStatus();
+        while (!unfinishedAlgorithmList.isEmpty() && (attempts < maximumNumberOfAttempts)) {
+            JMetalLogger.logger.info(
+                    "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
+            runInParallel(unfinishedAlgorithmList);
+            attempts++;
+
+            unfinishedAlgorithmList = checkTaskStatus();
+            unfinishedAlgorithmList.removeIf(algorithm -> (manifest.get(algorithm) != null)
+                    && (manifest.get(algorithm).getState() == RunManifest.RunState.TIMED_OUT));
         }
 
-        if (computationNotFinished) {
-            JMetalLogger.logger.severe("There are unfinished tasks after " + maxRetries + " tries");
+        List<ExperimentAlgorithm<?, ?>> pendingAlgorithmList = checkTaskStatus();
+        if (pendingAlgorithmList.isEmpty()) {
+            JMetalLogger.logger.info("Algorithm runs finished. Number of tries: " + attempts);
         } else {
-            JMetalLogger.logger.info("Algorithm runs finished. Number of tries: " + retryCounter);
+            JMetalLogger.logger.severe("There are " + pendingAlgorithmList.size() + " unfinished runs after "
+                    + attempts + " tries; their state is recorded in " + manifest.getFile());
         }
     }
 
+    /**
+     * Returns the runs which have not finished: those whose last state in the manifest is not
+     * finished or whose FUN file does not exist. Runs not recorded in the manifest (e.g., of
+     * experiments executed with previous versions) are finished if their FUN file exists.
+     */
     public List<ExperimentAlgorithm<?, ?>> checkTaskStatus() {
-        List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = new LinkedList<>();
+        if (manifest == null) {
+            manifest = loadManifest();
+        }
 
+        List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = new ArrayList<>();
         for (ExperimentAlgorithm<?, ?> algorithm : experiment.getAlgorithmList()) {
-            String resultFileName =
-                    experiment.getExperimentBaseDirectory()
-                            + "/data/"
-                            + algorithm.getAlgorithmTag()
-                            + "/"
-                            + algorithm.getProblemTag()
-                            + "/" + experiment.getOutputParetoFrontFileName()
-                            + algorithm.getRunId()
-                            + ".csv";
-            File file = new File(resultFileName);
-            if (!file.exists()) {
+            RunManifest.Record record = manifest.get(algorithm);
+            boolean frontExists = new File(algorithm.getFunFileName(experiment)).exists();
+            if (!frontExists || ((record != null) && (record.getState() != RunManifest.RunState.FINISHED))) {
                 unfinishedAlgorithmList.add(algorithm);
-                System.out.println(resultFileName + ". Status: " + file.exists());
             }
         }
         return unfinishedAlgorithmList;
     }
 
     public void runMissingExecutions(List<ExperimentAlgorithm<?, ?>> experimentAlgorithms) {
-        experimentAlgorithms.parallelStream().forEach(algorithm -> algorithm.runAlgorithm(experiment));
+        if (manifest == null) {
+            manifest = loadManifest();
+        }
+        runInParallel(experimentAlgorithms);
+    }
+
+    private RunManifest loadManifest() {
+        return new RunManifest(Paths.get(experiment.getExperimentBaseDirectory(), MANIFEST_FILE_NAME));
+    }
+
+    private void runInParallel(List<ExperimentAlgorithm<?, ?>> algorithmList) {
+        ExperimentScheduler scheduler = new ExperimentScheduler(experiment, manifest)
+                .withRunTimeout(runTimeout)
+                .withProcessPerRun(processPerRun)
+                .withJvmOptions(jvmOptions);
+        if (progressListener != null) {
+            scheduler.withProgressListener(progressListener);
+        }
+        scheduler.run(algorithmList);
     }
 
     private void prepareOutputDirectory() {
@@ -9,7 +9,7 @@ import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalLogger;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NDTreeArchive;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
@@ -138,8 +138,7 @@ public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements Ex
      */
     private List<DummyDoubleSolution> getNonDominatedSolutions(ExperimentProblem<?> problem)
             throws FileNotFoundException {
-        NonDominatedSolutionListArchive<DummyDoubleSolution> nonDominatedSolutionArchive =
-                new NonDominatedSolutionListArchive<>();
+        NDTreeArchive<DummyDoubleSolution> nonDominatedSolutionArchive = new NDTreeArchive<>();
 
         for (ExperimentAlgorithm<?, ?> algorithm :
                 experiment.getAlgorithmList().stream()
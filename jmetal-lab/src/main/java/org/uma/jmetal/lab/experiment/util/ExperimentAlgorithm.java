@@ -37,9 +37,29 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
         this(algorithm, algorithm.getName(), problem, runId);
     }
 
+    /**
+     * Returns the directory where the fronts of the run are written
+     */
+    public String getOutputDirectoryName(Experiment<?, ?> experimentData) {
+        return experimentData.getExperimentBaseDirectory() + "/data/" + algorithmTag + "/" + problemTag;
+    }
+
+    /**
+     * Returns the name of the file where the front of objectives of the run is written
+     */
+    public String getFunFileName(Experiment<?, ?> experimentData) {
+        return getOutputDirectoryName(experimentData) + "/" + experimentData.getOutputParetoFrontFileName() + runId + ".csv";
+    }
+
+    /**
+     * Returns the name of the file where the variables of the front of the run are written
+     */
+    public String getVarFileName(Experiment<?, ?> experimentData) {
+        return getOutputDirectoryName(experimentData) + "/" + experimentData.getOutputParetoSetFileName() + runId + ".csv";
+    }
+
     public void runAlgorithm(Experiment<?, ?> experimentData) {
-        String outputDirectoryName =
-                experimentData.getExperimentBaseDirectory() + "/data/" + algorithmTag + "/" + problemTag;
+        String outputDirectoryName = getOutputDirectoryName(experimentData);
 
         File outputDirectory = new File(outputDirectoryName);
         if (!outputDirectory.exists()) {
@@ -51,10 +71,8 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
             }
         }
 
-        String funFile =
-                outputDirectoryName + "/" + experimentData.getOutputParetoFrontFileName() + runId + ".csv";
-        String varFile =
-                outputDirectoryName + "/" + experimentData.getOutputParetoSetFileName() + runId + ".csv";
+        String funFile = getFunFileName(experimentData);
+        String varFile = getVarFileName(experimentData);
         JMetalLogger.logger.info(
                 " Running algorithm: "
                         + algorithmTag
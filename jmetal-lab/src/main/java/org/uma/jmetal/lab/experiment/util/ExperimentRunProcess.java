@@ -0,0 +1,40 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+
+import java.io.FileInputStream;
+import java.io.ObjectInputStream;
+import java.util.List;
+
+/**
+ * Entry point of the processes launched by {@link ExperimentScheduler} to run an algorithm in its
+ * own JVM. Arguments: file with the serialized algorithm, FUN file and VAR file. The exit status is
+ * 0 if the fronts have been written.
+ */
+public class ExperimentRunProcess {
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            System.err.println("Usage: ExperimentRunProcess algorithmFile funFile varFile");
+            System.exit(2);
+        }
+
+        Algorithm<List<? extends Solution<?>>> algorithm;
+        try (ObjectInputStream input = new ObjectInputStream(new FileInputStream(args[0]))) {
+            @SuppressWarnings("unchecked")
+            Algorithm<List<? extends Solution<?>>> readAlgorithm =
+                    (Algorithm<List<? extends Solution<?>>>) input.readObject();
+            algorithm = readAlgorithm;
+        }
+
+        algorithm.run();
+
+        new SolutionListOutput(algorithm.getResult())
+                .setVarFileOutputContext(new DefaultFileOutputContext(args[2], ","))
+                .setFunFileOutputContext(new DefaultFileOutputContext(args[1], ","))
+                .print();
+        System.exit(0);
+    }
+}
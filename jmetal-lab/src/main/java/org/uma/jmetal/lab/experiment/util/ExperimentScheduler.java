@@ -0,0 +1,429 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.util.RunManifest.RunState;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Scheduler of the runs of an {@link Experiment}. At most as many runs as the number of cores of the
+ * experiment are executed at the same time, and the runs expected to take longer start first (the
+ * expected time of a run is the mean time of the finished runs of the same algorithm and problem
+ * recorded in the {@link RunManifest}; runs with no history are considered the longest ones), which
+ * reduces the time the last runs keep the other cores idle.
+ *
+ * <p>The state of each run is recorded in the manifest. A run is finished if its FUN file has been
+ * written, failed otherwise, and timed out if it exceeds the run timeout. By default the runs are
+ * executed in threads of this JVM; a timed out run is then recorded and its thread interrupted, but
+ * as algorithms do not usually check interruptions, the thread may go on running, and its core is
+ * not given to the next run until the thread exits. Runs of algorithms which may never end can be
+ * executed instead in their own JVM, with the class path of the current one, which is killed when
+ * the timeout expires; the algorithms must then be serializable, and the output of each process is
+ * written to a log file next to the FUN file.
+ *
+ * <p>Each time a run ends, a {@link Progress} snapshot is given to the progress listener, which by
+ * default logs it.
+ */
+public class ExperimentScheduler {
+    private final Experiment<?, ?> experiment;
+    private final RunManifest manifest;
+    private long runTimeout;
+    private boolean processPerRun;
+    private List<String> jvmOptions = new ArrayList<>();
+    private Consumer<Progress> progressListener =
+            progress -> JMetalLogger.logger.info("ExecuteAlgorithms: " + progress);
+
+    /**
+     * Constructor
+     *
+     * @param experiment Experiment
+     * @param manifest   Manifest where the state of the runs is recorded
+     */
+    public ExperimentScheduler(Experiment<?, ?> experiment, RunManifest manifest) {
+        Check.notNull(experiment);
+        Check.notNull(manifest);
+        this.experiment = experiment;
+        this.manifest = manifest;
+    }
+
+    /**
+     * Sets the maximum wall-clock time of a run, in milliseconds; 0 (the default) means no limit
+     */
+    public ExperimentScheduler withRunTimeout(long runTimeout) {
+        Check.that(runTimeout >= 0, "The run timeout cannot be negative: " + runTimeout);
+        this.runTimeout = runTimeout;
+        return this;
+    }
+
+    /**
+     * Sets whether each run is executed in its own JVM
+     */
+    public ExperimentScheduler withProcessPerRun(boolean processPerRun) {
+        this.processPerRun = processPerRun;
+        return this;
+    }
+
+    /**
+     * Sets the options of the JVMs launched when each run is executed in its own JVM (e.g., -Xmx2g)
+     */
+    public ExperimentScheduler withJvmOptions(List<String> jvmOptions) {
+        Check.notNull(jvmOptions);
+        this.jvmOptions = new ArrayList<>(jvmOptions);
+        return this;
+    }
+
+    public ExperimentScheduler withProgressListener(Consumer<Progress> progressListener) {
+        Check.notNull(progressListener);
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    /**
+     * Returns the runs sorted by decreasing expected computing time
+     */
+    public <T extends ExperimentAlgorithm<?, ?>> List<T> schedule(List<T> runs) {
+        List<T> orderedRuns = new ArrayList<>(runs);
+        orderedRuns.sort(Comparator.comparingDouble((T run) -> {
+            double time = manifest.getExpectedComputingTime(run.getAlgorithmTag(), run.getProblemTag());
+            return Double.isNaN(time) ? Double.POSITIVE_INFINITY : time;
+        }).reversed());
+        return orderedRuns;
+    }
+
+    /**
+     * Executes the runs, waiting for all of them to end and for their threads to exit
+     */
+    public void run(List<? extends ExperimentAlgorithm<?, ?>> runs) {
+        Check.notNull(runs);
+        List<? extends ExperimentAlgorithm<?, ?>> orderedRuns = schedule(runs);
+        Semaphore freeCores = new Semaphore(experiment.getNumberOfCores());
+        ProgressCounter counter = new ProgressCounter(orderedRuns.size());
+        ExecutorService runner = Executors.newCachedThreadPool(daemonThreadFactory("jmetal-experiment-run-"));
+        ScheduledExecutorService watchdog =
+                Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("jmetal-experiment-watchdog-"));
+
+        try {
+            for (ExperimentAlgorithm<?, ?> run : orderedRuns) {
+                freeCores.acquire();
+                RunHandle handle = new RunHandle(run, freeCores, counter);
+                deleteOutputFiles(run);
+                manifest.update(run, RunState.RUNNING, 0, "");
+                counter.started();
+                runner.execute(() -> execute(handle));
+                if ((runTimeout > 0) && !processPerRun) {
+                    watchdog.schedule(() -> {
+                        if (handle.end(RunState.TIMED_OUT, runTimeout,
+                                "Timed out after " + runTimeout + " ms; the thread has been interrupted")) {
+                            handle.interrupt();
+                        }
+                    }, runTimeout, TimeUnit.MILLISECONDS);
+                }
+            }
+            counter.awaitAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while running the experiment", e);
+        } finally {
+            runner.shutdownNow();
+            watchdog.shutdownNow();
+        }
+    }
+
+    /**
+     * Executes a run in the current thread; the core of the run is released when this method
+     * returns, even if the run has already ended by timing out
+     */
+    private void execute(RunHandle handle) {
+        long startTime = System.currentTimeMillis();
+        handle.started();
+        try {
+            if (handle.ended.get()) {
+                return;
+            }
+            if (processPerRun) {
+                executeInProcess(handle, startTime);
+            } else {
+                handle.run.runAlgorithm(experiment);
+                endByOutput(handle, startTime, "");
+            }
+        } catch (RuntimeException | Error e) {
+            handle.end(RunState.FAILED, System.currentTimeMillis() - startTime, e.toString());
+        } finally {
+            handle.exited();
+        }
+    }
+
+    private void executeInProcess(RunHandle handle, long startTime) {
+        ExperimentAlgorithm<?, ?> run = handle.run;
+        Path algorithmFile = null;
+        Process process = null;
+        try {
+            new File(run.getOutputDirectoryName(experiment)).mkdirs();
+            algorithmFile = Files.createTempFile("jmetal-run-", ".ser");
+            try (ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(algorithmFile))) {
+                output.writeObject(run.getAlgorithm());
+            } catch (NotSerializableException e) {
+                handle.end(RunState.FAILED, System.currentTimeMillis() - startTime,
+                        "The algorithm cannot be run in its own process, as it is not serializable: " + e.getMessage());
+                return;
+            }
+
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmOptions);
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(ExperimentRunProcess.class.getName());
+            command.add(algorithmFile.toString());
+            command.add(run.getFunFileName(experiment));
+            command.add(run.getVarFileName(experiment));
+
+            File logFile = new File(run.getOutputDirectoryName(experiment),
+                    experiment.getOutputParetoFrontFileName() + run.getRunId() + ".log");
+            process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(logFile).start();
+
+            boolean exited;
+            if (runTimeout > 0) {
+                exited = process.waitFor(runTimeout, TimeUnit.MILLISECONDS);
+            } else {
+                process.waitFor();
+                exited = true;
+            }
+
+            if (!exited) {
+                process.destroyForcibly().waitFor();
+                handle.end(RunState.TIMED_OUT, System.currentTimeMillis() - startTime,
+                        "Timed out after " + runTimeout + " ms; the process has been killed");
+            } else if (process.exitValue() != 0) {
+                handle.end(RunState.FAILED, System.currentTimeMillis() - startTime,
+                        "Exit code " + process.exitValue() + "; see " + logFile);
+            } else {
+                endByOutput(handle, startTime, "");
+            }
+        } catch (IOException e) {
+            handle.end(RunState.FAILED, System.currentTimeMillis() - startTime, e.toString());
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            handle.end(RunState.FAILED, System.currentTimeMillis() - startTime, "Interrupted");
+        } finally {
+            if (algorithmFile != null) {
+                algorithmFile.toFile().delete();
+            }
+        }
+    }
+
+    private void endByOutput(RunHandle handle, long startTime, String message) {
+        long computingTime = System.currentTimeMillis() - startTime;
+        if (new File(handle.run.getFunFileName(experiment)).exists()) {
+            handle.end(RunState.FINISHED, computingTime, message);
+        } else {
+            handle.end(RunState.FAILED, computingTime, "The front has not been written");
+        }
+    }
+
+    private void deleteOutputFiles(ExperimentAlgorithm<?, ?> run) {
+        new File(run.getFunFileName(experiment)).delete();
+        new File(run.getVarFileName(experiment)).delete();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Run being executed; it ends once, either when it finishes, fails or times out, but its core is
+     * only released when the thread executing it exits
+     */
+    private class RunHandle {
+        private final ExperimentAlgorithm<?, ?> run;
+        private final Semaphore freeCores;
+        private final ProgressCounter counter;
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private Thread thread;
+
+        RunHandle(ExperimentAlgorithm<?, ?> run, Semaphore freeCores, ProgressCounter counter) {
+            this.run = run;
+            this.freeCores = freeCores;
+            this.counter = counter;
+        }
+
+        boolean end(RunState state, long computingTime, String message) {
+            if (!ended.compareAndSet(false, true)) {
+                return false;
+            }
+            manifest.update(run, state, computingTime, message);
+            if (state != RunState.FINISHED) {
+                JMetalLogger.logger.warning("Run " + run.getRunId() + " of " + run.getAlgorithmTag() + " on "
+                        + run.getProblemTag() + ": " + state + ". " + message);
+            }
+            progressListener.accept(counter.ended(state, computingTime));
+            return true;
+        }
+
+        synchronized void started() {
+            thread = Thread.currentThread();
+        }
+
+        synchronized void interrupt() {
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        synchronized void exited() {
+            thread = null;
+            freeCores.release();
+            counter.countDown();
+        }
+    }
+
+    private static class ProgressCounter {
+        private final int total;
+        private final long startTime = System.currentTimeMillis();
+        private final CountDownLatch pending;
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger timedOut = new AtomicInteger();
+        private final AtomicLong computingTime = new AtomicLong();
+
+        ProgressCounter(int total) {
+            this.total = total;
+            this.pending = new CountDownLatch(total);
+        }
+
+        void started() {
+            running.incrementAndGet();
+        }
+
+        synchronized Progress ended(RunState state, long time) {
+            running.decrementAndGet();
+            computingTime.addAndGet(time);
+            if (state == RunState.FINISHED) {
+                finished.incrementAndGet();
+            } else if (state == RunState.TIMED_OUT) {
+                timedOut.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+            return new Progress(total, finished.get(), failed.get(), timedOut.get(), running.get(),
+                    System.currentTimeMillis() - startTime, computingTime.get());
+        }
+
+        void countDown() {
+            pending.countDown();
+        }
+
+        void awaitAll() throws InterruptedException {
+            pending.await();
+        }
+    }
+
+    /**
+     * Snapshot of the progress of an experiment. The times are measured in milliseconds.
+     */
+    public static class Progress {
+        private final int numberOfRuns;
+        private final int finishedRuns;
+        private final int failedRuns;
+        private final int timedOutRuns;
+        private final int runningRuns;
+        private final long elapsedTime;
+        private final long computingTime;
+
+        public Progress(int numberOfRuns, int finishedRuns, int failedRuns, int timedOutRuns, int runningRuns,
+                        long elapsedTime, long computingTime) {
+            this.numberOfRuns = numberOfRuns;
+            this.finishedRuns = finishedRuns;
+            this.failedRuns = failedRuns;
+            this.timedOutRuns = timedOutRuns;
+            this.runningRuns = runningRuns;
+            this.elapsedTime = elapsedTime;
+            this.computingTime = computingTime;
+        }
+
+        public int getNumberOfRuns() {
+            return numberOfRuns;
+        }
+
+        public int getFinishedRuns() {
+            return finishedRuns;
+        }
+
+        public int getFailedRuns() {
+            return failedRuns;
+        }
+
+        public int getTimedOutRuns() {
+            return timedOutRuns;
+        }
+
+        public int getRunningRuns() {
+            return runningRuns;
+        }
+
+        /**
+         * Returns the number of runs which have ended, whatever their state
+         */
+        public int getEndedRuns() {
+            return finishedRuns + failedRuns + timedOutRuns;
+        }
+
+        public long getElapsedTime() {
+            return elapsedTime;
+        }
+
+        /**
+         * Returns the estimated time until all the runs end, extrapolated from the elapsed time
+         */
+        public long getEstimatedRemainingTime() {
+            int endedRuns = getEndedRuns();
+            return (endedRuns == 0) ? -1 : elapsedTime * (numberOfRuns - endedRuns) / endedRuns;
+        }
+
+        /**
+         * Returns the mean computing time of the runs which have ended
+         */
+        public double getMeanComputingTime() {
+            int endedRuns = getEndedRuns();
+            return (endedRuns == 0) ? 0.0 : (double) computingTime / endedRuns;
+        }
+
+        @Override
+        public String toString() {
+            return getEndedRuns() + "/" + numberOfRuns + " runs ended ("
+                    + failedRuns + " failed, " + timedOutRuns + " timed out), "
+                    + runningRuns + " running, elapsed " + (elapsedTime / 1000) + " s, remaining "
+                    + ((getEstimatedRemainingTime() < 0) ? "unknown" : "~" + (getEstimatedRemainingTime() / 1000) + " s");
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import org.uma.jmetal.util.FileUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Durable record of the state of the runs of an experiment. Each change of state is appended to a
+ * tab separated file (algorithm tag, problem tag, run id, state, computing time in milliseconds and
+ * message) and forced to disk, so that the state survives a crash of the experiment; when the
+ * manifest is loaded, the last record of each run is kept and the file is compacted.
+ *
+ * <p>The computing times of the finished runs are used to estimate how long the pending runs of the
+ * same algorithm and problem will take.
+ */
+public class RunManifest {
+    public enum RunState {PENDING, RUNNING, FINISHED, FAILED, TIMED_OUT}
+
+    private final Path file;
+    private final Map<String, Record> records;
+
+    /**
+     * Constructor. If the file exists, the records it contains are loaded.
+     *
+     * @param file File of the manifest
+     */
+    public RunManifest(Path file) {
+        Check.notNull(file);
+        this.file = file;
+        this.records = new LinkedHashMap<>();
+        if (Files.exists(file)) {
+            load();
+        }
+    }
+
+    /**
+     * Returns the last record of a run, or null if the run has no record
+     */
+    public synchronized Record get(String algorithmTag, String problemTag, int runId) {
+        return records.get(key(algorithmTag, problemTag, runId));
+    }
+
+    /**
+     * Returns the last record of a run, or null if the run has no record
+     */
+    public Record get(ExperimentAlgorithm<?, ?> run) {
+        return get(run.getAlgorithmTag(), run.getProblemTag(), run.getRunId());
+    }
+
+    /**
+     * Records a new state of a run
+     */
+    public synchronized void update(
+            ExperimentAlgorithm<?, ?> run, RunState state, long computingTime, String message) {
+        Record record = new Record(run.getAlgorithmTag(), run.getProblemTag(), run.getRunId(), state,
+                computingTime, message);
+        records.put(key(record.algorithmTag, record.problemTag, record.runId), record);
+        try {
+            Files.write(file, List.of(record.toLine()), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            throw new JMetalException("Error writing the run manifest " + file, e);
+        }
+    }
+
+    /**
+     * Returns the mean computing time of the finished runs of an algorithm on a problem, in
+     * milliseconds, or NaN if none of them has finished
+     */
+    public synchronized double getExpectedComputingTime(String algorithmTag, String problemTag) {
+        long total = 0;
+        int count = 0;
+        for (Record record : records.values()) {
+            if ((record.state == RunState.FINISHED) && record.algorithmTag.equals(algorithmTag)
+                    && record.problemTag.equals(problemTag)) {
+                total += record.computingTime;
+                count++;
+            }
+        }
+        return (count == 0) ? Double.NaN : (double) total / count;
+    }
+
+    public synchronized Collection<Record> getRecords() {
+        return new ArrayList<>(records.values());
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void load() {
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    Record record = Record.fromLine(line);
+                    records.put(key(record.algorithmTag, record.problemTag, record.runId), record);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new JMetalException("Error reading the run manifest " + file, e);
+        }
+        compact();
+    }
+
+    /**
+     * Rewrites the file with the last record of each run, replacing it atomically
+     */
+    private void compact() {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                for (Record record : records.values()) {
+                    writer.write(record.toLine());
+                    writer.newLine();
+                }
+            }
+            FileUtils.moveReplacing(temporaryFile, file);
+        } catch (IOException e) {
+            throw new JMetalException("Error compacting the run manifest " + file, e);
+        }
+    }
+
+    private static String key(String algorithmTag, String problemTag, int runId) {
+        return algorithmTag + "\t" + problemTag + "\t" + runId;
+    }
+
+    /**
+     * State of a run
+     */
+    public static class Record {
+        private final String algorithmTag;
+        private final String problemTag;
+        private final int runId;
+        private final RunState state;
+        private final long computingTime;
+        private final String message;
+
+        public Record(String algorithmTag, String problemTag, int runId, RunState state, long computingTime,
+                      String message) {
+            this.algorithmTag = algorithmTag;
+            this.problemTag = problemTag;
+            this.runId = runId;
+            this.state = state;
+            this.computingTime = computingTime;
+            this.message = (message == null) ? "" : message.replaceAll("[\\t\\r\\n]", " ");
+        }
+
+        String toLine() {
+            return String.join("\t", algorithmTag, problemTag, String.valueOf(runId), state.name(),
+                    String.valueOf(computingTime), message);
+        }
+
+        static Record fromLine(String line) {
+            String[] fields = line.split("\t", -1);
+            Check.that(fields.length == 6, "Invalid record: " + line);
+            return new Record(fields[0], fields[1], Integer.parseInt(fields[2]), RunState.valueOf(fields[3]),
+                    Long.parseLong(fields[4]), fields[5]);
+        }
+
+        public String getAlgorithmTag() {
+            return algorithmTag;
+        }
+
+        public String getProblemTag() {
+            return problemTag;
+        }
+
+        public int getRunId() {
+            return runId;
+        }
+
+        public RunState getState() {
+            return state;
+        }
+
+        /**
+         * Returns the computing time of the run, in milliseconds
+         */
+        public long getComputingTime() {
+            return computingTime;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.uma.jmetal.lab.experiment.component.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentBuilder;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.NormalizeUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ComputeQualityIndicatorsTest {
+    private static final int NUMBER_OF_RUNS = 4;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Indicator recording the largest number of fronts it has been computing at the same time
+     */
+    private static class ConcurrencyRecorder extends QualityIndicator {
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maximum = new AtomicInteger();
+
+        @Override
+        public double compute(double[][] front) {
+            maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return front.length;
+        }
+
+        @Override
+        public boolean isTheLowerTheIndicatorValueTheBetter() {
+            return true;
+        }
+
+        @Override
+        public String getName() {
+            return "Recorder";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Concurrency recorder";
+        }
+    }
+
+    private static double[][] front(double shift, int numberOfPoints) {
+        double[][] front = new double[numberOfPoints][];
+        for (int i = 0; i < numberOfPoints; i++) {
+            double x = (double) i / (numberOfPoints - 1);
+            front[i] = new double[]{x + shift, 1.0 - Math.sqrt(x) + shift};
+        }
+        return front;
+    }
+
+    private static void write(Path file, double[][] vectors) throws IOException {
+        Files.createDirectories(file.getParent());
+        List<String> lines = new ArrayList<>();
+        for (double[] vector : vectors) {
+            lines.add(vector[0] + "," + vector[1]);
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void shouldComputeTheIndicatorsOfSeveralFrontsAtTheSameTime() throws IOException {
+        Path baseDirectory = folder.getRoot().toPath();
+        double[][] referenceFront = front(0.0, 100);
+        write(baseDirectory.resolve("referenceFronts/ZDT1.csv"), referenceFront);
+        Path experimentDirectory = baseDirectory.resolve("Test");
+
+        ExperimentProblem<DoubleSolution> problem = new ExperimentProblem<>(new ZDT1());
+        List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithms = new ArrayList<>();
+        String[] algorithmTags = {"A", "B"};
+        for (int a = 0; a < algorithmTags.length; a++) {
+            algorithms.add(new ExperimentAlgorithm<>(null, algorithmTags[a], problem, 0));
+            for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+                Path directory = experimentDirectory.resolve("data/" + algorithmTags[a] + "/ZDT1");
+                write(directory.resolve("FUN" + run + ".csv"), front(0.01 * (a * NUMBER_OF_RUNS + run + 1), 20));
+                write(directory.resolve("VAR" + run + ".csv"), front(0.0, 20));
+            }
+        }
+
+        ConcurrencyRecorder recorder = new ConcurrencyRecorder();
+        Experiment<DoubleSolution, List<DoubleSolution>> experiment =
+                new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Test")
+                        .setAlgorithmList(algorithms)
+                        .setProblemList(Arrays.asList(problem))
+                        .setExperimentBaseDirectory(baseDirectory.toString())
+                        .setReferenceFrontDirectory(baseDirectory.resolve("referenceFronts").toString())
+                        .setOutputParetoFrontFileName("FUN")
+                        .setOutputParetoSetFileName("VAR")
+                        .setIndicatorList(Arrays.asList(new WFGHypervolume(), new InvertedGenerationalDistance(), recorder))
+                        .setIndependentRuns(NUMBER_OF_RUNS)
+                        .setNumberOfCores(4)
+                        .build();
+
+        new ComputeQualityIndicators<>(experiment).run();
+
+        assertTrue(recorder.maximum.get() > 1);
+
+        double[] minimumValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+        double[] maximumValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+        double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
+        for (QualityIndicator indicator : new QualityIndicator[]{new WFGHypervolume(), new InvertedGenerationalDistance()}) {
+            indicator.setReferenceFront(normalizedReferenceFront);
+            for (int a = 0; a < algorithmTags.length; a++) {
+                List<String> lines = Files.readAllLines(
+                        experimentDirectory.resolve("data/" + algorithmTags[a] + "/ZDT1/" + indicator.getName()));
+                assertEquals(NUMBER_OF_RUNS, lines.size());
+                for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+                    double[][] front = front(0.01 * (a * NUMBER_OF_RUNS + run + 1), 20);
+                    double expected = indicator.compute(NormalizeUtils.normalize(front, minimumValues, maximumValues));
+                    assertEquals(expected, Double.parseDouble(lines.get(run)), 0.0);
+                }
+            }
+        }
+
+        List<String> summary = Files.readAllLines(experimentDirectory.resolve("QualityIndicatorSummary.csv"));
+        assertEquals(1 + 3 * algorithmTags.length * NUMBER_OF_RUNS, summary.size());
+    }
+}
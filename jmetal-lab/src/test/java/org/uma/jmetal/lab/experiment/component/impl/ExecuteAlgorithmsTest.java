@@ -0,0 +1,107 @@
+package org.uma.jmetal.lab.experiment.component.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentBuilder;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.lab.experiment.util.RunManifest;
+import org.uma.jmetal.lab.experiment.util.RunManifest.RunState;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExecuteAlgorithmsTest {
+    private static final int NUMBER_OF_RUNS = 4;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Algorithm counting its executions
+     */
+    private static class CountingAlgorithm implements Algorithm<List<DoubleSolution>> {
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public void run() {
+            executions.incrementAndGet();
+        }
+
+        @Override
+        public List<DoubleSolution> getResult() {
+            return List.of(new ZDT1().createSolution());
+        }
+
+        @Override
+        public String getName() {
+            return "Counting";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Counting";
+        }
+    }
+
+    @Test
+    public void shouldResumeAnExperimentFromTheRunsWhichHadNotFinished() throws IOException {
+        ExperimentProblem<DoubleSolution> problem = new ExperimentProblem<>(new ZDT1());
+        List<CountingAlgorithm> algorithms = new ArrayList<>();
+        List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> runs = new ArrayList<>();
+        for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+            algorithms.add(new CountingAlgorithm());
+            runs.add(new ExperimentAlgorithm<>(algorithms.get(run), "A", problem, run));
+        }
+        Experiment<DoubleSolution, List<DoubleSolution>> experiment =
+                new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Test")
+                        .setAlgorithmList(runs)
+                        .setProblemList(Arrays.asList(problem))
+                        .setExperimentBaseDirectory(folder.getRoot().toString())
+                        .setOutputParetoFrontFileName("FUN")
+                        .setOutputParetoSetFileName("VAR")
+                        .setIndependentRuns(NUMBER_OF_RUNS)
+                        .setNumberOfCores(2)
+                        .build();
+
+        // Run 0 finished, run 1 was writing its front when the experiment stopped, run 2 did not
+        // start and run 3 finished before the manifest was introduced
+        for (int run : new int[]{0, 1, 3}) {
+            Path funFile = Paths.get(runs.get(run).getFunFileName(experiment));
+            Files.createDirectories(funFile.getParent());
+            Files.write(funFile, List.of("0.0,1.0"));
+        }
+        RunManifest manifest = new RunManifest(
+                Paths.get(experiment.getExperimentBaseDirectory(), ExecuteAlgorithms.MANIFEST_FILE_NAME));
+        manifest.update(runs.get(0), RunState.FINISHED, 100, "");
+        manifest.update(runs.get(1), RunState.RUNNING, 0, "");
+
+        ExecuteAlgorithms<DoubleSolution, List<DoubleSolution>> executeAlgorithms = new ExecuteAlgorithms<>(experiment);
+        assertEquals(List.of(runs.get(1), runs.get(2)), executeAlgorithms.checkTaskStatus());
+
+        executeAlgorithms.run();
+
+        assertEquals(0, algorithms.get(0).executions.get());
+        assertEquals(1, algorithms.get(1).executions.get());
+        assertEquals(1, algorithms.get(2).executions.get());
+        assertEquals(0, algorithms.get(3).executions.get());
+        assertTrue(executeAlgorithms.checkTaskStatus().isEmpty());
+        RunManifest loadedManifest = new RunManifest(manifest.getFile());
+        assertEquals(RunState.FINISHED, loadedManifest.get(runs.get(1)).getState());
+        assertEquals(RunState.FINISHED, loadedManifest.get(runs.get(2)).getState());
+    }
+}
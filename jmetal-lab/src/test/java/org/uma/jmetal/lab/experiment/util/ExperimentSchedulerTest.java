@@ -0,0 +1,200 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentBuilder;
+import org.uma.jmetal.lab.experiment.util.RunManifest.RunState;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ExperimentSchedulerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ExperimentProblem<DoubleSolution> problem = new ExperimentProblem<>(new ZDT1());
+
+    /**
+     * Algorithm sleeping for a given time, which may ignore the interruptions of its thread
+     */
+    private static class SleepingAlgorithm implements Algorithm<List<DoubleSolution>> {
+        private final String name;
+        private final long duration;
+        private final boolean ignoreInterruptions;
+        private final boolean fail;
+        private final Queue<String> startedAlgorithms;
+        private volatile long startTime;
+        private volatile long exitTime;
+
+        SleepingAlgorithm(String name, long duration, boolean ignoreInterruptions, boolean fail,
+                          Queue<String> startedAlgorithms) {
+            this.name = name;
+            this.duration = duration;
+            this.ignoreInterruptions = ignoreInterruptions;
+            this.fail = fail;
+            this.startedAlgorithms = startedAlgorithms;
+        }
+
+        @Override
+        public void run() {
+            startTime = System.currentTimeMillis();
+            startedAlgorithms.add(name);
+            try {
+                if (fail) {
+                    throw new JMetalException("The algorithm has failed");
+                }
+                while (System.currentTimeMillis() - startTime < duration) {
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        if (!ignoreInterruptions) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            } finally {
+                exitTime = System.currentTimeMillis();
+            }
+        }
+
+        @Override
+        public List<DoubleSolution> getResult() {
+            return List.of(new ZDT1().createSolution());
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescription() {
+            return name;
+        }
+    }
+
+    private Experiment<DoubleSolution, List<DoubleSolution>> experiment(
+            List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> runs, int numberOfCores) {
+        return new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Test")
+                .setAlgorithmList(runs)
+                .setProblemList(Arrays.asList(problem))
+                .setExperimentBaseDirectory(folder.getRoot().toString())
+                .setOutputParetoFrontFileName("FUN")
+                .setOutputParetoSetFileName("VAR")
+                .setNumberOfCores(numberOfCores)
+                .build();
+    }
+
+    private RunManifest manifest() {
+        return new RunManifest(folder.getRoot().toPath().resolve("runs.manifest"));
+    }
+
+    private ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>> run(String algorithmTag, int runId) {
+        return new ExperimentAlgorithm<>(null, algorithmTag, problem, runId);
+    }
+
+    private ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>> run(SleepingAlgorithm algorithm) {
+        return new ExperimentAlgorithm<>(algorithm, algorithm.getName(), problem, 0);
+    }
+
+    @Test
+    public void shouldScheduleTheRunsWithoutHistoryFirstAndThenTheLongestOnes() {
+        RunManifest manifest = manifest();
+        manifest.update(run("Short", 0), RunState.FINISHED, 100, "");
+        manifest.update(run("Long", 0), RunState.FINISHED, 500, "");
+        manifest.update(run("Long", 1), RunState.FINISHED, 700, "");
+        manifest.update(run("Failed", 0), RunState.FAILED, 900, "");
+        List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> runs =
+                List.of(run("Short", 1), run("Long", 2), run("Failed", 1), run("New", 0));
+
+        List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> orderedRuns =
+                new ExperimentScheduler(experiment(runs, 1), manifest).schedule(runs);
+
+        assertEquals(List.of("Failed", "New", "Long", "Short"),
+                orderedRuns.stream().map(ExperimentAlgorithm::getAlgorithmTag).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldExecuteTheRunsInTheOrderOfTheSchedule() {
+        RunManifest manifest = manifest();
+        manifest.update(run("Short", 0), RunState.FINISHED, 100, "");
+        manifest.update(run("Long", 0), RunState.FINISHED, 500, "");
+        Queue<String> startedAlgorithms = new ConcurrentLinkedQueue<>();
+        List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> runs = new ArrayList<>();
+        for (String name : new String[]{"Short", "Long", "New"}) {
+            runs.add(run(new SleepingAlgorithm(name, 0, false, false, startedAlgorithms)));
+        }
+
+        new ExperimentScheduler(experiment(runs, 1), manifest).run(runs);
+
+        assertEquals(List.of("New", "Long", "Short"), new ArrayList<>(startedAlgorithms));
+    }
+
+    @Test
+    public void shouldRecordTheStateOfEachRun() {
+        RunManifest manifest = manifest();
+        Queue<String> startedAlgorithms = new ConcurrentLinkedQueue<>();
+        List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> runs = List.of(
+                run(new SleepingAlgorithm("Finished", 0, false, false, startedAlgorithms)),
+                run(new SleepingAlgorithm("Failed", 0, false, true, startedAlgorithms)));
+        Experiment<DoubleSolution, List<DoubleSolution>> experiment = experiment(runs, 2);
+        List<ExperimentScheduler.Progress> progress = Collections.synchronizedList(new ArrayList<>());
+
+        new ExperimentScheduler(experiment, manifest).withProgressListener(progress::add).run(runs);
+
+        assertEquals(RunState.FINISHED, manifest.get(runs.get(0)).getState());
+        assertTrue(new File(runs.get(0).getFunFileName(experiment)).exists());
+        assertEquals(RunState.FAILED, manifest.get(runs.get(1)).getState());
+        assertFalse(new File(runs.get(1).getFunFileName(experiment)).exists());
+        assertEquals(2, progress.size());
+        assertTrue(progress.stream().anyMatch(snapshot ->
+                (snapshot.getEndedRuns() == 2) && (snapshot.getFailedRuns() == 1) && (snapshot.getRunningRuns() == 0)));
+    }
+
+    @Test
+    public void shouldNotGiveTheCoreOfATimedOutRunToTheNextOneUntilItsThreadExits() {
+        RunManifest manifest = manifest();
+        Queue<String> startedAlgorithms = new ConcurrentLinkedQueue<>();
+        SleepingAlgorithm slowAlgorithm = new SleepingAlgorithm("Slow", 500, true, false, startedAlgorithms);
+        SleepingAlgorithm nextAlgorithm = new SleepingAlgorithm("Next", 0, false, false, startedAlgorithms);
+        List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> runs =
+                List.of(run(slowAlgorithm), run(nextAlgorithm));
+
+        new ExperimentScheduler(experiment(runs, 1), manifest).withRunTimeout(50).run(runs);
+
+        assertEquals(RunState.TIMED_OUT, manifest.get(runs.get(0)).getState());
+        assertEquals(RunState.FINISHED, manifest.get(runs.get(1)).getState());
+        assertTrue(slowAlgorithm.exitTime > 0);
+        assertTrue(nextAlgorithm.startTime >= slowAlgorithm.exitTime);
+    }
+
+    @Test
+    public void shouldInterruptATimedOutRun() {
+        RunManifest manifest = manifest();
+        SleepingAlgorithm algorithm =
+                new SleepingAlgorithm("Slow", 60000, false, false, new ConcurrentLinkedQueue<>());
+        List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> runs = List.of(run(algorithm));
+
+        new ExperimentScheduler(experiment(runs, 1), manifest).withRunTimeout(50).run(runs);
+
+        assertEquals(RunState.TIMED_OUT, manifest.get(runs.get(0)).getState());
+        assertTrue(algorithm.exitTime - algorithm.startTime < 60000);
+    }
+}
@@ -0,0 +1,109 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.lab.experiment.util.RunManifest.RunState;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RunManifestTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>> run(String algorithmTag, int runId) {
+        return new ExperimentAlgorithm<>(null, algorithmTag, new ExperimentProblem<>(new ZDT1()), runId);
+    }
+
+    @Test
+    public void shouldAppendEveryChangeOfStateToTheFile() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("runs.manifest");
+        RunManifest manifest = new RunManifest(file);
+        manifest.update(run("A", 0), RunState.RUNNING, 0, "");
+        manifest.update(run("A", 0), RunState.FINISHED, 120, "");
+
+        assertEquals(2, Files.readAllLines(file).size());
+        assertEquals(RunState.FINISHED, manifest.get("A", "ZDT1", 0).getState());
+        assertEquals(120, manifest.get("A", "ZDT1", 0).getComputingTime());
+        assertNull(manifest.get("A", "ZDT1", 1));
+    }
+
+    @Test
+    public void shouldKeepTheLastRecordOfEachRunAndCompactTheFileWhenLoaded() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("runs.manifest");
+        RunManifest manifest = new RunManifest(file);
+        manifest.update(run("A", 0), RunState.RUNNING, 0, "");
+        manifest.update(run("A", 1), RunState.RUNNING, 0, "");
+        manifest.update(run("A", 0), RunState.FINISHED, 100, "");
+        manifest.update(run("A", 1), RunState.FAILED, 50, "Boom");
+        manifest.update(run("A", 1), RunState.RUNNING, 0, "");
+
+        RunManifest loadedManifest = new RunManifest(file);
+
+        assertEquals(2, loadedManifest.getRecords().size());
+        assertEquals(RunState.FINISHED, loadedManifest.get("A", "ZDT1", 0).getState());
+        assertEquals(100, loadedManifest.get("A", "ZDT1", 0).getComputingTime());
+        assertEquals(RunState.RUNNING, loadedManifest.get(run("A", 1)).getState());
+        assertEquals(2, Files.readAllLines(file).size());
+        assertFalse(Files.exists(file.resolveSibling("runs.manifest.tmp")));
+    }
+
+    @Test
+    public void shouldReadTheRecordsWrittenByHand() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("runs.manifest");
+        Files.write(file, List.of(
+                "A\tZDT1\t0\tTIMED_OUT\t3000\tTimed out",
+                "",
+                "B\tZDT1\t2\tFAILED\t10\t"), StandardCharsets.UTF_8);
+
+        RunManifest manifest = new RunManifest(file);
+
+        assertEquals(RunState.TIMED_OUT, manifest.get("A", "ZDT1", 0).getState());
+        assertEquals("Timed out", manifest.get("A", "ZDT1", 0).getMessage());
+        assertEquals(RunState.FAILED, manifest.get("B", "ZDT1", 2).getState());
+        assertEquals("", manifest.get("B", "ZDT1", 2).getMessage());
+    }
+
+    @Test
+    public void shouldMessagesWithTabsAndLineBreaksBeReadBack() {
+        Path file = folder.getRoot().toPath().resolve("runs.manifest");
+        new RunManifest(file).update(run("A", 0), RunState.FAILED, 10, "first\tsecond\nthird");
+
+        RunManifest manifest = new RunManifest(file);
+
+        assertEquals("first second third", manifest.get("A", "ZDT1", 0).getMessage());
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldFailWhenARecordIsInvalid() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("runs.manifest");
+        Files.write(file, List.of("A\tZDT1\t0\tFINISHED"), StandardCharsets.UTF_8);
+
+        new RunManifest(file);
+    }
+
+    @Test
+    public void shouldTheExpectedComputingTimeBeTheMeanOfTheFinishedRuns() {
+        RunManifest manifest = new RunManifest(folder.getRoot().toPath().resolve("runs.manifest"));
+        manifest.update(run("A", 0), RunState.FINISHED, 100, "");
+        manifest.update(run("A", 1), RunState.FINISHED, 300, "");
+        manifest.update(run("A", 2), RunState.TIMED_OUT, 5000, "");
+        manifest.update(run("B", 0), RunState.FAILED, 10, "");
+
+        assertEquals(200.0, manifest.getExpectedComputingTime("A", "ZDT1"), 0.0);
+        assertTrue(Double.isNaN(manifest.getExpectedComputingTime("B", "ZDT1")));
+        assertTrue(Double.isNaN(manifest.getExpectedComputingTime("A", "ZDT2")));
+    }
+}
@@ -9,9 +9,15 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
-import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 import org.uma.jmetal.util.termination.Termination;
 
+/**
+ * Asynchronous steady-state NSGA-II. Each evaluated solution is inserted into the fronts of an
+ * {@link IncrementalNonDominatedSortRanking} and the worst one is removed, so the population is not
+ * sorted again for every evaluation.
+ */
 public class AsynchronousMultiThreadedNSGAII<S extends Solution<?>>
         extends AsynchronousMultiThreadedGeneticAlgorithm<S> {
 
@@ -22,9 +28,21 @@ public class AsynchronousMultiThreadedNSGAII<S extends Solution<?>>
             CrossoverOperator<S> crossover,
             MutationOperator<S> mutation,
             Termination termination) {
-        super(numberOfCores, problem, populationSize, crossover, mutation, new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
+        this(numberOfCores, problem, populationSize, crossover, mutation, termination,
+                new IncrementalNonDominatedSortRanking<>());
+    }
+
+    private AsynchronousMultiThreadedNSGAII(
+            int numberOfCores,
+            Problem<S> problem,
+            int populationSize,
+            CrossoverOperator<S> crossover,
+            MutationOperator<S> mutation,
+            Termination termination,
+            Ranking<S> ranking) {
+        super(numberOfCores, problem, populationSize, crossover, mutation, new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>(ranking)),
                 new RankingAndDensityEstimatorReplacement<>(
-                        new MergeNonDominatedSortRanking<>(),
+                        ranking,
                         new CrowdingDistanceDensityEstimator<>(),
                         Replacement.RemovalPolicy.oneShot), termination);
     }
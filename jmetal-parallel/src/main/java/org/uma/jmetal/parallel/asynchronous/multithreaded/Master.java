@@ -2,46 +2,115 @@ package org.uma.jmetal.parallel.asynchronous.multithreaded;
 
 import org.uma.jmetal.parallel.asynchronous.algorithm.AsynchronousParallelAlgorithm;
 import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
+/**
+ * Master of an asynchronous master/worker algorithm. If a compute function is set with {@link
+ * #setComputeFunction(Function)}, the tasks are computed by a {@link WorkerPool} which is started
+ * at the beginning of {@link #run()} and shut down at its end, so that no worker thread outlives the
+ * execution of the algorithm. Otherwise, the tasks are put in the pending task queue, to be taken
+ * by {@link Worker}s created by the subclass.
+ */
 public abstract class Master<T extends ParallelTask<?>, R>
         implements AsynchronousParallelAlgorithm<T, R> {
+    private static final long FAILURE_CHECK_PERIOD = 100;
+
     protected int numberOfCores;
     protected BlockingQueue<T> completedTaskQueue;
     protected BlockingQueue<T> pendingTaskQueue;
 
+    private Function<T, T> computeFunction;
+    private WorkerPool.ThreadMode threadMode = WorkerPool.ThreadMode.PLATFORM;
+    private int maximumPendingTasks = Integer.MAX_VALUE;
+    private WorkerPool<T> workerPool;
+    private List<WorkerPool.WorkerStatistics> workerStatistics = Collections.emptyList();
+    private final AtomicLong taskIdentifier = new AtomicLong();
+
     public Master(int numberOfCores) {
         this.numberOfCores = numberOfCores;
         this.completedTaskQueue = new LinkedBlockingQueue<>();
         this.pendingTaskQueue = new LinkedBlockingQueue<>();
     }
 
+    /**
+     * Runs the algorithm. The worker pool, if any, is started before and shut down after it.
+     */
     @Override
-    public void submitInitialTasks(List<T> initialTasks) {
-        if (initialTasks.size() >= numberOfCores) {
-            initialTasks.forEach(this::submitTask);
-        } else {
-            int idleWorkers = numberOfCores - initialTasks.size();
-            initialTasks.forEach(this::submitTask);
-            while (idleWorkers > 0) {
-                submitTask(createNewTask());
-                idleWorkers--;
+    public void run() {
+        if (computeFunction != null) {
+            completedTaskQueue.clear();
+            workerPool = new WorkerPool<>(
+                    computeFunction, completedTaskQueue, numberOfCores, maximumPendingTasks, threadMode);
+            workerStatistics = workerPool.getStatistics();
+            workerPool.start();
+        }
+        try {
+            AsynchronousParallelAlgorithm.super.run();
+        } finally {
+            if (workerPool != null) {
+                workerPool.shutdown();
+                workerPool = null;
             }
         }
     }
 
+    /**
+     * Submits the initial tasks in a single batch; if there are fewer tasks than workers, new tasks are
+     * created to keep all of them busy. The submitted tasks are removed from the list, so that they
+     * are not submitted again as pending initial tasks.
+     */
+    @Override
+    public void submitInitialTasks(List<T> initialTasks) {
+        List<T> tasks = new ArrayList<>(initialTasks);
+        initialTasks.clear();
+        while (tasks.size() < numberOfCores) {
+            tasks.add(createNewTask());
+        }
+        submitTasks(tasks);
+    }
+
     @Override
     public T waitForComputedTask() {
-        T evaluatedTask = null;
         try {
-            evaluatedTask = completedTaskQueue.take();
+            if (workerPool == null) {
+                return completedTaskQueue.take();
+            }
+            T evaluatedTask = null;
+            while (evaluatedTask == null) {
+                checkWorkerFailure();
+                evaluatedTask = completedTaskQueue.poll(FAILURE_CHECK_PERIOD, TimeUnit.MILLISECONDS);
+            }
+            return evaluatedTask;
         } catch (InterruptedException e) {
-            e.printStackTrace();
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while waiting for a computed task", e);
+        }
+    }
+
+    /**
+     * Raises the first failure of the workers. The failure is the cause of the exception, as the
+     * {@link JMetalException} constructors taking an exception only log it, and it has already been
+     * logged by the worker pool.
+     */
+    private void checkWorkerFailure() {
+        Throwable failure = workerPool.getFailure();
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            JMetalException exception = new JMetalException("Error computing a task: " + failure);
+            exception.initCause(failure);
+            throw exception;
         }
-        return evaluatedTask;
     }
 
     @Override
@@ -49,7 +118,22 @@ public abstract class Master<T extends ParallelTask<?>, R>
 
     @Override
     public void submitTask(T task) {
-        pendingTaskQueue.add(task);
+        if (workerPool != null) {
+            workerPool.submit(task);
+        } else {
+            pendingTaskQueue.add(task);
+        }
+    }
+
+    /**
+     * Submits several tasks at once
+     */
+    public void submitTasks(List<T> tasks) {
+        if (workerPool != null) {
+            workerPool.submitAll(tasks);
+        } else {
+            pendingTaskQueue.addAll(tasks);
+        }
     }
 
     @Override
@@ -70,6 +154,44 @@ public abstract class Master<T extends ParallelTask<?>, R>
     @Override
     public abstract boolean stoppingConditionIsNotMet();
 
+    /**
+     * Returns a new task identifier; identifiers are consecutive and unique for each master
+     */
+    protected long createTaskIdentifier() {
+        return taskIdentifier.getAndIncrement();
+    }
+
+    /**
+     * Sets the function computing the tasks in the worker pool
+     */
+    protected void setComputeFunction(Function<T, T> computeFunction) {
+        this.computeFunction = computeFunction;
+    }
+
+    /**
+     * Sets the kind of threads of the worker pool
+     */
+    public void setThreadMode(WorkerPool.ThreadMode threadMode) {
+        Check.notNull(threadMode);
+        this.threadMode = threadMode;
+    }
+
+    /**
+     * Sets the maximum number of tasks waiting to be computed in the worker pool; submitting a task
+     * when it is reached blocks the master
+     */
+    public void setMaximumPendingTasks(int maximumPendingTasks) {
+        Check.that(maximumPendingTasks > 0, "The maximum number of pending tasks must be positive: " + maximumPendingTasks);
+        this.maximumPendingTasks = maximumPendingTasks;
+    }
+
+    /**
+     * Returns the statistics of the workers of the current or last execution
+     */
+    public List<WorkerPool.WorkerStatistics> getWorkerStatistics() {
+        return workerStatistics;
+    }
+
     public BlockingQueue<T> getCompletedTaskQueue() {
         return completedTaskQueue;
     }
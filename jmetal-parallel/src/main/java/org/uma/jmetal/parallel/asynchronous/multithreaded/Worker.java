@@ -5,6 +5,10 @@ import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
 import java.util.concurrent.BlockingQueue;
 import java.util.function.Function;
 
+/**
+ * Thread computing the tasks of a pending task queue until it is interrupted. {@link WorkerPool}
+ * provides a pool of workers with a bounded queue, work stealing and statistics.
+ */
 public class Worker<T extends ParallelTask<?>> extends Thread {
     private BlockingQueue<T> completedTaskQueue;
     private BlockingQueue<T> pendingTaskQueue;
@@ -22,13 +26,15 @@ public class Worker<T extends ParallelTask<?>> extends Thread {
 
     @Override
     public void run() {
-        while (true) {
-            T taskToCompute = null;
+        while (!isInterrupted()) {
+            T taskToCompute;
 
             try {
                 taskToCompute = pendingTaskQueue.take();
             } catch (InterruptedException e) {
-                e.printStackTrace();
+                // The worker has been stopped
+                interrupt();
+                break;
             }
 
             T computedTask = computeFunction.apply(taskToCompute);
@@ -0,0 +1,366 @@
+package org.uma.jmetal.parallel.asynchronous.multithreaded;
+
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Pool of workers computing {@link ParallelTask}s asynchronously for a {@link Master}. Each worker
+ * has its own deque of pending tasks: submitted tasks are distributed among the deques, a worker
+ * takes the oldest task of its deque and, when it is empty, steals the newest task of another one.
+ * Computed tasks are put in the completed task queue of the master.
+ *
+ * <p>The number of pending tasks can be bounded, in which case submitting a task blocks until
+ * there is room for it. The pool has an explicit life cycle: workers are started by {@link
+ * #start()} and stopped by {@link #shutdown()}, which interrupts and joins them, so no thread
+ * survives the pool. The workers are platform threads or, in {@link ThreadMode#VIRTUAL} mode and if
+ * the Java runtime supports them, virtual threads, which are cheap to block when the evaluation of
+ * a solution waits for I/O.
+ *
+ * @param <T> Task type
+ */
+public class WorkerPool<T extends ParallelTask<?>> implements AutoCloseable {
+    public enum ThreadMode {PLATFORM, VIRTUAL}
+
+    private static final AtomicInteger poolCounter = new AtomicInteger();
+
+    private final Function<T, T> computeFunction;
+    private final BlockingQueue<T> completedTaskQueue;
+    private final int numberOfWorkers;
+    private final ThreadMode threadMode;
+
+    private final List<ConcurrentLinkedDeque<PendingTask<T>>> deques;
+    private final Semaphore pendingTasks;
+    private final Semaphore freeSlots;
+    private final AtomicLong submissions;
+    private final List<WorkerStatistics> statistics;
+    private final List<Thread> workers;
+    private final AtomicReference<Throwable> failure;
+    private final String name;
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+
+    /**
+     * Constructor
+     *
+     * @param computeFunction    Function computing a task
+     * @param completedTaskQueue Queue where the computed tasks are put
+     * @param numberOfWorkers    Number of workers
+     * @param maximumPendingTasks Maximum number of tasks waiting to be computed
+     * @param threadMode         Kind of threads of the workers
+     */
+    public WorkerPool(
+            Function<T, T> computeFunction,
+            BlockingQueue<T> completedTaskQueue,
+            int numberOfWorkers,
+            int maximumPendingTasks,
+            ThreadMode threadMode) {
+        Check.notNull(computeFunction);
+        Check.notNull(completedTaskQueue);
+        Check.notNull(threadMode);
+        Check.that(numberOfWorkers > 0, "The number of workers must be positive: " + numberOfWorkers);
+        Check.that(maximumPendingTasks > 0, "The maximum number of pending tasks must be positive: " + maximumPendingTasks);
+
+        this.computeFunction = computeFunction;
+        this.completedTaskQueue = completedTaskQueue;
+        this.numberOfWorkers = numberOfWorkers;
+        this.threadMode = threadMode;
+
+        deques = new ArrayList<>(numberOfWorkers);
+        statistics = new ArrayList<>(numberOfWorkers);
+        for (int i = 0; i < numberOfWorkers; i++) {
+            deques.add(new ConcurrentLinkedDeque<>());
+            statistics.add(new WorkerStatistics(i));
+        }
+        pendingTasks = new Semaphore(0);
+        freeSlots = new Semaphore(maximumPendingTasks);
+        submissions = new AtomicLong();
+        workers = new ArrayList<>(numberOfWorkers);
+        failure = new AtomicReference<>();
+        name = "jmetal-worker-pool-" + poolCounter.incrementAndGet();
+    }
+
+    /**
+     * Constructor of an unbounded pool of platform threads
+     */
+    public WorkerPool(Function<T, T> computeFunction, BlockingQueue<T> completedTaskQueue, int numberOfWorkers) {
+        this(computeFunction, completedTaskQueue, numberOfWorkers, Integer.MAX_VALUE, ThreadMode.PLATFORM);
+    }
+
+    /**
+     * Starts the workers
+     */
+    public synchronized void start() {
+        Check.that(!running && !stopped, "The pool has already been started");
+        ThreadFactory threadFactory = createThreadFactory();
+        for (int i = 0; i < numberOfWorkers; i++) {
+            final int workerIndex = i;
+            Thread worker = threadFactory.newThread(() -> work(workerIndex));
+            worker.setName(name + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        running = true;
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Adds a task to the pool, waiting if the maximum number of pending tasks has been reached
+     */
+    public void submit(T task) {
+        Check.notNull(task);
+        checkIsRunning();
+        acquire(freeSlots, 1);
+        enqueue(task);
+        pendingTasks.release();
+    }
+
+    /**
+     * Adds a batch of tasks to the pool, which are spread over the workers. It waits if the maximum
+     * number of pending tasks has been reached.
+     */
+    public void submitAll(Collection<T> tasks) {
+        Check.notNull(tasks);
+        checkIsRunning();
+        if (freeSlots.tryAcquire(tasks.size())) {
+            for (T task : tasks) {
+                enqueue(task);
+            }
+            pendingTasks.release(tasks.size());
+        } else {
+            for (T task : tasks) {
+                submit(task);
+            }
+        }
+    }
+
+    private void enqueue(T task) {
+        int worker = (int) (submissions.getAndIncrement() % numberOfWorkers);
+        deques.get(worker).offerLast(new PendingTask<>(task, System.nanoTime()));
+    }
+
+    /**
+     * Stops the workers, waiting for the ones computing a task to finish it. The pending tasks are
+     * discarded.
+     */
+    public synchronized void shutdown() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        deques.forEach(ConcurrentLinkedDeque::clear);
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public ThreadMode getThreadMode() {
+        return threadMode;
+    }
+
+    public int getNumberOfWorkers() {
+        return numberOfWorkers;
+    }
+
+    /**
+     * Returns the number of tasks waiting to be computed
+     */
+    public int getNumberOfPendingTasks() {
+        return pendingTasks.availablePermits();
+    }
+
+    /**
+     * Returns the first exception raised when computing a task, or null if there has been none
+     */
+    public Throwable getFailure() {
+        return failure.get();
+    }
+
+    /**
+     * Returns the statistics of each worker
+     */
+    public List<WorkerStatistics> getStatistics() {
+        return statistics;
+    }
+
+    private void work(int workerIndex) {
+        WorkerStatistics workerStatistics = statistics.get(workerIndex);
+        while (!stopped) {
+            try {
+                pendingTasks.acquire();
+            } catch (InterruptedException e) {
+                // Interrupted by shutdown()
+                break;
+            }
+
+            PendingTask<T> pendingTask = take(workerIndex, workerStatistics);
+            freeSlots.release();
+
+            long start = System.nanoTime();
+            workerStatistics.queueWaitTime.addAndGet(start - pendingTask.submissionTime);
+            try {
+                T computedTask = computeFunction.apply(pendingTask.task);
+                completedTaskQueue.add(computedTask);
+                workerStatistics.computedTasks.incrementAndGet();
+            } catch (RuntimeException | Error e) {
+                workerStatistics.failedTasks.incrementAndGet();
+                if (failure.compareAndSet(null, e)) {
+                    JMetalLogger.logger.log(Level.SEVERE, "Error computing task " + pendingTask.task.getIdentifier(), e);
+                }
+            } finally {
+                workerStatistics.busyTime.addAndGet(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest task of the deque of the worker or, if it is empty, steals the newest task of
+     * another deque. A permit has been acquired, so there is a task for this worker in some deque.
+     */
+    private PendingTask<T> take(int workerIndex, WorkerStatistics workerStatistics) {
+        while (true) {
+            PendingTask<T> pendingTask = deques.get(workerIndex).pollFirst();
+            if (pendingTask != null) {
+                return pendingTask;
+            }
+            for (int i = 1; i < numberOfWorkers; i++) {
+                pendingTask = deques.get((workerIndex + i) % numberOfWorkers).pollLast();
+                if (pendingTask != null) {
+                    workerStatistics.stolenTasks.incrementAndGet();
+                    return pendingTask;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void acquire(Semaphore semaphore, int permits) {
+        try {
+            semaphore.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while submitting a task", e);
+        }
+    }
+
+    private void checkIsRunning() {
+        Check.that(running, "The pool is not running");
+    }
+
+    /**
+     * Virtual threads are created by reflection, so that the code can be compiled for Java versions
+     * without them; if they are not available, platform threads are used
+     */
+    private ThreadFactory createThreadFactory() {
+        if (threadMode == ThreadMode.VIRTUAL) {
+            try {
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+                JMetalLogger.logger.warning("Virtual threads are not available; platform threads are used instead");
+            }
+        }
+        return Thread::new;
+    }
+
+    private static class PendingTask<T> {
+        private final T task;
+        private final long submissionTime;
+
+        PendingTask(T task, long submissionTime) {
+            this.task = task;
+            this.submissionTime = submissionTime;
+        }
+    }
+
+    /**
+     * Counters of a worker. The times are measured in nanoseconds.
+     */
+    public static class WorkerStatistics {
+        private final int worker;
+        private final AtomicLong computedTasks = new AtomicLong();
+        private final AtomicLong failedTasks = new AtomicLong();
+        private final AtomicLong stolenTasks = new AtomicLong();
+        private final AtomicLong busyTime = new AtomicLong();
+        private final AtomicLong queueWaitTime = new AtomicLong();
+
+        WorkerStatistics(int worker) {
+            this.worker = worker;
+        }
+
+        public int getWorker() {
+            return worker;
+        }
+
+        public long getComputedTasks() {
+            return computedTasks.get();
+        }
+
+        public long getFailedTasks() {
+            return failedTasks.get();
+        }
+
+        /**
+         * Returns the number of tasks taken from the deque of another worker
+         */
+        public long getStolenTasks() {
+            return stolenTasks.get();
+        }
+
+        /**
+         * Returns the time spent computing tasks
+         */
+        public long getBusyTime() {
+            return busyTime.get();
+        }
+
+        /**
+         * Returns the time the tasks computed by the worker waited to be started since their submission
+         */
+        public long getQueueWaitTime() {
+            return queueWaitTime.get();
+        }
+
+        @Override
+        public String toString() {
+            return "Worker " + worker
+                    + ": tasks=" + getComputedTasks()
+                    + ", failed=" + getFailedTasks()
+                    + ", stolen=" + getStolenTasks()
+                    + ", busy=" + TimeUnit.NANOSECONDS.toMillis(getBusyTime()) + " ms"
+                    + ", queue wait=" + TimeUnit.NANOSECONDS.toMillis(getQueueWaitTime()) + " ms";
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.uma.jmetal.parallel.asynchronous.multithreaded;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MasterTest {
+    /**
+     * Master squaring consecutive integers until a number of tasks has been computed
+     */
+    private static class SquaringMaster extends Master<ParallelTask<Integer>, List<Integer>> {
+        private final int numberOfTasks;
+        private List<Integer> squares;
+        private Set<Long> identifiers;
+
+        SquaringMaster(int numberOfCores, int numberOfTasks,
+                       Function<ParallelTask<Integer>, ParallelTask<Integer>> computeFunction) {
+            super(numberOfCores);
+            this.numberOfTasks = numberOfTasks;
+            if (computeFunction != null) {
+                setComputeFunction(computeFunction);
+            }
+        }
+
+        @Override
+        public List<ParallelTask<Integer>> createInitialTasks() {
+            List<ParallelTask<Integer>> initialTasks = new ArrayList<>();
+            for (int i = 0; i < numberOfCores; i++) {
+                initialTasks.add(createNewTask());
+            }
+            return initialTasks;
+        }
+
+        @Override
+        public ParallelTask<Integer> createNewTask() {
+            long identifier = createTaskIdentifier();
+            return ParallelTask.create(identifier, (int) identifier);
+        }
+
+        @Override
+        public void processComputedTask(ParallelTask<Integer> task) {
+            squares.add(task.getContents());
+            identifiers.add(task.getIdentifier());
+        }
+
+        @Override
+        public boolean stoppingConditionIsNotMet() {
+            return squares.size() < numberOfTasks;
+        }
+
+        @Override
+        public void initProgress() {
+            squares = new ArrayList<>();
+            identifiers = new HashSet<>();
+        }
+
+        @Override
+        public void updateProgress() {
+        }
+
+        @Override
+        public List<Integer> getResult() {
+            return squares;
+        }
+    }
+
+    private static ParallelTask<Integer> square(ParallelTask<Integer> task) {
+        return ParallelTask.create(task.getIdentifier(), task.getContents() * task.getContents());
+    }
+
+    private static long computedTasks(Master<?, ?> master) {
+        return master.getWorkerStatistics().stream().mapToLong(WorkerPool.WorkerStatistics::getComputedTasks).sum();
+    }
+
+    @Test
+    public void shouldComputeTheTasksInAWorkerPoolAndStopItAtTheEnd() {
+        SquaringMaster master = new SquaringMaster(4, 100, MasterTest::square);
+
+        master.run();
+
+        assertEquals(100, master.getResult().size());
+        assertEquals(100, master.identifiers.size());
+        for (long identifier : master.identifiers) {
+            assertTrue(master.getResult().contains((int) (identifier * identifier)));
+        }
+        assertEquals(4, master.getWorkerStatistics().size());
+        assertTrue(computedTasks(master) >= 100);
+        assertFalse(WorkerPoolTest.thereAreLiveWorkers());
+    }
+
+    @Test
+    public void shouldBeRunAgainWithANewWorkerPool() {
+        SquaringMaster master = new SquaringMaster(2, 50, MasterTest::square);
+        master.run();
+        List<WorkerPool.WorkerStatistics> firstStatistics = master.getWorkerStatistics();
+
+        master.run();
+
+        assertEquals(50, master.getResult().size());
+        assertFalse(firstStatistics == master.getWorkerStatistics());
+        assertTrue(computedTasks(master) >= 50);
+        assertTrue(computedTasks(master) < 100);
+        assertFalse(WorkerPoolTest.thereAreLiveWorkers());
+    }
+
+    @Test
+    public void shouldRaiseTheExceptionThrownWhenComputingATask() {
+        RuntimeException failure = new IllegalStateException("Failure");
+        SquaringMaster master = new SquaringMaster(2, 100, task -> {
+            if (task.getIdentifier() == 10) {
+                throw failure;
+            }
+            return square(task);
+        });
+
+        JMetalException exception = assertThrows(JMetalException.class, master::run);
+
+        assertSame(failure, exception.getCause());
+        assertFalse(WorkerPoolTest.thereAreLiveWorkers());
+    }
+
+    @Test
+    public void shouldRaiseTheErrorThrownWhenComputingATask() {
+        Error failure = new AssertionError("Failure");
+        SquaringMaster master = new SquaringMaster(2, 100, task -> {
+            if (task.getIdentifier() == 10) {
+                throw failure;
+            }
+            return square(task);
+        });
+
+        Error error = assertThrows(Error.class, master::run);
+
+        assertSame(failure, error);
+        assertFalse(WorkerPoolTest.thereAreLiveWorkers());
+    }
+
+    @Test
+    public void shouldPutTheTasksInThePendingTaskQueueWithoutComputeFunction() throws InterruptedException {
+        SquaringMaster master = new SquaringMaster(2, 30, null);
+        List<Worker<ParallelTask<Integer>>> workers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Worker<ParallelTask<Integer>> worker =
+                    new Worker<>(MasterTest::square, master.getPendingTaskQueue(), master.getCompletedTaskQueue());
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+
+        master.run();
+
+        for (Worker<ParallelTask<Integer>> worker : workers) {
+            worker.interrupt();
+            worker.join(10000);
+            assertFalse(worker.isAlive());
+        }
+        assertEquals(30, master.getResult().size());
+        assertTrue(master.getWorkerStatistics().isEmpty());
+    }
+}
@@ -0,0 +1,240 @@
+package org.uma.jmetal.parallel.asynchronous.multithreaded;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkerPoolTest {
+    private final BlockingQueue<ParallelTask<Integer>> completedTaskQueue = new LinkedBlockingQueue<>();
+    private WorkerPool<ParallelTask<Integer>> pool;
+
+    @AfterEach
+    public void shutdownPool() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    static boolean thereAreLiveWorkers() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().startsWith("jmetal-worker-pool-") && thread.isAlive());
+    }
+
+    private static ParallelTask<Integer> task(int identifier) {
+        return ParallelTask.create(identifier, identifier);
+    }
+
+    private static ParallelTask<Integer> square(ParallelTask<Integer> task) {
+        return ParallelTask.create(task.getIdentifier(), task.getContents() * task.getContents());
+    }
+
+    private static Function<ParallelTask<Integer>, ParallelTask<Integer>> awaiting(
+            CountDownLatch started, CountDownLatch release) {
+        return task -> {
+            started.countDown();
+            boolean released = false;
+            while (!released) {
+                try {
+                    released = release.await(10, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    // Tasks are not cancelled; the worker stops once the task is computed
+                }
+            }
+            return task;
+        };
+    }
+
+    private List<ParallelTask<Integer>> takeCompletedTasks(int numberOfTasks) throws InterruptedException {
+        List<ParallelTask<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            ParallelTask<Integer> task = completedTaskQueue.poll(10, TimeUnit.SECONDS);
+            assertTrue(task != null, "Task not computed");
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    @Test
+    public void shouldComputeEverySubmittedTask() throws InterruptedException {
+        pool = new WorkerPool<>(WorkerPoolTest::square, completedTaskQueue, 4);
+        pool.start();
+
+        List<ParallelTask<Integer>> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pool.submit(task(i));
+            batch.add(task(50 + i));
+        }
+        pool.submitAll(batch);
+
+        Set<Long> identifiers = new HashSet<>();
+        for (ParallelTask<Integer> task : takeCompletedTasks(100)) {
+            assertEquals((int) (task.getIdentifier() * task.getIdentifier()), task.getContents());
+            identifiers.add(task.getIdentifier());
+        }
+        assertEquals(100, identifiers.size());
+        pool.shutdown();
+        assertEquals(100, pool.getStatistics().stream().mapToLong(WorkerPool.WorkerStatistics::getComputedTasks).sum());
+        assertNull(pool.getFailure());
+    }
+
+    @Test
+    public void shouldShutdownStopTheWorkers() {
+        pool = new WorkerPool<>(WorkerPoolTest::square, completedTaskQueue, 4);
+        pool.start();
+        assertTrue(pool.isRunning());
+
+        pool.shutdown();
+
+        assertFalse(pool.isRunning());
+        assertFalse(thereAreLiveWorkers());
+    }
+
+    @Test
+    public void shouldShutdownWaitForTheTasksBeingComputedAndDiscardThePendingOnes() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pool = new WorkerPool<>(awaiting(started, release), completedTaskQueue, 1);
+        pool.start();
+        for (int i = 0; i < 5; i++) {
+            pool.submit(task(i));
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        Thread shutdown = new Thread(pool::shutdown);
+        shutdown.start();
+        shutdown.join(100);
+        assertTrue(shutdown.isAlive());
+
+        release.countDown();
+        shutdown.join(10000);
+
+        assertFalse(shutdown.isAlive());
+        assertEquals(1, completedTaskQueue.size());
+        assertEquals(0, completedTaskQueue.peek().getIdentifier());
+        assertFalse(thereAreLiveWorkers());
+    }
+
+    @Test
+    public void shouldSubmitWaitWhenTheMaximumNumberOfPendingTasksIsReached() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pool = new WorkerPool<>(awaiting(started, release), completedTaskQueue, 1, 2, WorkerPool.ThreadMode.PLATFORM);
+        pool.start();
+        pool.submit(task(0));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        pool.submit(task(1));
+        pool.submit(task(2));
+
+        Thread submitter = new Thread(() -> pool.submit(task(3)));
+        submitter.start();
+        submitter.join(100);
+        assertTrue(submitter.isAlive());
+        assertEquals(2, pool.getNumberOfPendingTasks());
+
+        release.countDown();
+        submitter.join(10000);
+
+        assertFalse(submitter.isAlive());
+        assertEquals(4, takeCompletedTasks(4).size());
+    }
+
+    @Test
+    public void shouldRecordTheFirstFailureAndGoOnComputingTheOtherTasks() throws InterruptedException {
+        RuntimeException firstFailure = new JMetalException("First failure");
+        pool = new WorkerPool<>(task -> {
+            if (task.getIdentifier() == 3) {
+                throw firstFailure;
+            } else if (task.getIdentifier() == 7) {
+                throw new JMetalException("Second failure");
+            }
+            return task;
+        }, completedTaskQueue, 1);
+        pool.start();
+        for (int i = 0; i < 10; i++) {
+            pool.submit(task(i));
+        }
+
+        takeCompletedTasks(8);
+        assertTrue(pool.isRunning());
+        pool.shutdown();
+
+        assertSame(firstFailure, pool.getFailure());
+        assertEquals(2, pool.getStatistics().get(0).getFailedTasks());
+        assertEquals(8, pool.getStatistics().get(0).getComputedTasks());
+    }
+
+    @Test
+    public void shouldNotSubmitTasksBeforeStartingThePool() {
+        pool = new WorkerPool<>(WorkerPoolTest::square, completedTaskQueue, 2);
+
+        assertThrows(InvalidConditionException.class, () -> pool.submit(task(0)));
+    }
+
+    @Test
+    public void shouldNotBeReusedAfterShutdown() {
+        pool = new WorkerPool<>(WorkerPoolTest::square, completedTaskQueue, 2);
+        pool.start();
+        pool.shutdown();
+
+        assertThrows(InvalidConditionException.class, () -> pool.submit(task(0)));
+        assertThrows(InvalidConditionException.class, () -> pool.submitAll(List.of(task(0))));
+        assertThrows(InvalidConditionException.class, () -> pool.start());
+        pool.shutdown();
+        assertFalse(thereAreLiveWorkers());
+    }
+
+    @Test
+    public void shouldNotBeStartedTwice() {
+        pool = new WorkerPool<>(WorkerPoolTest::square, completedTaskQueue, 2);
+        pool.start();
+
+        assertThrows(InvalidConditionException.class, () -> pool.start());
+    }
+
+    @Test
+    public void shouldComputeTheTasksWhenVirtualThreadsAreRequested() throws InterruptedException {
+        pool = new WorkerPool<>(WorkerPoolTest::square, completedTaskQueue, 2, 10, WorkerPool.ThreadMode.VIRTUAL);
+        pool.start();
+        for (int i = 0; i < 20; i++) {
+            pool.submit(task(i));
+        }
+
+        assertEquals(20, takeCompletedTasks(20).size());
+    }
+
+    @Test
+    public void shouldCloseShutdownThePool() {
+        try (WorkerPool<ParallelTask<Integer>> closeablePool =
+                     new WorkerPool<>(WorkerPoolTest::square, completedTaskQueue, 2)) {
+            pool = closeablePool;
+            pool.start();
+        }
+
+        assertFalse(pool.isRunning());
+        assertFalse(thereAreLiveWorkers());
+    }
+
+    @Test
+    public void shouldNotCreateAPoolWithoutWorkers() {
+        assertThrows(InvalidConditionException.class, () -> new WorkerPool<>(WorkerPoolTest::square, completedTaskQueue, 0));
+    }
+}
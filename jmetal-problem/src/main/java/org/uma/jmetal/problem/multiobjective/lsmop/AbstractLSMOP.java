@@ -3,6 +3,7 @@ package org.uma.jmetal.problem.multiobjective.lsmop;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.problem.multiobjective.lsmop.functions.Function;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +32,8 @@ public abstract class AbstractLSMOP extends AbstractDoubleProblem {
         }
 
         setVariableBounds(lowerLimit, upperLimit);
+        // Large scale problems: the variables are stored in a double[] instead of a List<Double>
+        setArrayBackedSolutions(true);
 
 
         this.nk = nk;
@@ -65,20 +68,50 @@ public abstract class AbstractLSMOP extends AbstractDoubleProblem {
 
     protected abstract Function getEvenFunction();
 
-    protected abstract List<Double> evaluate(List<Double> variables);
+    /**
+     * Computes the objective values from the decision variables, which can be modified
+     */
+    protected abstract double[] evaluate(double[] variables);
+
+    /**
+     * Applies the linkage of the variables (in place) and returns, for each objective, the sum of the
+     * odd or even function over the subcomponents of its group of variables
+     */
+    protected double[] computeG(double[] variables) {
+        double[] G = new double[getNumberOfObjectives()];
+        for (int i = getNumberOfObjectives(); i <= getNumberOfVariables(); i++) {
+            double aux = (1.0 + Math.cos((double) i / (double) getNumberOfVariables() * Math.PI / 2.0)) * variables[i - 1];
+            aux = aux - variables[0] * 10;
+            variables[i - 1] = aux;
+        }
+
+        Function oddFunction = getOddFunction();
+        Function evenFunction = getEvenFunction();
+        for (int i = 1; i <= getNumberOfObjectives(); i++) {
+            Function function = (i % 2 == 1) ? oddFunction : evenFunction;
+            for (int j = 1; j <= this.nk; j++) {
+                int from = len.get(i - 1) + getNumberOfObjectives() - 1 + (j - 1) * subLen.get(i - 1);
+                int to = len.get(i - 1) + getNumberOfObjectives() - 1 + j * subLen.get(i - 1);
+                G[i - 1] += function.evaluate(variables, from, to);
+            }
+        }
+        return G;
+    }
 
     @java.lang.Override
     public DoubleSolution evaluate(DoubleSolution solution) {
-        List<Double> variables = new ArrayList<>(getNumberOfVariables());
-
-        for (int i = 0; i < getNumberOfVariables(); i++) {
-            variables.add(solution.variables().get(i));
+        double[] variables;
+        if (solution instanceof ArrayDoubleSolution) {
+            variables = ((ArrayDoubleSolution) solution).variablesArray().clone();
+        } else {
+            variables = new double[getNumberOfVariables()];
+            for (int i = 0; i < getNumberOfVariables(); i++) {
+                variables[i] = solution.getVariable(i);
+            }
         }
-        List<Double> y = evaluate(variables);
+        double[] y = evaluate(variables);
 
-        for (int i = 0; i < getNumberOfObjectives(); i++) {
-            solution.objectives()[i] = y.get(i);
-        }
+        System.arraycopy(y, 0, solution.objectives(), 0, getNumberOfObjectives());
         return solution;
     }
 
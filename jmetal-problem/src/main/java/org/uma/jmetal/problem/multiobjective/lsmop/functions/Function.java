@@ -1,8 +1,31 @@
 package org.uma.jmetal.problem.multiobjective.lsmop.functions;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface Function {
     public Double evaluate(List<Double> x);
 
+    /**
+     * Evaluates the function on the values of <code>x</code> from position <code>from</code>
+     * (inclusive) to <code>to</code> (exclusive). The default implementation copies them to a list.
+     */
+    public default double evaluate(double[] x, int from, int to) {
+        List<Double> values = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            values.add(x[i]);
+        }
+        return evaluate(values);
+    }
+
+    /**
+     * Copies a list of values to an array
+     */
+    static double[] toArray(List<Double> x) {
+        double[] values = new double[x.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = x.get(i);
+        }
+        return values;
+    }
 }
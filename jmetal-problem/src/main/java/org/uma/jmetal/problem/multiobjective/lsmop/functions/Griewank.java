@@ -5,14 +5,19 @@ import java.util.List;
 public class Griewank implements Function {
     @Override
     public Double evaluate(List<Double> x) {
+        return evaluate(Function.toArray(x), 0, x.size());
+    }
+
+    @Override
+    public double evaluate(double[] x, int from, int to) {
         double res = 0.0;
-        for (double value : x)
-            res += Math.pow(value, 2.0) / 4000.0;
+        for (int i = from; i < to; i++)
+            res += Math.pow(x[i], 2.0) / 4000.0;
 
         double aux = 1.0;
-        for (int i = 1; i <= x.size(); i++) {
+        for (int i = 1; i <= to - from; i++) {
             double tmp = Math.sqrt(i);
-            tmp = x.get(i - 1) / tmp;
+            tmp = x[from + i - 1] / tmp;
             tmp = Math.cos(tmp);
             aux *= tmp;
         }
@@ -5,9 +5,14 @@ import java.util.List;
 public class Rastrigin implements Function {
     @Override
     public Double evaluate(List<Double> x) {
+        return evaluate(Function.toArray(x), 0, x.size());
+    }
+
+    @Override
+    public double evaluate(double[] x, int from, int to) {
         double res = 0.0;
-        for (double value : x) {
-            double tmp = Math.pow(value, 2.0) - 10 * Math.cos(2.0 * Math.PI * value) + 10.0;
+        for (int i = from; i < to; i++) {
+            double tmp = Math.pow(x[i], 2.0) - 10 * Math.cos(2.0 * Math.PI * x[i]) + 10.0;
             res += tmp;
         }
 
@@ -5,9 +5,14 @@ import java.util.List;
 public class Schwefel implements Function {
     @Override
     public Double evaluate(List<Double> x) {
+        return evaluate(Function.toArray(x), 0, x.size());
+    }
+
+    @Override
+    public double evaluate(double[] x, int from, int to) {
         double res = Double.NEGATIVE_INFINITY;
-        for (double value : x) {
-            res = Math.max(Math.abs(value), res);
+        for (int i = from; i < to; i++) {
+            res = Math.max(Math.abs(x[i]), res);
         }
 
         return res;
@@ -5,9 +5,14 @@ import java.util.List;
 public class Sphere implements Function {
     @Override
     public Double evaluate(List<Double> x) {
+        return evaluate(Function.toArray(x), 0, x.size());
+    }
+
+    @Override
+    public double evaluate(double[] x, int from, int to) {
         double res = 0.0;
-        for (int i = 0; i < x.size(); i++) {
-            res += Math.pow(x.get(i), 2.0);
+        for (int i = from; i < to; i++) {
+            res += Math.pow(x[i], 2.0);
         }
         return res;
 
@@ -0,0 +1,64 @@
+package org.uma.jmetal.problem.multiobjective.lsmop;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.multiobjective.lsmop.functions.Ackley;
+import org.uma.jmetal.problem.multiobjective.lsmop.functions.Function;
+import org.uma.jmetal.problem.multiobjective.lsmop.functions.Griewank;
+import org.uma.jmetal.problem.multiobjective.lsmop.functions.Rastrigin;
+import org.uma.jmetal.problem.multiobjective.lsmop.functions.Rosenbrock;
+import org.uma.jmetal.problem.multiobjective.lsmop.functions.Schwefel;
+import org.uma.jmetal.problem.multiobjective.lsmop.functions.Sphere;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LSMOPTest {
+    @Test
+    public void shouldCreateArrayBackedSolutions() {
+        assertTrue(new LSMOP1().createSolution() instanceof ArrayDoubleSolution);
+    }
+
+    @Test
+    public void shouldEvaluateTheSameObjectivesWhateverTheSolutionImplementation() {
+        AbstractLSMOP[] problems = {new LSMOP1(), new LSMOP2(), new LSMOP3(), new LSMOP4(), new LSMOP5(),
+                new LSMOP6(), new LSMOP7(), new LSMOP8(), new LSMOP9()};
+        for (AbstractLSMOP problem : problems) {
+            DoubleSolution solution = problem.createSolution();
+            DoubleSolution defaultSolution = new DefaultDoubleSolution(problem.getNumberOfObjectives(),
+                    problem.getBoundsForVariables());
+            for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+                defaultSolution.setVariable(i, solution.getVariable(i));
+            }
+            double[] variables = ((ArrayDoubleSolution) solution).variablesArray().clone();
+
+            problem.evaluate(solution);
+            problem.evaluate(defaultSolution);
+
+            assertArrayEquals(defaultSolution.objectives(), solution.objectives(), 0.0, problem.getName());
+            assertArrayEquals(variables, ((ArrayDoubleSolution) solution).variablesArray(), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldTheFunctionsGiveTheSameValueOnAnArrayRangeAndOnAList() {
+        double[] x = {0.5, -1.0, 2.0, 3.5, -4.0, 5.0};
+        List<Double> list = Arrays.asList(-1.0, 2.0, 3.5, -4.0);
+        Function[] functions = {
+                new Ackley(),
+                new Griewank(),
+                new Rastrigin(),
+                new Rosenbrock(),
+                new Schwefel(),
+                new Sphere()};
+        for (Function function : functions) {
+            assertEquals(function.evaluate(list), function.evaluate(x, 1, 5), 0.0);
+        }
+    }
+}